@@ -0,0 +1,64 @@
+package mephi.benchmarks;
+
+import mephi.bookingservice.entity.Role;
+import mephi.bookingservice.entity.User;
+import mephi.bookingservice.service.JwtService;
+import mephi.hotelservice.config.SecurityConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    private JwtService jwtService;
+    private JwtDecoder jwtDecoder;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        Stubs.inject(jwtService, "privateKeyLocation", "classpath:keys/private.pem");
+        Stubs.inject(jwtService, "expirationMs", 3_600_000L);
+        Stubs.inject(jwtService, "issuer", "booking-service");
+        jwtService.init();
+
+        SecurityConfig securityConfig = new SecurityConfig();
+        Stubs.inject(securityConfig, "publicKeyLocation", "classpath:keys/public.pem");
+        jwtDecoder = securityConfig.jwtDecoder();
+
+        user = User.builder()
+            .id(1L)
+            .username("john_doe")
+            .email("john@example.com")
+            .role(Role.USER)
+            .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Jwt decodeToken() {
+        return jwtDecoder.decode(token);
+    }
+}
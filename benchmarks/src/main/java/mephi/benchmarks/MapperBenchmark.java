@@ -0,0 +1,109 @@
+package mephi.benchmarks;
+
+import mephi.bookingservice.dto.BookingResponse;
+import mephi.bookingservice.entity.Booking;
+import mephi.bookingservice.entity.BookingStatus;
+import mephi.bookingservice.entity.User;
+import mephi.bookingservice.mapper.BookingMapper;
+import mephi.bookingservice.mapper.BookingMapperImpl;
+import mephi.hotelservice.dto.HotelResponse;
+import mephi.hotelservice.dto.RoomResponse;
+import mephi.hotelservice.entity.Hotel;
+import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.mapper.HotelMapper;
+import mephi.hotelservice.mapper.HotelMapperImpl;
+import mephi.hotelservice.mapper.RoomMapper;
+import mephi.hotelservice.mapper.RoomMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private RoomMapper roomMapper;
+    private HotelMapper hotelMapper;
+    private BookingMapper bookingMapper;
+
+    private List<Room> rooms;
+    private List<Hotel> hotels;
+    private List<Booking> bookings;
+
+    @Setup
+    public void setUp() {
+        roomMapper = new RoomMapperImpl();
+        hotelMapper = new HotelMapperImpl();
+        Stubs.inject(hotelMapper, "roomMapper", roomMapper);
+        bookingMapper = new BookingMapperImpl();
+
+        SyntheticHotels data = SyntheticHotels.generate(size * SyntheticHotels.ROOMS_PER_HOTEL);
+        rooms = data.rooms().subList(0, size);
+        hotels = data.hotels();
+
+        User user = User.builder()
+            .id(1L)
+            .username("john_doe")
+            .email("john@example.com")
+            .build();
+        LocalDate today = LocalDate.now();
+        bookings = IntStream.range(0, size)
+            .mapToObj(i -> Booking.builder()
+                .id((long) i + 1)
+                .bookingReference("BK-" + (100000 + i))
+                .user(user)
+                .roomId((long) i % 50 + 1)
+                .hotelId((long) i % 10 + 1)
+                .checkInDate(today.plusDays(i % 30))
+                .checkOutDate(today.plusDays(i % 30 + 2))
+                .guestCount(2)
+                .totalPrice(BigDecimal.valueOf(200))
+                .status(BookingStatus.CONFIRMED)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build()
+            )
+            .toList();
+    }
+
+    @Benchmark
+    public List<RoomResponse> roomList() {
+        return roomMapper.toResponseList(rooms);
+    }
+
+    @Benchmark
+    public List<HotelResponse> hotelList() {
+        return hotelMapper.toResponseList(hotels);
+    }
+
+    @Benchmark
+    public HotelResponse hotelWithRooms() {
+        return hotelMapper.toResponse(hotels.getFirst());
+    }
+
+    @Benchmark
+    public List<BookingResponse> bookingList() {
+        return bookingMapper.toResponseList(bookings);
+    }
+}
@@ -0,0 +1,106 @@
+package mephi.benchmarks;
+
+import mephi.hotelservice.dto.RoomResponse;
+import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.entity.RoomType;
+import mephi.hotelservice.mapper.RoomMapperImpl;
+import mephi.hotelservice.repository.RoomRepository;
+import mephi.hotelservice.repository.RoomReservationRepository;
+import mephi.hotelservice.service.RoomAvailabilityCalendar;
+import mephi.hotelservice.service.RoomRecommendationIndex;
+import mephi.hotelservice.service.RoomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecommendationBenchmark {
+    @Param({"1000", "10000"})
+    private int rooms;
+
+    private RoomService roomService;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        SyntheticHotels data = SyntheticHotels.generate(rooms);
+        List<Room> available = data.availableRooms();
+
+        RoomRepository roomRepository = Stubs.repository(RoomRepository.class, Map.of(
+            "findAvailableRoomsOrderByTimesBookedAsc", args -> available,
+            "findAvailableRoomsByCapacityOrderByTimesBookedAsc", args -> available.stream()
+                .filter(r -> r.getMaxOccupancy() >= (Integer) args[0])
+                .toList(),
+            "findAvailableRoomsByTypeOrderByTimesBookedAsc", args -> available.stream()
+                .filter(r -> r.getRoomType() == args[0])
+                .toList(),
+            "findRankedAvailable", args -> data.rankedAvailable(),
+            "findAllWithHotelByIdIn", args -> data.roomsByIds((Collection<Long>) args[0])
+        ));
+
+        startDate = LocalDate.now().plusDays(7);
+        endDate = startDate.plusDays(3);
+
+        RoomAvailabilityCalendar calendar = new RoomAvailabilityCalendar(
+            Stubs.repository(RoomReservationRepository.class, Map.of())
+        );
+        available.stream()
+            .filter(r -> r.getId() % 3 == 0)
+            .forEach(r -> calendar.tryReserve(r.getId(), startDate.plusDays(r.getId() % 5), startDate.plusDays(r.getId() % 5 + 2)));
+
+        RoomRecommendationIndex recommendationIndex = new RoomRecommendationIndex(roomRepository);
+        recommendationIndex.refresh();
+
+        roomService = new RoomService(
+            roomRepository,
+            null,
+            new RoomMapperImpl(),
+            null,
+            calendar,
+            null,
+            null,
+            null,
+            recommendationIndex,
+            null,
+            null,
+            null,
+            null
+        );
+    }
+
+    @Benchmark
+    public List<RoomResponse> recommendByGuests() {
+        return roomService.getRecommendedRooms(null, null, 3);
+    }
+
+    @Benchmark
+    public List<RoomResponse> recommendByTypeAndDates() {
+        return roomService.getRecommendedRooms(null, RoomType.DELUXE, 2, startDate, endDate);
+    }
+
+    @Benchmark
+    public List<RoomResponse> recommendTopTenForDates() {
+        return roomService.getRecommendedRooms(null, null, 2, startDate, endDate, 10);
+    }
+}
@@ -0,0 +1,89 @@
+package mephi.benchmarks;
+
+import mephi.hotelservice.dto.HotelStatisticsResponse;
+import mephi.hotelservice.dto.SystemStatisticsResponse;
+import mephi.hotelservice.repository.HotelRepository;
+import mephi.hotelservice.repository.RoomRepository;
+import mephi.hotelservice.repository.projection.HotelAggregate;
+import mephi.hotelservice.repository.projection.RoomStatisticsView;
+import mephi.hotelservice.repository.projection.RoomTypeAggregate;
+import mephi.hotelservice.service.OccupancyCounters;
+import mephi.hotelservice.service.StatisticsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticsBenchmark {
+    @Param({"10000", "100000"})
+    private int rooms;
+
+    private OccupancyCounters liveCounters;
+    private StatisticsService liveStatistics;
+    private StatisticsService queryStatistics;
+
+    @Setup
+    public void setUp() {
+        SyntheticHotels data = SyntheticHotels.generate(rooms);
+        List<HotelAggregate> hotelAggregates = data.hotelAggregates();
+        List<RoomTypeAggregate> typeAggregates = data.roomTypeAggregates();
+        Map<Long, List<RoomStatisticsView>> roomStatistics = data.roomStatisticsByHotel();
+
+        HotelRepository hotelRepository = Stubs.repository(HotelRepository.class, Map.of(
+            "aggregateAll", args -> hotelAggregates
+        ));
+        RoomRepository roomRepository = Stubs.repository(RoomRepository.class, Map.of(
+            "aggregateByRoomType", args -> typeAggregates,
+            "findStatisticsByHotelId", args -> roomStatistics.get((Long) args[0])
+        ));
+
+        liveCounters = new OccupancyCounters(hotelRepository, roomRepository);
+        liveCounters.reconcile();
+        liveStatistics = new StatisticsService(hotelRepository, roomRepository, liveCounters);
+
+        queryStatistics = new StatisticsService(
+            hotelRepository,
+            roomRepository,
+            new OccupancyCounters(hotelRepository, roomRepository)
+        );
+    }
+
+    @Benchmark
+    public SystemStatisticsResponse systemStatisticsFromCounters() {
+        return liveStatistics.getSystemStatistics();
+    }
+
+    @Benchmark
+    public SystemStatisticsResponse systemStatisticsFromQueries() {
+        return queryStatistics.getSystemStatistics();
+    }
+
+    @Benchmark
+    public List<HotelStatisticsResponse> allHotelStatisticsFromCounters() {
+        return liveStatistics.getAllHotelStatistics();
+    }
+
+    @Benchmark
+    public OccupancyCounters reconcileCounters() {
+        liveCounters.reconcile();
+
+        return liveCounters;
+    }
+}
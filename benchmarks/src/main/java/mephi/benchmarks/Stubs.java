@@ -0,0 +1,63 @@
+package mephi.benchmarks;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+final class Stubs {
+    private Stubs() {
+    }
+
+    static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return proxy(type, (name, args) -> {
+            Function<Object[], Object> answer = answers.get(name);
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + name + " is not stubbed");
+            }
+
+            return answer.apply(args);
+        });
+    }
+
+    static <T> T projection(Class<T> type, Map<String, Object> values) {
+        return proxy(type, (name, args) -> {
+            String property = Character.toLowerCase(name.charAt(3)) + name.substring(4);
+            if (!name.startsWith("get") || !values.containsKey(property)) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + name + " is not projected");
+            }
+
+            return values.get(property);
+        });
+    }
+
+    static void inject(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException(target.getClass().getSimpleName() + " has no field " + fieldName);
+        }
+
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    private static <T> T proxy(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + " stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> answer.apply(method.getName(), args);
+            }
+        ));
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+        Object apply(String methodName, Object[] args);
+    }
+}
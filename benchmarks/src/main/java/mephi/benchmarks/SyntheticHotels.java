@@ -0,0 +1,150 @@
+package mephi.benchmarks;
+
+import mephi.hotelservice.entity.Hotel;
+import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.entity.RoomType;
+import mephi.hotelservice.repository.projection.HotelAggregate;
+import mephi.hotelservice.repository.projection.RoomRankView;
+import mephi.hotelservice.repository.projection.RoomStatisticsView;
+import mephi.hotelservice.repository.projection.RoomTypeAggregate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+final class SyntheticHotels {
+    static final int ROOMS_PER_HOTEL = 50;
+
+    private final List<Hotel> hotels;
+    private final List<Room> rooms;
+    private final Map<Long, Room> roomsById;
+
+    private SyntheticHotels(List<Hotel> hotels, List<Room> rooms) {
+        this.hotels = hotels;
+        this.rooms = rooms;
+        this.roomsById = rooms.stream().collect(Collectors.toMap(Room::getId, r -> r));
+    }
+
+    static SyntheticHotels generate(int roomCount) {
+        Random random = new Random(42);
+        RoomType[] types = RoomType.values();
+        List<Hotel> hotels = new ArrayList<>();
+        List<Room> rooms = new ArrayList<>(roomCount);
+
+        Hotel hotel = null;
+        for (int i = 0; i < roomCount; i++) {
+            if (i % ROOMS_PER_HOTEL == 0) {
+                long hotelId = hotels.size() + 1L;
+                hotel = Hotel.builder()
+                    .id(hotelId)
+                    .name("Hotel " + hotelId)
+                    .address(hotelId + " Benchmark Street")
+                    .city("City " + hotelId % 20)
+                    .country("Country")
+                    .starRating(1 + random.nextInt(5))
+                    .build();
+                hotels.add(hotel);
+            }
+
+            RoomType type = types[random.nextInt(types.length)];
+            Room room = Room.builder()
+                .id(i + 1L)
+                .hotel(hotel)
+                .roomNumber(String.valueOf(100 + i % ROOMS_PER_HOTEL))
+                .roomType(type)
+                .pricePerNight(BigDecimal.valueOf(50 + 50L * type.ordinal() + random.nextInt(50)))
+                .maxOccupancy(1 + random.nextInt(6))
+                .available(random.nextInt(10) > 0)
+                .timesBooked(random.nextInt(200))
+                .build();
+            hotel.getRooms().add(room);
+            rooms.add(room);
+        }
+
+        return new SyntheticHotels(hotels, rooms);
+    }
+
+    List<Hotel> hotels() {
+        return hotels;
+    }
+
+    List<Room> rooms() {
+        return rooms;
+    }
+
+    List<Room> availableRooms() {
+        return rooms.stream()
+            .filter(Room::getAvailable)
+            .toList();
+    }
+
+    List<Room> roomsByIds(Collection<Long> ids) {
+        return ids.stream()
+            .map(roomsById::get)
+            .toList();
+    }
+
+    List<HotelAggregate> hotelAggregates() {
+        return hotels.stream()
+            .map(hotel -> Stubs.projection(HotelAggregate.class, Map.of(
+                "hotelId", hotel.getId(),
+                "hotelName", hotel.getName(),
+                "totalRooms", (long) hotel.getRooms().size(),
+                "availableRooms", hotel.getRooms().stream().filter(Room::getAvailable).count(),
+                "occupiedRooms", hotel.getRooms().stream().filter(room -> !room.getAvailable()).count(),
+                "totalBookings", hotel.getRooms().stream().mapToLong(Room::getTimesBooked).sum()
+            )))
+            .toList();
+    }
+
+    List<RoomTypeAggregate> roomTypeAggregates() {
+        Map<RoomType, List<Room>> byType = new EnumMap<>(RoomType.class);
+        rooms.forEach(room -> byType.computeIfAbsent(room.getRoomType(), t -> new ArrayList<>()).add(room));
+
+        return byType.entrySet().stream()
+            .map(e -> Stubs.projection(RoomTypeAggregate.class, Map.of(
+                "roomType", e.getKey(),
+                "totalRooms", (long) e.getValue().size(),
+                "availableRooms", e.getValue().stream().filter(Room::getAvailable).count(),
+                "occupiedRooms", e.getValue().stream().filter(room -> !room.getAvailable()).count(),
+                "totalBookings", e.getValue().stream().mapToLong(Room::getTimesBooked).sum()
+            )))
+            .toList();
+    }
+
+    Map<Long, List<RoomStatisticsView>> roomStatisticsByHotel() {
+        Map<Long, List<RoomStatisticsView>> statistics = new HashMap<>();
+
+        hotels.forEach(hotel -> statistics.put(hotel.getId(), hotel.getRooms().stream()
+            .map(room -> Stubs.projection(RoomStatisticsView.class, Map.of(
+                "roomId", room.getId(),
+                "roomNumber", room.getRoomNumber(),
+                "roomType", room.getRoomType(),
+                "available", room.getAvailable(),
+                "timesBooked", room.getTimesBooked(),
+                "pricePerNight", room.getPricePerNight()
+            )))
+            .toList()
+        ));
+
+        return statistics;
+    }
+
+    List<RoomRankView> rankedAvailable() {
+        return availableRooms().stream()
+            .map(room -> Stubs.projection(RoomRankView.class, Map.of(
+                "roomId", room.getId(),
+                "hotelId", room.getHotelId(),
+                "roomType", room.getRoomType(),
+                "maxOccupancy", room.getMaxOccupancy(),
+                "timesBooked", room.getTimesBooked()
+            )))
+            .toList();
+    }
+}
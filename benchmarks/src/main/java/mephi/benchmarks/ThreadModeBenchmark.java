@@ -0,0 +1,116 @@
+package mephi.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreadModeBenchmark {
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"none", "synchronized", "reentrant-lock"})
+    private String guard;
+
+    @Param({"1000"})
+    private int concurrentRequests;
+
+    @Param({"10"})
+    private int blockingMillis;
+
+    private ExecutorService executor;
+    private Object[] monitors;
+    private ReentrantLock[] locks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        monitors = new Object[concurrentRequests];
+        locks = new ReentrantLock[concurrentRequests];
+        for (int i = 0; i < concurrentRequests; i++) {
+            monitors[i] = new Object();
+            locks[i] = new ReentrantLock();
+        }
+
+
+        executor = "virtual".equals(threads)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void burstOfBlockingRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrentRequests);
+
+        for (int i = 0; i < concurrentRequests; i++) {
+            int request = i;
+            executor.execute(() -> {
+                try {
+                    handle(request);
+                }
+                finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+    }
+
+    private void handle(int request) {
+        switch (guard) {
+            case "synchronized" -> {
+                synchronized (monitors[request]) {
+                    block();
+                }
+            }
+            case "reentrant-lock" -> {
+                ReentrantLock lock = locks[request];
+                lock.lock();
+                try {
+                    block();
+                }
+                finally {
+                    lock.unlock();
+                }
+            }
+            default -> block();
+        }
+    }
+
+    private void block() {
+        try {
+            Thread.sleep(blockingMillis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
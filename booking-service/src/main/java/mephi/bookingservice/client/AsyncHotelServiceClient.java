@@ -0,0 +1,49 @@
+package mephi.bookingservice.client;
+
+import mephi.bookingservice.dto.hotel.AvailabilityRequest;
+import mephi.bookingservice.dto.hotel.AvailabilityResponse;
+import mephi.bookingservice.dto.hotel.BatchConfirmRequest;
+import mephi.bookingservice.dto.hotel.BatchReleaseRequest;
+import mephi.bookingservice.dto.hotel.CatalogVersionResponse;
+import mephi.bookingservice.dto.hotel.RoomHoldResponse;
+import mephi.bookingservice.dto.hotel.RoomResponse;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncHotelServiceClient {
+    CompletableFuture<RoomResponse> getRoomById(Long id);
+
+    CompletableFuture<List<RoomResponse>> getRoomsByIds(Collection<Long> ids);
+
+    CompletableFuture<CatalogVersionResponse> getCatalogVersion();
+
+    CompletableFuture<List<RoomResponse>> getAvailableRooms();
+
+    CompletableFuture<List<RoomResponse>> getAvailableRoomsByHotel(Long hotelId);
+
+    CompletableFuture<List<RoomResponse>> getRecommendedRooms(
+        Long hotelId,
+        String roomType,
+        Integer guestCount,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer limit
+    );
+
+    CompletableFuture<AvailabilityResponse> confirmAvailability(Long roomId, AvailabilityRequest request);
+
+    CompletableFuture<Void> releaseRoom(Long roomId, String requestId, LocalDate startDate, LocalDate endDate);
+
+    CompletableFuture<RoomHoldResponse> holdRoom(Long roomId, AvailabilityRequest request);
+
+    CompletableFuture<AvailabilityResponse> confirmHold(String holdToken);
+
+    CompletableFuture<AvailabilityResponse> releaseHold(String holdToken);
+
+    CompletableFuture<List<AvailabilityResponse>> confirmAvailabilityBatch(BatchConfirmRequest request);
+
+    CompletableFuture<List<AvailabilityResponse>> releaseRoomsBatch(BatchReleaseRequest request);
+}
@@ -2,10 +2,17 @@ package mephi.bookingservice.client;
 
 import mephi.bookingservice.dto.hotel.AvailabilityRequest;
 import mephi.bookingservice.dto.hotel.AvailabilityResponse;
+import mephi.bookingservice.dto.hotel.BatchConfirmRequest;
+import mephi.bookingservice.dto.hotel.BatchReleaseRequest;
+import mephi.bookingservice.dto.hotel.CatalogVersionResponse;
+import mephi.bookingservice.dto.hotel.RoomHoldResponse;
 import mephi.bookingservice.dto.hotel.RoomResponse;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @FeignClient(
@@ -16,6 +23,12 @@ public interface HotelServiceClient {
     @GetMapping("/rooms/{id}")
     RoomResponse getRoomById(@PathVariable("id") Long id);
 
+    @GetMapping("/rooms")
+    List<RoomResponse> getRoomsByIds(@RequestParam("ids") Collection<Long> ids);
+
+    @GetMapping("/rooms/catalog-version")
+    CatalogVersionResponse getCatalogVersion();
+
     @GetMapping("/rooms/available")
     List<RoomResponse> getAvailableRooms();
 
@@ -26,7 +39,10 @@ public interface HotelServiceClient {
     List<RoomResponse> getRecommendedRooms(
         @RequestParam(value = "hotelId", required = false) Long hotelId,
         @RequestParam(value = "roomType", required = false) String roomType,
-        @RequestParam(value = "guestCount", required = false) Integer guestCount
+        @RequestParam(value = "guestCount", required = false) Integer guestCount,
+        @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @RequestParam(value = "limit", required = false) Integer limit
     );
 
     @PostMapping("/rooms/{id}/confirm-availability")
@@ -38,6 +54,26 @@ public interface HotelServiceClient {
     @PostMapping("/rooms/{id}/release")
     void releaseRoom(
         @PathVariable("id") Long roomId,
-        @RequestParam("requestId") String requestId
+        @RequestParam("requestId") String requestId,
+        @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    );
+
+    @PostMapping("/rooms/{id}/hold")
+    RoomHoldResponse holdRoom(
+        @PathVariable("id") Long roomId,
+        @RequestBody AvailabilityRequest request
     );
+
+    @PostMapping("/rooms/holds/{holdToken}/confirm")
+    AvailabilityResponse confirmHold(@PathVariable("holdToken") String holdToken);
+
+    @PostMapping("/rooms/holds/{holdToken}/release")
+    AvailabilityResponse releaseHold(@PathVariable("holdToken") String holdToken);
+
+    @PostMapping("/rooms/confirm-availability:batch")
+    List<AvailabilityResponse> confirmAvailabilityBatch(@RequestBody BatchConfirmRequest request);
+
+    @PostMapping("/rooms/release:batch")
+    List<AvailabilityResponse> releaseRoomsBatch(@RequestBody BatchReleaseRequest request);
 }
@@ -3,11 +3,17 @@ package mephi.bookingservice.client;
 import lombok.extern.slf4j.Slf4j;
 import mephi.bookingservice.dto.hotel.AvailabilityRequest;
 import mephi.bookingservice.dto.hotel.AvailabilityResponse;
+import mephi.bookingservice.dto.hotel.BatchConfirmRequest;
+import mephi.bookingservice.dto.hotel.BatchReleaseRequest;
+import mephi.bookingservice.dto.hotel.CatalogVersionResponse;
+import mephi.bookingservice.dto.hotel.RoomHoldResponse;
 import mephi.bookingservice.dto.hotel.RoomResponse;
 import mephi.bookingservice.exception.HotelServiceException;
 import org.springframework.cloud.openfeign.FallbackFactory;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Slf4j
@@ -23,6 +29,16 @@ public class HotelServiceClientFallbackFactory implements FallbackFactory<HotelS
                 throw new HotelServiceException("Hotel Service is unavailable. Cannot retrieve room details.", cause);
             }
 
+            @Override
+            public List<RoomResponse> getRoomsByIds(Collection<Long> ids) {
+                throw new HotelServiceException("Hotel Service is unavailable. Cannot retrieve room details.", cause);
+            }
+
+            @Override
+            public CatalogVersionResponse getCatalogVersion() {
+                throw new HotelServiceException("Hotel Service is unavailable. Cannot retrieve catalog version.", cause);
+            }
+
             @Override
             public List<RoomResponse> getAvailableRooms() {
                 throw new HotelServiceException("Hotel Service is unavailable. Cannot retrieve available rooms.", cause);
@@ -34,7 +50,14 @@ public class HotelServiceClientFallbackFactory implements FallbackFactory<HotelS
             }
 
             @Override
-            public List<RoomResponse> getRecommendedRooms(Long hotelId, String roomType, Integer guestCount) {
+            public List<RoomResponse> getRecommendedRooms(
+                Long hotelId,
+                String roomType,
+                Integer guestCount,
+                LocalDate startDate,
+                LocalDate endDate,
+                Integer limit
+            ) {
                 throw new HotelServiceException("Hotel Service is unavailable. Cannot retrieve room recommendations.", cause);
             }
 
@@ -51,7 +74,7 @@ public class HotelServiceClientFallbackFactory implements FallbackFactory<HotelS
             }
 
             @Override
-            public void releaseRoom(Long roomId, String requestId) {
+            public void releaseRoom(Long roomId, String requestId, LocalDate startDate, LocalDate endDate) {
                 log.error("Failed to release room {}: {}", roomId, cause.getMessage());
 
                 AvailabilityResponse.builder()
@@ -61,6 +84,48 @@ public class HotelServiceClientFallbackFactory implements FallbackFactory<HotelS
                     .message("Hotel Service is unavailable. Room release may be pending.")
                     .build();
             }
+
+            @Override
+            public RoomHoldResponse holdRoom(Long roomId, AvailabilityRequest request) {
+                log.error("Failed to hold room {}: {}", roomId, cause.getMessage());
+
+                return RoomHoldResponse.builder()
+                    .roomId(roomId)
+                    .requestId(request.getRequestId())
+                    .held(false)
+                    .message("Hotel Service is unavailable. Please try again later.")
+                    .build();
+            }
+
+            @Override
+            public AvailabilityResponse confirmHold(String holdToken) {
+                throw new HotelServiceException("Hotel Service is unavailable. Cannot confirm room hold.", cause);
+            }
+
+            @Override
+            public AvailabilityResponse releaseHold(String holdToken) {
+                throw new HotelServiceException("Hotel Service is unavailable. Room hold will expire on its own.", cause);
+            }
+
+            @Override
+            public List<AvailabilityResponse> confirmAvailabilityBatch(BatchConfirmRequest request) {
+                log.error("Failed to confirm availability for {} rooms: {}", request.getItems().size(), cause.getMessage());
+
+                return request.getItems().stream()
+                    .map(item -> AvailabilityResponse.builder()
+                        .roomId(item.getRoomId())
+                        .requestId(item.getRequest().getRequestId())
+                        .confirmed(false)
+                        .message("Hotel Service is unavailable. Please try again later.")
+                        .build()
+                    )
+                    .toList();
+            }
+
+            @Override
+            public List<AvailabilityResponse> releaseRoomsBatch(BatchReleaseRequest request) {
+                throw new HotelServiceException("Hotel Service is unavailable. Room release may be pending.", cause);
+            }
         };
     }
 }
@@ -0,0 +1,406 @@
+package mephi.bookingservice.client;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.dto.hotel.AvailabilityRequest;
+import mephi.bookingservice.dto.hotel.AvailabilityResponse;
+import mephi.bookingservice.dto.hotel.BatchConfirmRequest;
+import mephi.bookingservice.dto.hotel.BatchReleaseRequest;
+import mephi.bookingservice.dto.hotel.CatalogVersionResponse;
+import mephi.bookingservice.dto.hotel.RoomHoldResponse;
+import mephi.bookingservice.dto.hotel.RoomResponse;
+import mephi.bookingservice.exception.HotelServiceException;
+import mephi.bookingservice.service.ServiceTokenProvider;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactiveLoadBalancer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class HttpAsyncHotelServiceClient implements AsyncHotelServiceClient {
+    private static final String SERVICE_ID = "hotel-service";
+
+    private final ReactiveLoadBalancer.Factory<ServiceInstance> loadBalancers;
+    private final CircuitBreaker circuitBreaker;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final HotelServiceClientFallbackFactory fallbacks;
+    private final JsonMapper jsonMapper;
+    private final PoolingAsyncClientConnectionManager connectionManager;
+    private final CloseableHttpAsyncClient httpClient;
+    private final Duration timeout;
+
+    public HttpAsyncHotelServiceClient(
+        ReactiveLoadBalancer.Factory<ServiceInstance> loadBalancers,
+        CircuitBreakerRegistry circuitBreakerRegistry,
+        ServiceTokenProvider serviceTokenProvider,
+        HotelServiceClientFallbackFactory fallbacks,
+        JsonMapper jsonMapper,
+        MeterRegistry meterRegistry,
+        @Value("${app.hotel.async-client.max-connections:200}") int maxConnections,
+        @Value("${app.hotel.async-client.max-connections-per-route:50}") int maxConnectionsPerRoute,
+        @Value("${app.hotel.async-client.io-threads:2}") int ioThreads,
+        @Value("${app.hotel.async-client.connect-timeout:PT3S}") Duration connectTimeout,
+        @Value("${app.hotel.async-client.timeout:PT3S}") Duration timeout,
+        @Value("${app.hotel.async-client.keep-alive:PT15S}") Duration keepAlive
+    ) {
+        this.loadBalancers = loadBalancers;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(SERVICE_ID);
+        this.serviceTokenProvider = serviceTokenProvider;
+        this.fallbacks = fallbacks;
+        this.jsonMapper = jsonMapper;
+        this.timeout = timeout;
+
+        this.connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(timeout))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build()
+            )
+            .build();
+        this.httpClient = HttpAsyncClients.custom()
+            .setConnectionManager(connectionManager)
+            .setIOReactorConfig(IOReactorConfig.custom()
+                .setIoThreadCount(ioThreads)
+                .build()
+            )
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(timeout))
+                .setResponseTimeout(Timeout.of(timeout))
+                .build()
+            )
+            .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+            .evictIdleConnections(TimeValue.of(keepAlive))
+            .evictExpiredConnections()
+            .build();
+        this.httpClient.start();
+
+        Gauge.builder("hotel.client.connections", connectionManager, m -> m.getTotalStats().getLeased())
+            .description("Pooled hotel-service connections by state")
+            .tag("state", "leased")
+            .register(meterRegistry);
+        Gauge.builder("hotel.client.connections", connectionManager, m -> m.getTotalStats().getAvailable())
+            .description("Pooled hotel-service connections by state")
+            .tag("state", "idle")
+            .register(meterRegistry);
+        Gauge.builder("hotel.client.connections", connectionManager, m -> m.getTotalStats().getPending())
+            .description("Pooled hotel-service connections by state")
+            .tag("state", "pending")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<RoomResponse> getRoomById(Long id) {
+        return exchange(
+            Method.GET,
+            uri -> uri.path("/rooms/{id}").buildAndExpand(id),
+            null,
+            type(RoomResponse.class),
+            fallback -> fallback.getRoomById(id)
+        );
+    }
+
+    @Override
+    public CompletableFuture<List<RoomResponse>> getRoomsByIds(Collection<Long> ids) {
+        return exchange(
+            Method.GET,
+            uri -> uri.path("/rooms").queryParam("ids", ids.toArray()).build(),
+            null,
+            listOf(RoomResponse.class),
+            fallback -> fallback.getRoomsByIds(ids)
+        );
+    }
+
+    @Override
+    public CompletableFuture<CatalogVersionResponse> getCatalogVersion() {
+        return exchange(
+            Method.GET,
+            uri -> uri.path("/rooms/catalog-version").build(),
+            null,
+            type(CatalogVersionResponse.class),
+            HotelServiceClient::getCatalogVersion
+        );
+    }
+
+    @Override
+    public CompletableFuture<List<RoomResponse>> getAvailableRooms() {
+        return exchange(
+            Method.GET,
+            uri -> uri.path("/rooms/available").build(),
+            null,
+            listOf(RoomResponse.class),
+            HotelServiceClient::getAvailableRooms
+        );
+    }
+
+    @Override
+    public CompletableFuture<List<RoomResponse>> getAvailableRoomsByHotel(Long hotelId) {
+        return exchange(
+            Method.GET,
+            uri -> uri.path("/rooms/available").queryParam("hotelId", hotelId).build(),
+            null,
+            listOf(RoomResponse.class),
+            fallback -> fallback.getAvailableRoomsByHotel(hotelId)
+        );
+    }
+
+    @Override
+    public CompletableFuture<List<RoomResponse>> getRecommendedRooms(
+        Long hotelId,
+        String roomType,
+        Integer guestCount,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer limit
+    ) {
+        return exchange(
+            Method.GET,
+            uri -> uri.path("/rooms/recommend")
+                .queryParamIfPresent("hotelId", Optional.ofNullable(hotelId))
+                .queryParamIfPresent("roomType", Optional.ofNullable(roomType))
+                .queryParamIfPresent("guestCount", Optional.ofNullable(guestCount))
+                .queryParamIfPresent("startDate", Optional.ofNullable(startDate))
+                .queryParamIfPresent("endDate", Optional.ofNullable(endDate))
+                .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                .build(),
+            null,
+            listOf(RoomResponse.class),
+            fallback -> fallback.getRecommendedRooms(hotelId, roomType, guestCount, startDate, endDate, limit)
+        );
+    }
+
+    @Override
+    public CompletableFuture<AvailabilityResponse> confirmAvailability(Long roomId, AvailabilityRequest request) {
+        return exchange(
+            Method.POST,
+            uri -> uri.path("/rooms/{id}/confirm-availability").buildAndExpand(roomId),
+            request,
+            type(AvailabilityResponse.class),
+            fallback -> fallback.confirmAvailability(roomId, request)
+        );
+    }
+
+    @Override
+    public CompletableFuture<Void> releaseRoom(Long roomId, String requestId, LocalDate startDate, LocalDate endDate) {
+        return exchange(
+            Method.POST,
+            uri -> uri.path("/rooms/{id}/release")
+                .queryParam("requestId", requestId)
+                .queryParamIfPresent("startDate", Optional.ofNullable(startDate))
+                .queryParamIfPresent("endDate", Optional.ofNullable(endDate))
+                .buildAndExpand(roomId),
+            null,
+            null,
+            fallback -> {
+                fallback.releaseRoom(roomId, requestId, startDate, endDate);
+
+                return null;
+            }
+        );
+    }
+
+    @Override
+    public CompletableFuture<RoomHoldResponse> holdRoom(Long roomId, AvailabilityRequest request) {
+        return exchange(
+            Method.POST,
+            uri -> uri.path("/rooms/{id}/hold").buildAndExpand(roomId),
+            request,
+            type(RoomHoldResponse.class),
+            fallback -> fallback.holdRoom(roomId, request)
+        );
+    }
+
+    @Override
+    public CompletableFuture<AvailabilityResponse> confirmHold(String holdToken) {
+        return exchange(
+            Method.POST,
+            uri -> uri.path("/rooms/holds/{holdToken}/confirm").buildAndExpand(holdToken),
+            null,
+            type(AvailabilityResponse.class),
+            fallback -> fallback.confirmHold(holdToken)
+        );
+    }
+
+    @Override
+    public CompletableFuture<AvailabilityResponse> releaseHold(String holdToken) {
+        return exchange(
+            Method.POST,
+            uri -> uri.path("/rooms/holds/{holdToken}/release").buildAndExpand(holdToken),
+            null,
+            type(AvailabilityResponse.class),
+            fallback -> fallback.releaseHold(holdToken)
+        );
+    }
+
+    @Override
+    public CompletableFuture<List<AvailabilityResponse>> confirmAvailabilityBatch(BatchConfirmRequest request) {
+        return exchange(
+            Method.POST,
+            uri -> uri.path("/rooms/confirm-availability:batch").build(),
+            request,
+            listOf(AvailabilityResponse.class),
+            fallback -> fallback.confirmAvailabilityBatch(request)
+        );
+    }
+
+    @Override
+    public CompletableFuture<List<AvailabilityResponse>> releaseRoomsBatch(BatchReleaseRequest request) {
+        return exchange(
+            Method.POST,
+            uri -> uri.path("/rooms/release:batch").build(),
+            request,
+            listOf(AvailabilityResponse.class),
+            fallback -> fallback.releaseRoomsBatch(request)
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    private <T> CompletableFuture<T> exchange(
+        Method method,
+        Function<UriComponentsBuilder, UriComponents> uri,
+        Object body,
+        JavaType responseType,
+        Function<HotelServiceClient, T> fallback
+    ) {
+        return circuitBreaker.executeCompletionStage(() -> chooseInstance()
+                .thenCompose(baseUri -> send(request(method, uri.apply(UriComponentsBuilder.fromUri(baseUri)).encode().toUri(), body)))
+                .thenApply(response -> this.<T>read(response, responseType))
+            )
+            .toCompletableFuture()
+            .exceptionally(e -> fallback.apply(fallbacks.create(unwrap(e))));
+    }
+
+    private CompletableFuture<URI> chooseInstance() {
+        return Mono.from(loadBalancers.getInstance(SERVICE_ID).choose())
+            .toFuture()
+            .thenApply(response -> {
+                if (response == null || !response.hasServer()) {
+                    throw new HotelServiceException("No instance of " + SERVICE_ID + " is available");
+                }
+
+                return response.getServer().getUri();
+            });
+    }
+
+    private SimpleHttpRequest request(Method method, URI uri, Object body) {
+        SimpleRequestBuilder builder = SimpleRequestBuilder.create(method)
+            .setUri(uri)
+            .setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + serviceTokenProvider.getToken())
+            .setHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.getMimeType());
+
+        if (body != null) {
+            builder.setBody(jsonMapper.writeValueAsBytes(body), ContentType.APPLICATION_JSON);
+        }
+
+        log.debug("Sending asynchronous hotel-service request: {} {}", method, uri);
+
+        return builder.build();
+    }
+
+    private CompletableFuture<SimpleHttpResponse> send(SimpleHttpRequest request) {
+        CompletableFuture<SimpleHttpResponse> response = new CompletableFuture<>();
+
+        Future<SimpleHttpResponse> call = httpClient.execute(
+            SimpleRequestProducer.create(request),
+            SimpleResponseConsumer.create(),
+            new FutureCallback<>() {
+                @Override
+                public void completed(SimpleHttpResponse result) {
+                    response.complete(result);
+                }
+
+                @Override
+                public void failed(Exception ex) {
+                    response.completeExceptionally(ex);
+                }
+
+                @Override
+                public void cancelled() {
+                    response.cancel(false);
+                }
+            }
+        );
+        response.whenComplete((result, e) -> {
+            if (e != null) {
+                call.cancel(true);
+            }
+        });
+
+        return response.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private <T> T read(SimpleHttpResponse response, JavaType responseType) {
+        if (response.getCode() >= 300) {
+            throw new HotelServiceException(
+                "Hotel Service responded with " + response.getCode() + ": " + response.getBodyText(),
+                response.getCode()
+            );
+        }
+
+        byte[] payload = response.getBodyBytes();
+        if (responseType == null || payload == null || payload.length == 0) {
+            return null;
+        }
+
+        return jsonMapper.readValue(payload, responseType);
+    }
+
+    private JavaType type(Class<?> type) {
+        return jsonMapper.constructType(type);
+    }
+
+    private JavaType listOf(Class<?> elementType) {
+        return jsonMapper.getTypeFactory().constructCollectionType(List.class, elementType);
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
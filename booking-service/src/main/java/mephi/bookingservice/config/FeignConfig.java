@@ -4,9 +4,7 @@ import feign.Logger;
 import feign.RequestInterceptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import mephi.bookingservice.entity.Role;
-import mephi.bookingservice.entity.User;
-import mephi.bookingservice.service.JwtService;
+import mephi.bookingservice.service.ServiceTokenProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,7 +12,7 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @RequiredArgsConstructor
 public class FeignConfig {
-    private final JwtService jwtService;
+    private final ServiceTokenProvider serviceTokenProvider;
 
     @Bean
     public Logger.Level feignLoggerLevel() {
@@ -24,15 +22,7 @@ public class FeignConfig {
     @Bean
     public RequestInterceptor authRequestInterceptor() {
         return requestTemplate -> {
-            User serviceAccount = User.builder()
-                .id(0L)
-                .username("booking-service")
-                .email("booking-service@internal")
-                .role(Role.ADMIN)
-                .build();
-
-            String token = jwtService.generateToken(serviceAccount);
-            requestTemplate.header("Authorization", "Bearer " + token);
+            requestTemplate.header("Authorization", "Bearer " + serviceTokenProvider.getToken());
 
             log.debug(
                 "Added service account token to Feign request: {}",
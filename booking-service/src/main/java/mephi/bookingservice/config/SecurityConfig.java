@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -13,6 +15,8 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -68,7 +72,7 @@ public class SecurityConfig {
             .oauth2ResourceServer(oauth2 -> oauth2
                 .jwt(jwt -> jwt
                     .decoder(jwtDecoder())
-                    .jwtAuthenticationConverter(jwtAuthenticationConverter())
+                    .jwtAuthenticationConverter(userDetailsAuthenticationConverter())
                 )
             )
             .headers(headers -> headers
@@ -125,6 +129,20 @@ public class SecurityConfig {
         return converter;
     }
 
+    private Converter<Jwt, AbstractAuthenticationToken> userDetailsAuthenticationConverter() {
+        JwtAuthenticationConverter delegate = jwtAuthenticationConverter();
+
+        return jwt -> {
+            Collection<GrantedAuthority> authorities = delegate.convert(jwt).getAuthorities();
+            UserDetails principal = User.withUsername(jwt.getSubject())
+                .password("")
+                .authorities(authorities)
+                .build();
+
+            return new UsernamePasswordAuthenticationToken(principal, jwt, authorities);
+        };
+    }
+
     private static class RoleConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
         @Override
         public Collection<GrantedAuthority> convert(Jwt jwt) {
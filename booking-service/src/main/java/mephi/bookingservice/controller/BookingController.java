@@ -11,19 +11,25 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import mephi.bookingservice.dto.BookingRequest;
 import mephi.bookingservice.dto.BookingResponse;
+import mephi.bookingservice.dto.CursorPage;
+import mephi.bookingservice.dto.GroupBookingRequest;
 import mephi.bookingservice.dto.hotel.RoomResponse;
 import mephi.bookingservice.entity.BookingStatus;
+import mephi.bookingservice.service.BookingIdempotency;
 import mephi.bookingservice.service.BookingService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.util.List;
 
 @Slf4j
@@ -34,6 +40,7 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class BookingController {
     private final BookingService bookingService;
+    private final BookingIdempotency bookingIdempotency;
 
     @PostMapping
     @Operation(summary = "Create a booking", description = "Create a new room booking")
@@ -41,19 +48,121 @@ public class BookingController {
         @ApiResponse(responseCode = "201", description = "Booking created successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid input or room not available"),
         @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "409", description = "Idempotency-Key reused for another request or still in progress"),
         @ApiResponse(responseCode = "503", description = "Hotel Service unavailable")
     })
     public ResponseEntity<BookingResponse> createBooking(
         @Valid @RequestBody BookingRequest request,
+        @Parameter(description = "Key that makes retries return the original booking") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @AuthenticationPrincipal UserDetails userDetails
     ) {
         log.info("Creating booking for user: {}", userDetails.getUsername());
 
-        BookingResponse response = bookingService.createBooking(request, userDetails.getUsername());
+        BookingResponse response = idempotencyKey != null
+            ? bookingIdempotency.execute(
+                userDetails.getUsername(),
+                idempotencyKey,
+                request,
+                () -> bookingService.createBooking(request, userDetails.getUsername())
+            )
+            : bookingService.createBooking(request, userDetails.getUsername());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/group")
+    @Operation(
+        summary = "Create a group booking",
+        description = "Book several rooms for the same dates. Either every room is booked or none is"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Group booking created successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input or a room is not available"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "503", description = "Hotel Service unavailable")
+    })
+    public ResponseEntity<List<BookingResponse>> createGroupBooking(
+        @Valid @RequestBody GroupBookingRequest request,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        log.info("Creating group booking for user: {}", userDetails.getUsername());
+
+        List<BookingResponse> response = bookingService.createGroupBooking(request, userDetails.getUsername());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/async")
+    @Operation(
+        summary = "Submit a booking",
+        description = "Accept a booking as PENDING and confirm it in the background. " +
+            "Track the result via the booking reference or its event stream"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Booking accepted for confirmation"),
+        @ApiResponse(responseCode = "400", description = "Invalid input or room already booked"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "503", description = "Too many bookings in progress")
+    })
+    public ResponseEntity<BookingResponse> submitBooking(
+        @Valid @RequestBody BookingRequest request,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        log.info("Submitting booking for user: {}", userDetails.getUsername());
+
+        BookingResponse response = bookingService.submitBooking(request, userDetails.getUsername());
+
+        return ResponseEntity.accepted()
+            .location(URI.create("/bookings/reference/" + response.getBookingReference()))
+            .body(response);
+    }
+
+    @PostMapping("/hold")
+    @Operation(
+        summary = "Hold a room for checkout",
+        description = "Create a PENDING booking and hold the room while the guest pays. " +
+            "Confirm it before holdExpiresAt, otherwise the hold is released and the booking is cancelled"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Room held"),
+        @ApiResponse(responseCode = "400", description = "Invalid input or room not available"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "503", description = "Hotel Service unavailable")
+    })
+    public ResponseEntity<BookingResponse> holdBooking(
+        @Valid @RequestBody BookingRequest request,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        log.info("Holding room for user: {}", userDetails.getUsername());
+
+        BookingResponse response = bookingService.holdBooking(request, userDetails.getUsername());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/{id}/confirm")
+    @Operation(summary = "Confirm a held booking", description = "Complete checkout of a booking created with a room hold")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Booking confirmed"),
+        @ApiResponse(responseCode = "400", description = "Booking is not held or the hold has expired"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "404", description = "Booking not found"),
+        @ApiResponse(responseCode = "503", description = "Hotel Service unavailable")
+    })
+    public ResponseEntity<BookingResponse> confirmHeldBooking(
+        @Parameter(description = "Booking ID") @PathVariable Long id,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        log.info("Confirming held booking {} for user: {}", id, userDetails.getUsername());
+
+        boolean isAdmin = userDetails.getAuthorities().stream()
+            .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+
+        BookingResponse response = bookingService.confirmHeldBooking(id, userDetails.getUsername(), isAdmin);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/my")
     @Operation(summary = "Get my bookings", description = "Get all bookings for the current user with pagination")
     @ApiResponses(value = {
@@ -76,6 +185,34 @@ public class BookingController {
         return ResponseEntity.ok(bookings);
     }
 
+    @GetMapping(value = "/my", params = "limit")
+    @Operation(
+        summary = "Get my bookings page",
+        description = "Get bookings of the current user, newest first, using keyset pagination"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bookings retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    public ResponseEntity<CursorPage<BookingResponse>> getMyBookingsPage(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @Parameter(description = "Page size (1-100)") @RequestParam int limit,
+        @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+        @Parameter(description = "Include total number of bookings") @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        log.debug("Getting bookings page for user: {} (limit: {}, cursor: {})", userDetails.getUsername(), limit, cursor);
+
+        CursorPage<BookingResponse> bookings = bookingService.getBookingsByUserPage(
+            userDetails.getUsername(),
+            limit,
+            cursor,
+            includeTotal
+        );
+
+        return ResponseEntity.ok(bookings);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get booking by ID", description = "Get a specific booking by its ID")
     @ApiResponses(value = {
@@ -110,6 +247,24 @@ public class BookingController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/reference/{reference}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream booking status",
+        description = "Send the current booking state, then its final state once confirmation finishes"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "404", description = "Booking not found")
+    })
+    public SseEmitter streamBookingStatus(
+        @Parameter(description = "Booking reference") @PathVariable String reference
+    ) {
+        log.debug("Streaming booking status: {}", reference);
+
+        return bookingService.subscribeToBooking(reference);
+    }
+
     @PostMapping("/{id}/cancel")
     @Operation(summary = "Cancel a booking", description = "Cancel an existing booking")
     @ApiResponses(value = {
@@ -152,6 +307,30 @@ public class BookingController {
         return ResponseEntity.ok(bookings);
     }
 
+    @GetMapping(params = "limit")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Get all bookings page (Admin)",
+        description = "Get all bookings, newest first, using keyset pagination"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bookings retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
+    public ResponseEntity<CursorPage<BookingResponse>> getAllBookingsPage(
+        @Parameter(description = "Page size (1-100)") @RequestParam int limit,
+        @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+        @Parameter(description = "Include total number of bookings") @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        log.debug("Getting all bookings page (admin) - limit: {}, cursor: {}", limit, cursor);
+
+        CursorPage<BookingResponse> bookings = bookingService.getAllBookingsPage(limit, cursor, includeTotal);
+
+        return ResponseEntity.ok(bookings);
+    }
+
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get bookings by status (Admin)", description = "Get all bookings with a specific status with pagination")
@@ -171,6 +350,31 @@ public class BookingController {
         return ResponseEntity.ok(bookings);
     }
 
+    @GetMapping(value = "/status/{status}", params = "limit")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Get bookings by status page (Admin)",
+        description = "Get bookings with a specific status, newest first, using keyset pagination"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bookings retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
+    public ResponseEntity<CursorPage<BookingResponse>> getBookingsByStatusPage(
+        @Parameter(description = "Booking status") @PathVariable BookingStatus status,
+        @Parameter(description = "Page size (1-100)") @RequestParam int limit,
+        @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+        @Parameter(description = "Include total number of bookings") @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        log.debug("Getting bookings page by status: {} (limit: {}, cursor: {})", status, limit, cursor);
+
+        CursorPage<BookingResponse> bookings = bookingService.getBookingsByStatusPage(status, limit, cursor, includeTotal);
+
+        return ResponseEntity.ok(bookings);
+    }
+
     @GetMapping("/rooms/recommend")
     @Operation(summary = "Get recommended rooms", description = "Get room recommendations based on filters")
     @ApiResponses(value = {
@@ -181,16 +385,18 @@ public class BookingController {
     public ResponseEntity<List<RoomResponse>> getRecommendedRooms(
         @Parameter(description = "Hotel ID") @RequestParam(required = false) Long hotelId,
         @Parameter(description = "Room type") @RequestParam(required = false) String roomType,
-        @Parameter(description = "Guest count") @RequestParam(required = false) Integer guestCount
+        @Parameter(description = "Guest count") @RequestParam(required = false) Integer guestCount,
+        @Parameter(description = "Return only the first k recommendations") @RequestParam(required = false) Integer limit
     ) {
         log.debug(
-            "Getting room recommendations: hotelId={}, roomType={}, guestCount={}",
+            "Getting room recommendations: hotelId={}, roomType={}, guestCount={}, limit={}",
             hotelId,
             roomType,
-            guestCount
+            guestCount,
+            limit
         );
 
-        List<RoomResponse> rooms = bookingService.getRecommendedRooms(hotelId, roomType, guestCount);
+        List<RoomResponse> rooms = bookingService.getRecommendedRooms(hotelId, roomType, guestCount, limit);
 
         return ResponseEntity.ok(rooms);
     }
@@ -0,0 +1,31 @@
+package mephi.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import mephi.bookingservice.entity.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingEvent {
+    private String eventId;
+    private Long bookingId;
+    private String bookingReference;
+    private Long userId;
+    private Long roomId;
+    private Long hotelId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private Integer guestCount;
+    private BigDecimal totalPrice;
+    private BookingStatus status;
+    private String reason;
+    private LocalDateTime occurredAt;
+}
@@ -28,6 +28,7 @@ public class BookingResponse {
     private BookingStatus status;
     private String specialRequests;
     private String cancellationReason;
+    private LocalDateTime holdExpiresAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,49 @@
+package mephi.bookingservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupBookingRequest {
+    @NotNull(message = "Check-in date is required")
+    @FutureOrPresent(message = "Check-in date must be today or in the future")
+    private LocalDate checkInDate;
+
+    @NotNull(message = "Check-out date is required")
+    @Future(message = "Check-out date must be in the future")
+    private LocalDate checkOutDate;
+
+    @NotEmpty(message = "At least one room is required")
+    @Size(max = 50, message = "A group booking must not exceed 50 rooms")
+    private List<@Valid Room> rooms;
+
+    @Size(max = 500, message = "Special requests must not exceed 500 characters")
+    private String specialRequests;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Room {
+        @NotNull(message = "Room ID is required")
+        private Long roomId;
+
+        @NotNull(message = "Hotel ID is required")
+        private Long hotelId;
+
+        @NotNull(message = "Guest count is required")
+        @Min(value = 1, message = "Guest count must be at least 1")
+        @Max(value = 20, message = "Guest count must not exceed 20")
+        private Integer guestCount;
+    }
+}
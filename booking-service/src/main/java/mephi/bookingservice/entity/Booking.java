@@ -11,7 +11,16 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "bookings")
+@Table(
+    name = "bookings",
+    indexes = {
+        @Index(name = "idx_bookings_room_status_dates", columnList = "room_id, status, check_in_date, check_out_date"),
+        @Index(name = "idx_bookings_created_id", columnList = "created_at, id"),
+        @Index(name = "idx_bookings_user_created_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_bookings_status_created_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_bookings_status_hold_expires", columnList = "status, hold_expires_at")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -58,6 +67,15 @@ public class Booking {
     @Column(name = "cancellation_reason")
     private String cancellationReason;
 
+    @Column(name = "hold_token")
+    private String holdToken;
+
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
+    @Column(name = "hold_claimed_at")
+    private LocalDateTime holdClaimedAt;
+
     @Version
     private Long version;
 
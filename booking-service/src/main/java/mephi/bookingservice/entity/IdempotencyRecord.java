@@ -0,0 +1,84 @@
+package mephi.bookingservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "booking_idempotency_keys",
+    indexes = {
+        @Index(name = "idx_booking_idempotency_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_booking_idempotency_created_at", columnList = "created_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@IdClass(IdempotencyRecordId.class)
+public class IdempotencyRecord implements Persistable<IdempotencyRecordId> {
+    @Id
+    private String username;
+
+    @Id
+    @Column(name = "idempotency_key")
+    private String key;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(length = 4000)
+    private String response;
+
+    @Column(length = 4000)
+    private String failure;
+
+    @Column(name = "failure_code", length = 64)
+    private String failureCode;
+
+    @Column(name = "failed_booking_reference")
+    private String failedBookingReference;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Transient
+    @Builder.Default
+    private boolean fresh = true;
+
+    @Override
+    public IdempotencyRecordId getId() {
+        return new IdempotencyRecordId(username, key);
+    }
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    public boolean isCompleted() {
+        return response != null || failure != null;
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        fresh = false;
+    }
+}
@@ -0,0 +1,8 @@
+package mephi.bookingservice.entity;
+
+public enum SagaState {
+    STARTED,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
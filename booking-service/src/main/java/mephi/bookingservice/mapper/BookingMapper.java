@@ -16,6 +16,8 @@ public interface BookingMapper {
     @Mapping(target = "totalPrice", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "cancellationReason", ignore = true)
+    @Mapping(target = "holdToken", ignore = true)
+    @Mapping(target = "holdExpiresAt", ignore = true)
     @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -0,0 +1,26 @@
+package mephi.bookingservice.outbox;
+
+import lombok.RequiredArgsConstructor;
+import mephi.bookingservice.dto.BookingEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.booking.outbox.sinks.listener", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationEventOutboxSink implements OutboxSink {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String name() {
+        return "listener";
+    }
+
+    @Override
+    public void publish(List<BookingEvent> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,103 @@
+package mephi.bookingservice.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.dto.BookingEvent;
+import mephi.bookingservice.entity.Booking;
+import mephi.bookingservice.entity.OutboxEvent;
+import mephi.bookingservice.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class BookingOutbox {
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JsonMapper jsonMapper;
+    private final Duration retention;
+
+    public BookingOutbox(
+        OutboxEventRepository outboxEventRepository,
+        JsonMapper jsonMapper,
+        @Value("${app.booking.outbox.retention:P1D}") Duration retention
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.jsonMapper = jsonMapper;
+        this.retention = retention;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent record(Booking booking) {
+        BookingEvent event = BookingEvent.builder()
+            .eventId(UUID.randomUUID().toString())
+            .bookingId(booking.getId())
+            .bookingReference(booking.getBookingReference())
+            .userId(booking.getUser() != null ? booking.getUser().getId() : null)
+            .roomId(booking.getRoomId())
+            .hotelId(booking.getHotelId())
+            .checkInDate(booking.getCheckInDate())
+            .checkOutDate(booking.getCheckOutDate())
+            .guestCount(booking.getGuestCount())
+            .totalPrice(booking.getTotalPrice())
+            .status(booking.getStatus())
+            .reason(booking.getCancellationReason())
+            .occurredAt(LocalDateTime.now())
+            .build();
+
+        return outboxEventRepository.save(OutboxEvent.builder()
+            .bookingId(booking.getId())
+            .eventType(booking.getStatus().name())
+            .payload(jsonMapper.writeValueAsString(event))
+            .build()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<OutboxEvent> nextBatch(int batchSize) {
+        return outboxEventRepository.findByPublishedAtIsNullOrderById(Limit.of(batchSize));
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return outboxEventRepository.countByPublishedAtIsNull();
+    }
+
+    @Transactional
+    public void markPublished(Collection<Long> ids) {
+        outboxEventRepository.markPublished(ids, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void recordFailure(Collection<Long> ids, String error) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH
+            ? error.substring(0, MAX_ERROR_LENGTH)
+            : error;
+
+        outboxEventRepository.recordFailure(ids, truncated);
+    }
+
+    public BookingEvent read(OutboxEvent event) {
+        return jsonMapper.readValue(event.getPayload(), BookingEvent.class);
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.outbox.purge-interval:PT1H}")
+    @Transactional
+    public void purgePublished() {
+        int purged = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} published outbox events", purged);
+        }
+    }
+}
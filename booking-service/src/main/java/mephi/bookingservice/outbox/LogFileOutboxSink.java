@@ -0,0 +1,67 @@
+package mephi.bookingservice.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.dto.BookingEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.booking.outbox.sinks.log-file", name = "enabled", havingValue = "true")
+public class LogFileOutboxSink implements OutboxSink {
+    private final JsonMapper jsonMapper;
+    private final Path path;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public LogFileOutboxSink(
+        JsonMapper jsonMapper,
+        @Value("${app.booking.outbox.sinks.log-file.path:logs/booking-events.jsonl}") Path path
+    ) throws IOException {
+        this.jsonMapper = jsonMapper;
+        this.path = path.toAbsolutePath();
+
+        if (this.path.getParent() != null) {
+            Files.createDirectories(this.path.getParent());
+        }
+
+        log.info("Appending booking events to {}", this.path);
+    }
+
+    @Override
+    public String name() {
+        return "log-file";
+    }
+
+    @Override
+    public void publish(List<BookingEvent> events) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (BookingEvent event : events) {
+            lines.append(jsonMapper.writeValueAsString(event)).append('\n');
+        }
+
+        writeLock.lock();
+        try {
+            Files.writeString(
+                path,
+                lines,
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND,
+                StandardOpenOption.WRITE
+            );
+        }
+        finally {
+            writeLock.unlock();
+        }
+    }
+}
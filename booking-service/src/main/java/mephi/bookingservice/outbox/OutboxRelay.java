@@ -0,0 +1,114 @@
+package mephi.bookingservice.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.dto.BookingEvent;
+import mephi.bookingservice.entity.OutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+public class OutboxRelay {
+    private final BookingOutbox bookingOutbox;
+    private final List<OutboxSink> sinks;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Counter published;
+    private final Timer lag;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicReference<LocalDateTime> oldestPending = new AtomicReference<>();
+
+    public OutboxRelay(
+        BookingOutbox bookingOutbox,
+        List<OutboxSink> sinks,
+        MeterRegistry meterRegistry,
+        @Value("${app.booking.outbox.batch-size:100}") int batchSize
+    ) {
+        this.bookingOutbox = bookingOutbox;
+        this.sinks = sinks;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+
+        this.published = Counter.builder("booking.outbox.published")
+            .description("Booking events delivered to every outbox sink")
+            .register(meterRegistry);
+        this.lag = Timer.builder("booking.outbox.lag")
+            .description("Time between a booking state change and its delivery to the outbox sinks")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+
+        Gauge.builder("booking.outbox.pending", pending, AtomicLong::get)
+            .description("Booking events waiting in the outbox")
+            .register(meterRegistry);
+        Gauge.builder("booking.outbox.oldest.age", oldestPending, this::ageSeconds)
+            .description("Age in seconds of the oldest undelivered booking event")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+
+        log.info("Outbox relay delivering booking events to sinks: {}", sinks.stream().map(OutboxSink::name).toList());
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.outbox.poll-interval:PT1S}")
+    public void relay() {
+        int delivered;
+        do {
+            delivered = relayBatch();
+        } while (delivered == batchSize);
+
+        pending.set(bookingOutbox.countPending());
+    }
+
+    int relayBatch() {
+        List<OutboxEvent> batch = bookingOutbox.nextBatch(batchSize);
+
+        if (batch.isEmpty()) {
+            oldestPending.set(null);
+
+            return 0;
+        }
+
+        oldestPending.set(batch.getFirst().getCreatedAt());
+
+        List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+        List<BookingEvent> events = batch.stream().map(bookingOutbox::read).toList();
+
+        for (OutboxSink sink : sinks) {
+            try {
+                sink.publish(events);
+            }
+            catch (Exception e) {
+                meterRegistry.counter("booking.outbox.failures", "sink", sink.name()).increment();
+                log.warn("Outbox sink {} failed for {} events, will retry: {}", sink.name(), events.size(), e.getMessage());
+                bookingOutbox.recordFailure(ids, sink.name() + ": " + e.getMessage());
+
+                return 0;
+            }
+        }
+
+        bookingOutbox.markPublished(ids);
+
+        LocalDateTime now = LocalDateTime.now();
+        batch.forEach(event -> lag.record(Duration.between(event.getCreatedAt(), now)));
+        published.increment(batch.size());
+
+        return batch.size();
+    }
+
+    private double ageSeconds(AtomicReference<LocalDateTime> oldest) {
+        LocalDateTime createdAt = oldest.get();
+
+        return createdAt != null ? Duration.between(createdAt, LocalDateTime.now()).toMillis() / 1000.0 : 0;
+    }
+}
@@ -0,0 +1,11 @@
+package mephi.bookingservice.outbox;
+
+import mephi.bookingservice.dto.BookingEvent;
+
+import java.util.List;
+
+public interface OutboxSink {
+    String name();
+
+    void publish(List<BookingEvent> events) throws Exception;
+}
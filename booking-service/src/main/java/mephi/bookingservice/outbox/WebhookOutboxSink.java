@@ -0,0 +1,54 @@
+package mephi.bookingservice.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.dto.BookingEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.booking.outbox.sinks.webhook", name = "url")
+public class WebhookOutboxSink implements OutboxSink {
+    private final RestClient restClient;
+
+    public WebhookOutboxSink(
+        @Value("${app.booking.outbox.sinks.webhook.url}") String url,
+        @Value("${app.booking.outbox.sinks.webhook.timeout:PT5S}") Duration timeout
+    ) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+
+        this.restClient = RestClient.builder()
+            .baseUrl(url)
+            .requestFactory(requestFactory)
+            .build();
+
+        log.info("Posting booking events to {}", url);
+    }
+
+    WebhookOutboxSink(RestClient restClient) {
+        this.restClient = restClient;
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void publish(List<BookingEvent> events) {
+        restClient.post()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(events)
+            .retrieve()
+            .toBodilessEntity();
+    }
+}
@@ -1,15 +1,19 @@
 package mephi.bookingservice.repository;
 
+import jakarta.persistence.LockModeType;
 import mephi.bookingservice.entity.Booking;
 import mephi.bookingservice.entity.BookingStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +31,14 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     List<Booking> findByStatus(BookingStatus status);
 
+    List<Booking> findByStatusAndHoldExpiresAtBeforeOrderByHoldExpiresAt(
+        BookingStatus status,
+        LocalDateTime before,
+        Limit limit
+    );
+
+    List<Booking> findByStatusInAndCheckOutDateGreaterThanEqual(List<BookingStatus> statuses, LocalDate date);
+
     @Query("SELECT b FROM Booking b WHERE b.user.id = :userId ORDER BY b.createdAt DESC")
     List<Booking> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
 
@@ -39,6 +51,37 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b WHERE b.status = :status")
     Page<Booking> findByStatusPaged(@Param("status") BookingStatus status, Pageable pageable);
 
+    @Query("SELECT b FROM Booking b JOIN FETCH b.user " +
+        "WHERE b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) " +
+        "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Booking> findAllBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.user " +
+        "WHERE b.user.id = :userId " +
+        "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+        "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Booking> findByUserIdBefore(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.user " +
+        "WHERE b.status = :status " +
+        "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+        "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Booking> findByStatusBefore(
+        @Param("status") BookingStatus status,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    long countByUserId(Long userId);
+
+    long countByStatus(BookingStatus status);
+
     @Query("SELECT b FROM Booking b WHERE b.roomId = :roomId AND b.status IN :statuses " +
         "AND ((b.checkInDate <= :checkOut AND b.checkOutDate >= :checkIn))")
     List<Booking> findOverlappingBookings(
@@ -51,6 +94,10 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b JOIN FETCH b.user WHERE b.id = :id")
     Optional<Booking> findByIdWithUser(@Param("id") Long id);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b JOIN FETCH b.user WHERE b.id = :id")
+    Optional<Booking> findByIdWithUserForUpdate(@Param("id") Long id);
+
     @Query("SELECT b FROM Booking b JOIN FETCH b.user WHERE b.bookingReference = :reference")
     Optional<Booking> findByBookingReferenceWithUser(@Param("reference") String reference);
 
@@ -0,0 +1,18 @@
+package mephi.bookingservice.repository;
+
+import mephi.bookingservice.entity.BookingSaga;
+import mephi.bookingservice.entity.SagaState;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BookingSagaRepository extends JpaRepository<BookingSaga, Long> {
+    Optional<BookingSaga> findByBookingId(Long bookingId);
+
+    List<BookingSaga> findByStateAndUpdatedAtBeforeOrderByUpdatedAt(SagaState state, LocalDateTime before, Limit limit);
+}
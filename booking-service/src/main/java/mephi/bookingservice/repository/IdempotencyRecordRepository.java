@@ -0,0 +1,27 @@
+package mephi.bookingservice.repository;
+
+import mephi.bookingservice.entity.IdempotencyRecord;
+import mephi.bookingservice.entity.IdempotencyRecordId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecordId> {
+    @Query("SELECT r FROM IdempotencyRecord r WHERE r.response IS NOT NULL OR r.failure IS NOT NULL ORDER BY r.createdAt DESC")
+    List<IdempotencyRecord> findCompletedOrderByCreatedAtDesc(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE (r.response IS NOT NULL OR r.failure IS NOT NULL) AND r.createdAt <= :cutoff")
+    int deleteCompletedUpTo(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,111 @@
+package mephi.bookingservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.client.HotelServiceClient;
+import mephi.bookingservice.dto.hotel.AvailabilityResponse;
+import mephi.bookingservice.entity.Booking;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+public class BookingHoldSweeper {
+    private final BookingSagaService bookingSagaService;
+    private final HotelServiceClient hotelServiceClient;
+    private final Duration grace;
+    private final int batchSize;
+    private final Counter expired;
+
+    public BookingHoldSweeper(
+        BookingSagaService bookingSagaService,
+        HotelServiceClient hotelServiceClient,
+        MeterRegistry meterRegistry,
+        @Value("${app.booking.hold.grace:PT30S}") Duration grace,
+        @Value("${app.booking.hold.batch-size:50}") int batchSize
+    ) {
+        this.bookingSagaService = bookingSagaService;
+        this.hotelServiceClient = hotelServiceClient;
+        this.grace = grace;
+        this.batchSize = batchSize;
+        this.expired = Counter.builder("booking.holds.expired")
+            .description("Held bookings cancelled because checkout was not completed in time")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.hold.sweep-interval:PT15S}")
+    public void expireAbandoned() {
+        List<Booking> abandoned = bookingSagaService.findExpiredHolds(LocalDateTime.now().minus(grace), batchSize);
+
+        if (!abandoned.isEmpty()) {
+            log.info("Expiring {} abandoned checkout holds", abandoned.size());
+        }
+
+        abandoned.forEach(this::expire);
+    }
+
+    private void expire(Booking booking) {
+        if (booking.getHoldClaimedAt() != null) {
+            settleClaimed(booking);
+
+            return;
+        }
+
+        try {
+            if (bookingSagaService.expireHold(booking.getId()) == null) {
+                return;
+            }
+
+            expired.increment();
+            log.info("Checkout hold expired for booking {}", booking.getBookingReference());
+        }
+        catch (Exception e) {
+            log.warn("Failed to expire checkout hold for booking {}: {}", booking.getBookingReference(), e.getMessage());
+
+            return;
+        }
+
+        if (booking.getHoldToken() == null) {
+            return;
+        }
+
+        try {
+            hotelServiceClient.releaseHold(booking.getHoldToken());
+        }
+        catch (Exception e) {
+            log.debug("Hold {} for booking {} left to expire in Hotel Service: {}", booking.getHoldToken(), booking.getBookingReference(), e.getMessage());
+        }
+    }
+
+    private void settleClaimed(Booking booking) {
+        try {
+            AvailabilityResponse response = hotelServiceClient.confirmHold(booking.getHoldToken());
+
+            if (response.isConfirmed()) {
+                Booking completed = bookingSagaService.complete(booking.getId(), response.getTotalPrice());
+
+                if (BookingSagaService.isAbandoned(completed)) {
+                    hotelServiceClient.releaseHold(booking.getHoldToken());
+                    log.info("Released the hold of booking {} that was {} during checkout", booking.getBookingReference(), completed.getStatus());
+
+                    return;
+                }
+
+                log.info("Settled interrupted checkout of booking {} as confirmed", booking.getBookingReference());
+            }
+            else {
+                bookingSagaService.fail(booking.getId(), response.getMessage());
+                log.info("Settled interrupted checkout of booking {} as failed: {}", booking.getBookingReference(), response.getMessage());
+            }
+        }
+        catch (Exception e) {
+            log.warn("Failed to settle interrupted checkout of booking {}: {}", booking.getBookingReference(), e.getMessage());
+        }
+    }
+}
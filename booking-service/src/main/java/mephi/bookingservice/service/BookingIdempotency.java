@@ -0,0 +1,277 @@
+package mephi.bookingservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.dto.BookingRequest;
+import mephi.bookingservice.dto.BookingResponse;
+import mephi.bookingservice.entity.IdempotencyRecord;
+import mephi.bookingservice.entity.IdempotencyRecordId;
+import mephi.bookingservice.exception.BookingException;
+import mephi.bookingservice.exception.DuplicateResourceException;
+import mephi.bookingservice.repository.IdempotencyRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class BookingIdempotency {
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final JsonMapper jsonMapper;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Duration waitTimeout;
+    private final int maxEntries;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter joined;
+    private final Counter conflicts;
+
+    private final Map<IdempotencyRecordId, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public BookingIdempotency(
+        IdempotencyRecordRepository recordRepository,
+        JsonMapper jsonMapper,
+        MeterRegistry meterRegistry,
+        @Value("${app.booking.idempotency.ttl:PT24H}") Duration ttl,
+        @Value("${app.booking.idempotency.lease:PT1M}") Duration lease,
+        @Value("${app.booking.idempotency.wait-timeout:PT30S}") Duration waitTimeout,
+        @Value("${app.booking.idempotency.max-entries:100000}") int maxEntries
+    ) {
+        this.recordRepository = recordRepository;
+        this.jsonMapper = jsonMapper;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.waitTimeout = waitTimeout;
+        this.maxEntries = maxEntries;
+
+        this.executed = requests(meterRegistry, "executed");
+        this.replayed = requests(meterRegistry, "replayed");
+        this.joined = requests(meterRegistry, "joined");
+        this.conflicts = requests(meterRegistry, "conflict");
+        Gauge.builder("booking.idempotency.in-flight", inFlight, Map::size)
+            .description("Idempotent booking requests currently being executed")
+            .register(meterRegistry);
+    }
+
+    public BookingResponse execute(
+        String username,
+        String idempotencyKey,
+        BookingRequest request,
+        Supplier<BookingResponse> action
+    ) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        IdempotencyRecordId key = new IdempotencyRecordId(username, idempotencyKey);
+        InFlight running = new InFlight(fingerprint(request), new CompletableFuture<>());
+
+        InFlight existing = inFlight.putIfAbsent(key, running);
+        if (existing != null) {
+            return await(existing, running.requestHash());
+        }
+
+        try {
+            BookingResponse response = executeOnce(key, running.requestHash(), action);
+            running.result().complete(response);
+
+            return response;
+        }
+        catch (RuntimeException e) {
+            running.result().completeExceptionally(e);
+
+            throw e;
+        }
+        finally {
+            inFlight.remove(key, running);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.idempotency.purge-interval:PT10M}")
+    @Transactional
+    public void purge() {
+        int expired = recordRepository.deleteExpired(LocalDateTime.now());
+        int evicted = 0;
+
+        List<IdempotencyRecord> overflow = recordRepository.findCompletedOrderByCreatedAtDesc(
+            PageRequest.of(maxEntries, 1)
+        );
+        if (!overflow.isEmpty()) {
+            evicted = recordRepository.deleteCompletedUpTo(overflow.getFirst().getCreatedAt());
+        }
+
+        if (expired + evicted > 0) {
+            log.info("Purged {} expired and {} overflowing idempotency keys", expired, evicted);
+        }
+    }
+
+    private BookingResponse executeOnce(IdempotencyRecordId key, String requestHash, Supplier<BookingResponse> action) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = recordRepository.findById(key).orElse(null);
+
+        if (record != null && record.getExpiresAt().isBefore(now)) {
+            recordRepository.delete(record);
+            record = null;
+        }
+
+        if (record != null) {
+            return replay(record, key.getUsername(), requestHash);
+        }
+
+        record = claim(key, requestHash, now);
+
+        BookingResponse response;
+        try {
+            response = action.get();
+        }
+        catch (BookingException e) {
+            if (e.getBookingReference() == null) {
+                recordRepository.delete(record);
+
+                throw e;
+            }
+
+            record.setFailure(e.getMessage());
+            record.setFailureCode(e.getErrorCode());
+            record.setFailedBookingReference(e.getBookingReference());
+            record.setExpiresAt(LocalDateTime.now().plus(ttl));
+            recordRepository.save(record);
+            executed.increment();
+
+            throw e;
+        }
+        catch (RuntimeException e) {
+            recordRepository.delete(record);
+
+            throw e;
+        }
+
+        record.setBookingId(response.getId());
+        record.setResponse(jsonMapper.writeValueAsString(response));
+        record.setExpiresAt(LocalDateTime.now().plus(ttl));
+        recordRepository.save(record);
+        executed.increment();
+
+        return response;
+    }
+
+    private IdempotencyRecord claim(IdempotencyRecordId key, String requestHash, LocalDateTime now) {
+        try {
+            return recordRepository.saveAndFlush(IdempotencyRecord.builder()
+                .username(key.getUsername())
+                .key(key.getKey())
+                .requestHash(requestHash)
+                .expiresAt(now.plus(lease))
+                .build()
+            );
+        }
+        catch (DataIntegrityViolationException e) {
+            throw stillProcessing();
+        }
+    }
+
+    private BookingResponse replay(IdempotencyRecord record, String username, String requestHash) {
+        if (!record.getUsername().equals(username) || !record.getRequestHash().equals(requestHash)) {
+            throw reusedKey();
+        }
+
+        if (!record.isCompleted()) {
+            throw stillProcessing();
+        }
+
+        replayed.increment();
+
+        if (record.isFailed()) {
+            log.debug("Replaying failed booking {} for idempotency key {}", record.getFailedBookingReference(), record.getKey());
+
+            throw new BookingException(record.getFailure(), record.getFailedBookingReference(), record.getFailureCode());
+        }
+
+        log.debug("Replaying booking {} for idempotency key {}", record.getBookingId(), record.getKey());
+
+        return jsonMapper.readValue(record.getResponse(), BookingResponse.class);
+    }
+
+    private BookingResponse await(InFlight running, String requestHash) {
+        if (!running.requestHash().equals(requestHash)) {
+            throw reusedKey();
+        }
+
+        joined.increment();
+
+        try {
+            return running.result().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+        catch (TimeoutException e) {
+            throw stillProcessing();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw stillProcessing();
+        }
+    }
+
+    private DuplicateResourceException stillProcessing() {
+        conflicts.increment();
+
+        return new DuplicateResourceException("A booking with this Idempotency-Key is still being processed");
+    }
+
+    private DuplicateResourceException reusedKey() {
+        conflicts.increment();
+
+        return new DuplicateResourceException("Idempotency-Key was already used for a different booking request");
+    }
+
+    private String fingerprint(BookingRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            return HexFormat.of().formatHex(digest.digest(jsonMapper.writeValueAsBytes(request)));
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("booking.idempotency.requests")
+            .description("Booking requests carrying an Idempotency-Key, by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<BookingResponse> result) {
+    }
+}
@@ -0,0 +1,160 @@
+package mephi.bookingservice.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.entity.Booking;
+import mephi.bookingservice.entity.BookingStatus;
+import mephi.bookingservice.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingOverlapIndex {
+    public static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+
+    public enum Result {
+        RESERVED,
+        CONFLICT,
+        UNKNOWN
+    }
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<Long, RoomIntervals> rooms = new ConcurrentHashMap<>();
+
+    @Getter
+    @Value("${app.booking.overlap-index.verify-with-database:false}")
+    private boolean verifyWithDatabase;
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Booking> bookings = bookingRepository.findByStatusInAndCheckOutDateGreaterThanEqual(
+            ACTIVE_STATUSES,
+            LocalDate.now()
+        );
+
+        bookings.forEach(b -> intervalsOf(b.getRoomId()).load(b.getCheckInDate(), b.getCheckOutDate()));
+        ready = true;
+
+        log.info("Booking overlap index warmed up with {} bookings for {} rooms", bookings.size(), rooms.size());
+    }
+
+    public Result tryReserve(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        if (!ready) {
+            return Result.UNKNOWN;
+        }
+
+        RoomIntervals intervals = intervalsOf(roomId);
+        Result result = intervals.tryAdd(checkIn, checkOut);
+
+        if (result == Result.RESERVED) {
+            afterRollback(() -> intervals.remove(checkIn, checkOut));
+        }
+
+        return result;
+    }
+
+    public void release(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        RoomIntervals intervals = rooms.get(roomId);
+        if (intervals == null) {
+            return;
+        }
+
+        afterCommit(() -> intervals.remove(checkIn, checkOut));
+    }
+
+    private RoomIntervals intervalsOf(Long roomId) {
+        return rooms.computeIfAbsent(roomId, id -> new RoomIntervals());
+    }
+
+    private void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class RoomIntervals {
+        private final TreeMap<LocalDate, LocalDate> byCheckIn = new TreeMap<>();
+        private boolean consistent = true;
+
+        synchronized void load(LocalDate checkIn, LocalDate checkOut) {
+            if (overlaps(checkIn, checkOut)) {
+                consistent = false;
+            }
+
+            byCheckIn.merge(checkIn, checkOut, (a, b) -> a.isAfter(b) ? a : b);
+        }
+
+        synchronized Result tryAdd(LocalDate checkIn, LocalDate checkOut) {
+            if (overlaps(checkIn, checkOut)) {
+                return Result.CONFLICT;
+            }
+
+            if (!consistent) {
+                return Result.UNKNOWN;
+            }
+
+            evictPast();
+            byCheckIn.put(checkIn, checkOut);
+
+            return Result.RESERVED;
+        }
+
+        synchronized void remove(LocalDate checkIn, LocalDate checkOut) {
+            byCheckIn.remove(checkIn, checkOut);
+        }
+
+        private boolean overlaps(LocalDate checkIn, LocalDate checkOut) {
+            Map.Entry<LocalDate, LocalDate> candidate = byCheckIn.floorEntry(checkOut);
+
+            return candidate != null && !candidate.getValue().isBefore(checkIn);
+        }
+
+        private void evictPast() {
+            LocalDate today = LocalDate.now();
+
+            while (!byCheckIn.isEmpty() && byCheckIn.firstEntry().getValue().isBefore(today)) {
+                byCheckIn.pollFirstEntry();
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package mephi.bookingservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.client.HotelServiceClient;
+import mephi.bookingservice.dto.hotel.AvailabilityResponse;
+import mephi.bookingservice.entity.Booking;
+import mephi.bookingservice.entity.BookingSaga;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingSagaRecovery {
+    private final BookingSagaService bookingSagaService;
+    private final HotelServiceClient hotelServiceClient;
+    private final BookingWorkQueue bookingWorkQueue;
+
+    @Value("${app.booking.saga.stale-after:PT1M}")
+    private Duration staleAfter = Duration.ofMinutes(1);
+
+    @Value("${app.booking.saga.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${app.booking.saga.batch-size:50}")
+    private int batchSize = 50;
+
+    @Scheduled(fixedDelayString = "${app.booking.saga.recovery-interval:PT1M}")
+    public void recoverStalled() {
+        List<BookingSaga> stalled = bookingSagaService.findStalled(LocalDateTime.now().minus(staleAfter), batchSize);
+
+        if (!stalled.isEmpty()) {
+            log.info("Recovering {} stalled booking sagas", stalled.size());
+        }
+
+        stalled.forEach(this::recover);
+    }
+
+    private void recover(BookingSaga saga) {
+        if (bookingWorkQueue.isPending(saga.getBookingId())) {
+            log.debug("Booking {} is still waiting in the work queue, skipping recovery", saga.getBookingId());
+
+            return;
+        }
+
+        Booking booking = bookingSagaService.findBooking(saga.getBookingId());
+
+        try {
+            AvailabilityResponse response = hotelServiceClient.confirmAvailability(
+                booking.getRoomId(),
+                BookingSagaService.confirmRequest(booking, saga.getRequestId())
+            );
+
+            if (response.isConfirmed()) {
+                Booking completed = bookingSagaService.complete(booking.getId(), response.getTotalPrice());
+
+                if (BookingSagaService.isAbandoned(completed)) {
+                    log.info("Booking {} was {} during recovery, releasing the room", booking.getBookingReference(), completed.getStatus());
+                    release(booking, saga.getRequestId());
+
+                    return;
+                }
+
+                log.info("Recovered booking {} as confirmed", booking.getBookingReference());
+            }
+            else {
+                bookingSagaService.fail(booking.getId(), response.getMessage());
+                log.info("Recovered booking {} as failed: {}", booking.getBookingReference(), response.getMessage());
+            }
+        }
+        catch (Exception e) {
+            int attempts = bookingSagaService.recordAttempt(saga.getId(), e.getMessage());
+
+            log.warn(
+                "Recovery attempt {} for booking {} failed: {}",
+                attempts,
+                booking.getBookingReference(),
+                e.getMessage()
+            );
+
+            if (attempts >= maxAttempts) {
+                compensate(booking, saga.getRequestId());
+            }
+        }
+    }
+
+    private void compensate(Booking booking, String requestId) {
+        release(booking, requestId);
+
+        bookingSagaService.fail(booking.getId(), "Booking failed due to system error");
+    }
+
+    private void release(Booking booking, String requestId) {
+        try {
+            hotelServiceClient.releaseRoom(booking.getRoomId(), requestId, null, null);
+        }
+        catch (Exception e) {
+            log.error("Failed to release room during saga recovery: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package mephi.bookingservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.dto.hotel.AvailabilityRequest;
+import mephi.bookingservice.entity.Booking;
+import mephi.bookingservice.entity.BookingSaga;
+import mephi.bookingservice.entity.BookingStatus;
+import mephi.bookingservice.entity.SagaState;
+import mephi.bookingservice.exception.BookingException;
+import mephi.bookingservice.exception.ResourceNotFoundException;
+import mephi.bookingservice.outbox.BookingOutbox;
+import mephi.bookingservice.repository.BookingRepository;
+import mephi.bookingservice.repository.BookingSagaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingSagaService {
+    private final BookingRepository bookingRepository;
+    private final BookingSagaRepository sagaRepository;
+    private final BookingOverlapIndex bookingOverlapIndex;
+    private final BookingOutbox bookingOutbox;
+
+    public static AvailabilityRequest confirmRequest(Booking booking, String requestId) {
+        return AvailabilityRequest.builder()
+            .requestId(requestId)
+            .startDate(booking.getCheckInDate())
+            .endDate(booking.getCheckOutDate())
+            .guestCount(booking.getGuestCount())
+            .build();
+    }
+
+    public static boolean isAbandoned(Booking booking) {
+        return booking.getStatus() == BookingStatus.CANCELLED || booking.getStatus() == BookingStatus.FAILED;
+    }
+
+    @Transactional
+    public Booking reserve(Booking booking, String requestId) {
+        Booking saved = savePending(booking);
+
+        sagaRepository.save(BookingSaga.builder()
+            .bookingId(saved.getId())
+            .requestId(requestId)
+            .build()
+        );
+
+        return saved;
+    }
+
+    @Transactional
+    public Booking reserveHold(Booking booking, LocalDateTime expiresAt) {
+        booking.setHoldExpiresAt(expiresAt);
+
+        return savePending(booking);
+    }
+
+    @Transactional
+    public Booking attachHold(Long bookingId, String holdToken, LocalDateTime expiresAt, BigDecimal totalPrice) {
+        Booking booking = findBooking(bookingId);
+
+        booking.setHoldToken(holdToken);
+        booking.setHoldExpiresAt(expiresAt);
+        booking.setTotalPrice(totalPrice);
+
+        return bookingRepository.save(booking);
+    }
+
+    @Transactional
+    public Booking claimHold(Long bookingId) {
+        Booking booking = lockBooking(bookingId);
+
+        if (booking.getStatus() != BookingStatus.PENDING || booking.getHoldToken() == null) {
+            throw new BookingException("Booking is not awaiting checkout confirmation", booking.getBookingReference());
+        }
+
+        if (booking.getHoldClaimedAt() == null && booking.getHoldExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new BookingException("Checkout hold has expired", booking.getBookingReference());
+        }
+
+        booking.setHoldClaimedAt(LocalDateTime.now());
+
+        return bookingRepository.save(booking);
+    }
+
+    @Transactional
+    public Booking expireHold(Long bookingId) {
+        Booking booking = lockBooking(bookingId);
+
+        if (booking.getStatus() != BookingStatus.PENDING
+            || booking.getHoldExpiresAt() == null
+            || booking.getHoldClaimedAt() != null) {
+            return null;
+        }
+
+        return cancelLocked(booking, "Checkout hold expired");
+    }
+
+    @Transactional(readOnly = true)
+    public List<Booking> findExpiredHolds(LocalDateTime expiredBefore, int limit) {
+        return bookingRepository.findByStatusAndHoldExpiresAtBeforeOrderByHoldExpiresAt(
+            BookingStatus.PENDING,
+            expiredBefore,
+            Limit.of(limit)
+        );
+    }
+
+    @Transactional
+    public List<Booking> reserveAll(List<Booking> bookings, List<String> requestIds) {
+        List<Booking> reserved = new ArrayList<>(bookings.size());
+
+        for (int i = 0; i < bookings.size(); i++) {
+            reserved.add(reserve(bookings.get(i), requestIds.get(i)));
+        }
+
+        return reserved;
+    }
+
+    @Transactional
+    public Booking complete(Long bookingId, BigDecimal totalPrice) {
+        Booking booking = lockBooking(bookingId);
+
+        if (!isPending(booking, SagaState.COMPLETED) || !finish(bookingId, SagaState.COMPLETED, null)) {
+            return booking;
+        }
+
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setTotalPrice(totalPrice);
+        booking = bookingRepository.save(booking);
+        bookingOutbox.record(booking);
+
+        return booking;
+    }
+
+    @Transactional
+    public Booking fail(Long bookingId, String reason) {
+        Booking booking = lockBooking(bookingId);
+
+        if (!isPending(booking, SagaState.FAILED) || !finish(bookingId, SagaState.FAILED, reason)) {
+            return booking;
+        }
+
+        booking.setStatus(BookingStatus.FAILED);
+        booking.setCancellationReason(reason);
+        booking = bookingRepository.save(booking);
+        bookingOutbox.record(booking);
+        bookingOverlapIndex.release(booking.getRoomId(), booking.getCheckInDate(), booking.getCheckOutDate());
+
+        return booking;
+    }
+
+    @Transactional
+    public Booking cancel(Booking booking, String reason) {
+        return cancelLocked(lockBooking(booking.getId()), reason);
+    }
+
+    @Transactional
+    public List<Booking> completeAll(Map<Long, BigDecimal> totalPrices) {
+        return totalPrices.entrySet().stream()
+            .map(e -> complete(e.getKey(), e.getValue()))
+            .toList();
+    }
+
+    @Transactional
+    public List<Booking> failAll(Map<Long, String> reasons) {
+        return reasons.entrySet().stream()
+            .map(e -> fail(e.getKey(), e.getValue()))
+            .toList();
+    }
+
+    @Transactional
+    public int recordAttempt(Long sagaId, String error) {
+        BookingSaga saga = sagaRepository.findById(sagaId)
+            .orElseThrow(() -> new ResourceNotFoundException("Booking saga", sagaId));
+
+        saga.setAttempts(saga.getAttempts() + 1);
+        saga.setLastError(error);
+
+        return sagaRepository.save(saga).getAttempts();
+    }
+
+    @Transactional(readOnly = true)
+    public List<BookingSaga> findStalled(LocalDateTime updatedBefore, int limit) {
+        return sagaRepository.findByStateAndUpdatedAtBeforeOrderByUpdatedAt(
+            SagaState.STARTED,
+            updatedBefore,
+            Limit.of(limit)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public Booking findBooking(Long bookingId) {
+        return bookingRepository.findByIdWithUser(bookingId)
+            .orElseThrow(() -> new ResourceNotFoundException("Booking", bookingId));
+    }
+
+    private Booking lockBooking(Long bookingId) {
+        return bookingRepository.findByIdWithUserForUpdate(bookingId)
+            .orElseThrow(() -> new ResourceNotFoundException("Booking", bookingId));
+    }
+
+    private Booking cancelLocked(Booking booking, String reason) {
+        if (booking.getStatus() != BookingStatus.PENDING && booking.getStatus() != BookingStatus.CONFIRMED) {
+            log.warn("Booking {} is already {}, ignoring cancellation", booking.getId(), booking.getStatus());
+
+            return booking;
+        }
+
+        sagaRepository.findByBookingId(booking.getId())
+            .filter(saga -> saga.getState() == SagaState.STARTED)
+            .ifPresent(saga -> {
+                saga.setState(SagaState.CANCELLED);
+                saga.setLastError(reason);
+                sagaRepository.save(saga);
+            });
+
+        booking.setStatus(BookingStatus.CANCELLED);
+        booking.setCancellationReason(reason);
+        booking = bookingRepository.save(booking);
+        bookingOutbox.record(booking);
+        bookingOverlapIndex.release(booking.getRoomId(), booking.getCheckInDate(), booking.getCheckOutDate());
+
+        return booking;
+    }
+
+    private boolean isPending(Booking booking, SagaState outcome) {
+        if (booking.getStatus() != BookingStatus.PENDING) {
+            log.warn("Booking {} is already {}, ignoring {}", booking.getId(), booking.getStatus(), outcome);
+
+            return false;
+        }
+
+        return true;
+    }
+
+    private Booking savePending(Booking booking) {
+        BookingOverlapIndex.Result indexed = bookingOverlapIndex.tryReserve(
+            booking.getRoomId(),
+            booking.getCheckInDate(),
+            booking.getCheckOutDate()
+        );
+
+        if (indexed == BookingOverlapIndex.Result.CONFLICT) {
+            throw new BookingException("Room is already booked for the selected dates");
+        }
+
+        if (indexed == BookingOverlapIndex.Result.UNKNOWN || bookingOverlapIndex.isVerifyWithDatabase()) {
+            List<Booking> overlapping = bookingRepository.findOverlappingBookings(
+                booking.getRoomId(),
+                booking.getCheckInDate(),
+                booking.getCheckOutDate(),
+                BookingOverlapIndex.ACTIVE_STATUSES
+            );
+
+            if (!overlapping.isEmpty()) {
+                throw new BookingException("Room is already booked for the selected dates");
+            }
+        }
+
+        booking.setStatus(BookingStatus.PENDING);
+        Booking saved = bookingRepository.save(booking);
+        bookingOutbox.record(saved);
+
+        return saved;
+    }
+
+    private boolean finish(Long bookingId, SagaState state, String error) {
+        BookingSaga saga = sagaRepository.findByBookingId(bookingId).orElse(null);
+
+        if (saga != null && saga.getState() != SagaState.STARTED) {
+            log.warn("Saga for booking {} already finished as {}, ignoring {}", bookingId, saga.getState(), state);
+
+            return false;
+        }
+
+        if (saga != null) {
+            saga.setState(state);
+            saga.setLastError(error);
+            sagaRepository.save(saga);
+        }
+
+        return true;
+    }
+}
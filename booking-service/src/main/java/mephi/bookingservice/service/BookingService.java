@@ -2,26 +2,44 @@ package mephi.bookingservice.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.client.AsyncHotelServiceClient;
 import mephi.bookingservice.client.HotelServiceClient;
 import mephi.bookingservice.dto.BookingRequest;
 import mephi.bookingservice.dto.BookingResponse;
-import mephi.bookingservice.dto.hotel.AvailabilityRequest;
+import mephi.bookingservice.dto.CursorPage;
+import mephi.bookingservice.dto.GroupBookingRequest;
 import mephi.bookingservice.dto.hotel.AvailabilityResponse;
+import mephi.bookingservice.dto.hotel.BatchConfirmRequest;
+import mephi.bookingservice.dto.hotel.BatchReleaseRequest;
+import mephi.bookingservice.dto.hotel.RoomHoldResponse;
 import mephi.bookingservice.dto.hotel.RoomResponse;
 import mephi.bookingservice.entity.Booking;
 import mephi.bookingservice.entity.BookingStatus;
 import mephi.bookingservice.entity.User;
 import mephi.bookingservice.exception.BookingException;
+import mephi.bookingservice.exception.BookingQueueFullException;
 import mephi.bookingservice.exception.ResourceNotFoundException;
 import mephi.bookingservice.mapper.BookingMapper;
 import mephi.bookingservice.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -30,10 +48,327 @@ public class BookingService {
     private final BookingRepository bookingRepository;
     private final BookingMapper bookingMapper;
     private final HotelServiceClient hotelServiceClient;
+    private final AsyncHotelServiceClient asyncHotelServiceClient;
     private final UserService userService;
+    private final BookingSagaService bookingSagaService;
+    private final BookingWorkQueue bookingWorkQueue;
+    private final BookingStatusEvents bookingStatusEvents;
+    private final RoomCatalogCache roomCatalogCache;
+
+    @Value("${app.booking.hold.ttl:PT10M}")
+    private Duration holdTtl = Duration.ofMinutes(10);
+
+    @Value("${app.hotel.async-client.enabled:false}")
+    private boolean asyncHotelCalls;
 
-    @Transactional
     public BookingResponse createBooking(BookingRequest request, String username) {
+        String requestId = UUID.randomUUID().toString();
+        Booking booking = reserve(request, username, requestId);
+
+        booking = confirm(booking, requestId);
+
+        log.info(
+            "Booking confirmed: ref={}, totalPrice={}",
+            booking.getBookingReference(),
+            booking.getTotalPrice()
+        );
+
+        return bookingMapper.toResponse(booking);
+    }
+
+    public BookingResponse submitBooking(BookingRequest request, String username) {
+        if (!bookingWorkQueue.hasCapacity()) {
+            throw new BookingQueueFullException("Too many bookings in progress, please try again later");
+        }
+
+        String requestId = UUID.randomUUID().toString();
+        Booking booking = reserve(request, username, requestId);
+        Long bookingId = booking.getId();
+
+        if (!bookingWorkQueue.submit(bookingId, () -> processSubmitted(bookingId, requestId))) {
+            bookingSagaService.fail(bookingId, "Booking queue is full");
+
+            throw new BookingQueueFullException("Too many bookings in progress, please try again later");
+        }
+
+        log.info("Booking accepted for asynchronous confirmation: ref={}", booking.getBookingReference());
+
+        return bookingMapper.toResponse(booking);
+    }
+
+    public BookingResponse holdBooking(BookingRequest request, String username) {
+        String requestId = UUID.randomUUID().toString();
+        Booking booking = bookingSagaService.reserveHold(prepare(request, username), LocalDateTime.now().plus(holdTtl));
+
+        RoomHoldResponse hold;
+        try {
+            hold = hotelServiceClient.holdRoom(booking.getRoomId(), BookingSagaService.confirmRequest(booking, requestId));
+        }
+        catch (Exception e) {
+            log.error("Error while holding room for booking {}: {}", booking.getBookingReference(), e.getMessage());
+
+            bookingSagaService.fail(booking.getId(), "Booking failed due to system error");
+
+            throw new BookingException(
+                "Failed to hold the room. Please try again.",
+                booking.getBookingReference(),
+                "SYSTEM_ERROR"
+            );
+        }
+
+        if (!hold.isHeld()) {
+            booking = bookingSagaService.fail(booking.getId(), hold.getMessage());
+
+            log.warn(
+                "Booking failed - room could not be held: ref={}, reason={}",
+                booking.getBookingReference(),
+                hold.getMessage()
+            );
+
+            throw new BookingException("Room is not available: " + hold.getMessage(), booking.getBookingReference());
+        }
+
+        booking = bookingSagaService.attachHold(booking.getId(), hold.getHoldToken(), hold.getExpiresAt(), hold.getTotalPrice());
+
+        log.info("Room held for booking: ref={}, expiresAt={}", booking.getBookingReference(), booking.getHoldExpiresAt());
+
+        return bookingMapper.toResponse(booking);
+    }
+
+    public BookingResponse confirmHeldBooking(Long id, String username, boolean isAdmin) {
+        Booking booking = findOwnedBooking(id, username, isAdmin, "confirm");
+
+        if (booking.getStatus() != BookingStatus.PENDING || booking.getHoldToken() == null) {
+            throw new BookingException("Booking is not awaiting checkout confirmation", booking.getBookingReference());
+        }
+
+        if (booking.getHoldClaimedAt() == null && booking.getHoldExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new BookingException("Checkout hold has expired", booking.getBookingReference());
+        }
+
+        booking = bookingSagaService.claimHold(booking.getId());
+
+        AvailabilityResponse response;
+        try {
+            response = hotelServiceClient.confirmHold(booking.getHoldToken());
+        }
+        catch (RuntimeException e) {
+            log.warn(
+                "Hold confirmation for booking {} has an unknown outcome, leaving it to the hold sweeper: {}",
+                booking.getBookingReference(),
+                e.getMessage()
+            );
+
+            throw e;
+        }
+
+        if (!response.isConfirmed()) {
+            booking = bookingSagaService.fail(booking.getId(), response.getMessage());
+
+            log.warn(
+                "Held booking failed: ref={}, reason={}",
+                booking.getBookingReference(),
+                response.getMessage()
+            );
+
+            throw new BookingException(
+                "Room hold could not be confirmed: " + response.getMessage(),
+                booking.getBookingReference()
+            );
+        }
+
+        String holdToken = booking.getHoldToken();
+        booking = bookingSagaService.complete(booking.getId(), response.getTotalPrice());
+
+        if (BookingSagaService.isAbandoned(booking)) {
+            log.warn(
+                "Held booking {} became {} while it was being confirmed, releasing the hold",
+                booking.getBookingReference(),
+                booking.getStatus()
+            );
+
+            try {
+                hotelServiceClient.releaseHold(holdToken);
+            }
+            catch (Exception e) {
+                log.error("Failed to release hold of abandoned booking {}: {}", booking.getBookingReference(), e.getMessage());
+            }
+
+            throw new BookingException(
+                "Booking was " + booking.getStatus() + " before it could be confirmed",
+                booking.getBookingReference()
+            );
+        }
+
+        log.info(
+            "Held booking confirmed: ref={}, totalPrice={}",
+            booking.getBookingReference(),
+            booking.getTotalPrice()
+        );
+
+        return bookingMapper.toResponse(booking);
+    }
+
+    public SseEmitter subscribeToBooking(String reference) {
+        SseEmitter emitter = bookingStatusEvents.subscribe(reference);
+
+        try {
+            bookingStatusEvents.send(emitter, getBookingByReference(reference));
+        }
+        catch (ResourceNotFoundException e) {
+            emitter.completeWithError(e);
+
+            throw e;
+        }
+
+        return emitter;
+    }
+
+    public List<BookingResponse> createGroupBooking(GroupBookingRequest request, String username) {
+        log.info("Creating group booking of {} rooms for user: {}", request.getRooms().size(), username);
+
+        if (!request.getCheckOutDate().isAfter(request.getCheckInDate())) {
+            throw new BookingException("Check-out date must be after check-in date");
+        }
+
+        User user = userService.findByUsername(username);
+
+        List<Booking> bookings = request.getRooms().stream()
+            .map(room -> {
+                Booking booking = bookingMapper.toEntity(BookingRequest.builder()
+                    .roomId(room.getRoomId())
+                    .hotelId(room.getHotelId())
+                    .checkInDate(request.getCheckInDate())
+                    .checkOutDate(request.getCheckOutDate())
+                    .guestCount(room.getGuestCount())
+                    .specialRequests(request.getSpecialRequests())
+                    .build()
+                );
+                booking.setUser(user);
+
+                return booking;
+            })
+            .toList();
+        List<String> requestIds = bookings.stream().map(b -> UUID.randomUUID().toString()).toList();
+        List<Booking> reserved = bookingSagaService.reserveAll(bookings, requestIds);
+
+        List<AvailabilityResponse> responses;
+        try {
+            responses = hotelServiceClient.confirmAvailabilityBatch(BatchConfirmRequest.builder()
+                .items(IntStream.range(0, reserved.size())
+                    .mapToObj(i -> BatchConfirmRequest.Item.builder()
+                        .roomId(reserved.get(i).getRoomId())
+                        .request(BookingSagaService.confirmRequest(reserved.get(i), requestIds.get(i)))
+                        .build()
+                    )
+                    .toList()
+                )
+                .build()
+            );
+        }
+        catch (Exception e) {
+            log.error("Error during group booking confirmation, compensating: {}", e.getMessage());
+
+            try {
+                hotelServiceClient.releaseRoomsBatch(BatchReleaseRequest.builder()
+                    .items(IntStream.range(0, reserved.size())
+                        .mapToObj(i -> BatchReleaseRequest.Item.builder()
+                            .roomId(reserved.get(i).getRoomId())
+                            .requestId(requestIds.get(i))
+                            .build()
+                        )
+                        .toList()
+                    )
+                    .build()
+                );
+            }
+            catch (Exception releaseEx) {
+                log.error("Failed to release rooms during compensation: {}", releaseEx.getMessage());
+            }
+
+            Map<Long, String> reasons = new LinkedHashMap<>();
+            reserved.forEach(booking -> reasons.put(booking.getId(), "Booking failed due to system error"));
+            bookingSagaService.failAll(reasons);
+
+            throw new BookingException("Failed to complete group booking. Please try again.", null, "SYSTEM_ERROR");
+        }
+
+        Map<Long, BigDecimal> confirmed = new LinkedHashMap<>();
+        Map<Long, String> rejected = new LinkedHashMap<>();
+
+        for (int i = 0; i < reserved.size(); i++) {
+            AvailabilityResponse response = responses.get(i);
+
+            if (response.isConfirmed()) {
+                confirmed.put(reserved.get(i).getId(), response.getTotalPrice());
+            }
+            else {
+                rejected.put(reserved.get(i).getId(), response.getMessage());
+            }
+        }
+
+        if (!rejected.isEmpty()) {
+            String reason = String.join("; ", new LinkedHashSet<>(rejected.values()));
+
+            reserved.forEach(booking -> rejected.putIfAbsent(booking.getId(), "Another room in the group is not available"));
+            bookingSagaService.failAll(rejected);
+
+            log.warn("Group booking failed - rooms not available: {}", reason);
+
+            throw new BookingException("Rooms are not available: " + reason);
+        }
+
+        List<Booking> completed = bookingSagaService.completeAll(confirmed);
+        List<BatchReleaseRequest.Item> abandoned = IntStream.range(0, completed.size())
+            .filter(i -> BookingSagaService.isAbandoned(completed.get(i)))
+            .mapToObj(i -> BatchReleaseRequest.Item.builder()
+                .roomId(completed.get(i).getRoomId())
+                .requestId(requestIds.get(i))
+                .build()
+            )
+            .toList();
+
+        if (!abandoned.isEmpty()) {
+            log.warn("{} rooms of the group were cancelled while being confirmed, releasing them", abandoned.size());
+
+            try {
+                hotelServiceClient.releaseRoomsBatch(BatchReleaseRequest.builder().items(abandoned).build());
+            }
+            catch (Exception e) {
+                log.error("Failed to release rooms of abandoned group bookings: {}", e.getMessage());
+            }
+        }
+
+        log.info("Group booking confirmed: {} rooms for user: {}", completed.size(), username);
+
+        return bookingMapper.toResponseList(completed);
+    }
+
+    void processSubmitted(Long bookingId, String requestId) {
+        try {
+            confirm(bookingSagaService.findBooking(bookingId), requestId);
+        }
+        catch (BookingException e) {
+            log.info("Asynchronous booking {} was not confirmed: {}", bookingId, e.getMessage());
+        }
+        catch (Exception e) {
+            log.error("Asynchronous booking {} left for saga recovery: {}", bookingId, e.getMessage());
+
+            return;
+        }
+
+        bookingStatusEvents.publish(getBookingById(bookingId));
+    }
+
+    private Booking reserve(BookingRequest request, String username, String requestId) {
+        Booking booking = bookingSagaService.reserve(prepare(request, username), requestId);
+
+        log.info("Booking created with reference: {}, requestId: {}", booking.getBookingReference(), requestId);
+
+        return booking;
+    }
+
+    private Booking prepare(BookingRequest request, String username) {
         log.info(
             "Creating booking for user: {}, room: {}, autoSelect: {}",
             username,
@@ -45,19 +380,36 @@ public class BookingService {
             throw new BookingException("Check-out date must be after check-in date");
         }
 
+        boolean autoSelect = Boolean.TRUE.equals(request.getAutoSelect());
+        CompletableFuture<List<RoomResponse>> recommendation = autoSelect && asyncHotelCalls
+            ? asyncHotelServiceClient.getRecommendedRooms(
+                request.getHotelId(),
+                null,
+                request.getGuestCount(),
+                request.getCheckInDate(),
+                request.getCheckOutDate(),
+                1
+            )
+            : null;
+
         User user = userService.findByUsername(username);
 
         Long roomId = request.getRoomId();
         Long hotelId = request.getHotelId();
 
-        if (Boolean.TRUE.equals(request.getAutoSelect())) {
+        if (autoSelect) {
             log.info("Auto-selecting room for user: {}, hotelId: {}, guestCount: {}", username, hotelId, request.getGuestCount());
 
-            List<RoomResponse> recommendedRooms = hotelServiceClient.getRecommendedRooms(
-                hotelId,
-                null,
-                request.getGuestCount()
-            );
+            List<RoomResponse> recommendedRooms = recommendation != null
+                ? await(recommendation)
+                : hotelServiceClient.getRecommendedRooms(
+                    hotelId,
+                    null,
+                    request.getGuestCount(),
+                    request.getCheckInDate(),
+                    request.getCheckOutDate(),
+                    1
+                );
 
             if (recommendedRooms == null || recommendedRooms.isEmpty()) {
                 throw new BookingException("No available rooms found matching your criteria");
@@ -78,81 +430,46 @@ public class BookingService {
             }
         }
 
-        List<Booking> overlapping = bookingRepository.findOverlappingBookings(
-            roomId,
-            request.getCheckInDate(),
-            request.getCheckOutDate(),
-            List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED)
-        );
-
-        if (!overlapping.isEmpty()) {
-            throw new BookingException("Room is already booked for the selected dates");
-        }
-
         Booking booking = bookingMapper.toEntity(request);
         booking.setRoomId(roomId);
         booking.setHotelId(hotelId);
         booking.setUser(user);
-        booking.setStatus(BookingStatus.PENDING);
-        booking = bookingRepository.save(booking);
 
-        String requestId = UUID.randomUUID().toString();
-        log.info("Booking created with reference: {}, requestId: {}", booking.getBookingReference(), requestId);
+        return booking;
+    }
 
+    private static <T> T await(CompletableFuture<T> future) {
         try {
-            AvailabilityRequest availRequest = AvailabilityRequest.builder()
-                .requestId(requestId)
-                .startDate(request.getCheckInDate())
-                .endDate(request.getCheckOutDate())
-                .guestCount(request.getGuestCount())
-                .build();
-
-            AvailabilityResponse availResponse = hotelServiceClient.confirmAvailability(roomId, availRequest);
-
-            if (availResponse.isConfirmed()) {
-                booking.setStatus(BookingStatus.CONFIRMED);
-                booking.setTotalPrice(availResponse.getTotalPrice());
-                booking = bookingRepository.save(booking);
-
-                log.info(
-                    "Booking confirmed: ref={}, totalPrice={}",
-                    booking.getBookingReference(),
-                    booking.getTotalPrice()
-                );
+            return future.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
-            else {
-                booking.setStatus(BookingStatus.FAILED);
-                booking.setCancellationReason(availResponse.getMessage());
-                booking = bookingRepository.save(booking);
-
-                log.warn(
-                    "Booking failed - room not available: ref={}, reason={}",
-                    booking.getBookingReference(),
-                    availResponse.getMessage()
-                );
 
-                throw new BookingException(
-                    "Room is not available: " + availResponse.getMessage(),
-                    booking.getBookingReference()
-                );
-            }
-        }
-        catch (BookingException e) {
             throw e;
         }
+    }
+
+    private Booking confirm(Booking booking, String requestId) {
+        AvailabilityResponse availResponse;
+        try {
+            availResponse = hotelServiceClient.confirmAvailability(
+                booking.getRoomId(),
+                BookingSagaService.confirmRequest(booking, requestId)
+            );
+        }
         catch (Exception e) {
             log.error("Error during booking confirmation, compensating: {}", e.getMessage());
 
             try {
-                hotelServiceClient.releaseRoom(booking.getRoomId(), requestId);
+                hotelServiceClient.releaseRoom(booking.getRoomId(), requestId, null, null);
             }
             catch (Exception releaseEx) {
                 log.error("Failed to release room during compensation: {}", releaseEx.getMessage());
             }
 
-            booking.setStatus(BookingStatus.FAILED);
-            booking.setCancellationReason("Booking failed due to system error");
-            bookingRepository.save(booking);
+            bookingSagaService.fail(booking.getId(), "Booking failed due to system error");
 
             throw new BookingException(
                 "Failed to complete booking. Please try again.",
@@ -161,7 +478,44 @@ public class BookingService {
             );
         }
 
-        return bookingMapper.toResponse(booking);
+        if (!availResponse.isConfirmed()) {
+            booking = bookingSagaService.fail(booking.getId(), availResponse.getMessage());
+
+            log.warn(
+                "Booking failed - room not available: ref={}, reason={}",
+                booking.getBookingReference(),
+                availResponse.getMessage()
+            );
+
+            throw new BookingException(
+                "Room is not available: " + availResponse.getMessage(),
+                booking.getBookingReference()
+            );
+        }
+
+        Booking completed = bookingSagaService.complete(booking.getId(), availResponse.getTotalPrice());
+
+        if (BookingSagaService.isAbandoned(completed)) {
+            log.warn(
+                "Booking {} became {} while it was being confirmed, releasing the room",
+                completed.getBookingReference(),
+                completed.getStatus()
+            );
+
+            try {
+                hotelServiceClient.releaseRoom(completed.getRoomId(), requestId, null, null);
+            }
+            catch (Exception e) {
+                log.error("Failed to release room of abandoned booking {}: {}", completed.getBookingReference(), e.getMessage());
+            }
+
+            throw new BookingException(
+                "Booking was " + completed.getStatus() + " before it could be confirmed",
+                completed.getBookingReference()
+            );
+        }
+
+        return completed;
     }
 
     @Transactional(readOnly = true)
@@ -223,14 +577,64 @@ public class BookingService {
         return bookings.map(bookingMapper::toResponse);
     }
 
-    @Transactional
-    public BookingResponse cancelBooking(Long id, String username, String reason, boolean isAdmin) {
-        Booking booking = bookingRepository.findByIdWithUser(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Booking", id));
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getBookingsByUserPage(String username, int limit, String cursor, boolean includeTotal) {
+        User user = userService.findByUsername(username);
+        int size = KeysetPagination.normalizeLimit(limit);
+        KeysetPagination.Position position = KeysetPagination.decodePosition(cursor);
+
+        List<Booking> bookings = bookingRepository.findByUserIdBefore(
+            user.getId(),
+            position.createdAt(),
+            position.id(),
+            Limit.of(size + 1)
+        );
 
-        if (!isAdmin && !booking.getUser().getUsername().equals(username)) {
-            throw new BookingException("You are not authorized to cancel this booking");
-        }
+        return toPage(bookings, size, includeTotal ? bookingRepository.countByUserId(user.getId()) : null);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getAllBookingsPage(int limit, String cursor, boolean includeTotal) {
+        int size = KeysetPagination.normalizeLimit(limit);
+        KeysetPagination.Position position = KeysetPagination.decodePosition(cursor);
+
+        List<Booking> bookings = bookingRepository.findAllBefore(position.createdAt(), position.id(), Limit.of(size + 1));
+
+        return toPage(bookings, size, includeTotal ? bookingRepository.count() : null);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getBookingsByStatusPage(
+        BookingStatus status,
+        int limit,
+        String cursor,
+        boolean includeTotal
+    ) {
+        int size = KeysetPagination.normalizeLimit(limit);
+        KeysetPagination.Position position = KeysetPagination.decodePosition(cursor);
+
+        List<Booking> bookings = bookingRepository.findByStatusBefore(
+            status,
+            position.createdAt(),
+            position.id(),
+            Limit.of(size + 1)
+        );
+
+        return toPage(bookings, size, includeTotal ? bookingRepository.countByStatus(status) : null);
+    }
+
+    private CursorPage<BookingResponse> toPage(List<Booking> bookings, int size, Long totalElements) {
+        return KeysetPagination.page(
+            bookings,
+            size,
+            b -> KeysetPagination.encode(b.getCreatedAt(), b.getId()),
+            bookingMapper::toResponseList,
+            totalElements
+        );
+    }
+
+    public BookingResponse cancelBooking(Long id, String username, String reason, boolean isAdmin) {
+        Booking booking = findOwnedBooking(id, username, isAdmin, "cancel");
 
         if (
             booking.getStatus() != BookingStatus.PENDING &&
@@ -243,8 +647,18 @@ public class BookingService {
         }
 
         try {
-            String requestId = UUID.randomUUID().toString();
-            hotelServiceClient.releaseRoom(booking.getRoomId(), requestId);
+            if (booking.getHoldToken() != null) {
+                hotelServiceClient.releaseHold(booking.getHoldToken());
+            }
+            else {
+                String requestId = UUID.randomUUID().toString();
+                hotelServiceClient.releaseRoom(
+                    booking.getRoomId(),
+                    requestId,
+                    booking.getCheckInDate(),
+                    booking.getCheckOutDate()
+                );
+            }
             log.info("Room released for cancelled booking: ref={}", booking.getBookingReference());
         }
         catch (Exception e) {
@@ -255,22 +669,33 @@ public class BookingService {
             );
         }
 
-        booking.setStatus(BookingStatus.CANCELLED);
-        booking.setCancellationReason(reason != null ? reason : "Cancelled by user");
-        booking = bookingRepository.save(booking);
+        booking = bookingSagaService.cancel(booking, reason != null ? reason : "Cancelled by user");
 
         log.info("Booking cancelled: ref={}, reason={}", booking.getBookingReference(), reason);
 
         return bookingMapper.toResponse(booking);
     }
 
-    @Transactional(readOnly = true)
-    public List<RoomResponse> getRecommendedRooms(Long hotelId, String roomType, Integer guestCount) {
-        return hotelServiceClient.getRecommendedRooms(hotelId, roomType, guestCount);
+    private Booking findOwnedBooking(Long id, String username, boolean isAdmin, String action) {
+        Booking booking = bookingRepository.findByIdWithUser(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Booking", id));
+
+        if (!isAdmin && !booking.getUser().getUsername().equals(username)) {
+            throw new BookingException("You are not authorized to " + action + " this booking");
+        }
+
+        return booking;
     }
 
     @Transactional(readOnly = true)
+    public List<RoomResponse> getRecommendedRooms(Long hotelId, String roomType, Integer guestCount, Integer limit) {
+        List<RoomResponse> rooms = hotelServiceClient.getRecommendedRooms(hotelId, roomType, guestCount, null, null, limit);
+        roomCatalogCache.putAll(rooms);
+
+        return rooms;
+    }
+
     public RoomResponse getRoomDetails(Long roomId) {
-        return hotelServiceClient.getRoomById(roomId);
+        return roomCatalogCache.getRoom(roomId);
     }
 }
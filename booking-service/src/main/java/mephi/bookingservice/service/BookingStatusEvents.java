@@ -0,0 +1,77 @@
+package mephi.bookingservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.dto.BookingResponse;
+import mephi.bookingservice.entity.BookingStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Slf4j
+@Component
+public class BookingStatusEvents {
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${app.booking.async.event-timeout:PT2M}")
+    private Duration timeout = Duration.ofMinutes(2);
+
+    public SseEmitter subscribe(String reference) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+
+        subscribers.computeIfAbsent(reference, ref -> new CopyOnWriteArrayList<>()).add(emitter);
+
+        Runnable remove = () -> unsubscribe(reference, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        return emitter;
+    }
+
+    public void publish(BookingResponse booking) {
+        List<SseEmitter> emitters = booking.getStatus() == BookingStatus.PENDING
+            ? subscribers.get(booking.getBookingReference())
+            : subscribers.remove(booking.getBookingReference());
+
+        if (emitters == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : emitters) {
+            send(emitter, booking);
+        }
+    }
+
+    public void send(SseEmitter emitter, BookingResponse booking) {
+        try {
+            emitter.send(SseEmitter.event()
+                .name("booking")
+                .id(booking.getBookingReference())
+                .data(booking)
+            );
+
+            if (booking.getStatus() != BookingStatus.PENDING) {
+                emitter.complete();
+            }
+        }
+        catch (IOException | IllegalStateException e) {
+            log.debug("Dropping booking status subscriber for {}: {}", booking.getBookingReference(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(String reference, SseEmitter emitter) {
+        subscribers.computeIfPresent(reference, (ref, emitters) -> {
+            emitters.remove(emitter);
+
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package mephi.bookingservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class BookingWorkQueue {
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public BookingWorkQueue(
+        @Value("${app.booking.async.workers:4}") int workers,
+        @Value("${app.booking.async.queue-capacity:200}") int queueCapacity,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+        MeterRegistry meterRegistry
+    ) {
+        this.executor = new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            workerThreads(virtualThreads),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.rejected = Counter.builder("booking.queue.rejected")
+            .description("Asynchronous bookings rejected because the work queue was full")
+            .register(meterRegistry);
+
+        Gauge.builder("booking.queue.size", executor, e -> e.getQueue().size())
+            .description("Asynchronous bookings waiting for a worker")
+            .register(meterRegistry);
+        Gauge.builder("booking.queue.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Asynchronous bookings currently being confirmed")
+            .register(meterRegistry);
+    }
+
+    public boolean hasCapacity() {
+        return executor.getQueue().remainingCapacity() > 0;
+    }
+
+    public boolean isPending(Long bookingId) {
+        return pending.contains(bookingId);
+    }
+
+    public boolean submit(Long bookingId, Runnable task) {
+        pending.add(bookingId);
+
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                }
+                finally {
+                    pending.remove(bookingId);
+                }
+            });
+
+            return true;
+        }
+        catch (RejectedExecutionException e) {
+            pending.remove(bookingId);
+            rejected.increment();
+
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            int dropped = executor.shutdownNow().size();
+
+            log.warn("Booking work queue stopped with {} pending bookings left for saga recovery", dropped);
+        }
+    }
+
+    private static ThreadFactory workerThreads(boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name("booking-worker-", 1).factory();
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, "booking-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+}
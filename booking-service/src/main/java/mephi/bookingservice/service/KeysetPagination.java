@@ -0,0 +1,89 @@
+package mephi.bookingservice.service;
+
+import mephi.bookingservice.dto.CursorPage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public final class KeysetPagination {
+    public static final int MAX_LIMIT = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private KeysetPagination() {
+    }
+
+    public static int normalizeLimit(int limit) {
+        return Math.clamp(limit, 1, MAX_LIMIT);
+    }
+
+    public static String encode(Object... parts) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(parts[i]);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedParts) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        }
+        catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+
+        String[] parts = raw.split("\\" + SEPARATOR, -1);
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        return parts;
+    }
+
+    public static Position decodePosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Position.FIRST;
+        }
+
+        String[] parts = decode(cursor, 2);
+        try {
+            return new Position(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        }
+        catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public record Position(LocalDateTime createdAt, Long id) {
+        public static final Position FIRST = new Position(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+    }
+
+    public static <E, R> CursorPage<R> page(
+        List<E> rows,
+        int limit,
+        Function<E, String> cursorOf,
+        Function<List<E>, List<R>> mapper,
+        Long totalElements
+    ) {
+        boolean hasNext = rows.size() > limit;
+        List<E> window = hasNext ? rows.subList(0, limit) : rows;
+
+        return CursorPage.<R>builder()
+            .content(mapper.apply(window))
+            .size(window.size())
+            .hasNext(hasNext)
+            .nextCursor(hasNext ? cursorOf.apply(window.getLast()) : null)
+            .totalElements(totalElements)
+            .build();
+    }
+}
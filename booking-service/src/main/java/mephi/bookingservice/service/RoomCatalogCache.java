@@ -0,0 +1,103 @@
+package mephi.bookingservice.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.client.HotelServiceClient;
+import mephi.bookingservice.dto.hotel.CatalogVersionResponse;
+import mephi.bookingservice.dto.hotel.RoomResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Component
+public class RoomCatalogCache {
+    private static final String CACHE_NAME = "hotel.room.catalog";
+
+    private final HotelServiceClient hotelServiceClient;
+    private final AsyncLoadingCache<Long, RoomResponse> cache;
+
+    private volatile Long catalogVersion;
+
+    public RoomCatalogCache(
+        HotelServiceClient hotelServiceClient,
+        RoomLookupCollapser roomLookupCollapser,
+        MeterRegistry meterRegistry,
+        @Value("${app.hotel.room-cache.max-size:10000}") long maxSize,
+        @Value("${app.hotel.room-cache.ttl:PT10M}") Duration ttl,
+        @Value("${app.hotel.room-cache.refresh-after:PT1M}") Duration refreshAfter,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.hotelServiceClient = hotelServiceClient;
+
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .refreshAfterWrite(refreshAfter)
+            .executor(virtualThreads ? Executors.newVirtualThreadPerTaskExecutor() : Runnable::run)
+            .recordStats()
+            .buildAsync(new CacheLoader<>() {
+                @Override
+                public RoomResponse load(Long roomId) {
+                    return roomLookupCollapser.getRoom(roomId);
+                }
+
+                @Override
+                public CompletableFuture<RoomResponse> asyncReload(Long roomId, RoomResponse oldValue, Executor executor) {
+                    return roomLookupCollapser.lookup(roomId);
+                }
+            });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public RoomResponse getRoom(Long roomId) {
+        try {
+            return cache.get(roomId).join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    public void putAll(Collection<RoomResponse> rooms) {
+        rooms.forEach(room -> cache.put(room.getId(), CompletableFuture.completedFuture(room)));
+    }
+
+    @Scheduled(fixedDelayString = "${app.hotel.room-cache.poll-interval:PT10S}")
+    public void pollCatalogVersion() {
+        CatalogVersionResponse response;
+        try {
+            response = hotelServiceClient.getCatalogVersion();
+        }
+        catch (RuntimeException e) {
+            log.debug("Catalog version poll failed, keeping cached rooms until they expire: {}", e.getMessage());
+
+            return;
+        }
+
+        Long version = response.getVersion();
+        if (catalogVersion != null && !Objects.equals(catalogVersion, version)) {
+            log.info("Room catalog changed from version {} to {}, invalidating {} cached rooms", catalogVersion, version, cache.synchronous().estimatedSize());
+            cache.synchronous().invalidateAll();
+        }
+
+        catalogVersion = version;
+    }
+}
@@ -0,0 +1,156 @@
+package mephi.bookingservice.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.client.HotelServiceClient;
+import mephi.bookingservice.dto.hotel.RoomResponse;
+import mephi.bookingservice.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class RoomLookupCollapser {
+    private final HotelServiceClient hotelServiceClient;
+    private final ScheduledExecutorService scheduler;
+    private final DistributionSummary batchSizes;
+    private final Duration window;
+    private final int maxBatchSize;
+
+    private Map<Long, CompletableFuture<RoomResponse>> pending = new HashMap<>();
+
+    public RoomLookupCollapser(
+        HotelServiceClient hotelServiceClient,
+        MeterRegistry meterRegistry,
+        @Value("${app.hotel.room-lookup.window:PT0.005S}") Duration window,
+        @Value("${app.hotel.room-lookup.max-batch-size:100}") int maxBatchSize,
+        @Value("${app.hotel.room-lookup.threads:2}") int threads,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.hotelServiceClient = hotelServiceClient;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newScheduledThreadPool(threads, lookupThreads(virtualThreads));
+        this.batchSizes = DistributionSummary.builder("hotel.room.lookup.batch.size")
+            .description("Room IDs fetched per collapsed hotel-service call")
+            .register(meterRegistry);
+    }
+
+    public RoomResponse getRoom(Long roomId) {
+        try {
+            return lookup(roomId).join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    public CompletableFuture<RoomResponse> lookup(Long roomId) {
+        Map<Long, CompletableFuture<RoomResponse>> full = null;
+        CompletableFuture<RoomResponse> future;
+
+        synchronized (this) {
+            future = pending.get(roomId);
+            if (future != null) {
+                return future;
+            }
+
+            future = new CompletableFuture<>();
+            pending.put(roomId, future);
+
+            if (pending.size() >= maxBatchSize) {
+                full = drain();
+            }
+            else if (pending.size() == 1) {
+                Map<Long, CompletableFuture<RoomResponse>> batch = pending;
+                scheduler.schedule(() -> flush(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (full != null) {
+            Map<Long, CompletableFuture<RoomResponse>> batch = full;
+            scheduler.execute(() -> fetch(batch));
+        }
+
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void flush(Map<Long, CompletableFuture<RoomResponse>> batch) {
+        synchronized (this) {
+            if (pending != batch) {
+                return;
+            }
+
+            drain();
+        }
+
+        fetch(batch);
+    }
+
+    private Map<Long, CompletableFuture<RoomResponse>> drain() {
+        Map<Long, CompletableFuture<RoomResponse>> batch = pending;
+        pending = new HashMap<>();
+
+        return batch;
+    }
+
+    private void fetch(Map<Long, CompletableFuture<RoomResponse>> batch) {
+        batchSizes.record(batch.size());
+
+        try {
+            List<RoomResponse> rooms = hotelServiceClient.getRoomsByIds(List.copyOf(batch.keySet()));
+
+            rooms.forEach(room -> {
+                CompletableFuture<RoomResponse> future = batch.get(room.getId());
+                if (future != null) {
+                    future.complete(room);
+                }
+            });
+
+            batch.forEach((id, future) -> future.completeExceptionally(new ResourceNotFoundException("Room", id)));
+
+            log.debug("Fetched {} rooms in one hotel-service call", batch.size());
+        }
+        catch (RuntimeException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private static ThreadFactory lookupThreads(boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name("room-lookup-", 1).factory();
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, "room-lookup-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package mephi.bookingservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import mephi.bookingservice.entity.Role;
+import mephi.bookingservice.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Component
+public class ServiceTokenProvider {
+    private static final User SERVICE_ACCOUNT = User.builder()
+        .id(0L)
+        .username("booking-service")
+        .email("booking-service@internal")
+        .role(Role.ADMIN)
+        .build();
+
+    private final JwtService jwtService;
+    private final Counter refreshes;
+    private final Counter failures;
+
+    @Value("${app.jwt.service-token.refresh-ahead:PT5M}")
+    private Duration refreshAhead = Duration.ofMinutes(5);
+
+    private volatile IssuedToken current;
+
+    private record IssuedToken(String value, Instant issuedAt, Instant expiresAt) {
+    }
+
+    public ServiceTokenProvider(JwtService jwtService, MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.refreshes = Counter.builder("service.token.refreshes")
+            .description("Service account tokens signed for outbound calls")
+            .tag("result", "success")
+            .register(meterRegistry);
+        this.failures = Counter.builder("service.token.refreshes")
+            .description("Service account tokens signed for outbound calls")
+            .tag("result", "failure")
+            .register(meterRegistry);
+
+        Gauge.builder("service.token.age", this, ServiceTokenProvider::ageSeconds)
+            .description("Seconds since the cached service account token was signed")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    public String getToken() {
+        return current.value();
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.service-token.check-interval:PT30S}")
+    public void refreshIfExpiring() {
+        IssuedToken token = current;
+
+        if (token == null || Instant.now().plus(refreshAhead).isAfter(token.expiresAt())) {
+            refresh();
+        }
+    }
+
+    private synchronized void refresh() {
+        try {
+            Instant issuedAt = Instant.now();
+            String value = jwtService.generateToken(SERVICE_ACCOUNT);
+
+            current = new IssuedToken(value, issuedAt, issuedAt.plusMillis(jwtService.getExpirationMs()));
+            refreshes.increment();
+
+            log.debug("Service account token refreshed, expires at {}", current.expiresAt());
+        }
+        catch (RuntimeException e) {
+            failures.increment();
+
+            if (current == null) {
+                throw e;
+            }
+
+            log.warn("Failed to refresh service account token, keeping the one expiring at {}", current.expiresAt(), e);
+        }
+    }
+
+    private double ageSeconds() {
+        IssuedToken token = current;
+
+        return token != null ? Duration.between(token.issuedAt(), Instant.now()).toMillis() / 1000.0 : 0;
+    }
+}
@@ -0,0 +1,74 @@
+package mephi.bookingservice.client;
+
+import feign.Feign;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HotelServiceClient Request Encoding Tests")
+class HotelServiceClientTest {
+    private final List<Request> requests = new ArrayList<>();
+    private final LocalDate startDate = LocalDate.of(2026, 11, 1);
+    private final LocalDate endDate = LocalDate.of(2026, 11, 3);
+
+    private HotelServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = Feign.builder()
+            .contract(new SpringMvcContract(List.of(), new DefaultFormattingConversionService()))
+            .client((request, options) -> {
+                requests.add(request);
+
+                return Response.builder()
+                    .status(200)
+                    .request(request)
+                    .headers(Map.of())
+                    .body("[]", StandardCharsets.UTF_8)
+                    .build();
+            })
+            .decoder((response, type) -> null)
+            .target(HotelServiceClient.class, "http://hotel-service");
+    }
+
+    @Test
+    @DisplayName("should send recommendation stay dates as ISO dates")
+    void should_SendIsoDates_When_RequestingRecommendations() {
+        client.getRecommendedRooms(1L, null, 2, startDate, endDate, 1);
+
+        assertThat(requests).singleElement()
+            .satisfies(request -> assertThat(request.url())
+                .isEqualTo("http://hotel-service/rooms/recommend?hotelId=1&guestCount=2&startDate=2026-11-01&endDate=2026-11-03&limit=1"));
+    }
+
+    @Test
+    @DisplayName("should send release stay dates as ISO dates")
+    void should_SendIsoDates_When_ReleasingRoom() {
+        client.releaseRoom(7L, "req-1", startDate, endDate);
+
+        assertThat(requests).singleElement()
+            .satisfies(request -> assertThat(request.url())
+                .isEqualTo("http://hotel-service/rooms/7/release?requestId=req-1&startDate=2026-11-01&endDate=2026-11-03"));
+    }
+
+    @Test
+    @DisplayName("should omit stay dates that are not known")
+    void should_OmitDates_When_NotGiven() {
+        client.releaseRoom(7L, "req-1", null, null);
+
+        assertThat(requests).singleElement()
+            .satisfies(request -> assertThat(request.url()).isEqualTo("http://hotel-service/rooms/7/release?requestId=req-1"));
+    }
+}
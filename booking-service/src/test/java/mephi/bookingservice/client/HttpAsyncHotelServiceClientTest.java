@@ -0,0 +1,217 @@
+package mephi.bookingservice.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mephi.bookingservice.dto.hotel.AvailabilityRequest;
+import mephi.bookingservice.dto.hotel.AvailabilityResponse;
+import mephi.bookingservice.dto.hotel.RoomResponse;
+import mephi.bookingservice.exception.HotelServiceException;
+import mephi.bookingservice.service.ServiceTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactiveLoadBalancer;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HttpAsyncHotelServiceClient Unit Tests")
+class HttpAsyncHotelServiceClientTest {
+    @Mock
+    private ReactiveLoadBalancer.Factory<ServiceInstance> loadBalancers;
+
+    @Mock
+    private ServiceTokenProvider serviceTokenProvider;
+
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private HttpServer server;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private HttpAsyncHotelServiceClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.start();
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+        client = new HttpAsyncHotelServiceClient(
+            loadBalancers,
+            circuitBreakerRegistry,
+            serviceTokenProvider,
+            new HotelServiceClientFallbackFactory(),
+            jsonMapper,
+            new SimpleMeterRegistry(),
+            10,
+            10,
+            1,
+            Duration.ofSeconds(1),
+            Duration.ofMillis(300),
+            Duration.ofSeconds(15)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("should send recommendation queries with the service token and decode the rooms")
+    void should_SendRecommendationQuery_With_ServiceToken() {
+        givenHotelService();
+        respond("/rooms/recommend", 200, "[{\"id\":7,\"hotelId\":2,\"timesBooked\":3}]");
+        LocalDate startDate = LocalDate.of(2026, 11, 1);
+
+        List<RoomResponse> rooms = client.getRecommendedRooms(2L, null, 2, startDate, startDate.plusDays(2), 1).join();
+
+        assertThat(rooms).singleElement().satisfies(room -> {
+            assertThat(room.getId()).isEqualTo(7L);
+            assertThat(room.getTimesBooked()).isEqualTo(3);
+        });
+        assertThat(requests).singleElement().satisfies(request -> {
+            assertThat(request.method()).isEqualTo("GET");
+            assertThat(request.query()).isEqualTo("hotelId=2&guestCount=2&startDate=2026-11-01&endDate=2026-11-03&limit=1");
+            assertThat(request.authorization()).isEqualTo("Bearer service-token");
+        });
+    }
+
+    @Test
+    @DisplayName("should post availability requests as JSON")
+    void should_PostJsonBody_When_ConfirmingAvailability() {
+        givenHotelService();
+        respond("/rooms/7/confirm-availability", 200, "{\"roomId\":7,\"requestId\":\"req-1\",\"confirmed\":true,\"totalPrice\":300.00}");
+        AvailabilityRequest request = AvailabilityRequest.builder()
+            .requestId("req-1")
+            .startDate(LocalDate.of(2026, 11, 1))
+            .endDate(LocalDate.of(2026, 11, 3))
+            .guestCount(2)
+            .build();
+
+        AvailabilityResponse response = client.confirmAvailability(7L, request).join();
+
+        assertThat(response.isConfirmed()).isTrue();
+        assertThat(response.getTotalPrice()).isEqualByComparingTo("300.00");
+        assertThat(requests).singleElement().satisfies(recorded -> {
+            assertThat(recorded.method()).isEqualTo("POST");
+            assertThat(recorded.body()).contains("\"requestId\":\"req-1\"", "\"startDate\":\"2026-11-01\"");
+        });
+    }
+
+    @Test
+    @DisplayName("should answer with an unconfirmed availability when hotel service fails")
+    void should_ReturnUnconfirmedResponse_When_HotelServiceFails() {
+        givenHotelService();
+        respond("/rooms/7/confirm-availability", 500, "{\"error\":\"boom\"}");
+
+        AvailabilityResponse response = client.confirmAvailability(
+            7L,
+            AvailabilityRequest.builder().requestId("req-1").build()
+        ).join();
+
+        assertThat(response.isConfirmed()).isFalse();
+        assertThat(response.getRequestId()).isEqualTo("req-1");
+        assertThat(response.getMessage()).contains("Hotel Service is unavailable");
+    }
+
+    @Test
+    @DisplayName("should fail with HotelServiceException when a lookup times out")
+    void should_FailWithHotelServiceException_When_LookupTimesOut() {
+        givenHotelService();
+        server.createContext("/rooms/7", exchange -> {
+            sleep(Duration.ofSeconds(2));
+            send(exchange, 200, "{\"id\":7}");
+        });
+        long startedAt = System.nanoTime();
+
+        assertThatThrownBy(() -> client.getRoomById(7L).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(HotelServiceException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("should skip the remote call when the circuit is open")
+    void should_SkipRemoteCall_When_CircuitIsOpen() {
+        respond("/rooms/7", 200, "{\"id\":7}");
+        circuitBreakerRegistry.circuitBreaker("hotel-service").transitionToOpenState();
+
+        assertThatThrownBy(() -> client.getRoomById(7L).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(HotelServiceException.class);
+
+        assertThat(requests).isEmpty();
+    }
+
+    private void givenHotelService() {
+        ServiceInstance instance = new DefaultServiceInstance(
+            "hotel-service-1",
+            "hotel-service",
+            "localhost",
+            server.getAddress().getPort(),
+            false
+        );
+        ReactiveLoadBalancer<ServiceInstance> loadBalancer = request -> Mono.just(new DefaultResponse(instance));
+
+        given(loadBalancers.getInstance("hotel-service")).willReturn(loadBalancer);
+        given(serviceTokenProvider.getToken()).willReturn("service-token");
+    }
+
+    private void respond(String path, int status, String body) {
+        server.createContext(path, exchange -> send(exchange, status, body));
+    }
+
+    private void send(HttpExchange exchange, int status, String body) throws IOException {
+        requests.add(new RecordedRequest(
+            exchange.getRequestMethod(),
+            exchange.getRequestURI().getRawQuery(),
+            exchange.getRequestHeaders().getFirst("Authorization"),
+            new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)
+        ));
+
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, payload.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(payload);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record RecordedRequest(String method, String query, String authorization, String body) {
+    }
+}
@@ -0,0 +1,116 @@
+package mephi.bookingservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mephi.bookingservice.config.SecurityConfig;
+import mephi.bookingservice.dto.BookingRequest;
+import mephi.bookingservice.dto.BookingResponse;
+import mephi.bookingservice.entity.BookingStatus;
+import mephi.bookingservice.service.BookingIdempotency;
+import mephi.bookingservice.service.BookingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BookingController.class)
+@Import(SecurityConfig.class)
+@DisplayName("BookingController JWT Principal Tests")
+class BookingControllerSecurityTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private JwtDecoder jwtDecoder;
+
+    @MockitoBean
+    private BookingService bookingService;
+
+    @MockitoBean
+    private BookingIdempotency bookingIdempotency;
+
+    private BookingResponse bookingResponse;
+
+    @BeforeEach
+    void setUp() {
+        bookingResponse = BookingResponse.builder()
+            .id(1L)
+            .bookingReference("BK-123456")
+            .status(BookingStatus.CONFIRMED)
+            .build();
+    }
+
+    @Test
+    @DisplayName("should pass the JWT subject as the booking owner")
+    void should_UseTokenSubject_When_CreatingBooking() throws Exception {
+        givenToken("user-token", "john_doe", "USER");
+        given(bookingService.createBooking(any(BookingRequest.class), eq("john_doe"))).willReturn(bookingResponse);
+
+        BookingRequest request = new BookingRequest();
+        request.setRoomId(1L);
+        request.setHotelId(1L);
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        request.setGuestCount(2);
+
+        mockMvc.perform(
+            post("/bookings")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer user-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+        )
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.bookingReference", is("BK-123456")));
+    }
+
+    @Test
+    @DisplayName("should carry the JWT role into the principal authorities")
+    void should_TreatAsAdmin_When_TokenHasAdminRole() throws Exception {
+        givenToken("admin-token", "admin", "ADMIN");
+        given(bookingService.cancelBooking(eq(1L), eq("admin"), isNull(), eq(true))).willReturn(bookingResponse);
+
+        mockMvc.perform(
+            post("/bookings/1/cancel")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer admin-token")
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.bookingReference", is("BK-123456")));
+    }
+
+    @Test
+    @DisplayName("should return 401 when no token is sent")
+    void should_Return401_When_TokenMissing() throws Exception {
+        mockMvc.perform(post("/bookings/1/cancel"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    private void givenToken(String token, String subject, String role) {
+        given(jwtDecoder.decode(token)).willReturn(Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject(subject)
+            .claim("role", role)
+            .build()
+        );
+    }
+}
@@ -5,7 +5,10 @@ import mephi.bookingservice.dto.BookingRequest;
 import mephi.bookingservice.dto.BookingResponse;
 import mephi.bookingservice.entity.BookingStatus;
 import mephi.bookingservice.exception.BookingException;
+import mephi.bookingservice.exception.DuplicateResourceException;
+import mephi.bookingservice.exception.BookingQueueFullException;
 import mephi.bookingservice.exception.ResourceNotFoundException;
+import mephi.bookingservice.service.BookingIdempotency;
 import mephi.bookingservice.service.BookingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,7 +35,9 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -79,6 +84,9 @@ class BookingControllerTest {
     @MockitoBean
     private BookingService bookingService;
 
+    @MockitoBean
+    private BookingIdempotency bookingIdempotency;
+
     private BookingRequest bookingRequest;
     private BookingResponse bookingResponse;
 
@@ -132,6 +140,55 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.totalPrice", is(200)));
         }
 
+        @Test
+        @DisplayName("should route the booking through the idempotency store when a key is sent")
+        @SuppressWarnings("unchecked")
+        void should_UseIdempotencyStore_When_KeyPresent() throws Exception {
+            given(bookingService.createBooking(any(BookingRequest.class), eq("john_doe"))).willReturn(bookingResponse);
+            given(bookingIdempotency.execute(eq("john_doe"), eq("key-1"), any(BookingRequest.class), any()))
+                .willAnswer(invocation -> invocation.getArgument(3, Supplier.class).get());
+
+            UserDetails authUser = User.builder()
+                .username("john_doe")
+                .password("password")
+                .roles("USER")
+                .build();
+
+            mockMvc.perform(
+                post("/bookings")
+                    .with(csrf())
+                    .with(user(authUser))
+                    .header("Idempotency-Key", "key-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(bookingRequest))
+            )
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.bookingReference", is("BK-123456")));
+        }
+
+        @Test
+        @DisplayName("should return 409 when the key was used for another booking")
+        void should_Return409_When_KeyReused() throws Exception {
+            given(bookingIdempotency.execute(eq("john_doe"), eq("key-1"), any(BookingRequest.class), any()))
+                .willThrow(new DuplicateResourceException("Idempotency-Key was already used for a different booking request"));
+
+            UserDetails authUser = User.builder()
+                .username("john_doe")
+                .password("password")
+                .roles("USER")
+                .build();
+
+            mockMvc.perform(
+                post("/bookings")
+                    .with(csrf())
+                    .with(user(authUser))
+                    .header("Idempotency-Key", "key-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(bookingRequest))
+            )
+                .andExpect(status().isConflict());
+        }
+
         @Test
         @DisplayName("should return 401 when not authenticated")
         void should_Return401_When_NotAuthenticated() throws Exception {
@@ -192,6 +249,111 @@ class BookingControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /bookings/hold and /bookings/{id}/confirm")
+    class HeldBookings {
+        private final UserDetails authUser = User.builder()
+            .username("john_doe")
+            .password("password")
+            .roles("USER")
+            .build();
+
+        @Test
+        @DisplayName("should hold a room with 201 and expose the hold expiry")
+        void should_Return201_When_RoomHeld() throws Exception {
+            bookingResponse.setStatus(BookingStatus.PENDING);
+            bookingResponse.setHoldExpiresAt(LocalDateTime.now().plusMinutes(10));
+
+            given(bookingService.holdBooking(any(BookingRequest.class), eq("john_doe"))).willReturn(bookingResponse);
+
+            mockMvc.perform(
+                post("/bookings/hold")
+                    .with(csrf())
+                    .with(user(authUser))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(bookingRequest))
+            )
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status", is("PENDING")))
+                .andExpect(jsonPath("$.holdExpiresAt").exists());
+        }
+
+        @Test
+        @DisplayName("should confirm a held booking")
+        void should_Return200_When_HeldBookingConfirmed() throws Exception {
+            given(bookingService.confirmHeldBooking(1L, "john_doe", false)).willReturn(bookingResponse);
+
+            mockMvc.perform(post("/bookings/1/confirm").with(csrf()).with(user(authUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("CONFIRMED")));
+        }
+
+        @Test
+        @DisplayName("should return 400 when the hold has expired")
+        void should_Return400_When_HoldExpired() throws Exception {
+            given(bookingService.confirmHeldBooking(1L, "john_doe", false))
+                .willThrow(new BookingException("Checkout hold has expired", "BK-123456"));
+
+            mockMvc.perform(post("/bookings/1/confirm").with(csrf()).with(user(authUser)))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /bookings/async")
+    class SubmitBooking {
+        @Test
+        @DisplayName("should accept booking with 202 and point to its reference")
+        void should_Return202_When_BookingAccepted() throws Exception {
+            bookingResponse.setStatus(BookingStatus.PENDING);
+            bookingResponse.setTotalPrice(null);
+
+            given(bookingService.submitBooking(any(BookingRequest.class), eq("john_doe")))
+                .willReturn(bookingResponse);
+
+            UserDetails authUser = User.builder()
+                .username("john_doe")
+                .password("password")
+                .roles("USER")
+                .build();
+
+            mockMvc.perform(
+                post("/bookings/async")
+                    .with(csrf())
+                    .with(user(authUser))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(bookingRequest))
+            )
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/bookings/reference/BK-123456"))
+                .andExpect(jsonPath("$.bookingReference", is("BK-123456")))
+                .andExpect(jsonPath("$.status", is("PENDING")));
+        }
+
+        @Test
+        @DisplayName("should return 503 with Retry-After when the work queue is full")
+        void should_Return503_When_QueueFull() throws Exception {
+            given(bookingService.submitBooking(any(BookingRequest.class), anyString()))
+                .willThrow(new BookingQueueFullException("Too many bookings in progress"));
+
+            UserDetails authUser = User.builder()
+                .username("john_doe")
+                .password("password")
+                .roles("USER")
+                .build();
+
+            mockMvc.perform(
+                post("/bookings/async")
+                    .with(csrf())
+                    .with(user(authUser))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(bookingRequest))
+            )
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+        }
+    }
+
     @Nested
     @DisplayName("GET /bookings/my")
     class GetMyBookings {
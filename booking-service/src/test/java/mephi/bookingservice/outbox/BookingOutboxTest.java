@@ -0,0 +1,86 @@
+package mephi.bookingservice.outbox;
+
+import mephi.bookingservice.dto.BookingEvent;
+import mephi.bookingservice.entity.Booking;
+import mephi.bookingservice.entity.BookingStatus;
+import mephi.bookingservice.entity.OutboxEvent;
+import mephi.bookingservice.entity.User;
+import mephi.bookingservice.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingOutbox Unit Tests")
+class BookingOutboxTest {
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private BookingOutbox bookingOutbox;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        bookingOutbox = new BookingOutbox(outboxEventRepository, JsonMapper.builder().build(), Duration.ofDays(1));
+
+        User user = new User();
+        user.setId(7L);
+
+        booking = new Booking();
+        booking.setId(1L);
+        booking.setBookingReference("BK-1");
+        booking.setUser(user);
+        booking.setRoomId(10L);
+        booking.setHotelId(3L);
+        booking.setCheckInDate(LocalDate.of(2026, 11, 1));
+        booking.setCheckOutDate(LocalDate.of(2026, 11, 4));
+        booking.setGuestCount(2);
+        booking.setTotalPrice(BigDecimal.valueOf(300));
+        booking.setStatus(BookingStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("should store the booking state change as a serialized event")
+    void should_StoreSerializedEvent() {
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        given(outboxEventRepository.save(any(OutboxEvent.class))).willAnswer(i -> i.getArgument(0));
+
+        bookingOutbox.record(booking);
+
+        verify(outboxEventRepository).save(saved.capture());
+        assertThat(saved.getValue().getBookingId()).isEqualTo(1L);
+        assertThat(saved.getValue().getEventType()).isEqualTo("CONFIRMED");
+        assertThat(saved.getValue().getPublishedAt()).isNull();
+
+        BookingEvent event = bookingOutbox.read(saved.getValue());
+        assertThat(event.getEventId()).isNotBlank();
+        assertThat(event.getBookingReference()).isEqualTo("BK-1");
+        assertThat(event.getUserId()).isEqualTo(7L);
+        assertThat(event.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(event.getCheckInDate()).isEqualTo(LocalDate.of(2026, 11, 1));
+        assertThat(event.getTotalPrice()).isEqualByComparingTo("300");
+    }
+
+    @Test
+    @DisplayName("should truncate long delivery errors")
+    void should_TruncateLongErrors() {
+        bookingOutbox.recordFailure(List.of(1L), "x".repeat(1000));
+
+        verify(outboxEventRepository).recordFailure(List.of(1L), "x".repeat(255));
+    }
+}
@@ -0,0 +1,135 @@
+package mephi.bookingservice.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mephi.bookingservice.dto.BookingEvent;
+import mephi.bookingservice.entity.BookingStatus;
+import mephi.bookingservice.entity.OutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Unit Tests")
+class OutboxRelayTest {
+    @Mock
+    private BookingOutbox bookingOutbox;
+
+    private final RecordingSink first = new RecordingSink("first");
+    private final RecordingSink second = new RecordingSink("second");
+
+    private MeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(bookingOutbox, List.of(first, second), meterRegistry, 2);
+
+        given(bookingOutbox.read(any(OutboxEvent.class))).willAnswer(i -> BookingEvent.builder()
+            .bookingId(((OutboxEvent) i.getArgument(0)).getBookingId())
+            .status(BookingStatus.CONFIRMED)
+            .build()
+        );
+    }
+
+    @Test
+    @DisplayName("should deliver a batch to every sink before marking it published")
+    void should_DeliverToAllSinksAndMarkPublished() {
+        given(bookingOutbox.nextBatch(2)).willReturn(events(1, 2), events(3));
+
+        relay.relay();
+
+        assertThat(first.received).extracting(BookingEvent::getBookingId).containsExactly(1L, 2L, 3L);
+        assertThat(second.received).extracting(BookingEvent::getBookingId).containsExactly(1L, 2L, 3L);
+        verify(bookingOutbox).markPublished(List.of(1L, 2L));
+        verify(bookingOutbox).markPublished(List.of(3L));
+        assertThat(meterRegistry.get("booking.outbox.published").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("booking.outbox.lag").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should keep the batch pending and record the failure when a sink fails")
+    void should_KeepBatchPending_When_SinkFails() {
+        second.failing = true;
+        given(bookingOutbox.nextBatch(2)).willReturn(events(1, 2));
+        given(bookingOutbox.countPending()).willReturn(2L);
+
+        relay.relay();
+
+        verify(bookingOutbox, never()).markPublished(anyList());
+        verify(bookingOutbox).recordFailure(anyList(), startsWith("second: "));
+        assertThat(meterRegistry.get("booking.outbox.failures").tag("sink", "second").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("booking.outbox.pending").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("booking.outbox.oldest.age").gauge().value()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("should redeliver a failed batch on the next run")
+    void should_RedeliverBatch_When_PreviousRunFailed() {
+        second.failing = true;
+        given(bookingOutbox.nextBatch(2)).willReturn(events(1), events(1));
+
+        relay.relay();
+        second.failing = false;
+        relay.relay();
+
+        assertThat(second.received).extracting(BookingEvent::getBookingId).containsExactly(1L);
+        verify(bookingOutbox, times(1)).markPublished(List.of(1L));
+    }
+
+    private List<OutboxEvent> events(long... ids) {
+        return LongStream.of(ids)
+            .mapToObj(id -> OutboxEvent.builder()
+                .id(id)
+                .bookingId(id)
+                .eventType("CONFIRMED")
+                .payload("{}")
+                .createdAt(LocalDateTime.now().minusSeconds(5))
+                .build()
+            )
+            .toList();
+    }
+
+    private static class RecordingSink implements OutboxSink {
+        private final String name;
+        private final List<BookingEvent> received = new ArrayList<>();
+        private boolean failing;
+
+        RecordingSink(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void publish(List<BookingEvent> events) throws IOException {
+            if (failing) {
+                throw new IOException("Connection refused");
+            }
+
+            received.addAll(events);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package mephi.bookingservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mephi.bookingservice.client.HotelServiceClient;
+import mephi.bookingservice.dto.hotel.AvailabilityResponse;
+import mephi.bookingservice.entity.Booking;
+import mephi.bookingservice.entity.BookingStatus;
+import mephi.bookingservice.exception.HotelServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingHoldSweeper Unit Tests")
+class BookingHoldSweeperTest {
+    @Mock
+    private BookingSagaService bookingSagaService;
+
+    @Mock
+    private HotelServiceClient hotelServiceClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BookingHoldSweeper sweeper;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new BookingHoldSweeper(bookingSagaService, hotelServiceClient, meterRegistry, Duration.ofSeconds(30), 50);
+
+        booking = Booking.builder()
+            .id(1L)
+            .bookingReference("BK-123456")
+            .status(BookingStatus.PENDING)
+            .holdToken("hold-1")
+            .holdExpiresAt(LocalDateTime.now().minusMinutes(1))
+            .build();
+    }
+
+    @Test
+    @DisplayName("should cancel abandoned holds and release them in hotel service")
+    void should_CancelAndRelease_When_HoldAbandoned() {
+        given(bookingSagaService.findExpiredHolds(any(LocalDateTime.class), eq(50))).willReturn(List.of(booking));
+        given(bookingSagaService.expireHold(1L)).willReturn(booking);
+
+        sweeper.expireAbandoned();
+
+        verify(hotelServiceClient).releaseHold("hold-1");
+        assertThat(meterRegistry.counter("booking.holds.expired").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("should not release a hold that was confirmed before the sweep")
+    void should_SkipRelease_When_BookingNoLongerHeld() {
+        given(bookingSagaService.findExpiredHolds(any(LocalDateTime.class), eq(50))).willReturn(List.of(booking));
+        given(bookingSagaService.expireHold(1L)).willReturn(null);
+
+        sweeper.expireAbandoned();
+
+        verify(hotelServiceClient, never()).releaseHold(anyString());
+        assertThat(meterRegistry.counter("booking.holds.expired").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should keep the booking cancelled when hotel service cannot release the hold")
+    void should_IgnoreReleaseFailure() {
+        given(bookingSagaService.findExpiredHolds(any(LocalDateTime.class), eq(50))).willReturn(List.of(booking));
+        given(bookingSagaService.expireHold(1L)).willReturn(booking);
+        given(hotelServiceClient.releaseHold("hold-1")).willThrow(new HotelServiceException("Hotel Service is unavailable", 503));
+
+        sweeper.expireAbandoned();
+
+        assertThat(meterRegistry.counter("booking.holds.expired").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("should settle an interrupted checkout with the hotel instead of expiring it")
+    void should_CompleteBooking_When_ClaimedHoldConfirmedByHotel() {
+        booking.setHoldClaimedAt(LocalDateTime.now().minusMinutes(2));
+
+        given(bookingSagaService.findExpiredHolds(any(LocalDateTime.class), eq(50))).willReturn(List.of(booking));
+        given(hotelServiceClient.confirmHold("hold-1")).willReturn(
+            AvailabilityResponse.builder().confirmed(true).totalPrice(BigDecimal.valueOf(200)).build()
+        );
+        given(bookingSagaService.complete(1L, BigDecimal.valueOf(200))).willReturn(booking);
+
+        sweeper.expireAbandoned();
+
+        verify(bookingSagaService, never()).expireHold(anyLong());
+        verify(hotelServiceClient, never()).releaseHold(anyString());
+        assertThat(meterRegistry.counter("booking.holds.expired").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should fail an interrupted checkout the hotel did not confirm")
+    void should_FailBooking_When_ClaimedHoldRejectedByHotel() {
+        booking.setHoldClaimedAt(LocalDateTime.now().minusMinutes(2));
+
+        given(bookingSagaService.findExpiredHolds(any(LocalDateTime.class), eq(50))).willReturn(List.of(booking));
+        given(hotelServiceClient.confirmHold("hold-1")).willReturn(
+            AvailabilityResponse.builder().confirmed(false).message("Room hold has expired").build()
+        );
+
+        sweeper.expireAbandoned();
+
+        verify(bookingSagaService).fail(1L, "Room hold has expired");
+        verify(bookingSagaService, never()).complete(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("should leave an interrupted checkout for the next sweep while the hotel is unreachable")
+    void should_KeepClaim_When_HotelUnreachable() {
+        booking.setHoldClaimedAt(LocalDateTime.now().minusMinutes(2));
+
+        given(bookingSagaService.findExpiredHolds(any(LocalDateTime.class), eq(50))).willReturn(List.of(booking));
+        given(hotelServiceClient.confirmHold("hold-1")).willThrow(new HotelServiceException("Hotel Service is unavailable", 503));
+
+        sweeper.expireAbandoned();
+
+        verify(bookingSagaService, never()).fail(anyLong(), any());
+        verify(bookingSagaService, never()).complete(anyLong(), any());
+        verify(bookingSagaService, never()).expireHold(anyLong());
+    }
+}
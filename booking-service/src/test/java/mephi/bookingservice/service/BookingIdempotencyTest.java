@@ -0,0 +1,305 @@
+package mephi.bookingservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mephi.bookingservice.dto.BookingRequest;
+import mephi.bookingservice.dto.BookingResponse;
+import mephi.bookingservice.entity.BookingStatus;
+import mephi.bookingservice.entity.IdempotencyRecord;
+import mephi.bookingservice.entity.IdempotencyRecordId;
+import mephi.bookingservice.exception.BookingException;
+import mephi.bookingservice.exception.DuplicateResourceException;
+import mephi.bookingservice.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingIdempotency Unit Tests")
+class BookingIdempotencyTest {
+    private static final IdempotencyRecordId KEY = new IdempotencyRecordId("john_doe", "key-1");
+
+    @Mock
+    private IdempotencyRecordRepository recordRepository;
+
+    private BookingIdempotency bookingIdempotency;
+    private BookingRequest bookingRequest;
+    private BookingResponse bookingResponse;
+
+    @BeforeEach
+    void setUp() {
+        bookingIdempotency = new BookingIdempotency(
+            recordRepository,
+            JsonMapper.builder().build(),
+            new SimpleMeterRegistry(),
+            Duration.ofHours(24),
+            Duration.ofMinutes(1),
+            Duration.ofSeconds(5),
+            2
+        );
+
+        bookingRequest = new BookingRequest();
+        bookingRequest.setRoomId(1L);
+        bookingRequest.setHotelId(1L);
+        bookingRequest.setCheckInDate(LocalDate.now().plusDays(1));
+        bookingRequest.setCheckOutDate(LocalDate.now().plusDays(3));
+        bookingRequest.setGuestCount(2);
+
+        bookingResponse = BookingResponse.builder()
+            .id(1L)
+            .bookingReference("BK-123456")
+            .roomId(1L)
+            .hotelId(1L)
+            .status(BookingStatus.CONFIRMED)
+            .checkInDate(LocalDate.now().plusDays(1))
+            .checkOutDate(LocalDate.now().plusDays(3))
+            .guestCount(2)
+            .totalPrice(BigDecimal.valueOf(200))
+            .build();
+    }
+
+    @Nested
+    @DisplayName("execute")
+    class Execute {
+        @Test
+        @DisplayName("should run the booking once and store its response under the key")
+        void should_StoreResponse_When_KeyIsNew() {
+            IdempotencyRecord stored = executeFirst();
+
+            assertThat(stored.getId()).isEqualTo(KEY);
+            assertThat(stored.getBookingId()).isEqualTo(1L);
+            assertThat(stored.isCompleted()).isTrue();
+            assertThat(stored.getExpiresAt()).isAfter(LocalDateTime.now().plusHours(23));
+        }
+
+        @Test
+        @DisplayName("should replay the stored response without booking again")
+        void should_ReplayResponse_When_KeyCompleted() {
+            IdempotencyRecord stored = executeFirst();
+            given(recordRepository.findById(KEY)).willReturn(Optional.of(stored));
+
+            BookingResponse result = bookingIdempotency.execute("john_doe", "key-1", bookingRequest, () -> {
+                throw new AssertionError("booking must not run twice");
+            });
+
+            assertThat(result).isEqualTo(bookingResponse);
+        }
+
+        @Test
+        @DisplayName("should reject a key reused for a different booking request")
+        void should_Reject_When_RequestDiffers() {
+            IdempotencyRecord stored = executeFirst();
+            given(recordRepository.findById(KEY)).willReturn(Optional.of(stored));
+            bookingRequest.setGuestCount(3);
+
+            assertThatThrownBy(() -> bookingIdempotency.execute("john_doe", "key-1", bookingRequest, () -> bookingResponse))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("different booking request");
+        }
+
+        @Test
+        @DisplayName("should reject a retry while another instance still holds the key")
+        void should_Reject_When_KeyClaimedElsewhere() {
+            given(recordRepository.findById(KEY)).willReturn(Optional.empty());
+            given(recordRepository.saveAndFlush(any(IdempotencyRecord.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+            assertThatThrownBy(() -> bookingIdempotency.execute("john_doe", "key-1", bookingRequest, () -> bookingResponse))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("still being processed");
+        }
+
+        @Test
+        @DisplayName("should release the key when the booking fails so the client can retry")
+        void should_ReleaseKey_When_BookingFails() {
+            given(recordRepository.findById(KEY)).willReturn(Optional.empty());
+            given(recordRepository.saveAndFlush(any(IdempotencyRecord.class))).willAnswer(returnsFirstArg());
+
+            assertThatThrownBy(() -> bookingIdempotency.execute("john_doe", "key-1", bookingRequest, () -> {
+                throw new BookingException("Room is not available");
+            }))
+                .isInstanceOf(BookingException.class);
+
+            verify(recordRepository).delete(any(IdempotencyRecord.class));
+            verify(recordRepository, never()).save(any(IdempotencyRecord.class));
+        }
+
+        @Test
+        @DisplayName("should keep keys of users whose names contain the separator apart")
+        void should_UseSeparateKeys_When_UsernamesOverlap() {
+            IdempotencyRecordId other = new IdempotencyRecordId("john", "doe:key-1");
+            given(recordRepository.findById(other)).willReturn(Optional.empty());
+            given(recordRepository.saveAndFlush(any(IdempotencyRecord.class))).willAnswer(returnsFirstArg());
+
+            bookingIdempotency.execute("john", "doe:key-1", bookingRequest, () -> bookingResponse);
+
+            verify(recordRepository, never()).findById(KEY);
+        }
+
+        @Test
+        @DisplayName("should reject a stored record that belongs to another user")
+        void should_Reject_When_UsernameDiffers() {
+            IdempotencyRecord stored = executeFirst();
+            stored.setUsername("jane_doe");
+            given(recordRepository.findById(KEY)).willReturn(Optional.of(stored));
+
+            assertThatThrownBy(() -> bookingIdempotency.execute("john_doe", "key-1", bookingRequest, () -> bookingResponse))
+                .isInstanceOf(DuplicateResourceException.class);
+        }
+
+        @Test
+        @DisplayName("should store a failure that created a booking and replay it instead of booking again")
+        void should_ReplayFailure_When_BookingFailedAfterCreation() {
+            given(recordRepository.findById(KEY)).willReturn(Optional.empty());
+            given(recordRepository.saveAndFlush(any(IdempotencyRecord.class))).willAnswer(returnsFirstArg());
+
+            assertThatThrownBy(() -> bookingIdempotency.execute("john_doe", "key-1", bookingRequest, () -> {
+                throw new BookingException("Room is not available: booked", "BK-123456");
+            }))
+                .isInstanceOf(BookingException.class);
+
+            ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+            verify(recordRepository).save(captor.capture());
+            verify(recordRepository, never()).delete(any(IdempotencyRecord.class));
+
+            IdempotencyRecord stored = captor.getValue();
+            assertThat(stored.isCompleted()).isTrue();
+            given(recordRepository.findById(KEY)).willReturn(Optional.of(stored));
+
+            assertThatThrownBy(() -> bookingIdempotency.execute("john_doe", "key-1", bookingRequest, () -> {
+                throw new AssertionError("booking must not run twice");
+            }))
+                .isInstanceOf(BookingException.class)
+                .hasMessage("Room is not available: booked")
+                .satisfies(e -> assertThat(((BookingException) e).getBookingReference()).isEqualTo("BK-123456"));
+        }
+
+        @Test
+        @DisplayName("should run the booking again once the stored key expired")
+        void should_Execute_When_KeyExpired() {
+            IdempotencyRecord expired = IdempotencyRecord.builder()
+                .username("john_doe")
+                .key("key-1")
+                .requestHash("stale")
+                .response("{}")
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+            given(recordRepository.findById(KEY)).willReturn(Optional.of(expired));
+            given(recordRepository.saveAndFlush(any(IdempotencyRecord.class))).willAnswer(returnsFirstArg());
+
+            BookingResponse result = bookingIdempotency.execute("john_doe", "key-1", bookingRequest, () -> bookingResponse);
+
+            assertThat(result).isEqualTo(bookingResponse);
+            verify(recordRepository).delete(expired);
+        }
+
+        @Test
+        @DisplayName("should let a concurrent duplicate wait for the in-flight booking")
+        void should_JoinInFlightBooking_When_DuplicateArrives() throws Exception {
+            given(recordRepository.findById(KEY)).willReturn(Optional.empty());
+            given(recordRepository.saveAndFlush(any(IdempotencyRecord.class))).willAnswer(returnsFirstArg());
+
+            AtomicInteger executions = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<BookingResponse> first = CompletableFuture.supplyAsync(() ->
+                bookingIdempotency.execute("john_doe", "key-1", bookingRequest, () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    await(release);
+
+                    return bookingResponse;
+                })
+            );
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<BookingResponse> duplicate = CompletableFuture.supplyAsync(() ->
+                bookingIdempotency.execute("john_doe", "key-1", bookingRequest, () -> {
+                    executions.incrementAndGet();
+
+                    return bookingResponse;
+                })
+            );
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(bookingResponse);
+            assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(bookingResponse);
+            assertThat(executions).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should reject a blank key")
+        void should_Reject_When_KeyBlank() {
+            assertThatThrownBy(() -> bookingIdempotency.execute("john_doe", " ", bookingRequest, () -> bookingResponse))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("purge")
+    class Purge {
+        @Test
+        @DisplayName("should evict the oldest completed keys beyond the configured bound")
+        void should_EvictOldest_When_OverBound() {
+            LocalDateTime cutoff = LocalDateTime.now().minusHours(1);
+            given(recordRepository.deleteExpired(any(LocalDateTime.class))).willReturn(0);
+            given(recordRepository.findCompletedOrderByCreatedAtDesc(PageRequest.of(2, 1)))
+                .willReturn(List.of(IdempotencyRecord.builder().createdAt(cutoff).build()));
+
+            bookingIdempotency.purge();
+
+            verify(recordRepository).deleteCompletedUpTo(cutoff);
+        }
+    }
+
+    private IdempotencyRecord executeFirst() {
+        given(recordRepository.findById(KEY)).willReturn(Optional.empty());
+        given(recordRepository.saveAndFlush(any(IdempotencyRecord.class))).willAnswer(returnsFirstArg());
+
+        BookingResponse result = bookingIdempotency.execute("john_doe", "key-1", bookingRequest, () -> bookingResponse);
+
+        assertThat(result).isEqualTo(bookingResponse);
+
+        ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(recordRepository).save(captor.capture());
+
+        return captor.getValue();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
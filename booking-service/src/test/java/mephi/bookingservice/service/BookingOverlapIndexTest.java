@@ -0,0 +1,98 @@
+package mephi.bookingservice.service;
+
+import mephi.bookingservice.entity.Booking;
+import mephi.bookingservice.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingOverlapIndex Unit Tests")
+class BookingOverlapIndexTest {
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @InjectMocks
+    private BookingOverlapIndex index;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("should answer UNKNOWN before warm-up")
+    void should_ReturnUnknown_When_NotWarmedUp() {
+        assertThat(index.tryReserve(1L, today.plusDays(1), today.plusDays(3)))
+            .isEqualTo(BookingOverlapIndex.Result.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("should detect overlaps with bookings loaded at startup")
+    void should_DetectConflict_When_OverlapsLoadedBooking() {
+        givenLoaded(booking(1L, today.plusDays(5), today.plusDays(8)));
+
+        assertThat(index.tryReserve(1L, today.plusDays(7), today.plusDays(9)))
+            .isEqualTo(BookingOverlapIndex.Result.CONFLICT);
+        assertThat(index.tryReserve(1L, today.plusDays(2), today.plusDays(5)))
+            .isEqualTo(BookingOverlapIndex.Result.CONFLICT);
+        assertThat(index.tryReserve(1L, today.plusDays(9), today.plusDays(11)))
+            .isEqualTo(BookingOverlapIndex.Result.RESERVED);
+        assertThat(index.tryReserve(2L, today.plusDays(5), today.plusDays(8)))
+            .isEqualTo(BookingOverlapIndex.Result.RESERVED);
+    }
+
+    @Test
+    @DisplayName("should accept dates again after release")
+    void should_Reserve_When_PreviousBookingReleased() {
+        givenLoaded();
+
+        index.tryReserve(1L, today.plusDays(1), today.plusDays(3));
+        index.release(1L, today.plusDays(1), today.plusDays(3));
+
+        assertThat(index.tryReserve(1L, today.plusDays(1), today.plusDays(3)))
+            .isEqualTo(BookingOverlapIndex.Result.RESERVED);
+    }
+
+    @Test
+    @DisplayName("should defer to the database when loaded bookings already overlap")
+    void should_ReturnUnknown_When_LoadedBookingsOverlap() {
+        givenLoaded(
+            booking(1L, today.plusDays(1), today.plusDays(4)),
+            booking(1L, today.plusDays(3), today.plusDays(6))
+        );
+
+        assertThat(index.tryReserve(1L, today.plusDays(10), today.plusDays(12)))
+            .isEqualTo(BookingOverlapIndex.Result.UNKNOWN);
+    }
+
+    private void givenLoaded(Booking... bookings) {
+        given(bookingRepository.findByStatusInAndCheckOutDateGreaterThanEqual(anyList(), any(LocalDate.class)))
+            .willReturn(List.of(bookings));
+
+        index.warmUp();
+    }
+
+    private Booking booking(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        Booking booking = new Booking();
+        booking.setRoomId(roomId);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+
+        return booking;
+    }
+}
@@ -0,0 +1,143 @@
+package mephi.bookingservice.service;
+
+import mephi.bookingservice.client.HotelServiceClient;
+import mephi.bookingservice.dto.hotel.AvailabilityRequest;
+import mephi.bookingservice.dto.hotel.AvailabilityResponse;
+import mephi.bookingservice.entity.Booking;
+import mephi.bookingservice.entity.BookingSaga;
+import mephi.bookingservice.entity.BookingStatus;
+import mephi.bookingservice.exception.HotelServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingSagaRecovery Unit Tests")
+class BookingSagaRecoveryTest {
+    @Mock
+    private BookingSagaService bookingSagaService;
+
+    @Mock
+    private HotelServiceClient hotelServiceClient;
+
+    @Mock
+    private BookingWorkQueue bookingWorkQueue;
+
+    @InjectMocks
+    private BookingSagaRecovery recovery;
+
+    private Booking booking;
+    private BookingSaga saga;
+
+    @BeforeEach
+    void setUp() {
+        booking = new Booking();
+        booking.setId(1L);
+        booking.setRoomId(3L);
+        booking.setBookingReference("BK-123456");
+        booking.setCheckInDate(LocalDate.now().plusDays(1));
+        booking.setCheckOutDate(LocalDate.now().plusDays(3));
+
+        saga = BookingSaga.builder().id(5L).bookingId(1L).requestId("req-1").build();
+
+        given(bookingSagaService.findStalled(any(), anyInt())).willReturn(List.of(saga));
+        given(bookingSagaService.findBooking(1L)).willReturn(booking);
+    }
+
+    @Test
+    @DisplayName("should replay the confirmation with the original request ID and complete the booking")
+    void should_CompleteBooking_When_HotelConfirms() {
+        ArgumentCaptor<AvailabilityRequest> request = ArgumentCaptor.forClass(AvailabilityRequest.class);
+        given(hotelServiceClient.confirmAvailability(eq(3L), request.capture())).willReturn(
+            AvailabilityResponse.builder().confirmed(true).totalPrice(BigDecimal.valueOf(300)).build()
+        );
+        given(bookingSagaService.complete(1L, BigDecimal.valueOf(300))).willReturn(booking);
+
+        recovery.recoverStalled();
+
+        assertThat(request.getValue().getRequestId()).isEqualTo("req-1");
+        verify(bookingSagaService).complete(1L, BigDecimal.valueOf(300));
+        verify(hotelServiceClient, never()).releaseRoom(anyLong(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should release the replayed hold when the booking was cancelled meanwhile")
+    void should_ReleaseRoom_When_BookingCancelledDuringRecovery() {
+        Booking cancelled = new Booking();
+        cancelled.setId(1L);
+        cancelled.setStatus(BookingStatus.CANCELLED);
+
+        given(hotelServiceClient.confirmAvailability(eq(3L), any())).willReturn(
+            AvailabilityResponse.builder().confirmed(true).totalPrice(BigDecimal.valueOf(300)).build()
+        );
+        given(bookingSagaService.complete(1L, BigDecimal.valueOf(300))).willReturn(cancelled);
+
+        recovery.recoverStalled();
+
+        verify(hotelServiceClient).releaseRoom(3L, "req-1", null, null);
+        verify(bookingSagaService, never()).fail(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("should leave a booking alone while it is still waiting in the work queue")
+    void should_SkipRecovery_When_BookingStillQueued() {
+        BookingSaga queued = BookingSaga.builder().id(6L).bookingId(2L).requestId("req-2").build();
+        ArgumentCaptor<AvailabilityRequest> request = ArgumentCaptor.forClass(AvailabilityRequest.class);
+
+        given(bookingSagaService.findStalled(any(), anyInt())).willReturn(List.of(queued, saga));
+        given(bookingWorkQueue.isPending(2L)).willReturn(true);
+        given(hotelServiceClient.confirmAvailability(eq(3L), request.capture())).willReturn(
+            AvailabilityResponse.builder().confirmed(true).totalPrice(BigDecimal.valueOf(300)).build()
+        );
+        given(bookingSagaService.complete(1L, BigDecimal.valueOf(300))).willReturn(booking);
+
+        recovery.recoverStalled();
+
+        assertThat(request.getAllValues()).extracting(AvailabilityRequest::getRequestId).containsExactly("req-1");
+        verify(bookingSagaService, never()).findBooking(2L);
+        verify(bookingSagaService, never()).complete(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("should only record the attempt while retries remain")
+    void should_RecordAttempt_When_HotelUnavailable() {
+        given(hotelServiceClient.confirmAvailability(eq(3L), any())).willThrow(new HotelServiceException("down"));
+        given(bookingSagaService.recordAttempt(5L, "down")).willReturn(1);
+
+        recovery.recoverStalled();
+
+        verify(hotelServiceClient, never()).releaseRoom(anyLong(), anyString(), any(), any());
+        verify(bookingSagaService, never()).fail(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("should compensate once retries are exhausted")
+    void should_Compensate_When_AttemptsExhausted() {
+        given(hotelServiceClient.confirmAvailability(eq(3L), any())).willThrow(new HotelServiceException("down"));
+        given(bookingSagaService.recordAttempt(5L, "down")).willReturn(5);
+
+        recovery.recoverStalled();
+
+        verify(hotelServiceClient).releaseRoom(3L, "req-1", null, null);
+        verify(bookingSagaService).fail(1L, "Booking failed due to system error");
+    }
+}
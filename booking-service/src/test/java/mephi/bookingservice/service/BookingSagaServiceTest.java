@@ -0,0 +1,363 @@
+package mephi.bookingservice.service;
+
+import mephi.bookingservice.entity.Booking;
+import mephi.bookingservice.entity.BookingSaga;
+import mephi.bookingservice.entity.BookingStatus;
+import mephi.bookingservice.entity.SagaState;
+import mephi.bookingservice.exception.BookingException;
+import mephi.bookingservice.outbox.BookingOutbox;
+import mephi.bookingservice.repository.BookingRepository;
+import mephi.bookingservice.repository.BookingSagaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingSagaService Unit Tests")
+class BookingSagaServiceTest {
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingSagaRepository sagaRepository;
+
+    @Mock
+    private BookingOverlapIndex bookingOverlapIndex;
+
+    @Mock
+    private BookingOutbox bookingOutbox;
+
+    @InjectMocks
+    private BookingSagaService bookingSagaService;
+
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        booking = new Booking();
+        booking.setId(1L);
+        booking.setRoomId(1L);
+        booking.setCheckInDate(LocalDate.now().plusDays(1));
+        booking.setCheckOutDate(LocalDate.now().plusDays(3));
+        booking.setGuestCount(2);
+        booking.setStatus(BookingStatus.PENDING);
+    }
+
+    @Nested
+    @DisplayName("reserve")
+    class Reserve {
+        @Test
+        @DisplayName("should save the pending booking together with a started saga")
+        void should_SaveBookingAndSaga_When_DatesFree() {
+            ArgumentCaptor<BookingSaga> saga = ArgumentCaptor.forClass(BookingSaga.class);
+
+            given(bookingOverlapIndex.tryReserve(1L, booking.getCheckInDate(), booking.getCheckOutDate()))
+                .willReturn(BookingOverlapIndex.Result.UNKNOWN);
+            given(bookingRepository.findOverlappingBookings(anyLong(), any(), any(), any())).willReturn(List.of());
+            given(bookingRepository.save(booking)).willReturn(booking);
+
+            Booking result = bookingSagaService.reserve(booking, "req-1");
+
+            assertThat(result.getStatus()).isEqualTo(BookingStatus.PENDING);
+            verify(sagaRepository).save(saga.capture());
+            assertThat(saga.getValue().getBookingId()).isEqualTo(1L);
+            assertThat(saga.getValue().getRequestId()).isEqualTo("req-1");
+            assertThat(saga.getValue().getState()).isEqualTo(SagaState.STARTED);
+            verify(bookingOutbox).record(booking);
+        }
+
+        @Test
+        @DisplayName("should throw BookingException when room has overlapping bookings")
+        void should_ThrowBookingException_When_OverlappingBookingsExist() {
+            given(bookingOverlapIndex.tryReserve(1L, booking.getCheckInDate(), booking.getCheckOutDate()))
+                .willReturn(BookingOverlapIndex.Result.UNKNOWN);
+            given(bookingRepository.findOverlappingBookings(anyLong(), any(), any(), any()))
+                .willReturn(List.of(new Booking()));
+
+            assertThatThrownBy(() -> bookingSagaService.reserve(booking, "req-1"))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("already booked");
+
+            verify(bookingRepository, never()).save(any(Booking.class));
+            verify(sagaRepository, never()).save(any(BookingSaga.class));
+        }
+
+        @Test
+        @DisplayName("should reject from the in-memory index without querying the database")
+        void should_ThrowBookingException_When_IndexReportsConflict() {
+            given(bookingOverlapIndex.tryReserve(1L, booking.getCheckInDate(), booking.getCheckOutDate()))
+                .willReturn(BookingOverlapIndex.Result.CONFLICT);
+
+            assertThatThrownBy(() -> bookingSagaService.reserve(booking, "req-1"))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("already booked");
+
+            verify(bookingRepository, never()).findOverlappingBookings(anyLong(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should skip the overlap query when the in-memory index reserves the dates")
+        void should_SkipOverlapQuery_When_IndexReservesDates() {
+            given(bookingOverlapIndex.tryReserve(1L, booking.getCheckInDate(), booking.getCheckOutDate()))
+                .willReturn(BookingOverlapIndex.Result.RESERVED);
+            given(bookingRepository.save(booking)).willReturn(booking);
+
+            bookingSagaService.reserve(booking, "req-1");
+
+            verify(bookingRepository, never()).findOverlappingBookings(anyLong(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("complete, fail and cancel")
+    class Finish {
+        @Test
+        @DisplayName("should confirm booking and close the saga")
+        void should_ConfirmBooking_When_SagaStarted() {
+            BookingSaga saga = BookingSaga.builder().id(5L).bookingId(1L).requestId("req-1").build();
+
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+            given(sagaRepository.findByBookingId(1L)).willReturn(Optional.of(saga));
+            given(bookingRepository.save(booking)).willReturn(booking);
+
+            Booking result = bookingSagaService.complete(1L, BigDecimal.valueOf(200));
+
+            assertThat(result.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+            assertThat(result.getTotalPrice()).isEqualByComparingTo("200");
+            assertThat(saga.getState()).isEqualTo(SagaState.COMPLETED);
+            verify(bookingOutbox).record(booking);
+        }
+
+        @Test
+        @DisplayName("should fail booking and release the overlap index")
+        void should_FailBookingAndReleaseIndex_When_SagaStarted() {
+            BookingSaga saga = BookingSaga.builder().id(5L).bookingId(1L).requestId("req-1").build();
+
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+            given(sagaRepository.findByBookingId(1L)).willReturn(Optional.of(saga));
+            given(bookingRepository.save(booking)).willReturn(booking);
+
+            Booking result = bookingSagaService.fail(1L, "Room is not available");
+
+            assertThat(result.getStatus()).isEqualTo(BookingStatus.FAILED);
+            assertThat(result.getCancellationReason()).isEqualTo("Room is not available");
+            assertThat(saga.getState()).isEqualTo(SagaState.FAILED);
+            verify(bookingOverlapIndex).release(1L, booking.getCheckInDate(), booking.getCheckOutDate());
+            verify(bookingOutbox).record(booking);
+        }
+
+        @Test
+        @DisplayName("should leave booking untouched when the saga already finished")
+        void should_IgnoreUpdate_When_SagaAlreadyFinished() {
+            BookingSaga saga = BookingSaga.builder()
+                .id(5L)
+                .bookingId(1L)
+                .requestId("req-1")
+                .state(SagaState.COMPLETED)
+                .build();
+
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+            given(sagaRepository.findByBookingId(1L)).willReturn(Optional.of(saga));
+
+            Booking result = bookingSagaService.fail(1L, "late failure");
+
+            assertThat(result.getStatus()).isEqualTo(BookingStatus.PENDING);
+            verify(bookingRepository, never()).save(any(Booking.class));
+            verify(bookingOverlapIndex, never()).release(anyLong(), any(), any());
+            verify(bookingOutbox, never()).record(any(Booking.class));
+        }
+
+        @Test
+        @DisplayName("should not confirm a booking that was cancelled while its confirmation was in flight")
+        void should_RefuseCompletion_When_BookingCancelled() {
+            booking.setStatus(BookingStatus.CANCELLED);
+
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+
+            Booking result = bookingSagaService.complete(1L, BigDecimal.valueOf(200));
+
+            assertThat(result.getStatus()).isEqualTo(BookingStatus.CANCELLED);
+            assertThat(BookingSagaService.isAbandoned(result)).isTrue();
+            verify(sagaRepository, never()).save(any(BookingSaga.class));
+            verify(bookingRepository, never()).save(any(Booking.class));
+            verify(bookingOutbox, never()).record(any(Booking.class));
+        }
+
+        @Test
+        @DisplayName("should not fail a booking that is no longer pending")
+        void should_RefuseFailure_When_BookingNotPending() {
+            booking.setStatus(BookingStatus.CONFIRMED);
+
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+
+            Booking result = bookingSagaService.fail(1L, "late failure");
+
+            assertThat(result.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+            verify(bookingRepository, never()).save(any(Booking.class));
+            verify(bookingOverlapIndex, never()).release(anyLong(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should close a started saga when its booking is cancelled")
+        void should_CloseSaga_When_Cancelled() {
+            BookingSaga saga = BookingSaga.builder().id(5L).bookingId(1L).requestId("req-1").build();
+
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+            given(sagaRepository.findByBookingId(1L)).willReturn(Optional.of(saga));
+            given(bookingRepository.save(booking)).willReturn(booking);
+
+            bookingSagaService.cancel(booking, "Change of plans");
+
+            assertThat(saga.getState()).isEqualTo(SagaState.CANCELLED);
+            assertThat(saga.getLastError()).isEqualTo("Change of plans");
+            verify(sagaRepository).save(saga);
+        }
+
+        @Test
+        @DisplayName("should ignore a cancellation of a booking that already failed")
+        void should_IgnoreCancellation_When_BookingFailed() {
+            Booking stale = new Booking();
+            stale.setId(1L);
+            stale.setStatus(BookingStatus.PENDING);
+            booking.setStatus(BookingStatus.FAILED);
+
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+
+            Booking result = bookingSagaService.cancel(stale, "Change of plans");
+
+            assertThat(result.getStatus()).isEqualTo(BookingStatus.FAILED);
+            verify(bookingRepository, never()).save(any(Booking.class));
+            verify(bookingOutbox, never()).record(any(Booking.class));
+        }
+
+        @Test
+        @DisplayName("should cancel booking, record the event and release the overlap index")
+        void should_CancelBookingAndRecordEvent() {
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+            given(bookingRepository.save(booking)).willReturn(booking);
+
+            Booking result = bookingSagaService.cancel(booking, "Change of plans");
+
+            assertThat(result.getStatus()).isEqualTo(BookingStatus.CANCELLED);
+            assertThat(result.getCancellationReason()).isEqualTo("Change of plans");
+            verify(bookingOutbox).record(booking);
+            verify(bookingOverlapIndex).release(1L, booking.getCheckInDate(), booking.getCheckOutDate());
+        }
+    }
+
+    @Nested
+    @DisplayName("checkout holds")
+    class Holds {
+        @Test
+        @DisplayName("should save a pending booking with a provisional expiry and no saga")
+        void should_ReserveHoldWithoutSaga() {
+            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+
+            given(bookingOverlapIndex.tryReserve(1L, booking.getCheckInDate(), booking.getCheckOutDate()))
+                .willReturn(BookingOverlapIndex.Result.RESERVED);
+            given(bookingRepository.save(booking)).willReturn(booking);
+
+            Booking result = bookingSagaService.reserveHold(booking, expiresAt);
+
+            assertThat(result.getStatus()).isEqualTo(BookingStatus.PENDING);
+            assertThat(result.getHoldExpiresAt()).isEqualTo(expiresAt);
+            verify(sagaRepository, never()).save(any(BookingSaga.class));
+            verify(bookingOutbox).record(booking);
+        }
+
+        @Test
+        @DisplayName("should cancel a booking whose hold expired and free its dates")
+        void should_CancelBooking_When_HoldExpired() {
+            booking.setHoldExpiresAt(LocalDateTime.now().minusMinutes(1));
+
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+            given(bookingRepository.save(booking)).willReturn(booking);
+
+            Booking result = bookingSagaService.expireHold(1L);
+
+            assertThat(result.getStatus()).isEqualTo(BookingStatus.CANCELLED);
+            assertThat(result.getCancellationReason()).isEqualTo("Checkout hold expired");
+            verify(bookingOverlapIndex).release(1L, booking.getCheckInDate(), booking.getCheckOutDate());
+        }
+
+        @Test
+        @DisplayName("should leave a booking alone when it was confirmed before the sweep")
+        void should_SkipExpiry_When_AlreadyConfirmed() {
+            booking.setStatus(BookingStatus.CONFIRMED);
+            booking.setHoldExpiresAt(LocalDateTime.now().minusMinutes(1));
+
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+
+            assertThat(bookingSagaService.expireHold(1L)).isNull();
+            verify(bookingRepository, never()).save(any(Booking.class));
+        }
+
+        @Test
+        @DisplayName("should leave a booking alone while its checkout confirmation is in progress")
+        void should_SkipExpiry_When_HoldClaimed() {
+            booking.setHoldToken("hold-1");
+            booking.setHoldExpiresAt(LocalDateTime.now().minusMinutes(1));
+            booking.setHoldClaimedAt(LocalDateTime.now().minusMinutes(2));
+
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+
+            assertThat(bookingSagaService.expireHold(1L)).isNull();
+            verify(bookingRepository, never()).save(any(Booking.class));
+            verify(bookingOverlapIndex, never()).release(anyLong(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should claim a live hold for checkout")
+        void should_ClaimHold_When_HoldLive() {
+            booking.setHoldToken("hold-1");
+            booking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(5));
+
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+            given(bookingRepository.save(booking)).willReturn(booking);
+
+            Booking result = bookingSagaService.claimHold(1L);
+
+            assertThat(result.getHoldClaimedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should refuse to claim a hold that expired or was already cancelled")
+        void should_RefuseClaim_When_HoldExpiredOrBookingCancelled() {
+            booking.setHoldToken("hold-1");
+            booking.setHoldExpiresAt(LocalDateTime.now().minusSeconds(1));
+
+            given(bookingRepository.findByIdWithUserForUpdate(1L)).willReturn(Optional.of(booking));
+
+            assertThatThrownBy(() -> bookingSagaService.claimHold(1L))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("expired");
+
+            booking.setStatus(BookingStatus.CANCELLED);
+
+            assertThatThrownBy(() -> bookingSagaService.claimHold(1L))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("not awaiting checkout");
+            verify(bookingRepository, never()).save(any(Booking.class));
+        }
+    }
+}
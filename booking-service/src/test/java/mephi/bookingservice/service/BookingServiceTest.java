@@ -1,15 +1,24 @@
 package mephi.bookingservice.service;
 
+import mephi.bookingservice.client.AsyncHotelServiceClient;
 import mephi.bookingservice.client.HotelServiceClient;
 import mephi.bookingservice.dto.BookingRequest;
 import mephi.bookingservice.dto.BookingResponse;
+import mephi.bookingservice.dto.CursorPage;
+import mephi.bookingservice.dto.GroupBookingRequest;
 import mephi.bookingservice.dto.hotel.AvailabilityRequest;
 import mephi.bookingservice.dto.hotel.AvailabilityResponse;
+import mephi.bookingservice.dto.hotel.BatchConfirmRequest;
+import mephi.bookingservice.dto.hotel.BatchReleaseRequest;
+import mephi.bookingservice.dto.hotel.RoomHoldResponse;
+import mephi.bookingservice.dto.hotel.RoomResponse;
 import mephi.bookingservice.entity.Booking;
 import mephi.bookingservice.entity.BookingStatus;
 import mephi.bookingservice.entity.Role;
 import mephi.bookingservice.entity.User;
 import mephi.bookingservice.exception.BookingException;
+import mephi.bookingservice.exception.BookingQueueFullException;
+import mephi.bookingservice.exception.HotelServiceException;
 import mephi.bookingservice.exception.ResourceNotFoundException;
 import mephi.bookingservice.mapper.BookingMapper;
 import mephi.bookingservice.repository.BookingRepository;
@@ -18,21 +27,29 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -48,9 +65,24 @@ class BookingServiceTest {
     @Mock
     private HotelServiceClient hotelServiceClient;
 
+    @Mock
+    private AsyncHotelServiceClient asyncHotelServiceClient;
+
     @Mock
     private UserService userService;
 
+    @Mock
+    private BookingSagaService bookingSagaService;
+
+    @Mock
+    private BookingWorkQueue bookingWorkQueue;
+
+    @Mock
+    private BookingStatusEvents bookingStatusEvents;
+
+    @Mock
+    private RoomCatalogCache roomCatalogCache;
+
     @InjectMocks
     private BookingService bookingService;
 
@@ -115,12 +147,11 @@ class BookingServiceTest {
         @DisplayName("should create booking and confirm with hotel service when room available")
         void should_CreateAndConfirmBooking_When_RoomAvailable() {
             given(userService.findByUsername("john_doe")).willReturn(testUser);
-            given(bookingRepository.findOverlappingBookings(anyLong(), any(), any(), any()))
-                .willReturn(List.of());
             given(bookingMapper.toEntity(bookingRequest)).willReturn(testBooking);
-            given(bookingRepository.save(any(Booking.class))).willReturn(testBooking);
+            given(bookingSagaService.reserve(eq(testBooking), anyString())).willReturn(testBooking);
             given(hotelServiceClient.confirmAvailability(eq(1L), any(AvailabilityRequest.class)))
                 .willReturn(availabilityResponse);
+            given(bookingSagaService.complete(1L, BigDecimal.valueOf(200))).willReturn(testBooking);
             given(bookingMapper.toResponse(any(Booking.class))).willReturn(bookingResponse);
 
             BookingResponse result = bookingService.createBooking(bookingRequest, "john_doe");
@@ -128,7 +159,109 @@ class BookingServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getBookingReference()).isEqualTo("BK-123456");
             verify(hotelServiceClient, times(1)).confirmAvailability(eq(1L), any());
-            verify(bookingRepository, times(2)).save(any(Booking.class));
+            verify(bookingSagaService).complete(1L, BigDecimal.valueOf(200));
+            verify(bookingSagaService, never()).fail(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("should confirm with the same request ID the saga was started with")
+        void should_UseSagaRequestId_When_ConfirmingWithHotel() {
+            ArgumentCaptor<String> requestId = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<AvailabilityRequest> confirm = ArgumentCaptor.forClass(AvailabilityRequest.class);
+
+            given(userService.findByUsername("john_doe")).willReturn(testUser);
+            given(bookingMapper.toEntity(bookingRequest)).willReturn(testBooking);
+            given(bookingSagaService.reserve(eq(testBooking), requestId.capture())).willReturn(testBooking);
+            given(hotelServiceClient.confirmAvailability(eq(1L), confirm.capture())).willReturn(availabilityResponse);
+            given(bookingSagaService.complete(anyLong(), any())).willReturn(testBooking);
+
+            bookingService.createBooking(bookingRequest, "john_doe");
+
+            assertThat(confirm.getValue().getRequestId()).isEqualTo(requestId.getValue());
+            assertThat(confirm.getValue().getStartDate()).isEqualTo(testBooking.getCheckInDate());
+        }
+
+        @Test
+        @DisplayName("should ask hotel service for a single recommendation when auto-selecting")
+        void should_RequestSingleRecommendation_When_AutoSelect() {
+            bookingRequest.setAutoSelect(true);
+            bookingRequest.setRoomId(null);
+            RoomResponse room = RoomResponse.builder().id(1L).hotelId(1L).timesBooked(0).build();
+
+            given(userService.findByUsername("john_doe")).willReturn(testUser);
+            given(hotelServiceClient.getRecommendedRooms(
+                bookingRequest.getHotelId(),
+                null,
+                bookingRequest.getGuestCount(),
+                bookingRequest.getCheckInDate(),
+                bookingRequest.getCheckOutDate(),
+                1
+            )).willReturn(List.of(room));
+            given(bookingMapper.toEntity(bookingRequest)).willReturn(testBooking);
+            given(bookingSagaService.reserve(eq(testBooking), anyString())).willReturn(testBooking);
+            given(hotelServiceClient.confirmAvailability(eq(1L), any(AvailabilityRequest.class)))
+                .willReturn(availabilityResponse);
+            given(bookingSagaService.complete(anyLong(), any())).willReturn(testBooking);
+            given(bookingMapper.toResponse(any(Booking.class))).willReturn(bookingResponse);
+
+            BookingResponse result = bookingService.createBooking(bookingRequest, "john_doe");
+
+            assertThat(result).isNotNull();
+            verify(hotelServiceClient).confirmAvailability(eq(1L), any());
+        }
+
+        @Test
+        @DisplayName("should request the recommendation before looking up the user when async hotel calls are enabled")
+        void should_OverlapRecommendationWithUserLookup_When_AsyncHotelCallsEnabled() {
+            ReflectionTestUtils.setField(bookingService, "asyncHotelCalls", true);
+            bookingRequest.setAutoSelect(true);
+            bookingRequest.setRoomId(null);
+            RoomResponse room = RoomResponse.builder().id(5L).hotelId(2L).timesBooked(0).build();
+            CompletableFuture<List<RoomResponse>> recommendation = new CompletableFuture<>();
+
+            given(asyncHotelServiceClient.getRecommendedRooms(
+                bookingRequest.getHotelId(),
+                null,
+                bookingRequest.getGuestCount(),
+                bookingRequest.getCheckInDate(),
+                bookingRequest.getCheckOutDate(),
+                1
+            )).willReturn(recommendation);
+            given(userService.findByUsername("john_doe")).willAnswer(invocation -> {
+                recommendation.complete(List.of(room));
+
+                return testUser;
+            });
+            given(bookingMapper.toEntity(bookingRequest)).willReturn(testBooking);
+            given(bookingSagaService.reserve(eq(testBooking), anyString())).willReturn(testBooking);
+            given(hotelServiceClient.confirmAvailability(eq(5L), any(AvailabilityRequest.class)))
+                .willReturn(availabilityResponse);
+            given(bookingSagaService.complete(anyLong(), any())).willReturn(testBooking);
+            given(bookingMapper.toResponse(any(Booking.class))).willReturn(bookingResponse);
+
+            bookingService.createBooking(bookingRequest, "john_doe");
+
+            assertThat(testBooking.getRoomId()).isEqualTo(5L);
+            assertThat(testBooking.getHotelId()).isEqualTo(2L);
+            verify(hotelServiceClient, never()).getRecommendedRooms(any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should surface hotel service failures of the async recommendation")
+        void should_ThrowHotelServiceException_When_AsyncRecommendationFails() {
+            ReflectionTestUtils.setField(bookingService, "asyncHotelCalls", true);
+            bookingRequest.setAutoSelect(true);
+            bookingRequest.setRoomId(null);
+
+            given(asyncHotelServiceClient.getRecommendedRooms(any(), any(), any(), any(), any(), any()))
+                .willReturn(CompletableFuture.failedFuture(new HotelServiceException("Hotel Service is unavailable")));
+            given(userService.findByUsername("john_doe")).willReturn(testUser);
+
+            assertThatThrownBy(() -> bookingService.createBooking(bookingRequest, "john_doe"))
+                .isInstanceOf(HotelServiceException.class)
+                .hasMessageContaining("Hotel Service is unavailable");
+
+            verify(bookingSagaService, never()).reserve(any(), any());
         }
 
         @Test
@@ -141,18 +274,16 @@ class BookingServiceTest {
                 .isInstanceOf(BookingException.class)
                 .hasMessageContaining("Check-out date must be after check-in date");
 
-            verify(bookingRepository, never()).save(any(Booking.class));
+            verify(bookingSagaService, never()).reserve(any(), any());
         }
 
         @Test
-        @DisplayName("should throw BookingException when room has overlapping bookings")
+        @DisplayName("should not call hotel service when the reservation step rejects overlapping dates")
         void should_ThrowBookingException_When_OverlappingBookingsExist() {
-            Booking existingBooking = new Booking();
-            existingBooking.setStatus(BookingStatus.CONFIRMED);
-
             given(userService.findByUsername("john_doe")).willReturn(testUser);
-            given(bookingRepository.findOverlappingBookings(anyLong(), any(), any(), any()))
-                .willReturn(List.of(existingBooking));
+            given(bookingMapper.toEntity(bookingRequest)).willReturn(testBooking);
+            given(bookingSagaService.reserve(eq(testBooking), anyString()))
+                .willThrow(new BookingException("Room is already booked for the selected dates"));
 
             assertThatThrownBy(() -> bookingService.createBooking(bookingRequest, "john_doe"))
                 .isInstanceOf(BookingException.class)
@@ -171,28 +302,26 @@ class BookingServiceTest {
                 .build();
 
             given(userService.findByUsername("john_doe")).willReturn(testUser);
-            given(bookingRepository.findOverlappingBookings(anyLong(), any(), any(), any()))
-                .willReturn(List.of());
             given(bookingMapper.toEntity(bookingRequest)).willReturn(testBooking);
-            given(bookingRepository.save(any(Booking.class))).willReturn(testBooking);
+            given(bookingSagaService.reserve(eq(testBooking), anyString())).willReturn(testBooking);
             given(hotelServiceClient.confirmAvailability(eq(1L), any(AvailabilityRequest.class)))
                 .willReturn(failedResponse);
+            given(bookingSagaService.fail(1L, "Room is not available")).willReturn(testBooking);
 
             assertThatThrownBy(() -> bookingService.createBooking(bookingRequest, "john_doe"))
                 .isInstanceOf(BookingException.class)
                 .hasMessageContaining("not available");
 
-            verify(bookingRepository, times(2)).save(any(Booking.class));
+            verify(bookingSagaService).fail(1L, "Room is not available");
+            verify(bookingSagaService, never()).complete(anyLong(), any());
         }
 
         @Test
         @DisplayName("should compensate and release room on system error")
         void should_CompensateAndReleaseRoom_When_SystemError() {
             given(userService.findByUsername("john_doe")).willReturn(testUser);
-            given(bookingRepository.findOverlappingBookings(anyLong(), any(), any(), any()))
-                .willReturn(List.of());
             given(bookingMapper.toEntity(bookingRequest)).willReturn(testBooking);
-            given(bookingRepository.save(any(Booking.class))).willReturn(testBooking);
+            given(bookingSagaService.reserve(eq(testBooking), anyString())).willReturn(testBooking);
             given(hotelServiceClient.confirmAvailability(eq(1L), any(AvailabilityRequest.class)))
                 .willThrow(new RuntimeException("Connection timeout"));
 
@@ -200,7 +329,206 @@ class BookingServiceTest {
                 .isInstanceOf(BookingException.class)
                 .hasMessageContaining("Failed to complete booking");
 
-            verify(hotelServiceClient, times(1)).releaseRoom(eq(1L), anyString());
+            verify(hotelServiceClient, times(1)).releaseRoom(eq(1L), anyString(), any(), any());
+            verify(bookingSagaService).fail(1L, "Booking failed due to system error");
+        }
+
+        @Test
+        @DisplayName("should release the room when the booking was cancelled while being confirmed")
+        void should_ReleaseRoom_When_BookingCancelledDuringConfirmation() {
+            Booking cancelled = new Booking();
+            cancelled.setId(1L);
+            cancelled.setRoomId(1L);
+            cancelled.setBookingReference("BK-123456");
+            cancelled.setStatus(BookingStatus.CANCELLED);
+
+            given(userService.findByUsername("john_doe")).willReturn(testUser);
+            given(bookingMapper.toEntity(bookingRequest)).willReturn(testBooking);
+            given(bookingSagaService.reserve(eq(testBooking), anyString())).willReturn(testBooking);
+            given(hotelServiceClient.confirmAvailability(eq(1L), any(AvailabilityRequest.class)))
+                .willReturn(availabilityResponse);
+            given(bookingSagaService.complete(1L, BigDecimal.valueOf(200))).willReturn(cancelled);
+
+            assertThatThrownBy(() -> bookingService.createBooking(bookingRequest, "john_doe"))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("CANCELLED");
+
+            verify(hotelServiceClient).releaseRoom(eq(1L), anyString(), isNull(), isNull());
+            verify(bookingSagaService, never()).fail(anyLong(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("submitBooking - Asynchronous Confirmation")
+    class SubmitBooking {
+        @Test
+        @DisplayName("should return the pending booking and confirm it on a worker")
+        void should_ReturnPendingAndConfirmLater_When_Accepted() {
+            ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+            BookingResponse pending = BookingResponse.builder()
+                .bookingReference("BK-123456")
+                .status(BookingStatus.PENDING)
+                .build();
+
+            given(bookingWorkQueue.hasCapacity()).willReturn(true);
+            given(userService.findByUsername("john_doe")).willReturn(testUser);
+            given(bookingMapper.toEntity(bookingRequest)).willReturn(testBooking);
+            given(bookingSagaService.reserve(eq(testBooking), anyString())).willReturn(testBooking);
+            given(bookingWorkQueue.submit(eq(1L), task.capture())).willReturn(true);
+            given(bookingMapper.toResponse(testBooking)).willReturn(pending);
+
+            BookingResponse result = bookingService.submitBooking(bookingRequest, "john_doe");
+
+            assertThat(result.getStatus()).isEqualTo(BookingStatus.PENDING);
+            verify(hotelServiceClient, never()).confirmAvailability(anyLong(), any());
+
+            given(bookingSagaService.findBooking(1L)).willReturn(testBooking);
+            given(hotelServiceClient.confirmAvailability(eq(1L), any(AvailabilityRequest.class)))
+                .willReturn(availabilityResponse);
+            given(bookingSagaService.complete(1L, BigDecimal.valueOf(200))).willReturn(testBooking);
+            given(bookingRepository.findByIdWithUser(1L)).willReturn(Optional.of(testBooking));
+            given(bookingMapper.toResponse(testBooking)).willReturn(bookingResponse);
+
+            task.getValue().run();
+
+            verify(bookingSagaService).complete(1L, BigDecimal.valueOf(200));
+            verify(bookingStatusEvents).publish(bookingResponse);
+        }
+
+        @Test
+        @DisplayName("should publish the failed booking when the room turns out unavailable")
+        void should_PublishFailedBooking_When_RoomNotAvailable() {
+            AvailabilityResponse failedResponse = AvailabilityResponse.builder()
+                .confirmed(false)
+                .message("Room is not available")
+                .build();
+
+            given(bookingSagaService.findBooking(1L)).willReturn(testBooking);
+            given(hotelServiceClient.confirmAvailability(eq(1L), any(AvailabilityRequest.class)))
+                .willReturn(failedResponse);
+            given(bookingSagaService.fail(1L, "Room is not available")).willReturn(testBooking);
+            given(bookingRepository.findByIdWithUser(1L)).willReturn(Optional.of(testBooking));
+            given(bookingMapper.toResponse(testBooking)).willReturn(bookingResponse);
+
+            bookingService.processSubmitted(1L, "req-1");
+
+            verify(bookingStatusEvents).publish(bookingResponse);
+        }
+
+        @Test
+        @DisplayName("should reject before reserving when the work queue is full")
+        void should_ThrowQueueFull_When_NoCapacity() {
+            given(bookingWorkQueue.hasCapacity()).willReturn(false);
+
+            assertThatThrownBy(() -> bookingService.submitBooking(bookingRequest, "john_doe"))
+                .isInstanceOf(BookingQueueFullException.class);
+
+            verify(bookingSagaService, never()).reserve(any(), any());
+        }
+
+        @Test
+        @DisplayName("should fail the reserved booking when the work queue rejects it")
+        void should_FailBooking_When_QueueRejectsTask() {
+            given(bookingWorkQueue.hasCapacity()).willReturn(true);
+            given(userService.findByUsername("john_doe")).willReturn(testUser);
+            given(bookingMapper.toEntity(bookingRequest)).willReturn(testBooking);
+            given(bookingSagaService.reserve(eq(testBooking), anyString())).willReturn(testBooking);
+            given(bookingWorkQueue.submit(eq(1L), any())).willReturn(false);
+
+            assertThatThrownBy(() -> bookingService.submitBooking(bookingRequest, "john_doe"))
+                .isInstanceOf(BookingQueueFullException.class);
+
+            verify(bookingSagaService).fail(1L, "Booking queue is full");
+        }
+    }
+
+    @Nested
+    @DisplayName("createGroupBooking - Batch Confirmation")
+    class CreateGroupBooking {
+        private GroupBookingRequest groupRequest;
+        private Booking secondBooking;
+
+        @BeforeEach
+        void setUp() {
+            groupRequest = GroupBookingRequest.builder()
+                .checkInDate(LocalDate.now().plusDays(1))
+                .checkOutDate(LocalDate.now().plusDays(3))
+                .rooms(List.of(
+                    GroupBookingRequest.Room.builder().roomId(1L).hotelId(1L).guestCount(2).build(),
+                    GroupBookingRequest.Room.builder().roomId(2L).hotelId(1L).guestCount(1).build()
+                ))
+                .build();
+
+            secondBooking = new Booking();
+            secondBooking.setId(2L);
+            secondBooking.setRoomId(2L);
+            secondBooking.setHotelId(1L);
+            secondBooking.setCheckInDate(groupRequest.getCheckInDate());
+            secondBooking.setCheckOutDate(groupRequest.getCheckOutDate());
+            secondBooking.setGuestCount(1);
+
+            given(userService.findByUsername("john_doe")).willReturn(testUser);
+            given(bookingMapper.toEntity(any(BookingRequest.class))).willReturn(testBooking, secondBooking);
+            given(bookingSagaService.reserveAll(anyList(), anyList())).willReturn(List.of(testBooking, secondBooking));
+        }
+
+        @Test
+        @DisplayName("should confirm every room with a single hotel service call")
+        void should_ConfirmAllRooms_When_HotelConfirmsBatch() {
+            ArgumentCaptor<BatchConfirmRequest> batch = ArgumentCaptor.forClass(BatchConfirmRequest.class);
+
+            given(hotelServiceClient.confirmAvailabilityBatch(batch.capture())).willReturn(List.of(
+                AvailabilityResponse.builder().roomId(1L).confirmed(true).totalPrice(BigDecimal.valueOf(200)).build(),
+                AvailabilityResponse.builder().roomId(2L).confirmed(true).totalPrice(BigDecimal.valueOf(300)).build()
+            ));
+            given(bookingSagaService.completeAll(any())).willReturn(List.of(testBooking, secondBooking));
+            given(bookingMapper.toResponseList(anyList())).willReturn(List.of(bookingResponse, bookingResponse));
+
+            List<BookingResponse> result = bookingService.createGroupBooking(groupRequest, "john_doe");
+
+            assertThat(result).hasSize(2);
+            assertThat(batch.getValue().getItems()).extracting(BatchConfirmRequest.Item::getRoomId).containsExactly(1L, 2L);
+            verify(hotelServiceClient, never()).confirmAvailability(anyLong(), any());
+            verify(bookingSagaService).completeAll(Map.of(1L, BigDecimal.valueOf(200), 2L, BigDecimal.valueOf(300)));
+        }
+
+        @Test
+        @DisplayName("should fail every booking when one room is not available")
+        void should_FailAllBookings_When_OneRoomRejected() {
+            given(hotelServiceClient.confirmAvailabilityBatch(any())).willReturn(List.of(
+                AvailabilityResponse.builder().roomId(1L).confirmed(false).message("Another room in the batch is not available").build(),
+                AvailabilityResponse.builder().roomId(2L).confirmed(false).message("Room is not available").build()
+            ));
+
+            assertThatThrownBy(() -> bookingService.createGroupBooking(groupRequest, "john_doe"))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("Room is not available");
+
+            verify(bookingSagaService).failAll(Map.of(
+                1L, "Another room in the batch is not available",
+                2L, "Room is not available"
+            ));
+            verify(bookingSagaService, never()).completeAll(any());
+        }
+
+        @Test
+        @DisplayName("should release all rooms in one call and fail the bookings on system error")
+        void should_ReleaseBatchAndFail_When_SystemError() {
+            ArgumentCaptor<BatchReleaseRequest> release = ArgumentCaptor.forClass(BatchReleaseRequest.class);
+
+            given(hotelServiceClient.confirmAvailabilityBatch(any())).willThrow(new RuntimeException("Connection timeout"));
+
+            assertThatThrownBy(() -> bookingService.createGroupBooking(groupRequest, "john_doe"))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("Failed to complete group booking");
+
+            verify(hotelServiceClient).releaseRoomsBatch(release.capture());
+            assertThat(release.getValue().getItems()).extracting(BatchReleaseRequest.Item::getRoomId).containsExactly(1L, 2L);
+            verify(hotelServiceClient, never()).releaseRoom(anyLong(), anyString(), any(), any());
+            verify(bookingSagaService).failAll(Map.of(
+                1L, "Booking failed due to system error",
+                2L, "Booking failed due to system error"
+            ));
         }
     }
 
@@ -247,6 +575,232 @@ class BookingServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getAllBookingsPage")
+    class GetAllBookingsPage {
+        @Test
+        @DisplayName("should start from the newest booking and hand out a cursor for the next page")
+        void should_ReturnCursor_When_MoreBookingsExist() {
+            Booking older = new Booking();
+            older.setId(2L);
+            older.setCreatedAt(LocalDateTime.of(2026, 1, 1, 10, 0));
+            testBooking.setCreatedAt(LocalDateTime.of(2026, 1, 2, 10, 0));
+
+            given(bookingRepository.findAllBefore(
+                eq(KeysetPagination.Position.FIRST.createdAt()),
+                eq(Long.MAX_VALUE),
+                any(Limit.class)
+            )).willReturn(List.of(testBooking, older));
+            given(bookingMapper.toResponseList(List.of(testBooking))).willReturn(List.of(bookingResponse));
+
+            CursorPage<BookingResponse> result = bookingService.getAllBookingsPage(1, null, false);
+
+            assertThat(result.getContent()).containsExactly(bookingResponse);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(KeysetPagination.decodePosition(result.getNextCursor()))
+                .isEqualTo(new KeysetPagination.Position(testBooking.getCreatedAt(), 1L));
+            verify(bookingRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("should seek past the cursor position")
+        void should_SeekPastCursor_When_CursorGiven() {
+            LocalDateTime createdAt = LocalDateTime.of(2026, 1, 2, 10, 0);
+            given(bookingRepository.findAllBefore(eq(createdAt), eq(7L), any(Limit.class))).willReturn(List.of());
+            given(bookingMapper.toResponseList(List.of())).willReturn(List.of());
+            given(bookingRepository.count()).willReturn(7L);
+
+            CursorPage<BookingResponse> result = bookingService.getAllBookingsPage(
+                20,
+                KeysetPagination.encode(createdAt, 7L),
+                true
+            );
+
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+            assertThat(result.getTotalElements()).isEqualTo(7L);
+        }
+
+        @Test
+        @DisplayName("should reject malformed cursor")
+        void should_ThrowException_When_CursorMalformed() {
+            assertThatThrownBy(() -> bookingService.getAllBookingsPage(20, KeysetPagination.encode("x", "y"), false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+        }
+    }
+
+    @Nested
+    @DisplayName("holdBooking and confirmHeldBooking")
+    class HeldBookings {
+        private RoomHoldResponse hold;
+
+        @BeforeEach
+        void setUpHolds() {
+            hold = RoomHoldResponse.builder()
+                .holdToken("hold-1")
+                .roomId(1L)
+                .held(true)
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .totalPrice(BigDecimal.valueOf(200))
+                .build();
+        }
+
+        @Test
+        @DisplayName("should reserve the booking without a saga and attach the hotel hold")
+        void should_AttachHold_When_RoomHeld() {
+            given(userService.findByUsername("john_doe")).willReturn(testUser);
+            given(bookingMapper.toEntity(bookingRequest)).willReturn(testBooking);
+            given(bookingSagaService.reserveHold(eq(testBooking), any(LocalDateTime.class))).willReturn(testBooking);
+            given(hotelServiceClient.holdRoom(eq(1L), any(AvailabilityRequest.class))).willReturn(hold);
+            given(bookingSagaService.attachHold(1L, "hold-1", hold.getExpiresAt(), BigDecimal.valueOf(200)))
+                .willReturn(testBooking);
+
+            bookingService.holdBooking(bookingRequest, "john_doe");
+
+            verify(bookingSagaService).attachHold(1L, "hold-1", hold.getExpiresAt(), BigDecimal.valueOf(200));
+            verify(bookingSagaService, never()).reserve(any(), anyString());
+            verify(hotelServiceClient, never()).confirmAvailability(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("should fail the booking when the room cannot be held")
+        void should_FailBooking_When_RoomNotHeld() {
+            given(userService.findByUsername("john_doe")).willReturn(testUser);
+            given(bookingMapper.toEntity(bookingRequest)).willReturn(testBooking);
+            given(bookingSagaService.reserveHold(eq(testBooking), any(LocalDateTime.class))).willReturn(testBooking);
+            given(hotelServiceClient.holdRoom(eq(1L), any(AvailabilityRequest.class))).willReturn(RoomHoldResponse.builder()
+                .held(false)
+                .message("Room is already booked for the selected dates")
+                .build()
+            );
+            given(bookingSagaService.fail(1L, "Room is already booked for the selected dates")).willReturn(testBooking);
+
+            assertThatThrownBy(() -> bookingService.holdBooking(bookingRequest, "john_doe"))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("already booked");
+
+            verify(bookingSagaService, never()).attachHold(anyLong(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should confirm the hotel hold and complete the booking")
+        void should_CompleteBooking_When_HoldConfirmed() {
+            testBooking.setHoldToken("hold-1");
+            testBooking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(5));
+
+            given(bookingRepository.findByIdWithUser(1L)).willReturn(Optional.of(testBooking));
+            given(bookingSagaService.claimHold(1L)).willReturn(testBooking);
+            given(hotelServiceClient.confirmHold("hold-1")).willReturn(availabilityResponse);
+            given(bookingSagaService.complete(1L, BigDecimal.valueOf(200))).willReturn(testBooking);
+            given(bookingMapper.toResponse(testBooking)).willReturn(bookingResponse);
+
+            BookingResponse result = bookingService.confirmHeldBooking(1L, "john_doe", false);
+
+            assertThat(result.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+            verify(bookingSagaService).claimHold(1L);
+            verify(bookingSagaService).complete(1L, BigDecimal.valueOf(200));
+        }
+
+        @Test
+        @DisplayName("should leave the claimed booking pending when the hotel outcome is unknown")
+        void should_KeepBookingClaimed_When_HotelOutcomeUnknown() {
+            testBooking.setHoldToken("hold-1");
+            testBooking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(5));
+
+            given(bookingRepository.findByIdWithUser(1L)).willReturn(Optional.of(testBooking));
+            given(bookingSagaService.claimHold(1L)).willReturn(testBooking);
+            given(hotelServiceClient.confirmHold("hold-1"))
+                .willThrow(new HotelServiceException("Hotel Service is unavailable", 503));
+
+            assertThatThrownBy(() -> bookingService.confirmHeldBooking(1L, "john_doe", false))
+                .isInstanceOf(HotelServiceException.class);
+
+            verify(bookingSagaService, never()).fail(anyLong(), any());
+            verify(bookingSagaService, never()).complete(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("should release the confirmed hold when the booking was cancelled during checkout")
+        void should_ReleaseHold_When_BookingCancelledDuringCheckout() {
+            testBooking.setHoldToken("hold-1");
+            testBooking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(5));
+            Booking cancelled = Booking.builder().id(1L).bookingReference("BK-123456").status(BookingStatus.CANCELLED).build();
+
+            given(bookingRepository.findByIdWithUser(1L)).willReturn(Optional.of(testBooking));
+            given(bookingSagaService.claimHold(1L)).willReturn(testBooking);
+            given(hotelServiceClient.confirmHold("hold-1")).willReturn(availabilityResponse);
+            given(bookingSagaService.complete(1L, BigDecimal.valueOf(200))).willReturn(cancelled);
+
+            assertThatThrownBy(() -> bookingService.confirmHeldBooking(1L, "john_doe", false))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("CANCELLED");
+
+            verify(hotelServiceClient).releaseHold("hold-1");
+        }
+
+        @Test
+        @DisplayName("should reject confirmation after the hold expired without calling hotel service")
+        void should_RejectConfirmation_When_HoldExpired() {
+            testBooking.setHoldToken("hold-1");
+            testBooking.setHoldExpiresAt(LocalDateTime.now().minusSeconds(1));
+
+            given(bookingRepository.findByIdWithUser(1L)).willReturn(Optional.of(testBooking));
+
+            assertThatThrownBy(() -> bookingService.confirmHeldBooking(1L, "john_doe", false))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("expired");
+
+            verify(hotelServiceClient, never()).confirmHold(anyString());
+        }
+
+        @Test
+        @DisplayName("should fail the booking when hotel service refuses the hold")
+        void should_FailBooking_When_HotelRefusesHold() {
+            testBooking.setHoldToken("hold-1");
+            testBooking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(5));
+
+            given(bookingRepository.findByIdWithUser(1L)).willReturn(Optional.of(testBooking));
+            given(bookingSagaService.claimHold(1L)).willReturn(testBooking);
+            given(hotelServiceClient.confirmHold("hold-1")).willReturn(AvailabilityResponse.builder()
+                .confirmed(false)
+                .message("Room hold has expired")
+                .build()
+            );
+            given(bookingSagaService.fail(1L, "Room hold has expired")).willReturn(testBooking);
+
+            assertThatThrownBy(() -> bookingService.confirmHeldBooking(1L, "john_doe", false))
+                .isInstanceOf(BookingException.class);
+
+            verify(bookingSagaService, never()).complete(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("should reject confirmation of a booking made without a hold")
+        void should_RejectConfirmation_When_BookingNotHeld() {
+            given(bookingRepository.findByIdWithUser(1L)).willReturn(Optional.of(testBooking));
+
+            assertThatThrownBy(() -> bookingService.confirmHeldBooking(1L, "john_doe", false))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("not awaiting checkout");
+        }
+
+        @Test
+        @DisplayName("should release the hotel hold when a held booking is cancelled")
+        void should_ReleaseHold_When_HeldBookingCancelled() {
+            testBooking.setHoldToken("hold-1");
+            testBooking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(5));
+
+            given(bookingRepository.findByIdWithUser(1L)).willReturn(Optional.of(testBooking));
+            given(bookingSagaService.cancel(testBooking, "Cancelled by user")).willReturn(testBooking);
+
+            bookingService.cancelBooking(1L, "john_doe", null, false);
+
+            verify(hotelServiceClient).releaseHold("hold-1");
+            verify(hotelServiceClient, never()).releaseRoom(anyLong(), anyString(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("cancelBooking")
     class CancelBooking {
@@ -264,13 +818,14 @@ class BookingServiceTest {
                 .build();
 
             given(bookingRepository.findByIdWithUser(1L)).willReturn(Optional.of(testBooking));
-            given(bookingRepository.save(any(Booking.class))).willReturn(testBooking);
+            given(bookingSagaService.cancel(testBooking, "Change of plans")).willReturn(testBooking);
             given(bookingMapper.toResponse(any(Booking.class))).willReturn(cancelledResponse);
 
             BookingResponse result = bookingService.cancelBooking(1L, "john_doe", "Change of plans", false);
 
             assertThat(result.getStatus()).isEqualTo(BookingStatus.CANCELLED);
-            verify(hotelServiceClient, times(1)).releaseRoom(eq(1L), anyString());
+            verify(hotelServiceClient, times(1)).releaseRoom(eq(1L), anyString(), any(), any());
+            verify(bookingSagaService).cancel(testBooking, "Change of plans");
         }
 
         @Test
@@ -282,7 +837,7 @@ class BookingServiceTest {
                 .build();
 
             given(bookingRepository.findByIdWithUser(1L)).willReturn(Optional.of(testBooking));
-            given(bookingRepository.save(any(Booking.class))).willReturn(testBooking);
+            given(bookingSagaService.cancel(testBooking, "Policy violation")).willReturn(testBooking);
             given(bookingMapper.toResponse(any(Booking.class))).willReturn(cancelledResponse);
 
             BookingResponse result = bookingService.cancelBooking(1L, "admin", "Policy violation", true);
@@ -302,6 +857,7 @@ class BookingServiceTest {
                 .hasMessageContaining("not authorized");
 
             verify(bookingRepository, never()).save(any(Booking.class));
+            verify(bookingSagaService, never()).cancel(any(Booking.class), anyString());
         }
 
         @Test
@@ -0,0 +1,76 @@
+package mephi.bookingservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookingWorkQueue Unit Tests")
+class BookingWorkQueueTest {
+    private SimpleMeterRegistry meterRegistry;
+    private BookingWorkQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new BookingWorkQueue(1, 1, false, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("should report a booking as pending from submission until its task finishes")
+    void should_TrackBooking_While_Queued() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+
+        assertThat(queue.submit(1L, () -> await(release, done))).isTrue();
+        assertThat(queue.submit(2L, done::countDown)).isTrue();
+
+        assertThat(queue.isPending(1L)).isTrue();
+        assertThat(queue.isPending(2L)).isTrue();
+
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        queue.shutdown();
+        assertThat(queue.isPending(1L)).isFalse();
+        assertThat(queue.isPending(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should forget a booking the full queue rejected")
+    void should_NotTrackBooking_When_Rejected() {
+        CountDownLatch release = new CountDownLatch(1);
+
+        queue.submit(1L, () -> await(release, new CountDownLatch(1)));
+        queue.submit(2L, () -> {
+        });
+
+        assertThat(queue.submit(3L, () -> {
+        })).isFalse();
+        assertThat(queue.isPending(3L)).isFalse();
+        assertThat(meterRegistry.counter("booking.queue.rejected").count()).isEqualTo(1.0);
+
+        release.countDown();
+    }
+
+    private static void await(CountDownLatch release, CountDownLatch done) {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        done.countDown();
+    }
+}
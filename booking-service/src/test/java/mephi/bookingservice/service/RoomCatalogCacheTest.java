@@ -0,0 +1,153 @@
+package mephi.bookingservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mephi.bookingservice.client.HotelServiceClient;
+import mephi.bookingservice.dto.hotel.CatalogVersionResponse;
+import mephi.bookingservice.dto.hotel.RoomResponse;
+import mephi.bookingservice.exception.HotelServiceException;
+import mephi.bookingservice.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomCatalogCache Unit Tests")
+class RoomCatalogCacheTest {
+    @Mock
+    private HotelServiceClient hotelServiceClient;
+
+    @Mock
+    private RoomLookupCollapser roomLookupCollapser;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RoomCatalogCache(
+            hotelServiceClient,
+            roomLookupCollapser,
+            meterRegistry,
+            100,
+            Duration.ofMinutes(10),
+            Duration.ofMinutes(1),
+            false
+        );
+    }
+
+    @Test
+    @DisplayName("should serve repeated reads from the cache and report hits")
+    void should_ServeFromCache_When_RoomAlreadyLoaded() {
+        given(roomLookupCollapser.getRoom(1L)).willReturn(room(1L));
+
+        cache.getRoom(1L);
+        RoomResponse second = cache.getRoom(1L);
+
+        assertThat(second.getId()).isEqualTo(1L);
+        verify(roomLookupCollapser, times(1)).getRoom(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("should not cache missing rooms")
+    void should_PropagateNotFound_When_RoomMissing() {
+        given(roomLookupCollapser.getRoom(9L)).willThrow(new ResourceNotFoundException("Room", 9L));
+
+        assertThatThrownBy(() -> cache.getRoom(9L)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> cache.getRoom(9L)).isInstanceOf(ResourceNotFoundException.class);
+
+        verify(roomLookupCollapser, times(2)).getRoom(9L);
+    }
+
+    @Test
+    @DisplayName("should serve rooms seeded from other hotel-service responses")
+    void should_ServeSeededRoom_When_PutAll() {
+        cache.putAll(List.of(room(1L), room(2L)));
+
+        assertThat(cache.getRoom(2L).getId()).isEqualTo(2L);
+        verify(roomLookupCollapser, never()).getRoom(2L);
+    }
+
+    @Test
+    @DisplayName("should invalidate cached rooms when the catalog version changes")
+    void should_Invalidate_When_CatalogVersionChanges() {
+        given(roomLookupCollapser.getRoom(1L)).willReturn(room(1L));
+        given(hotelServiceClient.getCatalogVersion()).willReturn(
+            new CatalogVersionResponse(1L),
+            new CatalogVersionResponse(1L),
+            new CatalogVersionResponse(2L)
+        );
+
+        cache.pollCatalogVersion();
+        cache.getRoom(1L);
+        cache.pollCatalogVersion();
+        cache.getRoom(1L);
+        cache.pollCatalogVersion();
+        cache.getRoom(1L);
+
+        verify(roomLookupCollapser, times(2)).getRoom(1L);
+    }
+
+    @Test
+    @DisplayName("should keep cached rooms when the version poll fails")
+    void should_KeepCache_When_PollFails() {
+        given(roomLookupCollapser.getRoom(1L)).willReturn(room(1L));
+        given(hotelServiceClient.getCatalogVersion())
+            .willReturn(new CatalogVersionResponse(1L))
+            .willThrow(new HotelServiceException("Hotel Service is unavailable"));
+
+        cache.pollCatalogVersion();
+        cache.getRoom(1L);
+        cache.pollCatalogVersion();
+        cache.getRoom(1L);
+
+        verify(roomLookupCollapser, times(1)).getRoom(1L);
+    }
+
+    @Test
+    @DisplayName("should load missing rooms on a virtual thread when virtual threads are enabled")
+    void should_LoadOnVirtualThread_When_VirtualThreadsEnabled() {
+        RoomCatalogCache virtualCache = new RoomCatalogCache(
+            hotelServiceClient,
+            roomLookupCollapser,
+            new SimpleMeterRegistry(),
+            100,
+            Duration.ofMinutes(10),
+            Duration.ofMinutes(1),
+            true
+        );
+        AtomicBoolean virtual = new AtomicBoolean();
+        given(roomLookupCollapser.getRoom(1L)).willAnswer(invocation -> {
+            virtual.set(Thread.currentThread().isVirtual());
+
+            return room(1L);
+        });
+
+        assertThat(virtualCache.getRoom(1L).getId()).isEqualTo(1L);
+        assertThat(virtual).isTrue();
+    }
+
+    private RoomResponse room(Long id) {
+        return RoomResponse.builder()
+            .id(id)
+            .hotelId(1L)
+            .roomNumber("10" + id)
+            .build();
+    }
+}
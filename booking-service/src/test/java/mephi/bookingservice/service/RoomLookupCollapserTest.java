@@ -0,0 +1,132 @@
+package mephi.bookingservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mephi.bookingservice.client.HotelServiceClient;
+import mephi.bookingservice.dto.hotel.RoomResponse;
+import mephi.bookingservice.exception.HotelServiceException;
+import mephi.bookingservice.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomLookupCollapser Unit Tests")
+class RoomLookupCollapserTest {
+    @Mock
+    private HotelServiceClient hotelServiceClient;
+
+    private RoomLookupCollapser collapser;
+
+    @BeforeEach
+    void setUp() {
+        collapser = new RoomLookupCollapser(hotelServiceClient, new SimpleMeterRegistry(), Duration.ofMillis(20), 3, 1, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        collapser.shutdown();
+    }
+
+    @Test
+    @DisplayName("should fetch lookups made within one window with a single call")
+    @SuppressWarnings("unchecked")
+    void should_CollapseLookups_When_RequestedTogether() {
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        given(hotelServiceClient.getRoomsByIds(ids.capture())).willReturn(List.of(room(1L), room(2L)));
+
+        CompletableFuture<RoomResponse> first = collapser.lookup(1L);
+        CompletableFuture<RoomResponse> second = collapser.lookup(2L);
+        CompletableFuture<RoomResponse> duplicate = collapser.lookup(1L);
+
+        assertThat(first.join().getId()).isEqualTo(1L);
+        assertThat(second.join().getId()).isEqualTo(2L);
+        assertThat(duplicate).isSameAs(first);
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(1L, 2L);
+        verify(hotelServiceClient, times(1)).getRoomsByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should fetch immediately once the batch is full")
+    void should_FlushEarly_When_BatchFull() {
+        given(hotelServiceClient.getRoomsByIds(anyCollection())).willReturn(List.of(room(1L), room(2L), room(3L)));
+
+        collapser.lookup(1L);
+        collapser.lookup(2L);
+        RoomResponse third = collapser.lookup(3L).join();
+
+        assertThat(third.getId()).isEqualTo(3L);
+        verify(hotelServiceClient, times(1)).getRoomsByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should throw ResourceNotFoundException for IDs missing from the response")
+    void should_ThrowResourceNotFoundException_When_RoomMissing() {
+        given(hotelServiceClient.getRoomsByIds(anyCollection())).willReturn(List.of());
+
+        assertThatThrownBy(() -> collapser.getRoom(999L))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should pass the hotel service failure to every waiting caller")
+    void should_PropagateFailure_When_HotelServiceUnavailable() {
+        given(hotelServiceClient.getRoomsByIds(anyCollection()))
+            .willThrow(new HotelServiceException("Hotel Service is unavailable"));
+
+        CompletableFuture<RoomResponse> other = collapser.lookup(2L);
+
+        assertThatThrownBy(() -> collapser.getRoom(1L))
+            .isInstanceOf(HotelServiceException.class);
+        assertThatThrownBy(other::join)
+            .hasCauseInstanceOf(HotelServiceException.class);
+    }
+
+    @Test
+    @DisplayName("should call hotel-service from a virtual thread when virtual threads are enabled")
+    void should_FetchOnVirtualThread_When_VirtualThreadsEnabled() {
+        RoomLookupCollapser virtualCollapser = new RoomLookupCollapser(
+            hotelServiceClient,
+            new SimpleMeterRegistry(),
+            Duration.ofMillis(20),
+            3,
+            1,
+            true
+        );
+        AtomicBoolean virtual = new AtomicBoolean();
+        given(hotelServiceClient.getRoomsByIds(anyCollection())).willAnswer(invocation -> {
+            virtual.set(Thread.currentThread().isVirtual());
+
+            return List.of(room(1L));
+        });
+
+        try {
+            assertThat(virtualCollapser.getRoom(1L).getId()).isEqualTo(1L);
+            assertThat(virtual).isTrue();
+        }
+        finally {
+            virtualCollapser.shutdown();
+        }
+    }
+
+    private RoomResponse room(Long id) {
+        return RoomResponse.builder().id(id).hotelId(1L).build();
+    }
+}
@@ -0,0 +1,78 @@
+package mephi.bookingservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mephi.bookingservice.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ServiceTokenProvider Unit Tests")
+class ServiceTokenProviderTest {
+    @Mock
+    private JwtService jwtService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServiceTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        provider = new ServiceTokenProvider(jwtService, meterRegistry);
+
+        given(jwtService.getExpirationMs()).willReturn(3_600_000L);
+        given(jwtService.generateToken(any(User.class))).willReturn("first", "second");
+
+        provider.init();
+    }
+
+    @Test
+    @DisplayName("should serve the cached token without signing again")
+    void should_ReuseToken_When_Requested() {
+        assertThat(provider.getToken()).isEqualTo("first");
+        assertThat(provider.getToken()).isEqualTo("first");
+
+        provider.refreshIfExpiring();
+
+        assertThat(provider.getToken()).isEqualTo("first");
+        verify(jwtService, times(1)).generateToken(any(User.class));
+    }
+
+    @Test
+    @DisplayName("should sign a new token when the current one is about to expire")
+    void should_Refresh_When_TokenExpiresSoon() {
+        ReflectionTestUtils.setField(provider, "refreshAhead", Duration.ofHours(2));
+
+        provider.refreshIfExpiring();
+
+        assertThat(provider.getToken()).isEqualTo("second");
+        assertThat(meterRegistry.get("service.token.refreshes").tag("result", "success").counter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("service.token.age").gauge().value()).isLessThan(60);
+    }
+
+    @Test
+    @DisplayName("should keep the current token when refresh fails")
+    void should_KeepToken_When_RefreshFails() {
+        ReflectionTestUtils.setField(provider, "refreshAhead", Duration.ofHours(2));
+        given(jwtService.generateToken(any(User.class))).willThrow(new IllegalStateException("key unavailable"));
+
+        provider.refreshIfExpiring();
+
+        assertThat(provider.getToken()).isEqualTo("first");
+        assertThat(meterRegistry.get("service.token.refreshes").tag("result", "failure").counter().count())
+            .isEqualTo(1);
+    }
+}
@@ -48,6 +48,7 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(HttpMethod.GET, "/hotels/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/rooms/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/changes").permitAll()
 
                 .requestMatchers("/actuator/health/**").permitAll()
                 .requestMatchers("/actuator/info").permitAll()
@@ -60,6 +61,8 @@ public class SecurityConfig {
 
                 .requestMatchers("/rooms/*/confirm-availability").authenticated()
                 .requestMatchers("/rooms/*/release").authenticated()
+                .requestMatchers("/rooms/confirm-availability:batch", "/rooms/release:batch").authenticated()
+                .requestMatchers("/rooms/*/hold", "/rooms/holds/*/confirm", "/rooms/holds/*/release").authenticated()
 
                 .requestMatchers(HttpMethod.POST, "/hotels/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/hotels/**").hasRole("ADMIN")
@@ -0,0 +1,60 @@
+package mephi.hotelservice.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 8;
+
+    @Bean(destroyMethod = "close")
+    public RecordingStream pinnedThreadRecording(
+        @Value("${app.virtual-threads.pinned-threshold:PT0.02S}") Duration threshold
+    ) {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, VirtualThreadConfig::logPinned);
+        recording.startAsync();
+
+        log.info("Virtual threads enabled, reporting carrier pinning longer than {}", threshold);
+
+        return recording;
+    }
+
+    private static void logPinned(RecordedEvent event) {
+        log.warn(
+            "Virtual thread {} pinned its carrier for {} ms at {}",
+            event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+            event.getDuration().toMillis(),
+            frames(event.getStackTrace())
+        );
+    }
+
+    private static String frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown location";
+        }
+
+        return stackTrace.getFrames().stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .filter(frame -> !frame.getMethod().getType().getName().startsWith("jdk.internal.")
+                && !frame.getMethod().getType().getName().startsWith("java.lang.VirtualThread"))
+            .limit(MAX_FRAMES)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+            .collect(Collectors.joining(" <- "));
+    }
+}
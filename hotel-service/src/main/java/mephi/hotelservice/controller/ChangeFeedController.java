@@ -0,0 +1,42 @@
+package mephi.hotelservice.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mephi.hotelservice.dto.ChangeFeedResponse;
+import mephi.hotelservice.service.CatalogChangeFeed;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/changes")
+@RequiredArgsConstructor
+@Tag(name = "Changes", description = "Catalog change feed API")
+public class ChangeFeedController {
+    private final CatalogChangeFeed changeFeed;
+
+    @GetMapping
+    @Operation(
+        summary = "Get catalog changes",
+        description = "Hotel and room inserts, updates, deletes and availability flips after the given sequence, oldest first. " +
+            "Pass nextSince from the previous response to continue. A different epoch means the feed was reset and consumers should resync"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved changes")
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+        @Parameter(description = "Last sequence already seen by the consumer") @RequestParam(defaultValue = "0") long since,
+        @Parameter(description = "Maximum number of changes (at most 500)") @RequestParam(defaultValue = "100") int limit
+    ) {
+        log.debug("REST request to get catalog changes since {}", since);
+
+        ChangeFeedResponse changes = changeFeed.getChanges(since, limit);
+
+        return ResponseEntity.ok(changes);
+    }
+}
@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mephi.hotelservice.dto.CursorPage;
 import mephi.hotelservice.dto.HotelRequest;
 import mephi.hotelservice.dto.HotelResponse;
 import mephi.hotelservice.service.HotelService;
@@ -38,6 +39,27 @@ public class HotelController {
         return ResponseEntity.ok(hotels);
     }
 
+    @GetMapping(params = "limit")
+    @Operation(
+        summary = "Get hotels page",
+        description = "Retrieve hotels ordered by ID using keyset pagination. Pass nextCursor from the previous page to continue."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved hotels page"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPage<HotelResponse>> getHotelsPage(
+        @Parameter(description = "Page size (1-100)") @RequestParam int limit,
+        @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+        @Parameter(description = "Include total number of hotels") @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        log.debug("REST request to get hotels page: limit={}, cursor={}", limit, cursor);
+
+        CursorPage<HotelResponse> hotels = hotelService.getHotelsPage(limit, cursor, includeTotal);
+
+        return ResponseEntity.ok(hotels);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get hotel by ID", description = "Retrieve a specific hotel by its ID, including rooms")
     @ApiResponses(value = {
@@ -11,16 +11,28 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import mephi.hotelservice.dto.AvailabilityRequest;
 import mephi.hotelservice.dto.AvailabilityResponse;
+import mephi.hotelservice.dto.BatchConfirmRequest;
+import mephi.hotelservice.dto.BatchReleaseRequest;
+import mephi.hotelservice.dto.CatalogVersionResponse;
+import mephi.hotelservice.dto.CursorPage;
+import mephi.hotelservice.dto.RoomHoldResponse;
 import mephi.hotelservice.dto.RoomRequest;
 import mephi.hotelservice.dto.RoomResponse;
+import mephi.hotelservice.dto.RoomSearchCriteria;
+import mephi.hotelservice.dto.RoomSort;
 import mephi.hotelservice.entity.RoomType;
 import mephi.hotelservice.service.RoomService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -42,6 +54,88 @@ public class RoomController {
         return ResponseEntity.ok(rooms);
     }
 
+    @GetMapping(params = "ids")
+    @Operation(
+        summary = "Get rooms by IDs",
+        description = "Retrieve several rooms in one call. Unknown IDs are left out of the result"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved rooms"),
+        @ApiResponse(responseCode = "400", description = "Too many IDs requested")
+    })
+    public ResponseEntity<List<RoomResponse>> getRoomsByIds(
+        @Parameter(description = "Room IDs (at most 100)") @RequestParam List<Long> ids
+    ) {
+        log.debug("REST request to get {} rooms by id", ids.size());
+
+        List<RoomResponse> rooms = roomService.getRoomsByIds(ids);
+
+        return ResponseEntity.ok(rooms);
+    }
+
+    @GetMapping(value = "/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream room availability",
+        description = "Server-Sent Events stream. Starts with a 'snapshot' event of rooms and their reserved date ranges, " +
+            "then sends an 'availability' event whenever a reservation is confirmed or released. " +
+            "Clients that fall behind get a fresh snapshot instead of the missed events"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream opened"),
+        @ApiResponse(responseCode = "404", description = "Hotel not found")
+    })
+    public SseEmitter streamAvailability(
+        @Parameter(description = "Hotel whose rooms are streamed", required = true) @RequestParam Long hotelId
+    ) {
+        log.debug("REST request to stream room availability for hotel: {}", hotelId);
+
+        return roomService.subscribeToAvailability(hotelId);
+    }
+
+    @GetMapping("/catalog-version")
+    @Operation(
+        summary = "Get room catalog version",
+        description = "Version of the room and hotel catalog. It changes whenever a room or hotel is created, updated or deleted. " +
+            "Supports If-None-Match so pollers get 304 Not Modified while nothing changed"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Current catalog version"),
+        @ApiResponse(responseCode = "304", description = "Catalog has not changed since the given ETag")
+    })
+    public ResponseEntity<CatalogVersionResponse> getCatalogVersion(WebRequest webRequest) {
+        CatalogVersionResponse version = roomService.getCatalogVersion();
+        String etag = "\"" + version.getVersion() + "\"";
+
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .body(version);
+    }
+
+    @GetMapping(params = "limit")
+    @Operation(
+        summary = "Get rooms page",
+        description = "Retrieve rooms ordered by ID using keyset pagination. Pass nextCursor from the previous page to continue."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved rooms page"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPage<RoomResponse>> getRoomsPage(
+        @Parameter(description = "Page size (1-100)") @RequestParam int limit,
+        @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+        @Parameter(description = "Include total number of rooms") @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        log.debug("REST request to get rooms page: limit={}, cursor={}", limit, cursor);
+
+        CursorPage<RoomResponse> rooms = roomService.getRoomsPage(limit, cursor, includeTotal);
+
+        return ResponseEntity.ok(rooms);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get room by ID", description = "Retrieve a specific room by its ID")
     @ApiResponses(value = {
@@ -75,41 +169,82 @@ public class RoomController {
     }
 
     @GetMapping("/available")
-    @Operation(summary = "Get available rooms", description = "Retrieve all available rooms, optionally filtered")
+    @Operation(
+        summary = "Get available rooms",
+        description = "Retrieve available rooms matching all given filters, sorted and optionally capped at maxResults"
+    )
     public ResponseEntity<List<RoomResponse>> getAvailableRooms(
         @Parameter(description = "Hotel ID filter") @RequestParam(required = false) Long hotelId,
         @Parameter(description = "Room type filter") @RequestParam(required = false) RoomType roomType,
         @Parameter(description = "Minimum guest capacity") @RequestParam(required = false) Integer guestCount,
-        @Parameter(description = "Maximum price per night") @RequestParam(required = false) BigDecimal maxPrice
+        @Parameter(description = "Maximum price per night") @RequestParam(required = false) BigDecimal maxPrice,
+        @Parameter(description = "First night of stay") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @Parameter(description = "Check-out date (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @Parameter(description = "Sort order") @RequestParam(defaultValue = "ID") RoomSort sort,
+        @Parameter(description = "Maximum number of rooms to return") @RequestParam(required = false) Integer maxResults
     ) {
         log.debug(
-            "REST request to get available rooms: hotelId={}, roomType={}, guestCount={}, maxPrice={}",
+            "REST request to get available rooms: hotelId={}, roomType={}, guestCount={}, maxPrice={}, startDate={}, endDate={}, sort={}, maxResults={}",
             hotelId,
             roomType,
             guestCount,
-            maxPrice
+            maxPrice,
+            startDate,
+            endDate,
+            sort,
+            maxResults
         );
 
-        List<RoomResponse> rooms;
+        RoomSearchCriteria criteria = RoomSearchCriteria.builder()
+            .hotelId(hotelId)
+            .roomType(roomType)
+            .guestCount(guestCount)
+            .maxPrice(maxPrice)
+            .startDate(startDate)
+            .endDate(endDate)
+            .sort(sort)
+            .maxResults(maxResults)
+            .build();
 
-        if (hotelId != null && roomType != null) {
-            rooms = roomService.getAvailableRoomsByHotelIdAndType(hotelId, roomType);
-        }
-        else if (hotelId != null) {
-            rooms = roomService.getAvailableRoomsByHotelId(hotelId);
-        }
-        else if (roomType != null) {
-            rooms = roomService.getAvailableRoomsByType(roomType);
-        }
-        else if (guestCount != null) {
-            rooms = roomService.getAvailableRoomsByCapacity(guestCount);
-        }
-        else if (maxPrice != null) {
-            rooms = roomService.getAvailableRoomsByMaxPrice(maxPrice);
-        }
-        else {
-            rooms = roomService.getAvailableRooms();
-        }
+        List<RoomResponse> rooms = roomService.searchAvailableRooms(criteria);
+
+        return ResponseEntity.ok(rooms);
+    }
+
+    @GetMapping(value = "/available", params = "limit")
+    @Operation(
+        summary = "Get available rooms page",
+        description = "Retrieve available rooms matching all given filters, ordered by ID, using keyset pagination. " +
+            "When dates are given, rooms booked for those nights are dropped, so a page may hold fewer than limit rooms."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved rooms page"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPage<RoomResponse>> getAvailableRoomsPage(
+        @Parameter(description = "Hotel ID filter") @RequestParam(required = false) Long hotelId,
+        @Parameter(description = "Room type filter") @RequestParam(required = false) RoomType roomType,
+        @Parameter(description = "Minimum guest capacity") @RequestParam(required = false) Integer guestCount,
+        @Parameter(description = "Maximum price per night") @RequestParam(required = false) BigDecimal maxPrice,
+        @Parameter(description = "First night of stay") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @Parameter(description = "Check-out date (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @Parameter(description = "Page size (1-100)") @RequestParam int limit,
+        @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+        @Parameter(description = "Include total number of matching rooms") @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        log.debug("REST request to get available rooms page: limit={}, cursor={}", limit, cursor);
+
+        CursorPage<RoomResponse> rooms = roomService.getAvailableRoomsPage(
+            hotelId,
+            roomType,
+            guestCount,
+            maxPrice,
+            startDate,
+            endDate,
+            limit,
+            cursor,
+            includeTotal
+        );
 
         return ResponseEntity.ok(rooms);
     }
@@ -122,16 +257,22 @@ public class RoomController {
     public ResponseEntity<List<RoomResponse>> getRecommendedRooms(
         @Parameter(description = "Hotel ID filter") @RequestParam(required = false) Long hotelId,
         @Parameter(description = "Room type filter") @RequestParam(required = false) RoomType roomType,
-        @Parameter(description = "Minimum guest capacity") @RequestParam(required = false) Integer guestCount
+        @Parameter(description = "Minimum guest capacity") @RequestParam(required = false) Integer guestCount,
+        @Parameter(description = "First night of stay") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @Parameter(description = "Check-out date (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @Parameter(description = "Return only the first k recommendations") @RequestParam(required = false) Integer limit
     ) {
         log.debug(
-            "REST request to get recommended rooms: hotelId={}, roomType={}, guestCount={}",
+            "REST request to get recommended rooms: hotelId={}, roomType={}, guestCount={}, startDate={}, endDate={}, limit={}",
             hotelId,
             roomType,
-            guestCount
+            guestCount,
+            startDate,
+            endDate,
+            limit
         );
 
-        List<RoomResponse> rooms = roomService.getRecommendedRooms(hotelId, roomType, guestCount);
+        List<RoomResponse> rooms = roomService.getRecommendedRooms(hotelId, roomType, guestCount, startDate, endDate, limit);
 
         return ResponseEntity.ok(rooms);
     }
@@ -241,12 +382,120 @@ public class RoomController {
     })
     public ResponseEntity<AvailabilityResponse> releaseRoom(
         @Parameter(description = "Room ID") @PathVariable Long id,
-        @Parameter(description = "Original request ID") @RequestParam String requestId
+        @Parameter(description = "Original request ID") @RequestParam String requestId,
+        @Parameter(description = "Reserved first night, used when the request ID is unknown") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @Parameter(description = "Reserved check-out date, used when the request ID is unknown") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
     ) {
         log.info("Internal API: Release room {} for requestId: {}", id, requestId);
 
-        AvailabilityResponse response = roomService.releaseRoom(id, requestId);
+        AvailabilityResponse response = roomService.releaseRoom(id, requestId, startDate, endDate);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{id}/hold")
+    @Operation(
+        summary = "Hold a room (Internal)",
+        description = "Internal API for Booking Service to hold a room for the selected dates while the guest checks out. " +
+            "The hold is released automatically unless it is confirmed before it expires",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Hold attempt completed"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "404", description = "Room not found")
+    })
+    public ResponseEntity<RoomHoldResponse> holdRoom(
+        @Parameter(description = "Room ID") @PathVariable Long id,
+        @Valid @RequestBody AvailabilityRequest request
+    ) {
+        log.info("Internal API: Hold room {} with requestId: {}", id, request.getRequestId());
+
+        RoomHoldResponse response = roomService.holdRoom(id, request);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/holds/{holdToken}/confirm")
+    @Operation(
+        summary = "Confirm a room hold (Internal)",
+        description = "Internal API for Booking Service to turn a room hold into a confirmed reservation",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Confirmation attempt completed"),
+        @ApiResponse(responseCode = "404", description = "Room not found")
+    })
+    public ResponseEntity<AvailabilityResponse> confirmHold(
+        @Parameter(description = "Hold token") @PathVariable String holdToken
+    ) {
+        log.info("Internal API: Confirm room hold {}", holdToken);
+
+        AvailabilityResponse response = roomService.confirmHold(holdToken);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/holds/{holdToken}/release")
+    @Operation(
+        summary = "Release a room hold (Internal)",
+        description = "Internal API for Booking Service to release a room hold before it expires",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Hold released"),
+        @ApiResponse(responseCode = "404", description = "Room not found")
+    })
+    public ResponseEntity<AvailabilityResponse> releaseHold(
+        @Parameter(description = "Hold token") @PathVariable String holdToken
+    ) {
+        log.info("Internal API: Release room hold {}", holdToken);
+
+        AvailabilityResponse response = roomService.releaseHold(holdToken);
 
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/confirm-availability:batch")
+    @Operation(
+        summary = "Confirm availability of several rooms (Internal)",
+        description = "Internal API for Booking Service to confirm a group of rooms in one transaction. " +
+            "Either every room is confirmed or none is",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Availability check completed for every room"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "404", description = "Room not found")
+    })
+    public ResponseEntity<List<AvailabilityResponse>> confirmAvailabilityBatch(
+        @Valid @RequestBody BatchConfirmRequest request
+    ) {
+        log.info("Internal API: Confirm availability for {} rooms", request.getItems().size());
+
+        List<AvailabilityResponse> responses = roomService.confirmAvailabilityBatch(request.getItems());
+
+        return ResponseEntity.ok(responses);
+    }
+
+    @PostMapping("/release:batch")
+    @Operation(
+        summary = "Release several rooms (Internal)",
+        description = "Internal API for Booking Service to release a group of rooms in one transaction",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rooms released successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "404", description = "Room not found")
+    })
+    public ResponseEntity<List<AvailabilityResponse>> releaseRoomsBatch(
+        @Valid @RequestBody BatchReleaseRequest request
+    ) {
+        log.info("Internal API: Release {} rooms", request.getItems().size());
+
+        List<AvailabilityResponse> responses = roomService.releaseRoomsBatch(request.getItems());
+
+        return ResponseEntity.ok(responses);
+    }
 }
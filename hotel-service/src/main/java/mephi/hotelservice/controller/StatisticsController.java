@@ -52,7 +52,7 @@ public class StatisticsController {
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
         summary = "Get all hotels statistics",
-        description = "Get statistics for all hotels sorted by total bookings (Admin only)"
+        description = "Get aggregate statistics for all hotels sorted by total bookings; per-room details are served by /statistics/hotels/{hotelId} (Admin only)"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
@@ -0,0 +1,25 @@
+package mephi.hotelservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailabilityEvent {
+    private Long roomId;
+    private Long hotelId;
+    private Change change;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    public enum Change {
+        RESERVED,
+        RELEASED
+    }
+}
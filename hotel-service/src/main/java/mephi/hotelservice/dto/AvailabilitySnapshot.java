@@ -0,0 +1,40 @@
+package mephi.hotelservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AvailabilitySnapshot {
+    private Long hotelId;
+    private List<RoomAvailability> rooms;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RoomAvailability {
+        private Long roomId;
+        private Long hotelId;
+        private Boolean available;
+        private List<DateRange> reserved;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DateRange {
+        private LocalDate startDate;
+        private LocalDate endDate;
+    }
+}
@@ -0,0 +1,39 @@
+package mephi.hotelservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchReleaseRequest {
+    @NotEmpty(message = "At least one room is required")
+    @Size(max = 50, message = "A batch must not exceed 50 rooms")
+    private List<@Valid Item> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        @NotNull(message = "Room ID is required")
+        private Long roomId;
+
+        @NotBlank(message = "Request ID is required")
+        private String requestId;
+
+        private LocalDate startDate;
+        private LocalDate endDate;
+    }
+}
@@ -0,0 +1,23 @@
+package mephi.hotelservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import mephi.hotelservice.entity.CatalogEntityType;
+import mephi.hotelservice.entity.ChangeType;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CatalogChangeResponse {
+    private Long sequence;
+    private CatalogEntityType entityType;
+    private Long entityId;
+    private Long hotelId;
+    private ChangeType changeType;
+    private Boolean available;
+}
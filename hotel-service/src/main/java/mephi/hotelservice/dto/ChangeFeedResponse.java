@@ -0,0 +1,19 @@
+package mephi.hotelservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeFeedResponse {
+    private Long epoch;
+    private List<CatalogChangeResponse> changes;
+    private Long nextSince;
+    private boolean hasMore;
+}
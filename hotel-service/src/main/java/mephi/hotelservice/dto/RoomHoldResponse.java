@@ -0,0 +1,28 @@
+package mephi.hotelservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomHoldResponse {
+    private String holdToken;
+    private Long roomId;
+    private Long hotelId;
+    private String requestId;
+    private boolean held;
+    private String message;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDateTime expiresAt;
+    private BigDecimal totalPrice;
+    private Integer nights;
+}
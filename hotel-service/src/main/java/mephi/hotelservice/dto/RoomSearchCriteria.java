@@ -0,0 +1,28 @@
+package mephi.hotelservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import mephi.hotelservice.entity.RoomType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomSearchCriteria {
+    private Long hotelId;
+    private RoomType roomType;
+    private Integer guestCount;
+    private BigDecimal maxPrice;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Builder.Default
+    private RoomSort sort = RoomSort.ID;
+
+    private Integer maxResults;
+}
@@ -0,0 +1,21 @@
+package mephi.hotelservice.dto;
+
+import org.springframework.data.domain.Sort;
+
+public enum RoomSort {
+    ID(Sort.by("id")),
+    PRICE_ASC(Sort.by("pricePerNight").and(Sort.by("id"))),
+    PRICE_DESC(Sort.by(Sort.Direction.DESC, "pricePerNight").and(Sort.by("id"))),
+    CAPACITY(Sort.by("maxOccupancy").and(Sort.by("id"))),
+    LEAST_BOOKED(Sort.by("timesBooked").and(Sort.by("id")));
+
+    private final Sort sort;
+
+    RoomSort(Sort sort) {
+        this.sort = sort;
+    }
+
+    public Sort toSort() {
+        return sort;
+    }
+}
@@ -0,0 +1,41 @@
+package mephi.hotelservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "catalog_changes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "catalog_changes_seq")
+    @SequenceGenerator(name = "catalog_changes_seq", sequenceName = "catalog_changes_seq", allocationSize = 50)
+    private Long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private CatalogEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private ChangeType changeType;
+
+    private Boolean available;
+
+    @CreationTimestamp
+    @Column(name = "changed_at", updatable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,6 @@
+package mephi.hotelservice.entity;
+
+public enum CatalogEntityType {
+    HOTEL,
+    ROOM
+}
@@ -0,0 +1,10 @@
+package mephi.hotelservice.entity;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    AVAILABILITY_CHANGED,
+    RESERVED,
+    RELEASED,
+    DELETED
+}
@@ -9,7 +9,15 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "rooms")
+@Table(
+    name = "rooms",
+    indexes = {
+        @Index(
+            name = "idx_rooms_search",
+            columnList = "available, hotel_id, room_type, max_occupancy, price_per_night"
+        )
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
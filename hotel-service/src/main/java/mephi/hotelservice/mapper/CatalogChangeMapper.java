@@ -0,0 +1,14 @@
+package mephi.hotelservice.mapper;
+
+import mephi.hotelservice.dto.CatalogChangeResponse;
+import mephi.hotelservice.entity.CatalogChange;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface CatalogChangeMapper {
+    CatalogChangeResponse toResponse(CatalogChange change);
+
+    List<CatalogChangeResponse> toResponseList(List<CatalogChange> changes);
+}
@@ -3,6 +3,7 @@ package mephi.hotelservice.mapper;
 import mephi.hotelservice.dto.HotelRequest;
 import mephi.hotelservice.dto.HotelResponse;
 import mephi.hotelservice.entity.Hotel;
+import mephi.hotelservice.repository.projection.HotelSummary;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -30,6 +31,11 @@ public interface HotelMapper {
     @IterableMapping(qualifiedByName = "withoutRooms")
     List<HotelResponse> toResponseList(List<Hotel> hotels);
 
+    @Mapping(target = "rooms", ignore = true)
+    HotelResponse fromSummary(HotelSummary summary);
+
+    List<HotelResponse> fromSummaries(List<HotelSummary> summaries);
+
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "rooms", ignore = true)
@@ -0,0 +1,19 @@
+package mephi.hotelservice.repository;
+
+import mephi.hotelservice.entity.CatalogChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CatalogChangeRepository extends JpaRepository<CatalogChange, Long> {
+    @Query("SELECT c FROM CatalogChange c WHERE c.sequence > :since AND c.sequence <= :upTo ORDER BY c.sequence")
+    List<CatalogChange> findChanges(@Param("since") Long since, @Param("upTo") Long upTo, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(c.sequence), 0) FROM CatalogChange c")
+    Long findLatestSequence();
+}
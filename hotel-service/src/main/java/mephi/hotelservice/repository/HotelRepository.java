@@ -1,16 +1,36 @@
 package mephi.hotelservice.repository;
 
 import mephi.hotelservice.entity.Hotel;
+import mephi.hotelservice.repository.projection.HotelAggregate;
+import mephi.hotelservice.repository.projection.HotelSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface HotelRepository extends JpaRepository<Hotel, Long> {
+    String SUMMARY_SELECT = "SELECT h.id AS id, h.name AS name, h.address AS address, h.city AS city, " +
+        "h.country AS country, h.starRating AS starRating, COUNT(r) AS totalRooms, " +
+        "COALESCE(SUM(CASE WHEN r.available = true THEN 1 ELSE 0 END), 0) AS availableRooms, " +
+        "h.createdAt AS createdAt, h.updatedAt AS updatedAt " +
+        "FROM Hotel h LEFT JOIN h.rooms r ";
+
+    String SUMMARY_GROUP_BY = "GROUP BY h.id, h.name, h.address, h.city, h.country, h.starRating, h.createdAt, h.updatedAt " +
+        "ORDER BY h.id";
+
+    String AGGREGATE_SELECT = "SELECT h.id AS hotelId, h.name AS hotelName, COUNT(r) AS totalRooms, " +
+        "COALESCE(SUM(CASE WHEN r.available = true AND res.id IS NULL THEN 1 ELSE 0 END), 0) AS availableRooms, " +
+        "COUNT(res) AS occupiedRooms, " +
+        "COALESCE(SUM(r.timesBooked), 0) AS totalBookings " +
+        "FROM Hotel h LEFT JOIN h.rooms r " +
+        "LEFT JOIN RoomReservation res ON res.roomId = r.id AND res.startDate <= :today AND res.endDate > :today ";
+
     List<Hotel> findByCity(String city);
 
     List<Hotel> findByCountry(String country);
@@ -23,8 +43,32 @@ public interface HotelRepository extends JpaRepository<Hotel, Long> {
     @Query("SELECT h FROM Hotel h LEFT JOIN FETCH h.rooms WHERE h.id = :id")
     Optional<Hotel> findByIdWithRooms(@Param("id") Long id);
 
-    @Query("SELECT DISTINCT h FROM Hotel h LEFT JOIN FETCH h.rooms")
-    List<Hotel> findAllWithRooms();
+    @Query(AGGREGATE_SELECT + "WHERE h.id = :id GROUP BY h.id, h.name")
+    Optional<HotelAggregate> aggregateById(@Param("id") Long id, @Param("today") LocalDate today);
+
+    @Query(AGGREGATE_SELECT + "GROUP BY h.id, h.name ORDER BY totalBookings DESC, h.id ASC")
+    List<HotelAggregate> aggregateAll(@Param("today") LocalDate today);
+
+    @Query(SUMMARY_SELECT + SUMMARY_GROUP_BY)
+    List<HotelSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE h.id > :afterId " + SUMMARY_GROUP_BY)
+    List<HotelSummary> findSummariesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE h.id = :id " + SUMMARY_GROUP_BY)
+    Optional<HotelSummary> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT + "WHERE h.city = :city " + SUMMARY_GROUP_BY)
+    List<HotelSummary> findSummariesByCity(@Param("city") String city);
+
+    @Query(SUMMARY_SELECT + "WHERE h.country = :country " + SUMMARY_GROUP_BY)
+    List<HotelSummary> findSummariesByCountry(@Param("country") String country);
+
+    @Query(SUMMARY_SELECT + "WHERE h.starRating >= :starRating " + SUMMARY_GROUP_BY)
+    List<HotelSummary> findSummariesByMinStarRating(@Param("starRating") Integer starRating);
+
+    @Query(SUMMARY_SELECT + "WHERE LOWER(h.name) LIKE LOWER(CONCAT('%', :name, '%')) " + SUMMARY_GROUP_BY)
+    List<HotelSummary> findSummariesByNameContaining(@Param("name") String name);
 
     boolean existsByNameAndAddress(String name, String address);
 }
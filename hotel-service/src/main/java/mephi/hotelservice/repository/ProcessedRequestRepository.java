@@ -0,0 +1,17 @@
+package mephi.hotelservice.repository;
+
+import mephi.hotelservice.entity.ProcessedRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ProcessedRequestRepository extends JpaRepository<ProcessedRequest, String> {
+    @Modifying
+    @Query("DELETE FROM ProcessedRequest p WHERE p.createdAt < :threshold")
+    int deleteCreatedBefore(@Param("threshold") LocalDateTime threshold);
+}
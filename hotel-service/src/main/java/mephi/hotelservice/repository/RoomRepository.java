@@ -3,21 +3,39 @@ package mephi.hotelservice.repository;
 import jakarta.persistence.LockModeType;
 import mephi.hotelservice.entity.Room;
 import mephi.hotelservice.entity.RoomType;
+import mephi.hotelservice.repository.projection.RoomRankView;
+import mephi.hotelservice.repository.projection.RoomStatisticsView;
+import mephi.hotelservice.repository.projection.RoomTypeAggregate;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface RoomRepository extends JpaRepository<Room, Long> {
-    List<Room> findByHotelId(Long hotelId);
+public interface RoomRepository extends JpaRepository<Room, Long>, JpaSpecificationExecutor<Room>, RoomRepositoryCustom {
+    String TYPE_AGGREGATE_SELECT = "SELECT r.roomType AS roomType, COUNT(r) AS totalRooms, " +
+        "SUM(CASE WHEN r.available = true AND res.id IS NULL THEN 1 ELSE 0 END) AS availableRooms, " +
+        "COUNT(res) AS occupiedRooms, " +
+        "SUM(r.timesBooked) AS totalBookings " +
+        "FROM Room r " +
+        "LEFT JOIN RoomReservation res ON res.roomId = r.id AND res.startDate <= :today AND res.endDate > :today ";
 
-    List<Room> findByHotelIdAndAvailable(Long hotelId, Boolean available);
+    @Query("SELECT r FROM Room r WHERE r.hotel.id = :hotelId")
+    List<Room> findByHotelId(@Param("hotelId") Long hotelId);
+
+    @Query("SELECT r FROM Room r WHERE r.hotel.id = :hotelId AND r.available = :available")
+    List<Room> findByHotelIdAndAvailable(@Param("hotelId") Long hotelId, @Param("available") Boolean available);
 
     List<Room> findByRoomType(RoomType roomType);
 
@@ -50,10 +68,31 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     @Query("SELECT r FROM Room r WHERE r.available = true AND r.maxOccupancy >= :guestCount ORDER BY r.timesBooked ASC, r.id ASC")
     List<Room> findAvailableRoomsByCapacityOrderByTimesBookedAsc(@Param("guestCount") Integer guestCount);
 
+    @Query("SELECT r.id AS roomId, r.hotel.id AS hotelId, r.roomType AS roomType, " +
+        "r.maxOccupancy AS maxOccupancy, r.timesBooked AS timesBooked " +
+        "FROM Room r WHERE r.available = true")
+    List<RoomRankView> findRankedAvailable();
+
+    @Query("SELECT r FROM Room r JOIN FETCH r.hotel WHERE r.id IN :ids")
+    List<Room> findAllWithHotelByIdIn(@Param("ids") Collection<Long> ids);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT r FROM Room r WHERE r.id = :id")
     Optional<Room> findByIdWithLock(@Param("id") Long id);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.id IN :ids ORDER BY r.id")
+    List<Room> findAllByIdInWithLock(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Room r SET r.timesBooked = r.timesBooked + 1, r.version = r.version + 1, r.updatedAt = :now " +
+        "WHERE r.id = :id AND r.version = :version AND r.available = true")
+    int incrementTimesBookedIfVersion(
+        @Param("id") Long id,
+        @Param("version") Long version,
+        @Param("now") LocalDateTime now
+    );
+
     boolean existsByHotelIdAndRoomNumber(Long hotelId, String roomNumber);
 
     @Query("SELECT COUNT(r) FROM Room r WHERE r.hotel.id = :hotelId AND r.available = true")
@@ -61,4 +100,45 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
 
     @Query("SELECT r FROM Room r JOIN FETCH r.hotel WHERE r.id = :id")
     Optional<Room> findByIdWithHotel(@Param("id") Long id);
+
+    @Query("SELECT r FROM Room r JOIN FETCH r.hotel WHERE r.id > :afterId ORDER BY r.id")
+    List<Room> findAllAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT r FROM Room r JOIN FETCH r.hotel WHERE r.available = true AND r.id > :afterId " +
+        "AND (:hotelId IS NULL OR r.hotel.id = :hotelId) " +
+        "AND (:roomType IS NULL OR r.roomType = :roomType) " +
+        "AND (:guestCount IS NULL OR r.maxOccupancy >= :guestCount) " +
+        "AND (:maxPrice IS NULL OR r.pricePerNight <= :maxPrice) " +
+        "ORDER BY r.id")
+    List<Room> findAvailableAfter(
+        @Param("afterId") Long afterId,
+        @Param("hotelId") Long hotelId,
+        @Param("roomType") RoomType roomType,
+        @Param("guestCount") Integer guestCount,
+        @Param("maxPrice") BigDecimal maxPrice,
+        Limit limit
+    );
+
+    @Query("SELECT COUNT(r) FROM Room r WHERE r.available = true " +
+        "AND (:hotelId IS NULL OR r.hotel.id = :hotelId) " +
+        "AND (:roomType IS NULL OR r.roomType = :roomType) " +
+        "AND (:guestCount IS NULL OR r.maxOccupancy >= :guestCount) " +
+        "AND (:maxPrice IS NULL OR r.pricePerNight <= :maxPrice)")
+    long countAvailable(
+        @Param("hotelId") Long hotelId,
+        @Param("roomType") RoomType roomType,
+        @Param("guestCount") Integer guestCount,
+        @Param("maxPrice") BigDecimal maxPrice
+    );
+
+    @Query(TYPE_AGGREGATE_SELECT + "GROUP BY r.roomType")
+    List<RoomTypeAggregate> aggregateByRoomType(@Param("today") LocalDate today);
+
+    @Query(TYPE_AGGREGATE_SELECT + "WHERE r.hotel.id = :hotelId GROUP BY r.roomType")
+    List<RoomTypeAggregate> aggregateByRoomTypeForHotel(@Param("hotelId") Long hotelId, @Param("today") LocalDate today);
+
+    @Query("SELECT r.id AS roomId, r.roomNumber AS roomNumber, r.roomType AS roomType, r.available AS available, " +
+        "r.timesBooked AS timesBooked, r.pricePerNight AS pricePerNight " +
+        "FROM Room r WHERE r.hotel.id = :hotelId ORDER BY r.timesBooked DESC, r.id ASC")
+    List<RoomStatisticsView> findStatisticsByHotelId(@Param("hotelId") Long hotelId);
 }
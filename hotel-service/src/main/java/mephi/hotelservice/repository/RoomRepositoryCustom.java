@@ -0,0 +1,7 @@
+package mephi.hotelservice.repository;
+
+import mephi.hotelservice.entity.Room;
+
+public interface RoomRepositoryCustom {
+    void refresh(Room room);
+}
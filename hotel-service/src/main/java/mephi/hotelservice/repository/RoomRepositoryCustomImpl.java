@@ -0,0 +1,15 @@
+package mephi.hotelservice.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import mephi.hotelservice.entity.Room;
+
+@RequiredArgsConstructor
+public class RoomRepositoryCustomImpl implements RoomRepositoryCustom {
+    private final EntityManager entityManager;
+
+    @Override
+    public void refresh(Room room) {
+        entityManager.refresh(room);
+    }
+}
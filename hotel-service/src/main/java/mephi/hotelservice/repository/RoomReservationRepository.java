@@ -0,0 +1,50 @@
+package mephi.hotelservice.repository;
+
+import mephi.hotelservice.entity.RoomReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RoomReservationRepository extends JpaRepository<RoomReservation, Long> {
+    Optional<RoomReservation> findByRequestId(String requestId);
+
+    Optional<RoomReservation> findByHoldToken(String holdToken);
+
+    List<RoomReservation> findByExpiresAtIsNotNull();
+
+    Optional<RoomReservation> findFirstByRoomIdAndStartDateAndEndDate(Long roomId, LocalDate startDate, LocalDate endDate);
+
+    boolean existsByRoomIdAndStartDateBeforeAndEndDateAfter(Long roomId, LocalDate endDate, LocalDate startDate);
+
+    boolean existsByRoomIdAndRequestIdNotAndStartDateBeforeAndEndDateAfter(
+        Long roomId,
+        String requestId,
+        LocalDate endDate,
+        LocalDate startDate
+    );
+
+    List<RoomReservation> findByEndDateAfter(LocalDate date);
+
+    List<RoomReservation> findByRoomIdInAndEndDateAfter(Collection<Long> roomIds, LocalDate date);
+
+    @Modifying
+    @Query("UPDATE RoomReservation r SET r.expiresAt = NULL WHERE r.holdToken = :holdToken AND r.expiresAt > :now")
+    int confirmHold(@Param("holdToken") String holdToken, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RoomReservation r WHERE r.holdToken = :holdToken AND r.expiresAt <= :now")
+    int deleteExpiredHold(@Param("holdToken") String holdToken, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RoomReservation r WHERE r.roomId = :roomId")
+    void deleteByRoomId(@Param("roomId") Long roomId);
+}
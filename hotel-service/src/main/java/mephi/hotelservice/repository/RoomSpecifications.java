@@ -0,0 +1,55 @@
+package mephi.hotelservice.repository;
+
+import mephi.hotelservice.dto.RoomSearchCriteria;
+import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.entity.RoomType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class RoomSpecifications {
+    private RoomSpecifications() {
+    }
+
+    public static Specification<Room> availableMatching(RoomSearchCriteria criteria) {
+        List<Specification<Room>> specs = new ArrayList<>();
+        specs.add(available());
+
+        if (criteria.getHotelId() != null) {
+            specs.add(inHotel(criteria.getHotelId()));
+        }
+        if (criteria.getRoomType() != null) {
+            specs.add(ofType(criteria.getRoomType()));
+        }
+        if (criteria.getGuestCount() != null) {
+            specs.add(fitsGuests(criteria.getGuestCount()));
+        }
+        if (criteria.getMaxPrice() != null) {
+            specs.add(priceAtMost(criteria.getMaxPrice()));
+        }
+
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Room> available() {
+        return (root, query, cb) -> cb.isTrue(root.get("available"));
+    }
+
+    public static Specification<Room> inHotel(Long hotelId) {
+        return (root, query, cb) -> cb.equal(root.get("hotel").get("id"), hotelId);
+    }
+
+    public static Specification<Room> ofType(RoomType roomType) {
+        return (root, query, cb) -> cb.equal(root.get("roomType"), roomType);
+    }
+
+    public static Specification<Room> fitsGuests(Integer guestCount) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("maxOccupancy"), guestCount);
+    }
+
+    public static Specification<Room> priceAtMost(BigDecimal maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("pricePerNight"), maxPrice);
+    }
+}
@@ -0,0 +1,15 @@
+package mephi.hotelservice.repository.projection;
+
+public interface HotelAggregate {
+    Long getHotelId();
+
+    String getHotelName();
+
+    Long getTotalRooms();
+
+    Long getAvailableRooms();
+
+    Long getOccupiedRooms();
+
+    Long getTotalBookings();
+}
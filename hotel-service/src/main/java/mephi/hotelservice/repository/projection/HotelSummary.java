@@ -0,0 +1,25 @@
+package mephi.hotelservice.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface HotelSummary {
+    Long getId();
+
+    String getName();
+
+    String getAddress();
+
+    String getCity();
+
+    String getCountry();
+
+    Integer getStarRating();
+
+    Long getTotalRooms();
+
+    Long getAvailableRooms();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
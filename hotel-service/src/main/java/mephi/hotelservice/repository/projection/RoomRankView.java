@@ -0,0 +1,15 @@
+package mephi.hotelservice.repository.projection;
+
+import mephi.hotelservice.entity.RoomType;
+
+public interface RoomRankView {
+    Long getRoomId();
+
+    Long getHotelId();
+
+    RoomType getRoomType();
+
+    Integer getMaxOccupancy();
+
+    Integer getTimesBooked();
+}
@@ -0,0 +1,19 @@
+package mephi.hotelservice.repository.projection;
+
+import mephi.hotelservice.entity.RoomType;
+
+import java.math.BigDecimal;
+
+public interface RoomStatisticsView {
+    Long getRoomId();
+
+    String getRoomNumber();
+
+    RoomType getRoomType();
+
+    Boolean getAvailable();
+
+    Integer getTimesBooked();
+
+    BigDecimal getPricePerNight();
+}
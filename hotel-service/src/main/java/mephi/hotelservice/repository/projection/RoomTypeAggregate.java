@@ -0,0 +1,15 @@
+package mephi.hotelservice.repository.projection;
+
+import mephi.hotelservice.entity.RoomType;
+
+public interface RoomTypeAggregate {
+    RoomType getRoomType();
+
+    Long getTotalRooms();
+
+    Long getAvailableRooms();
+
+    Long getOccupiedRooms();
+
+    Long getTotalBookings();
+}
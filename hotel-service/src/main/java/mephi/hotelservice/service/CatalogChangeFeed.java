@@ -0,0 +1,123 @@
+package mephi.hotelservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mephi.hotelservice.dto.ChangeFeedResponse;
+import mephi.hotelservice.entity.CatalogChange;
+import mephi.hotelservice.entity.CatalogEntityType;
+import mephi.hotelservice.entity.ChangeType;
+import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.mapper.CatalogChangeMapper;
+import mephi.hotelservice.repository.CatalogChangeRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogChangeFeed {
+    public static final int MAX_LIMIT = 500;
+
+    private final CatalogChangeRepository changeRepository;
+    private final CatalogChangeMapper changeMapper;
+    private final CatalogVersion catalogVersion;
+
+    private final long epoch = System.currentTimeMillis();
+    private final NavigableSet<Long> inFlight = new TreeSet<>();
+    private final ReentrantLock inFlightLock = new ReentrantLock();
+
+    public void hotelChanged(Long hotelId, ChangeType changeType) {
+        record(CatalogChange.builder()
+            .entityType(CatalogEntityType.HOTEL)
+            .entityId(hotelId)
+            .hotelId(hotelId)
+            .changeType(changeType)
+            .build()
+        );
+    }
+
+    public void roomChanged(Room room, ChangeType changeType) {
+        record(CatalogChange.builder()
+            .entityType(CatalogEntityType.ROOM)
+            .entityId(room.getId())
+            .hotelId(room.getHotelId())
+            .changeType(changeType)
+            .available(room.getAvailable())
+            .build()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse getChanges(long since, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_LIMIT);
+        List<CatalogChange> changes = changeRepository.findChanges(since, visibleUpTo(), Limit.of(pageSize + 1));
+
+        boolean hasMore = changes.size() > pageSize;
+        List<CatalogChange> page = hasMore ? changes.subList(0, pageSize) : changes;
+
+        return ChangeFeedResponse.builder()
+            .epoch(epoch)
+            .changes(changeMapper.toResponseList(page))
+            .nextSince(page.isEmpty() ? since : page.getLast().getSequence())
+            .hasMore(hasMore)
+            .build();
+    }
+
+    private void record(CatalogChange change) {
+        Long sequence;
+        inFlightLock.lock();
+        try {
+            sequence = changeRepository.save(change).getSequence();
+            inFlight.add(sequence);
+        }
+        finally {
+            inFlightLock.unlock();
+        }
+
+        log.debug("Recorded catalog change {}: {} {} {}", sequence, change.getChangeType(), change.getEntityType(), change.getEntityId());
+
+        afterCompletion(() -> {
+            inFlightLock.lock();
+            try {
+                inFlight.remove(sequence);
+            }
+            finally {
+                inFlightLock.unlock();
+            }
+        });
+        catalogVersion.changed();
+    }
+
+    private long visibleUpTo() {
+        inFlightLock.lock();
+        try {
+            return inFlight.isEmpty() ? Long.MAX_VALUE : inFlight.first() - 1;
+        }
+        finally {
+            inFlightLock.unlock();
+        }
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,6 @@
+package mephi.hotelservice.service;
+
+public enum ConfirmLockingMode {
+    PESSIMISTIC,
+    OPTIMISTIC
+}
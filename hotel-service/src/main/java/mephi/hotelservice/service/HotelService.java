@@ -2,13 +2,17 @@ package mephi.hotelservice.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mephi.hotelservice.dto.CursorPage;
 import mephi.hotelservice.dto.HotelRequest;
 import mephi.hotelservice.dto.HotelResponse;
+import mephi.hotelservice.entity.ChangeType;
 import mephi.hotelservice.entity.Hotel;
 import mephi.hotelservice.exception.DuplicateResourceException;
 import mephi.hotelservice.exception.ResourceNotFoundException;
 import mephi.hotelservice.mapper.HotelMapper;
 import mephi.hotelservice.repository.HotelRepository;
+import mephi.hotelservice.repository.projection.HotelSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,16 +24,36 @@ import java.util.List;
 public class HotelService {
     private final HotelRepository hotelRepository;
     private final HotelMapper hotelMapper;
+    private final OccupancyCounters occupancyCounters;
+    private final RoomRecommendationIndex recommendationIndex;
+    private final CatalogChangeFeed changeFeed;
 
     @Transactional(readOnly = true)
     public List<HotelResponse> getAllHotels() {
         log.debug("Fetching all hotels");
 
-        List<Hotel> hotels = hotelRepository.findAll();
+        List<HotelSummary> hotels = hotelRepository.findAllSummaries();
 
-        return hotels.stream()
-            .map(hotelMapper::toResponseWithoutRooms)
-            .toList();
+        return hotelMapper.fromSummaries(hotels);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<HotelResponse> getHotelsPage(int limit, String cursor, boolean includeTotal) {
+        log.debug("Fetching hotels page: limit={}, cursor={}", limit, cursor);
+
+        int pageSize = KeysetPagination.normalizeLimit(limit);
+        List<HotelSummary> hotels = hotelRepository.findSummariesAfter(
+            KeysetPagination.decodeId(cursor),
+            Limit.of(pageSize + 1)
+        );
+
+        return KeysetPagination.page(
+            hotels,
+            pageSize,
+            h -> KeysetPagination.encode(h.getId()),
+            hotelMapper::fromSummaries,
+            includeTotal ? hotelRepository.count() : null
+        );
     }
 
     @Transactional(readOnly = true)
@@ -46,54 +70,46 @@ public class HotelService {
     public HotelResponse getHotelByIdWithoutRooms(Long id) {
         log.debug("Fetching hotel (without rooms) with id: {}", id);
 
-        Hotel hotel = hotelRepository.findById(id)
+        HotelSummary hotel = hotelRepository.findSummaryById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Hotel", id));
 
-        return hotelMapper.toResponseWithoutRooms(hotel);
+        return hotelMapper.fromSummary(hotel);
     }
 
     @Transactional(readOnly = true)
     public List<HotelResponse> getHotelsByCity(String city) {
         log.debug("Fetching hotels in city: {}", city);
 
-        List<Hotel> hotels = hotelRepository.findByCity(city);
+        List<HotelSummary> hotels = hotelRepository.findSummariesByCity(city);
 
-        return hotels.stream()
-            .map(hotelMapper::toResponseWithoutRooms)
-            .toList();
+        return hotelMapper.fromSummaries(hotels);
     }
 
     @Transactional(readOnly = true)
     public List<HotelResponse> getHotelsByCountry(String country) {
         log.debug("Fetching hotels in country: {}", country);
 
-        List<Hotel> hotels = hotelRepository.findByCountry(country);
+        List<HotelSummary> hotels = hotelRepository.findSummariesByCountry(country);
 
-        return hotels.stream()
-            .map(hotelMapper::toResponseWithoutRooms)
-            .toList();
+        return hotelMapper.fromSummaries(hotels);
     }
 
     @Transactional(readOnly = true)
     public List<HotelResponse> getHotelsByMinStarRating(Integer minStars) {
         log.debug("Fetching hotels with minimum {} stars", minStars);
 
-        List<Hotel> hotels = hotelRepository.findByStarRatingGreaterThanEqual(minStars);
+        List<HotelSummary> hotels = hotelRepository.findSummariesByMinStarRating(minStars);
 
-        return hotels.stream()
-            .map(hotelMapper::toResponseWithoutRooms)
-            .toList();
+        return hotelMapper.fromSummaries(hotels);
     }
 
     @Transactional(readOnly = true)
     public List<HotelResponse> searchHotelsByName(String name) {
         log.debug("Searching hotels by name: {}", name);
 
-        List<Hotel> hotels = hotelRepository.findByNameContainingIgnoreCase(name);
+        List<HotelSummary> hotels = hotelRepository.findSummariesByNameContaining(name);
 
-        return hotels.stream()
-            .map(hotelMapper::toResponseWithoutRooms)
-            .toList();
+        return hotelMapper.fromSummaries(hotels);
     }
 
     @Transactional
@@ -109,6 +125,8 @@ public class HotelService {
 
         Hotel hotel = hotelMapper.toEntity(request);
         Hotel savedHotel = hotelRepository.save(hotel);
+        occupancyCounters.hotelSaved(savedHotel.getId(), savedHotel.getName());
+        changeFeed.hotelChanged(savedHotel.getId(), ChangeType.CREATED);
 
         log.info("Hotel created successfully with id: {}", savedHotel.getId());
 
@@ -133,6 +151,8 @@ public class HotelService {
 
         hotelMapper.updateEntityFromRequest(request, hotel);
         Hotel updatedHotel = hotelRepository.save(hotel);
+        occupancyCounters.hotelSaved(updatedHotel.getId(), updatedHotel.getName());
+        changeFeed.hotelChanged(updatedHotel.getId(), ChangeType.UPDATED);
 
         log.info("Hotel updated successfully: {}", updatedHotel.getId());
 
@@ -147,7 +167,10 @@ public class HotelService {
             throw new ResourceNotFoundException("Hotel", id);
         }
 
+        occupancyCounters.hotelDeleted(id);
         hotelRepository.deleteById(id);
+        recommendationIndex.hotelDeleted();
+        changeFeed.hotelChanged(id, ChangeType.DELETED);
 
         log.info("Hotel deleted successfully: {}", id);
     }
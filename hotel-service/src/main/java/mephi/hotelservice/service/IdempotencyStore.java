@@ -0,0 +1,157 @@
+package mephi.hotelservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import mephi.hotelservice.dto.AvailabilityResponse;
+import mephi.hotelservice.entity.ProcessedRequest;
+import mephi.hotelservice.repository.ProcessedRequestRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class IdempotencyStore {
+    private static final String CACHE_NAME = "room.idempotency";
+
+    private final ProcessedRequestRepository processedRequestRepository;
+    private final Cache<String, AvailabilityResponse> cache;
+    private final Counter databaseHits;
+    private final Duration ttl;
+    private final boolean persistent;
+
+    public IdempotencyStore(
+        ProcessedRequestRepository processedRequestRepository,
+        MeterRegistry meterRegistry,
+        @Value("${app.idempotency.max-size:10000}") long maxSize,
+        @Value("${app.idempotency.ttl:PT24H}") Duration ttl,
+        @Value("${app.idempotency.persistent:false}") boolean persistent
+    ) {
+        this.processedRequestRepository = processedRequestRepository;
+        this.ttl = ttl;
+        this.persistent = persistent;
+
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.databaseHits = Counter.builder(CACHE_NAME + ".database.hits")
+            .description("Idempotent responses restored from the processed_requests table")
+            .register(meterRegistry);
+    }
+
+    public Optional<AvailabilityResponse> find(String requestId) {
+        AvailabilityResponse cached = cache.getIfPresent(requestId);
+        if (cached != null || !persistent) {
+            return Optional.ofNullable(cached);
+        }
+
+        LocalDateTime threshold = LocalDateTime.now().minus(ttl);
+        Optional<AvailabilityResponse> stored = processedRequestRepository.findById(requestId)
+            .filter(p -> p.getCreatedAt() == null || p.getCreatedAt().isAfter(threshold))
+            .map(this::toResponse);
+
+        stored.ifPresent(response -> {
+            databaseHits.increment();
+            cache.put(requestId, response);
+        });
+
+        return stored;
+    }
+
+    public void put(AvailabilityResponse response) {
+        if (!response.isConfirmed() && find(response.getRequestId()).filter(AvailabilityResponse::isConfirmed).isPresent()) {
+            log.warn("Request {} is already confirmed, not overwriting it with a rejection", response.getRequestId());
+
+            return;
+        }
+
+        if (persistent) {
+            processedRequestRepository.save(toEntity(response));
+        }
+
+        afterCommit(() -> cache.asMap().merge(response.getRequestId(), response, IdempotencyStore::keepConfirmed));
+    }
+
+    public void remove(String requestId) {
+        if (persistent) {
+            processedRequestRepository.deleteById(requestId);
+        }
+
+        afterCommit(() -> cache.invalidate(requestId));
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        if (!persistent) {
+            return;
+        }
+
+        int purged = processedRequestRepository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        if (purged > 0) {
+            log.debug("Purged {} expired processed requests", purged);
+        }
+    }
+
+    private static AvailabilityResponse keepConfirmed(AvailabilityResponse existing, AvailabilityResponse incoming) {
+        return existing.isConfirmed() && !incoming.isConfirmed() ? existing : incoming;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private ProcessedRequest toEntity(AvailabilityResponse response) {
+        return ProcessedRequest.builder()
+            .requestId(response.getRequestId())
+            .roomId(response.getRoomId())
+            .hotelId(response.getHotelId())
+            .confirmed(response.isConfirmed())
+            .message(response.getMessage())
+            .startDate(response.getStartDate())
+            .endDate(response.getEndDate())
+            .totalPrice(response.getTotalPrice())
+            .nights(response.getNights())
+            .build();
+    }
+
+    private AvailabilityResponse toResponse(ProcessedRequest request) {
+        return AvailabilityResponse.builder()
+            .requestId(request.getRequestId())
+            .roomId(request.getRoomId())
+            .hotelId(request.getHotelId())
+            .confirmed(request.isConfirmed())
+            .message(request.getMessage())
+            .startDate(request.getStartDate())
+            .endDate(request.getEndDate())
+            .totalPrice(request.getTotalPrice())
+            .nights(request.getNights())
+            .build();
+    }
+}
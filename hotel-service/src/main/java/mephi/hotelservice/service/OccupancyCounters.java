@@ -0,0 +1,367 @@
+package mephi.hotelservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.entity.RoomType;
+import mephi.hotelservice.repository.HotelRepository;
+import mephi.hotelservice.repository.RoomRepository;
+import mephi.hotelservice.repository.projection.HotelAggregate;
+import mephi.hotelservice.repository.projection.RoomTypeAggregate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OccupancyCounters {
+    private final HotelRepository hotelRepository;
+    private final RoomRepository roomRepository;
+
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile Totals totals;
+    private Queue<Consumer<Totals>> pendingDeltas;
+
+    public record RoomFigures(Long hotelId, RoomType roomType, boolean available, boolean occupied, int timesBooked) {
+        public static RoomFigures of(Room room) {
+            return of(room, false);
+        }
+
+        public static RoomFigures of(Room room, boolean occupied) {
+            return new RoomFigures(
+                room.getHotelId(),
+                room.getRoomType(),
+                Boolean.TRUE.equals(room.getAvailable()),
+                occupied,
+                room.getTimesBooked() != null ? room.getTimesBooked() : 0
+            );
+        }
+    }
+
+    public boolean isReady() {
+        return totals != null;
+    }
+
+    @Scheduled(fixedDelayString = "${app.statistics.reconcile-interval:PT5M}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            trackDeltas(new ConcurrentLinkedQueue<>());
+            try {
+                LocalDate today = LocalDate.now();
+                List<HotelAggregate> hotelAggregates = hotelRepository.aggregateAll(today);
+                List<RoomTypeAggregate> typeAggregates = roomRepository.aggregateByRoomType(today);
+
+                Totals next = new Totals();
+                hotelAggregates.forEach(a -> next.hotels().put(a.getHotelId(), new HotelCounters(
+                    a.getHotelName(),
+                    new Counters(a.getTotalRooms(), a.getAvailableRooms(), a.getOccupiedRooms(), a.getTotalBookings())
+                )));
+                for (RoomType type : RoomType.values()) {
+                    next.types().put(type, new Counters(0, 0, 0, 0));
+                }
+                typeAggregates.forEach(a -> next.types().put(
+                    a.getRoomType(),
+                    new Counters(a.getTotalRooms(), a.getAvailableRooms(), a.getOccupiedRooms(), a.getTotalBookings())
+                ));
+                publish(next);
+
+                log.debug("Occupancy counters reconciled for {} hotels", hotelAggregates.size());
+            }
+            finally {
+                trackDeltas(null);
+            }
+        }
+        finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    public void roomChanged(RoomFigures before, RoomFigures after) {
+        afterCommit(() -> apply(current -> {
+            if (before != null) {
+                current.add(before, -1);
+            }
+            if (after != null) {
+                current.add(after, 1);
+            }
+        }));
+    }
+
+    public void reservationAdded(Room room, LocalDate startDate, LocalDate endDate) {
+        if (coversToday(startDate, endDate)) {
+            roomChanged(RoomFigures.of(room, false), RoomFigures.of(room, true));
+        }
+    }
+
+    public void reservationRemoved(Room room, LocalDate startDate, LocalDate endDate) {
+        if (coversToday(startDate, endDate)) {
+            roomChanged(RoomFigures.of(room, true), RoomFigures.of(room, false));
+        }
+    }
+
+    public void roomBooked(Long hotelId, RoomType roomType) {
+        afterCommit(() -> apply(current -> {
+            HotelCounters hotel = current.hotels().get(hotelId);
+            if (hotel != null) {
+                hotel.counters().timesBooked.increment();
+            }
+
+            current.typeCounters(roomType).timesBooked.increment();
+        }));
+    }
+
+    public void hotelSaved(Long hotelId, String hotelName) {
+        afterCommit(() -> apply(current -> current.hotels().compute(hotelId, (id, existing) -> existing == null
+            ? new HotelCounters(hotelName, new Counters(0, 0, 0, 0))
+            : new HotelCounters(hotelName, existing.counters())
+        )));
+    }
+
+    public void hotelDeleted(Long hotelId) {
+        List<RoomTypeAggregate> removed = roomRepository.aggregateByRoomTypeForHotel(hotelId, LocalDate.now());
+
+        afterCommit(() -> apply(current -> {
+            current.hotels().remove(hotelId);
+            removed.forEach(a -> current.typeCounters(a.getRoomType()).subtract(a));
+        }));
+    }
+
+    public List<HotelAggregate> hotelAggregates() {
+        Totals current = totals;
+        if (current == null) {
+            return List.of();
+        }
+
+        return current.hotels().entrySet().stream()
+            .map(e -> (HotelAggregate) new HotelSnapshot(
+                e.getKey(),
+                e.getValue().name(),
+                e.getValue().counters().totalRooms.sum(),
+                e.getValue().counters().availableRooms.sum(),
+                e.getValue().counters().occupiedRooms.sum(),
+                e.getValue().counters().timesBooked.sum()
+            ))
+            .sorted(Comparator.comparing(HotelAggregate::getTotalBookings).reversed()
+                .thenComparing(HotelAggregate::getHotelId))
+            .toList();
+    }
+
+    public List<RoomTypeAggregate> roomTypeAggregates() {
+        Totals current = totals;
+        if (current == null) {
+            return List.of();
+        }
+
+        return current.types().entrySet().stream()
+            .map(e -> (RoomTypeAggregate) new RoomTypeSnapshot(
+                e.getKey(),
+                e.getValue().totalRooms.sum(),
+                e.getValue().availableRooms.sum(),
+                e.getValue().occupiedRooms.sum(),
+                e.getValue().timesBooked.sum()
+            ))
+            .toList();
+    }
+
+    private static boolean coversToday(LocalDate startDate, LocalDate endDate) {
+        LocalDate today = LocalDate.now();
+
+        return !startDate.isAfter(today) && endDate.isAfter(today);
+    }
+
+    private void apply(Consumer<Totals> delta) {
+        swapLock.readLock().lock();
+        try {
+            Totals current = totals;
+            if (current != null) {
+                delta.accept(current);
+            }
+            if (pendingDeltas != null) {
+                pendingDeltas.add(delta);
+            }
+        }
+        finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void trackDeltas(Queue<Consumer<Totals>> deltas) {
+        swapLock.writeLock().lock();
+        try {
+            pendingDeltas = deltas;
+        }
+        finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private void publish(Totals next) {
+        swapLock.writeLock().lock();
+        try {
+            pendingDeltas.forEach(delta -> delta.accept(next));
+            totals = next;
+        }
+        finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Totals(Map<Long, HotelCounters> hotels, Map<RoomType, Counters> types) {
+        Totals() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        void add(RoomFigures figures, int sign) {
+            HotelCounters hotel = hotels.get(figures.hotelId());
+            if (hotel != null) {
+                hotel.counters().add(figures, sign);
+            }
+
+            typeCounters(figures.roomType()).add(figures, sign);
+        }
+
+        Counters typeCounters(RoomType roomType) {
+            return types.computeIfAbsent(roomType, type -> new Counters(0, 0, 0, 0));
+        }
+    }
+
+    private record HotelCounters(String name, Counters counters) {
+    }
+
+    private static final class Counters {
+        private final LongAdder totalRooms = new LongAdder();
+        private final LongAdder availableRooms = new LongAdder();
+        private final LongAdder occupiedRooms = new LongAdder();
+        private final LongAdder timesBooked = new LongAdder();
+
+        Counters(long totalRooms, long availableRooms, long occupiedRooms, long timesBooked) {
+            this.totalRooms.add(totalRooms);
+            this.availableRooms.add(availableRooms);
+            this.occupiedRooms.add(occupiedRooms);
+            this.timesBooked.add(timesBooked);
+        }
+
+        void add(RoomFigures figures, int sign) {
+            totalRooms.add(sign);
+            if (figures.occupied()) {
+                occupiedRooms.add(sign);
+            }
+            else if (figures.available()) {
+                availableRooms.add(sign);
+            }
+            timesBooked.add((long) sign * figures.timesBooked());
+        }
+
+        void subtract(RoomTypeAggregate aggregate) {
+            totalRooms.add(-aggregate.getTotalRooms());
+            availableRooms.add(-aggregate.getAvailableRooms());
+            occupiedRooms.add(-aggregate.getOccupiedRooms());
+            timesBooked.add(-aggregate.getTotalBookings());
+        }
+    }
+
+    private record HotelSnapshot(
+        Long hotelId,
+        String hotelName,
+        Long totalRooms,
+        Long availableRooms,
+        Long occupiedRooms,
+        Long totalBookings
+    ) implements HotelAggregate {
+        @Override
+        public Long getHotelId() {
+            return hotelId;
+        }
+
+        @Override
+        public String getHotelName() {
+            return hotelName;
+        }
+
+        @Override
+        public Long getTotalRooms() {
+            return totalRooms;
+        }
+
+        @Override
+        public Long getAvailableRooms() {
+            return availableRooms;
+        }
+
+        @Override
+        public Long getOccupiedRooms() {
+            return occupiedRooms;
+        }
+
+        @Override
+        public Long getTotalBookings() {
+            return totalBookings;
+        }
+    }
+
+    private record RoomTypeSnapshot(
+        RoomType roomType,
+        Long totalRooms,
+        Long availableRooms,
+        Long occupiedRooms,
+        Long totalBookings
+    ) implements RoomTypeAggregate {
+        @Override
+        public RoomType getRoomType() {
+            return roomType;
+        }
+
+        @Override
+        public Long getTotalRooms() {
+            return totalRooms;
+        }
+
+        @Override
+        public Long getAvailableRooms() {
+            return availableRooms;
+        }
+
+        @Override
+        public Long getOccupiedRooms() {
+            return occupiedRooms;
+        }
+
+        @Override
+        public Long getTotalBookings() {
+            return totalBookings;
+        }
+    }
+}
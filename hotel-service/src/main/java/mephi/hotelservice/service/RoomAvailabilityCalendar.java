@@ -0,0 +1,169 @@
+package mephi.hotelservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mephi.hotelservice.entity.RoomReservation;
+import mephi.hotelservice.repository.RoomReservationRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomAvailabilityCalendar {
+    private final RoomReservationRepository reservationRepository;
+
+    private final Map<Long, RoomNights> calendars = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<RoomReservation> reservations = reservationRepository.findByEndDateAfter(LocalDate.now());
+
+        reservations.forEach(r -> nightsOf(r.getRoomId()).occupy(r.getStartDate().toEpochDay(), r.getEndDate().toEpochDay()));
+
+        log.info("Availability calendar warmed up with {} reservations for {} rooms", reservations.size(), calendars.size());
+    }
+
+    public boolean isAvailable(Long roomId, LocalDate startDate, LocalDate endDate) {
+        RoomNights nights = calendars.get(roomId);
+
+        return nights == null || nights.isFree(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    public boolean tryReserve(Long roomId, LocalDate startDate, LocalDate endDate) {
+        long from = startDate.toEpochDay();
+        long to = endDate.toEpochDay();
+
+        RoomNights nights = nightsOf(roomId);
+        if (!nights.tryOccupy(from, to)) {
+            return false;
+        }
+
+        afterRollback(() -> nights.vacate(from, to));
+
+        return true;
+    }
+
+    public void release(Long roomId, LocalDate startDate, LocalDate endDate) {
+        RoomNights nights = calendars.get(roomId);
+        if (nights == null) {
+            return;
+        }
+
+        afterCommit(() -> nights.vacate(startDate.toEpochDay(), endDate.toEpochDay()));
+    }
+
+    public void evict(Long roomId) {
+        afterCommit(() -> calendars.remove(roomId));
+    }
+
+    private RoomNights nightsOf(Long roomId) {
+        return calendars.computeIfAbsent(roomId, id -> new RoomNights());
+    }
+
+    private void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class RoomNights {
+        private long baseDay = Long.MAX_VALUE;
+        private BitSet nights = new BitSet();
+
+        synchronized boolean isFree(long from, long to) {
+            if (to <= baseDay || from >= to) {
+                return true;
+            }
+
+            int next = nights.nextSetBit(index(Math.max(from, baseDay)));
+
+            return next < 0 || next >= index(to);
+        }
+
+        synchronized boolean tryOccupy(long from, long to) {
+            if (!isFree(from, to)) {
+                return false;
+            }
+
+            occupy(from, to);
+
+            return true;
+        }
+
+        synchronized void occupy(long from, long to) {
+            if (from >= to) {
+                return;
+            }
+
+            rebase(from);
+            nights.set(index(from), index(to));
+        }
+
+        synchronized void vacate(long from, long to) {
+            if (to <= baseDay || from >= to) {
+                return;
+            }
+
+            nights.clear(index(Math.max(from, baseDay)), index(to));
+        }
+
+        private void rebase(long from) {
+            if (from >= baseDay) {
+                return;
+            }
+
+            if (nights.isEmpty()) {
+                baseDay = from;
+
+                return;
+            }
+
+            int shift = Math.toIntExact(baseDay - from);
+            BitSet shifted = new BitSet(nights.length() + shift);
+            for (int i = nights.nextSetBit(0); i >= 0; i = nights.nextSetBit(i + 1)) {
+                shifted.set(i + shift);
+            }
+
+            nights = shifted;
+            baseDay = from;
+        }
+
+        private int index(long day) {
+            return Math.toIntExact(day - baseDay);
+        }
+    }
+}
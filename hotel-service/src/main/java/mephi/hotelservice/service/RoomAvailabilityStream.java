@@ -0,0 +1,282 @@
+package mephi.hotelservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import mephi.hotelservice.dto.AvailabilityEvent;
+import mephi.hotelservice.dto.AvailabilitySnapshot;
+import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.entity.RoomReservation;
+import mephi.hotelservice.repository.RoomRepository;
+import mephi.hotelservice.repository.RoomReservationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class RoomAvailabilityStream {
+    private final RoomRepository roomRepository;
+    private final RoomReservationRepository reservationRepository;
+    private final Executor senders;
+    private final Counter overflows;
+    private final int bufferSize;
+    private final Duration timeout;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public RoomAvailabilityStream(
+        RoomRepository roomRepository,
+        RoomReservationRepository reservationRepository,
+        MeterRegistry meterRegistry,
+        @Value("${app.room.availability-stream.senders:4}") int senders,
+        @Value("${app.room.availability-stream.buffer-size:256}") int bufferSize,
+        @Value("${app.room.availability-stream.timeout:PT30M}") Duration timeout,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this(
+            roomRepository,
+            reservationRepository,
+            meterRegistry,
+            virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("availability-stream-", 1).factory())
+                : Executors.newFixedThreadPool(senders, senderThreads()),
+            bufferSize,
+            timeout
+        );
+    }
+
+    RoomAvailabilityStream(
+        RoomRepository roomRepository,
+        RoomReservationRepository reservationRepository,
+        MeterRegistry meterRegistry,
+        Executor senders,
+        int bufferSize,
+        Duration timeout
+    ) {
+        this.roomRepository = roomRepository;
+        this.reservationRepository = reservationRepository;
+        this.senders = senders;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+
+        this.overflows = Counter.builder("room.availability.stream.overflows")
+            .description("Availability subscribers whose buffer overflowed and were resynced with a snapshot")
+            .register(meterRegistry);
+        Gauge.builder("room.availability.stream.subscribers", subscribers, Set::size)
+            .description("Open room availability streams")
+            .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long hotelId) {
+        return subscribe(hotelId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Long hotelId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(hotelId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.add(subscriber);
+
+        Runnable remove = () -> subscribers.remove(subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        schedule(subscriber);
+
+        return emitter;
+    }
+
+    public void roomReserved(Room room, LocalDate startDate, LocalDate endDate) {
+        AvailabilityEvent event = event(room, AvailabilityEvent.Change.RESERVED, startDate, endDate);
+
+        afterCommit(() -> publish(event));
+    }
+
+    public void roomReleased(Room room, LocalDate startDate, LocalDate endDate) {
+        AvailabilityEvent event = event(room, AvailabilityEvent.Change.RELEASED, startDate, endDate);
+
+        afterCommit(() -> publish(event));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (senders instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+
+        subscribers.forEach(s -> s.emitter().complete());
+    }
+
+    private void publish(AvailabilityEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.hotelId().equals(event.getHotelId())) {
+                continue;
+            }
+
+            if (!subscriber.buffer().offer(event)) {
+                subscriber.buffer().clear();
+                subscriber.needsSnapshot().set(true);
+                overflows.increment();
+
+                log.debug("Availability subscriber for hotel {} fell behind, resyncing with a snapshot", subscriber.hotelId());
+            }
+
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.draining().compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            senders.execute(() -> drain(subscriber));
+        }
+        catch (RejectedExecutionException e) {
+            subscriber.draining().set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                if (subscriber.needsSnapshot().getAndSet(false)) {
+                    subscriber.buffer().clear();
+                    subscriber.emitter().send(SseEmitter.event()
+                        .name("snapshot")
+                        .data(snapshot(subscriber.hotelId()))
+                    );
+                }
+
+                AvailabilityEvent event = subscriber.buffer().poll();
+                if (event == null) {
+                    break;
+                }
+
+                subscriber.emitter().send(SseEmitter.event()
+                    .name("availability")
+                    .data(event)
+                );
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            log.debug("Dropping availability subscriber for hotel {}: {}", subscriber.hotelId(), e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+
+            return;
+        }
+        finally {
+            subscriber.draining().set(false);
+        }
+
+        if (subscriber.needsSnapshot().get() || !subscriber.buffer().isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private AvailabilitySnapshot snapshot(Long hotelId) {
+        LocalDate today = LocalDate.now();
+        List<Room> rooms = roomRepository.findByHotelId(hotelId);
+        List<RoomReservation> reservations = reservationRepository.findByRoomIdInAndEndDateAfter(
+            rooms.stream().map(Room::getId).toList(),
+            today
+        );
+
+        Map<Long, List<AvailabilitySnapshot.DateRange>> reserved = reservations.stream()
+            .collect(Collectors.groupingBy(
+                RoomReservation::getRoomId,
+                Collectors.mapping(
+                    r -> new AvailabilitySnapshot.DateRange(r.getStartDate(), r.getEndDate()),
+                    Collectors.toList()
+                )
+            ));
+
+        return AvailabilitySnapshot.builder()
+            .hotelId(hotelId)
+            .rooms(rooms.stream()
+                .map(room -> AvailabilitySnapshot.RoomAvailability.builder()
+                    .roomId(room.getId())
+                    .hotelId(room.getHotelId())
+                    .available(room.getAvailable())
+                    .reserved(reserved.getOrDefault(room.getId(), List.of()))
+                    .build()
+                )
+                .toList()
+            )
+            .build();
+    }
+
+    private AvailabilityEvent event(Room room, AvailabilityEvent.Change change, LocalDate startDate, LocalDate endDate) {
+        return AvailabilityEvent.builder()
+            .roomId(room.getId())
+            .hotelId(room.getHotelId())
+            .change(change)
+            .startDate(startDate)
+            .endDate(endDate)
+            .build();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static ThreadFactory senderThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, "availability-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+
+    private record Subscriber(
+        Long hotelId,
+        SseEmitter emitter,
+        BlockingQueue<AvailabilityEvent> buffer,
+        AtomicBoolean needsSnapshot,
+        AtomicBoolean draining
+    ) {
+        Subscriber(Long hotelId, SseEmitter emitter, BlockingQueue<AvailabilityEvent> buffer) {
+            this(hotelId, emitter, buffer, new AtomicBoolean(true), new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package mephi.hotelservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class RoomConfirmMetrics {
+    private final Map<ConfirmLockingMode, Counter> attempts = new EnumMap<>(ConfirmLockingMode.class);
+    private final Counter conflicts;
+    private final Counter retries;
+    private final Counter exhausted;
+
+    public RoomConfirmMetrics(MeterRegistry meterRegistry) {
+        for (ConfirmLockingMode mode : ConfirmLockingMode.values()) {
+            attempts.put(mode, Counter.builder("room.confirm.attempts")
+                .description("Room confirmations that reached the room update")
+                .tag("mode", mode.name().toLowerCase())
+                .register(meterRegistry)
+            );
+        }
+
+        this.conflicts = Counter.builder("room.confirm.conflicts")
+            .description("Optimistic room updates rejected because the version changed")
+            .register(meterRegistry);
+        this.retries = Counter.builder("room.confirm.retries")
+            .description("Optimistic room updates retried after a conflict")
+            .register(meterRegistry);
+        this.exhausted = Counter.builder("room.confirm.exhausted")
+            .description("Room confirmations rejected after running out of optimistic retries")
+            .register(meterRegistry);
+    }
+
+    public void recordAttempt(ConfirmLockingMode mode) {
+        attempts.get(mode).increment();
+    }
+
+    public void recordConflict() {
+        conflicts.increment();
+    }
+
+    public void recordRetry() {
+        retries.increment();
+    }
+
+    public void recordExhausted() {
+        exhausted.increment();
+    }
+}
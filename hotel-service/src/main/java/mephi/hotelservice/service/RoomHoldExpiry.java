@@ -0,0 +1,99 @@
+package mephi.hotelservice.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mephi.hotelservice.entity.RoomReservation;
+import mephi.hotelservice.repository.RoomReservationRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Slf4j
+@Component
+public class RoomHoldExpiry {
+    private final RoomReservationRepository reservationRepository;
+
+    private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final NavigableSet<Deadline> deadlines = new ConcurrentSkipListSet<>(
+        Comparator.comparing(Deadline::expiresAt).thenComparing(Deadline::holdToken)
+    );
+
+    public RoomHoldExpiry(RoomReservationRepository reservationRepository, MeterRegistry meterRegistry) {
+        this.reservationRepository = reservationRepository;
+
+        Gauge.builder("room.holds.active", pending, Map::size)
+            .description("Room holds waiting to be confirmed or to expire")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<RoomReservation> holds = reservationRepository.findByExpiresAtIsNotNull();
+
+        holds.forEach(h -> track(h.getHoldToken(), h.getExpiresAt()));
+
+        log.info("Tracking {} room holds for expiry", holds.size());
+    }
+
+    public void schedule(String holdToken, LocalDateTime expiresAt) {
+        afterCommit(() -> track(holdToken, expiresAt));
+    }
+
+    public void cancel(String holdToken) {
+        afterCommit(() -> pending.remove(holdToken));
+    }
+
+    public List<String> pollExpired(LocalDateTime now) {
+        List<String> expired = new ArrayList<>();
+
+        Deadline next;
+        while ((next = deadlines.pollFirst()) != null) {
+            if (next.expiresAt().isAfter(now)) {
+                deadlines.add(next);
+
+                break;
+            }
+
+            if (pending.remove(next.holdToken(), next.expiresAt())) {
+                expired.add(next.holdToken());
+            }
+        }
+
+        return expired;
+    }
+
+    private void track(String holdToken, LocalDateTime expiresAt) {
+        pending.put(holdToken, expiresAt);
+        deadlines.add(new Deadline(expiresAt, holdToken));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Deadline(LocalDateTime expiresAt, String holdToken) {
+    }
+}
@@ -0,0 +1,40 @@
+package mephi.hotelservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+public class RoomHoldSweeper {
+    private final RoomHoldExpiry holdExpiry;
+    private final RoomService roomService;
+    private final Counter expired;
+
+    public RoomHoldSweeper(RoomHoldExpiry holdExpiry, RoomService roomService, MeterRegistry meterRegistry) {
+        this.holdExpiry = holdExpiry;
+        this.roomService = roomService;
+        this.expired = Counter.builder("room.holds.expired")
+            .description("Room holds released because they were not confirmed in time")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.room.hold.sweep-interval:PT1S}")
+    public void expireHolds() {
+        for (String holdToken : holdExpiry.pollExpired(LocalDateTime.now())) {
+            try {
+                if (roomService.expireHold(holdToken)) {
+                    expired.increment();
+                }
+            }
+            catch (RuntimeException e) {
+                log.warn("Failed to expire room hold {}, retrying on the next sweep: {}", holdToken, e.getMessage());
+                holdExpiry.schedule(holdToken, LocalDateTime.now());
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package mephi.hotelservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.entity.RoomType;
+import mephi.hotelservice.repository.RoomRepository;
+import mephi.hotelservice.repository.projection.RoomRankView;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomRecommendationIndex {
+    private static final Comparator<Candidate> LEAST_BOOKED = Comparator.comparingInt(Candidate::timesBooked)
+        .thenComparingLong(Candidate::roomId);
+
+    private final RoomRepository roomRepository;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final ReentrantLock indexLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+    private List<Consumer<Snapshot>> pendingChanges;
+
+    public record Candidate(long roomId, Long hotelId, RoomType roomType, int maxOccupancy, int timesBooked) {
+        static Candidate of(Room room) {
+            return new Candidate(
+                room.getId(),
+                room.getHotelId(),
+                room.getRoomType(),
+                room.getMaxOccupancy(),
+                room.getTimesBooked() != null ? room.getTimesBooked() : 0
+            );
+        }
+
+        static Candidate of(RoomRankView view) {
+            return new Candidate(
+                view.getRoomId(),
+                view.getHotelId(),
+                view.getRoomType(),
+                view.getMaxOccupancy(),
+                view.getTimesBooked()
+            );
+        }
+
+        Candidate booked() {
+            return new Candidate(roomId, hotelId, roomType, maxOccupancy, timesBooked + 1);
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    @Scheduled(fixedDelayString = "${app.room.recommend-index.refresh-interval:PT5M}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            trackChanges(new ArrayList<>());
+            try {
+                List<RoomRankView> rooms = roomRepository.findRankedAvailable();
+                Snapshot next = new Snapshot();
+                rooms.forEach(view -> next.replace(view.getRoomId(), Candidate.of(view)));
+                publish(next);
+
+                log.debug("Recommendation index refreshed with {} available rooms", rooms.size());
+            }
+            finally {
+                trackChanges(null);
+            }
+        }
+        finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public void roomSaved(Room room) {
+        Candidate candidate = Boolean.TRUE.equals(room.getAvailable()) ? Candidate.of(room) : null;
+
+        afterCommit(() -> apply(index -> index.replace(room.getId(), candidate)));
+    }
+
+    public void roomRemoved(Long roomId) {
+        afterCommit(() -> apply(index -> index.replace(roomId, null)));
+    }
+
+    public void roomBooked(Long roomId) {
+        afterCommit(() -> apply(index -> {
+            Candidate current = index.byRoom().get(roomId);
+            if (current != null) {
+                index.replace(roomId, current.booked());
+            }
+        }));
+    }
+
+    public void hotelDeleted() {
+        afterCommit(this::refresh);
+    }
+
+    public List<Long> topK(Long hotelId, RoomType roomType, Predicate<Candidate> accept, int k) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return List.of();
+        }
+
+        PriorityQueue<Head> heap = new PriorityQueue<>(Comparator.comparing(Head::candidate, LEAST_BOOKED));
+
+        current.buckets().forEach((key, candidates) -> {
+            if ((hotelId == null || hotelId.equals(key.hotelId())) && (roomType == null || roomType == key.roomType())) {
+                Iterator<Candidate> rest = candidates.iterator();
+                if (rest.hasNext()) {
+                    heap.add(new Head(rest.next(), rest));
+                }
+            }
+        });
+
+        List<Long> roomIds = new ArrayList<>(k);
+        Set<Long> seen = new HashSet<>();
+        while (roomIds.size() < k && !heap.isEmpty()) {
+            Head head = heap.poll();
+            if (seen.add(head.candidate().roomId()) && accept.test(head.candidate())) {
+                roomIds.add(head.candidate().roomId());
+            }
+            if (head.rest().hasNext()) {
+                heap.add(new Head(head.rest().next(), head.rest()));
+            }
+        }
+
+        return roomIds;
+    }
+
+    private void apply(Consumer<Snapshot> change) {
+        indexLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null) {
+                change.accept(current);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+        finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void trackChanges(List<Consumer<Snapshot>> changes) {
+        indexLock.lock();
+        try {
+            pendingChanges = changes;
+        }
+        finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void publish(Snapshot next) {
+        indexLock.lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(next));
+            snapshot = next;
+        }
+        finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Snapshot(Map<Long, Candidate> byRoom, Map<BucketKey, NavigableSet<Candidate>> buckets) {
+        Snapshot() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        void replace(Long roomId, Candidate candidate) {
+            Candidate previous = candidate != null ? byRoom.put(roomId, candidate) : byRoom.remove(roomId);
+
+            if (previous != null) {
+                NavigableSet<Candidate> bucket = buckets.get(new BucketKey(previous.hotelId(), previous.roomType()));
+                if (bucket != null) {
+                    bucket.remove(previous);
+                }
+            }
+
+            if (candidate != null) {
+                buckets.computeIfAbsent(
+                    new BucketKey(candidate.hotelId(), candidate.roomType()),
+                    key -> new ConcurrentSkipListSet<>(LEAST_BOOKED)
+                ).add(candidate);
+            }
+        }
+    }
+
+    private record BucketKey(Long hotelId, RoomType roomType) {
+    }
+
+    private record Head(Candidate candidate, Iterator<Candidate> rest) {
+    }
+}
@@ -4,35 +4,77 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import mephi.hotelservice.dto.AvailabilityRequest;
 import mephi.hotelservice.dto.AvailabilityResponse;
+import mephi.hotelservice.dto.BatchConfirmRequest;
+import mephi.hotelservice.dto.BatchReleaseRequest;
+import mephi.hotelservice.dto.CatalogVersionResponse;
+import mephi.hotelservice.dto.CursorPage;
+import mephi.hotelservice.dto.RoomHoldResponse;
 import mephi.hotelservice.dto.RoomRequest;
 import mephi.hotelservice.dto.RoomResponse;
+import mephi.hotelservice.dto.RoomSearchCriteria;
+import mephi.hotelservice.dto.RoomSort;
+import mephi.hotelservice.entity.ChangeType;
 import mephi.hotelservice.entity.Hotel;
 import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.entity.RoomReservation;
 import mephi.hotelservice.entity.RoomType;
 import mephi.hotelservice.exception.DuplicateResourceException;
 import mephi.hotelservice.exception.ResourceNotFoundException;
+import mephi.hotelservice.exception.RoomNotAvailableException;
 import mephi.hotelservice.mapper.RoomMapper;
 import mephi.hotelservice.repository.HotelRepository;
 import mephi.hotelservice.repository.RoomRepository;
+import mephi.hotelservice.repository.RoomReservationRepository;
+import mephi.hotelservice.repository.RoomSpecifications;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RoomService {
+    private static final int MAX_IDS_PER_LOOKUP = 100;
 
     private final RoomRepository roomRepository;
     private final HotelRepository hotelRepository;
     private final RoomMapper roomMapper;
-
-    private final Map<String, AvailabilityResponse> processedRequests = new ConcurrentHashMap<>();
+    private final RoomReservationRepository reservationRepository;
+    private final RoomAvailabilityCalendar availabilityCalendar;
+    private final IdempotencyStore idempotencyStore;
+    private final RoomConfirmMetrics confirmMetrics;
+    private final OccupancyCounters occupancyCounters;
+    private final RoomRecommendationIndex recommendationIndex;
+    private final CatalogVersion catalogVersion;
+    private final CatalogChangeFeed changeFeed;
+    private final RoomAvailabilityStream availabilityStream;
+    private final RoomHoldExpiry holdExpiry;
+
+    @Value("${app.room.confirm.locking-mode:PESSIMISTIC}")
+    private ConfirmLockingMode lockingMode = ConfirmLockingMode.PESSIMISTIC;
+
+    @Value("${app.room.confirm.optimistic-max-attempts:3}")
+    private int optimisticMaxAttempts = 3;
+
+    @Value("${app.room.hold.ttl:PT10M}")
+    private Duration holdTtl = Duration.ofMinutes(10);
 
     @Transactional(readOnly = true)
     public List<RoomResponse> getAllRooms() {
@@ -43,6 +85,22 @@ public class RoomService {
         return roomMapper.toResponseList(rooms);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<RoomResponse> getRoomsPage(int limit, String cursor, boolean includeTotal) {
+        log.debug("Fetching rooms page: limit={}, cursor={}", limit, cursor);
+
+        int pageSize = KeysetPagination.normalizeLimit(limit);
+        List<Room> rooms = roomRepository.findAllAfter(KeysetPagination.decodeId(cursor), Limit.of(pageSize + 1));
+
+        return KeysetPagination.page(
+            rooms,
+            pageSize,
+            r -> KeysetPagination.encode(r.getId()),
+            roomMapper::toResponseList,
+            includeTotal ? roomRepository.count() : null
+        );
+    }
+
     @Transactional(readOnly = true)
     public RoomResponse getRoomById(Long id) {
         log.debug("Fetching room with id: {}", id);
@@ -53,6 +111,39 @@ public class RoomService {
         return roomMapper.toResponse(room);
     }
 
+    @Transactional(readOnly = true)
+    public List<RoomResponse> getRoomsByIds(List<Long> ids) {
+        if (ids.size() > MAX_IDS_PER_LOOKUP) {
+            throw new IllegalArgumentException("At most " + MAX_IDS_PER_LOOKUP + " room IDs can be requested at once");
+        }
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Room> rooms = roomRepository.findAllWithHotelByIdIn(ids);
+
+        return rooms.stream()
+            .sorted(Comparator.comparing(Room::getId))
+            .map(roomMapper::toResponse)
+            .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeToAvailability(Long hotelId) {
+        if (!hotelRepository.existsById(hotelId)) {
+            throw new ResourceNotFoundException("Hotel", hotelId);
+        }
+
+        return availabilityStream.subscribe(hotelId);
+    }
+
+    public CatalogVersionResponse getCatalogVersion() {
+        return CatalogVersionResponse.builder()
+            .version(catalogVersion.current())
+            .build();
+    }
+
     @Transactional(readOnly = true)
     public List<RoomResponse> getRoomsByHotelId(Long hotelId) {
         log.debug("Fetching rooms for hotel: {}", hotelId);
@@ -75,6 +166,79 @@ public class RoomService {
         return roomMapper.toResponseList(rooms);
     }
 
+    @Transactional(readOnly = true)
+    public List<RoomResponse> searchAvailableRooms(RoomSearchCriteria criteria) {
+        log.debug("Searching available rooms: {}", criteria);
+
+        if (criteria.getHotelId() != null && !hotelRepository.existsById(criteria.getHotelId())) {
+            throw new ResourceNotFoundException("Hotel", criteria.getHotelId());
+        }
+
+        Integer maxResults = criteria.getMaxResults();
+        if (maxResults != null && maxResults < 1) {
+            throw new IllegalArgumentException("maxResults must be positive");
+        }
+
+        return findAvailable(criteria);
+    }
+
+    private List<RoomResponse> findAvailable(RoomSearchCriteria criteria) {
+        Integer maxResults = criteria.getMaxResults();
+        boolean dated = hasDateRange(criteria.getStartDate(), criteria.getEndDate());
+
+        List<Room> rooms = roomRepository.findBy(
+            RoomSpecifications.availableMatching(criteria),
+            query -> {
+                var sorted = query.sortBy(criteria.getSort().toSort()).project("hotel");
+
+                return dated || maxResults == null ? sorted.all() : sorted.limit(maxResults).all();
+            }
+        );
+
+        List<RoomResponse> responses = filterAvailableForDates(
+            roomMapper.toResponseList(rooms),
+            criteria.getStartDate(),
+            criteria.getEndDate()
+        );
+
+        return dated && maxResults != null && responses.size() > maxResults
+            ? responses.subList(0, maxResults)
+            : responses;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<RoomResponse> getAvailableRoomsPage(
+        Long hotelId,
+        RoomType roomType,
+        Integer guestCount,
+        BigDecimal maxPrice,
+        LocalDate startDate,
+        LocalDate endDate,
+        int limit,
+        String cursor,
+        boolean includeTotal
+    ) {
+        log.debug("Fetching available rooms page: limit={}, cursor={}", limit, cursor);
+
+        int pageSize = KeysetPagination.normalizeLimit(limit);
+        List<Room> rooms = roomRepository.findAvailableAfter(
+            KeysetPagination.decodeId(cursor),
+            hotelId,
+            roomType,
+            guestCount,
+            maxPrice,
+            Limit.of(pageSize + 1)
+        );
+
+        return KeysetPagination.page(
+            rooms,
+            pageSize,
+            r -> KeysetPagination.encode(r.getId()),
+            window -> filterAvailableForDates(roomMapper.toResponseList(window), startDate, endDate),
+            includeTotal ? roomRepository.countAvailable(hotelId, roomType, guestCount, maxPrice) : null
+        );
+    }
+
     @Transactional(readOnly = true)
     public List<RoomResponse> getAvailableRoomsByHotelId(Long hotelId) {
         log.debug("Fetching available rooms for hotel: {}", hotelId);
@@ -130,7 +294,42 @@ public class RoomService {
 
     @Transactional(readOnly = true)
     public List<RoomResponse> getRecommendedRooms(Long hotelId, RoomType roomType, Integer guestCount) {
-        log.debug("Getting recommended rooms: hotelId={}, roomType={}, guestCount={}", hotelId, roomType, guestCount);
+        return getRecommendedRooms(hotelId, roomType, guestCount, null, null);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RoomResponse> getRecommendedRooms(
+        Long hotelId,
+        RoomType roomType,
+        Integer guestCount,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        return getRecommendedRooms(hotelId, roomType, guestCount, startDate, endDate, null);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RoomResponse> getRecommendedRooms(
+        Long hotelId,
+        RoomType roomType,
+        Integer guestCount,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer limit
+    ) {
+        log.debug(
+            "Getting recommended rooms: hotelId={}, roomType={}, guestCount={}, startDate={}, endDate={}, limit={}",
+            hotelId,
+            roomType,
+            guestCount,
+            startDate,
+            endDate,
+            limit
+        );
+
+        if (limit != null) {
+            return getTopRecommendedRooms(hotelId, roomType, guestCount, startDate, endDate, limit);
+        }
 
         List<Room> rooms;
 
@@ -156,9 +355,74 @@ public class RoomService {
                 .toList();
         }
 
+        if (hasDateRange(startDate, endDate)) {
+            rooms = rooms.stream()
+                .filter(r -> availabilityCalendar.isAvailable(r.getId(), startDate, endDate))
+                .toList();
+        }
+
         return roomMapper.toResponseList(rooms);
     }
 
+    private List<RoomResponse> getTopRecommendedRooms(
+        Long hotelId,
+        RoomType roomType,
+        Integer guestCount,
+        LocalDate startDate,
+        LocalDate endDate,
+        int limit
+    ) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+
+        if (!recommendationIndex.isReady()) {
+            return findAvailable(RoomSearchCriteria.builder()
+                .hotelId(hotelId)
+                .roomType(roomType)
+                .guestCount(guestCount)
+                .startDate(startDate)
+                .endDate(endDate)
+                .sort(RoomSort.LEAST_BOOKED)
+                .maxResults(limit)
+                .build()
+            );
+        }
+
+        boolean dated = hasDateRange(startDate, endDate);
+        List<Long> roomIds = recommendationIndex.topK(
+            hotelId,
+            roomType,
+            c -> (guestCount == null || c.maxOccupancy() >= guestCount)
+                && (!dated || availabilityCalendar.isAvailable(c.roomId(), startDate, endDate)),
+            limit
+        );
+
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Room> byId = roomRepository.findAllWithHotelByIdIn(roomIds).stream()
+            .collect(Collectors.toMap(Room::getId, Function.identity()));
+
+        List<Room> rooms = roomIds.stream()
+            .map(byId::get)
+            .filter(r -> r != null && Boolean.TRUE.equals(r.getAvailable()))
+            .toList();
+
+        return roomMapper.toResponseList(rooms);
+    }
+
+    public List<RoomResponse> filterAvailableForDates(List<RoomResponse> rooms, LocalDate startDate, LocalDate endDate) {
+        if (!hasDateRange(startDate, endDate)) {
+            return rooms;
+        }
+
+        return rooms.stream()
+            .filter(r -> availabilityCalendar.isAvailable(r.getId(), startDate, endDate))
+            .toList();
+    }
+
     @Transactional
     public RoomResponse createRoom(RoomRequest request) {
         log.info("Creating new room: {} in hotel {}", request.getRoomNumber(), request.getHotelId());
@@ -181,6 +445,9 @@ public class RoomService {
         room.setTimesBooked(0);
 
         Room savedRoom = roomRepository.save(room);
+        occupancyCounters.roomChanged(null, OccupancyCounters.RoomFigures.of(savedRoom));
+        recommendationIndex.roomSaved(savedRoom);
+        changeFeed.roomChanged(savedRoom, ChangeType.CREATED);
 
         log.info("Room created successfully with id: {}", savedRoom.getId());
 
@@ -193,6 +460,7 @@ public class RoomService {
 
         Room room = roomRepository.findByIdWithHotel(id)
             .orElseThrow(() -> new ResourceNotFoundException("Room", id));
+        OccupancyCounters.RoomFigures before = OccupancyCounters.RoomFigures.of(room, isOccupiedToday(id));
 
         if (request.getHotelId() != null && !request.getHotelId().equals(room.getHotel().getId())) {
             Hotel newHotel = hotelRepository.findById(request.getHotelId())
@@ -212,6 +480,12 @@ public class RoomService {
 
         roomMapper.updateEntityFromRequest(request, room);
         Room updatedRoom = roomRepository.save(room);
+        occupancyCounters.roomChanged(before, OccupancyCounters.RoomFigures.of(updatedRoom, before.occupied()));
+        recommendationIndex.roomSaved(updatedRoom);
+        changeFeed.roomChanged(
+            updatedRoom,
+            before.available() != Boolean.TRUE.equals(updatedRoom.getAvailable()) ? ChangeType.AVAILABILITY_CHANGED : ChangeType.UPDATED
+        );
 
         log.info("Room updated successfully: {}", updatedRoom.getId());
 
@@ -222,11 +496,16 @@ public class RoomService {
     public void deleteRoom(Long id) {
         log.info("Deleting room with id: {}", id);
 
-        if (!roomRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Room", id);
-        }
+        Room room = roomRepository.findByIdWithHotel(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Room", id));
+        OccupancyCounters.RoomFigures figures = OccupancyCounters.RoomFigures.of(room, isOccupiedToday(id));
 
         roomRepository.deleteById(id);
+        reservationRepository.deleteByRoomId(id);
+        availabilityCalendar.evict(id);
+        occupancyCounters.roomChanged(figures, null);
+        recommendationIndex.roomRemoved(id);
+        changeFeed.roomChanged(room, ChangeType.DELETED);
 
         log.info("Room deleted successfully: {}", id);
     }
@@ -235,18 +514,110 @@ public class RoomService {
     public AvailabilityResponse confirmAvailability(Long roomId, AvailabilityRequest request) {
         log.info("Confirming availability for room {} with requestId: {}", roomId, request.getRequestId());
 
-        if (processedRequests.containsKey(request.getRequestId())) {
+        Optional<AvailabilityResponse> processed = idempotencyStore.find(request.getRequestId());
+        if (processed.isPresent()) {
             log.info("Request {} already processed, returning cached response", request.getRequestId());
 
-            return processedRequests.get(request.getRequestId());
+            return processed.get();
         }
 
-        if (request.getStartDate().isAfter(request.getEndDate())) {
-            throw new IllegalArgumentException("Start date must be before end date");
+        validateDates(request);
+
+        Room room = loadRoomForUpdate(roomId);
+
+        return findConfirmed(room, request).orElseGet(() -> confirmLocked(room, request));
+    }
+
+    @Transactional
+    public List<AvailabilityResponse> confirmAvailabilityBatch(List<BatchConfirmRequest.Item> items) {
+        log.info("Confirming availability for {} rooms in one batch", items.size());
+
+        items.forEach(item -> validateDates(item.getRequest()));
+
+        Map<Long, Room> rooms = loadRoomsForUpdate(items.stream().map(BatchConfirmRequest.Item::getRoomId).toList());
+
+        List<AvailabilityResponse> responses = new ArrayList<>(items.size());
+        List<Boolean> replayed = new ArrayList<>(items.size());
+
+        for (BatchConfirmRequest.Item item : items) {
+            Optional<AvailabilityResponse> processed = findConfirmed(rooms.get(item.getRoomId()), item.getRequest());
+
+            replayed.add(processed.isPresent());
+            responses.add(processed.orElseGet(() -> confirmLocked(rooms.get(item.getRoomId()), item.getRequest())));
+        }
+
+        if (responses.stream().allMatch(AvailabilityResponse::isConfirmed)) {
+            return responses;
         }
 
-        Room room = roomRepository.findByIdWithLock(roomId)
-            .orElseThrow(() -> new ResourceNotFoundException("Room", roomId));
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        log.info("Batch of {} rooms rolled back because at least one room is not available", items.size());
+
+        List<AvailabilityResponse> rolledBack = new ArrayList<>(responses.size());
+        for (int i = 0; i < responses.size(); i++) {
+            AvailabilityResponse response = responses.get(i);
+
+            rolledBack.add(response.isConfirmed() && !replayed.get(i)
+                ? AvailabilityResponse.builder()
+                    .roomId(response.getRoomId())
+                    .hotelId(response.getHotelId())
+                    .requestId(response.getRequestId())
+                    .confirmed(false)
+                    .message("Another room in the batch is not available")
+                    .startDate(response.getStartDate())
+                    .endDate(response.getEndDate())
+                    .build()
+                : response
+            );
+        }
+
+        return rolledBack;
+    }
+
+    private Optional<AvailabilityResponse> findConfirmed(Room room, AvailabilityRequest request) {
+        Optional<AvailabilityResponse> processed = idempotencyStore.find(request.getRequestId());
+        if (processed.isPresent()) {
+            log.info(
+                "Request {} processed while waiting for room {}, returning cached response",
+                request.getRequestId(),
+                room.getId()
+            );
+
+            return processed;
+        }
+
+        Optional<RoomReservation> reservation = reservationRepository.findByRequestId(request.getRequestId())
+            .filter(r -> r.getRoomId().equals(room.getId()) && r.getExpiresAt() == null);
+        if (reservation.isEmpty()) {
+            return Optional.empty();
+        }
+
+        log.info(
+            "Request {} already holds a reservation on room {}, restoring the confirmed response",
+            request.getRequestId(),
+            room.getId()
+        );
+
+        long nights = ChronoUnit.DAYS.between(reservation.get().getStartDate(), reservation.get().getEndDate());
+        AvailabilityResponse response = AvailabilityResponse.builder()
+            .roomId(room.getId())
+            .hotelId(room.getHotel().getId())
+            .requestId(request.getRequestId())
+            .confirmed(true)
+            .message("Room availability confirmed")
+            .startDate(reservation.get().getStartDate())
+            .endDate(reservation.get().getEndDate())
+            .totalPrice(room.getPricePerNight().multiply(BigDecimal.valueOf(nights)))
+            .nights((int) nights)
+            .build();
+
+        idempotencyStore.put(response);
+
+        return Optional.of(response);
+    }
+
+    private AvailabilityResponse confirmLocked(Room room, AvailabilityRequest request) {
+        Long roomId = room.getId();
 
         if (!Boolean.TRUE.equals(room.getAvailable())) {
             AvailabilityResponse response = AvailabilityResponse.builder()
@@ -259,7 +630,7 @@ public class RoomService {
                 .endDate(request.getEndDate())
                 .build();
 
-            processedRequests.put(request.getRequestId(), response);
+            idempotencyStore.put(response);
 
             return response;
         }
@@ -275,7 +646,23 @@ public class RoomService {
                 .endDate(request.getEndDate())
                 .build();
 
-            processedRequests.put(request.getRequestId(), response);
+            idempotencyStore.put(response);
+
+            return response;
+        }
+
+        if (!reserveNights(room, request)) {
+            AvailabilityResponse response = AvailabilityResponse.builder()
+                .roomId(roomId)
+                .hotelId(room.getHotel().getId())
+                .requestId(request.getRequestId())
+                .confirmed(false)
+                .message("Room is already booked for the selected dates")
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .build();
+
+            idempotencyStore.put(response);
 
             return response;
         }
@@ -283,9 +670,18 @@ public class RoomService {
         long nights = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate());
         BigDecimal totalPrice = room.getPricePerNight().multiply(BigDecimal.valueOf(nights));
 
-        room.setAvailable(false);
-        room.incrementTimesBooked();
-        roomRepository.save(room);
+        recordBooking(room, request.getRequestId(), request.getStartDate(), request.getEndDate());
+
+        reservationRepository.save(RoomReservation.builder()
+            .roomId(roomId)
+            .requestId(request.getRequestId())
+            .startDate(request.getStartDate())
+            .endDate(request.getEndDate())
+            .build()
+        );
+        occupancyCounters.reservationAdded(room, request.getStartDate(), request.getEndDate());
+        availabilityStream.roomReserved(room, request.getStartDate(), request.getEndDate());
+        changeFeed.roomChanged(room, ChangeType.RESERVED);
 
         log.info("Room {} confirmed for booking, requestId: {}", roomId, request.getRequestId());
 
@@ -301,22 +697,275 @@ public class RoomService {
             .nights((int) nights)
             .build();
 
-        processedRequests.put(request.getRequestId(), response);
+        idempotencyStore.put(response);
 
         return response;
     }
 
     @Transactional
-    public AvailabilityResponse releaseRoom(Long roomId, String requestId) {
-        log.info("Releasing room {} for requestId: {}", roomId, requestId);
+    public RoomHoldResponse holdRoom(Long roomId, AvailabilityRequest request) {
+        log.info("Holding room {} with requestId: {}", roomId, request.getRequestId());
 
-        Room room = roomRepository.findByIdWithLock(roomId)
-            .orElseThrow(() -> new ResourceNotFoundException("Room", roomId));
+        validateDates(request);
 
-        room.setAvailable(true);
-        roomRepository.save(room);
+        Room room = loadRoomForUpdate(roomId);
 
-        processedRequests.remove(requestId);
+        Optional<RoomReservation> existing = reservationRepository.findByRequestId(request.getRequestId())
+            .filter(r -> r.getRoomId().equals(roomId) && r.getHoldToken() != null);
+        if (existing.isPresent()) {
+            log.info("Request {} already holds room {}, returning the existing hold", request.getRequestId(), roomId);
+
+            return toHoldResponse(room, existing.get(), "Room held");
+        }
+
+        String rejection = holdRejection(room, request);
+        if (rejection != null) {
+            return RoomHoldResponse.builder()
+                .roomId(roomId)
+                .hotelId(room.getHotel().getId())
+                .requestId(request.getRequestId())
+                .held(false)
+                .message(rejection)
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .build();
+        }
+
+        RoomReservation hold = reservationRepository.save(RoomReservation.builder()
+            .roomId(roomId)
+            .requestId(request.getRequestId())
+            .startDate(request.getStartDate())
+            .endDate(request.getEndDate())
+            .holdToken(UUID.randomUUID().toString())
+            .expiresAt(LocalDateTime.now().plus(holdTtl))
+            .build()
+        );
+        occupancyCounters.reservationAdded(room, request.getStartDate(), request.getEndDate());
+        availabilityStream.roomReserved(room, request.getStartDate(), request.getEndDate());
+        changeFeed.roomChanged(room, ChangeType.RESERVED);
+        holdExpiry.schedule(hold.getHoldToken(), hold.getExpiresAt());
+
+        log.info("Room {} held until {}, requestId: {}", roomId, hold.getExpiresAt(), request.getRequestId());
+
+        return toHoldResponse(room, hold, "Room held");
+    }
+
+    @Transactional
+    public AvailabilityResponse confirmHold(String holdToken) {
+        log.info("Confirming room hold {}", holdToken);
+
+        Optional<RoomReservation> found = reservationRepository.findByHoldToken(holdToken);
+        if (found.isEmpty()) {
+            return AvailabilityResponse.builder()
+                .confirmed(false)
+                .message("Room hold not found or expired")
+                .build();
+        }
+
+        RoomReservation hold = found.get();
+
+        Optional<AvailabilityResponse> processed = idempotencyStore.find(hold.getRequestId());
+        if (processed.isPresent()) {
+            log.info("Hold {} already confirmed, returning cached response", holdToken);
+
+            return processed.get();
+        }
+
+        Room room = loadRoomForUpdate(hold.getRoomId());
+        AvailabilityResponse.AvailabilityResponseBuilder response = AvailabilityResponse.builder()
+            .roomId(room.getId())
+            .hotelId(room.getHotel().getId())
+            .requestId(hold.getRequestId())
+            .startDate(hold.getStartDate())
+            .endDate(hold.getEndDate());
+
+        if (hold.getExpiresAt() != null) {
+            if (reservationRepository.confirmHold(holdToken, LocalDateTime.now()) == 0) {
+                log.info("Room hold {} expired before it was confirmed", holdToken);
+
+                return response
+                    .confirmed(false)
+                    .message("Room hold has expired")
+                    .build();
+            }
+
+            recordBooking(room, hold.getRequestId(), hold.getStartDate(), hold.getEndDate());
+            holdExpiry.cancel(holdToken);
+            changeFeed.roomChanged(room, ChangeType.RESERVED);
+        }
+
+        long nights = ChronoUnit.DAYS.between(hold.getStartDate(), hold.getEndDate());
+
+        AvailabilityResponse confirmed = response
+            .confirmed(true)
+            .message("Room hold confirmed")
+            .totalPrice(room.getPricePerNight().multiply(BigDecimal.valueOf(nights)))
+            .nights((int) nights)
+            .build();
+
+        idempotencyStore.put(confirmed);
+
+        log.info("Room {} hold {} confirmed, requestId: {}", room.getId(), holdToken, hold.getRequestId());
+
+        return confirmed;
+    }
+
+    @Transactional
+    public AvailabilityResponse releaseHold(String holdToken) {
+        log.info("Releasing room hold {}", holdToken);
+
+        Optional<RoomReservation> hold = reservationRepository.findByHoldToken(holdToken);
+        if (hold.isEmpty()) {
+            return AvailabilityResponse.builder()
+                .confirmed(false)
+                .message("Room hold already released or expired")
+                .build();
+        }
+
+        holdExpiry.cancel(holdToken);
+
+        return releaseLocked(
+            loadRoomForUpdate(hold.get().getRoomId()),
+            hold.get().getRequestId(),
+            hold.get().getStartDate(),
+            hold.get().getEndDate()
+        );
+    }
+
+    @Transactional
+    public boolean expireHold(String holdToken) {
+        Optional<RoomReservation> hold = reservationRepository.findByHoldToken(holdToken);
+        if (hold.isEmpty() || reservationRepository.deleteExpiredHold(holdToken, LocalDateTime.now()) == 0) {
+            return false;
+        }
+
+        RoomReservation expired = hold.get();
+        availabilityCalendar.release(expired.getRoomId(), expired.getStartDate(), expired.getEndDate());
+        roomRepository.findByIdWithHotel(expired.getRoomId()).ifPresent(room -> {
+            occupancyCounters.reservationRemoved(room, expired.getStartDate(), expired.getEndDate());
+            availabilityStream.roomReleased(room, expired.getStartDate(), expired.getEndDate());
+            changeFeed.roomChanged(room, ChangeType.RELEASED);
+        });
+
+        log.info("Room hold {} on room {} expired, requestId: {}", holdToken, expired.getRoomId(), expired.getRequestId());
+
+        return true;
+    }
+
+    private String holdRejection(Room room, AvailabilityRequest request) {
+        if (!Boolean.TRUE.equals(room.getAvailable())) {
+            return "Room is not available";
+        }
+
+        if (request.getGuestCount() != null && request.getGuestCount() > room.getMaxOccupancy()) {
+            return "Room capacity (" + room.getMaxOccupancy() + ") is less than guest count (" + request.getGuestCount() + ")";
+        }
+
+        if (!reserveNights(room, request)) {
+            return "Room is already booked for the selected dates";
+        }
+
+        return null;
+    }
+
+    private boolean reserveNights(Room room, AvailabilityRequest request) {
+        if (reservationRepository.existsByRoomIdAndStartDateBeforeAndEndDateAfter(
+            room.getId(),
+            request.getEndDate(),
+            request.getStartDate()
+        )) {
+            log.warn(
+                "Room {} has a stored reservation overlapping {} - {} that the availability calendar did not reject",
+                room.getId(),
+                request.getStartDate(),
+                request.getEndDate()
+            );
+
+            return false;
+        }
+
+        return availabilityCalendar.tryReserve(room.getId(), request.getStartDate(), request.getEndDate());
+    }
+
+    private RoomHoldResponse toHoldResponse(Room room, RoomReservation hold, String message) {
+        long nights = ChronoUnit.DAYS.between(hold.getStartDate(), hold.getEndDate());
+
+        return RoomHoldResponse.builder()
+            .holdToken(hold.getHoldToken())
+            .roomId(room.getId())
+            .hotelId(room.getHotel().getId())
+            .requestId(hold.getRequestId())
+            .held(true)
+            .message(message)
+            .startDate(hold.getStartDate())
+            .endDate(hold.getEndDate())
+            .expiresAt(hold.getExpiresAt())
+            .totalPrice(room.getPricePerNight().multiply(BigDecimal.valueOf(nights)))
+            .nights((int) nights)
+            .build();
+    }
+
+    private void recordBooking(Room room, String requestId, LocalDate startDate, LocalDate endDate) {
+        confirmMetrics.recordAttempt(lockingMode);
+
+        if (lockingMode == ConfirmLockingMode.OPTIMISTIC) {
+            incrementTimesBookedOptimistically(room, requestId, startDate, endDate);
+        }
+        else {
+            room.incrementTimesBooked();
+            roomRepository.save(room);
+        }
+
+        occupancyCounters.roomBooked(room.getHotel().getId(), room.getRoomType());
+        recommendationIndex.roomBooked(room.getId());
+    }
+
+    @Transactional
+    public AvailabilityResponse releaseRoom(Long roomId, String requestId, LocalDate startDate, LocalDate endDate) {
+        log.info("Releasing room {} for requestId: {}, dates: {} - {}", roomId, requestId, startDate, endDate);
+
+        return releaseLocked(loadRoomForUpdate(roomId), requestId, startDate, endDate);
+    }
+
+    @Transactional
+    public List<AvailabilityResponse> releaseRoomsBatch(List<BatchReleaseRequest.Item> items) {
+        log.info("Releasing {} rooms in one batch", items.size());
+
+        Map<Long, Room> rooms = loadRoomsForUpdate(items.stream().map(BatchReleaseRequest.Item::getRoomId).toList());
+
+        return items.stream()
+            .map(item -> releaseLocked(
+                rooms.get(item.getRoomId()),
+                item.getRequestId(),
+                item.getStartDate(),
+                item.getEndDate()
+            ))
+            .toList();
+    }
+
+    private AvailabilityResponse releaseLocked(Room room, String requestId, LocalDate startDate, LocalDate endDate) {
+        Long roomId = room.getId();
+
+        Optional<RoomReservation> reservation = reservationRepository.findByRequestId(requestId)
+            .filter(r -> r.getRoomId().equals(roomId))
+            .or(() -> hasDateRange(startDate, endDate)
+                ? reservationRepository.findFirstByRoomIdAndStartDateAndEndDate(roomId, startDate, endDate)
+                : Optional.empty()
+            );
+
+        if (reservation.isPresent()) {
+            RoomReservation released = reservation.get();
+            reservationRepository.delete(released);
+            availabilityCalendar.release(roomId, released.getStartDate(), released.getEndDate());
+            occupancyCounters.reservationRemoved(room, released.getStartDate(), released.getEndDate());
+            availabilityStream.roomReleased(room, released.getStartDate(), released.getEndDate());
+            changeFeed.roomChanged(room, ChangeType.RELEASED);
+        }
+        else {
+            log.warn("No reservation found to release for room {} and requestId {}", roomId, requestId);
+        }
+
+        idempotencyStore.remove(requestId);
 
         log.info("Room {} released successfully", roomId);
 
@@ -338,4 +987,94 @@ public class RoomService {
     public Long countAvailableRoomsByHotelId(Long hotelId) {
         return roomRepository.countAvailableRoomsByHotelId(hotelId);
     }
+
+    private Room loadRoomForUpdate(Long roomId) {
+        Optional<Room> room = lockingMode == ConfirmLockingMode.OPTIMISTIC
+            ? roomRepository.findByIdWithHotel(roomId)
+            : roomRepository.findByIdWithLock(roomId);
+
+        return room.orElseThrow(() -> new ResourceNotFoundException("Room", roomId));
+    }
+
+    private Map<Long, Room> loadRoomsForUpdate(List<Long> roomIds) {
+        List<Long> sorted = roomIds.stream().distinct().sorted().toList();
+
+        List<Room> rooms = lockingMode == ConfirmLockingMode.OPTIMISTIC
+            ? roomRepository.findAllWithHotelByIdIn(sorted)
+            : roomRepository.findAllByIdInWithLock(sorted);
+
+        Map<Long, Room> byId = rooms.stream().collect(Collectors.toMap(Room::getId, Function.identity()));
+
+        sorted.stream()
+            .filter(id -> !byId.containsKey(id))
+            .findFirst()
+            .ifPresent(id -> {
+                throw new ResourceNotFoundException("Room", id);
+            });
+
+        return byId;
+    }
+
+    private void validateDates(AvailabilityRequest request) {
+        if (request.getStartDate().isAfter(request.getEndDate())) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+    }
+
+    private void incrementTimesBookedOptimistically(Room room, String requestId, LocalDate startDate, LocalDate endDate) {
+        for (int attempt = 1; ; attempt++) {
+            if (roomRepository.incrementTimesBookedIfVersion(room.getId(), room.getVersion(), LocalDateTime.now()) == 1) {
+                roomRepository.refresh(room);
+
+                return;
+            }
+
+            confirmMetrics.recordConflict();
+
+            if (attempt >= optimisticMaxAttempts) {
+                confirmMetrics.recordExhausted();
+                log.warn("Room {} still contended after {} attempts, requestId: {}", room.getId(), attempt, requestId);
+
+                throw new RoomNotAvailableException(room.getId(), requestId, "Room is being updated concurrently, please retry");
+            }
+
+            confirmMetrics.recordRetry();
+            log.debug("Version conflict on room {}, retrying (attempt {})", room.getId(), attempt);
+
+            roomRepository.refresh(room);
+
+            if (!Boolean.TRUE.equals(room.getAvailable())) {
+                throw new RoomNotAvailableException(room.getId(), requestId, "Room is not available");
+            }
+
+            if (reservationRepository.existsByRoomIdAndRequestIdNotAndStartDateBeforeAndEndDateAfter(
+                room.getId(),
+                requestId,
+                endDate,
+                startDate
+            )) {
+                log.info("Room {} was booked for overlapping dates while retrying, requestId: {}", room.getId(), requestId);
+
+                throw new RoomNotAvailableException(room.getId(), requestId, "Room is already booked for the selected dates");
+            }
+        }
+    }
+
+    private boolean isOccupiedToday(Long roomId) {
+        LocalDate today = LocalDate.now();
+
+        return reservationRepository.existsByRoomIdAndStartDateBeforeAndEndDateAfter(roomId, today.plusDays(1), today);
+    }
+
+    private boolean hasDateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            return false;
+        }
+
+        if (!startDate.isBefore(endDate)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+
+        return true;
+    }
 }
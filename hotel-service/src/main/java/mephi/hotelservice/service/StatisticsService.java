@@ -4,17 +4,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import mephi.hotelservice.dto.HotelStatisticsResponse;
 import mephi.hotelservice.dto.SystemStatisticsResponse;
-import mephi.hotelservice.entity.Hotel;
-import mephi.hotelservice.entity.Room;
 import mephi.hotelservice.entity.RoomType;
 import mephi.hotelservice.exception.ResourceNotFoundException;
 import mephi.hotelservice.repository.HotelRepository;
 import mephi.hotelservice.repository.RoomRepository;
+import mephi.hotelservice.repository.projection.HotelAggregate;
+import mephi.hotelservice.repository.projection.RoomTypeAggregate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -26,124 +27,68 @@ import java.util.Map;
 public class StatisticsService {
     private final HotelRepository hotelRepository;
     private final RoomRepository roomRepository;
+    private final OccupancyCounters occupancyCounters;
 
     @Transactional(readOnly = true)
     public HotelStatisticsResponse getHotelStatistics(Long hotelId) {
         log.debug("Generating statistics for hotel: {}", hotelId);
 
-        Hotel hotel = hotelRepository.findByIdWithRooms(hotelId)
+        HotelAggregate aggregate = hotelRepository.aggregateById(hotelId, LocalDate.now())
             .orElseThrow(() -> new ResourceNotFoundException("Hotel", hotelId));
 
-        List<Room> rooms = hotel.getRooms();
-        int totalRooms = rooms.size();
-        int availableRooms = (int) rooms.stream().filter(r -> Boolean.TRUE.equals(r.getAvailable())).count();
-        int occupiedRooms = totalRooms - availableRooms;
-        int totalBookings = rooms.stream().mapToInt(Room::getTimesBooked).sum();
-
-        BigDecimal occupancyRate = totalRooms > 0
-            ? BigDecimal.valueOf(occupiedRooms).multiply(BigDecimal.valueOf(100)).divide(BigDecimal.valueOf(totalRooms), 2, RoundingMode.HALF_UP)
-            : BigDecimal.ZERO;
-
-        BigDecimal averageTimesBooked = totalRooms > 0
-            ? BigDecimal.valueOf(totalBookings).divide(BigDecimal.valueOf(totalRooms), 2, RoundingMode.HALF_UP)
-            : BigDecimal.ZERO;
-
-        List<HotelStatisticsResponse.RoomStatistics> roomStats = rooms.stream()
-            .map(room -> HotelStatisticsResponse.RoomStatistics.builder()
-                .roomId(room.getId())
-                .roomNumber(room.getRoomNumber())
-                .roomType(room.getRoomType().name())
-                .available(room.getAvailable())
-                .timesBooked(room.getTimesBooked())
-                .pricePerNight(room.getPricePerNight())
-                .build()
-            )
-                .sorted(Comparator.comparing(HotelStatisticsResponse.RoomStatistics::getTimesBooked).reversed())
-                .toList();
-
-        return HotelStatisticsResponse.builder()
-            .hotelId(hotel.getId())
-            .hotelName(hotel.getName())
-            .totalRooms(totalRooms)
-            .availableRooms(availableRooms)
-            .occupiedRooms(occupiedRooms)
-            .occupancyRate(occupancyRate)
-            .totalBookings(totalBookings)
-            .averageTimesBooked(averageTimesBooked)
-            .roomStatistics(roomStats)
-            .build();
+        return withRoomStatistics(aggregate);
     }
 
-    @Transactional(readOnly = true)
     public SystemStatisticsResponse getSystemStatistics() {
         log.debug("Generating system-wide statistics");
 
-        List<Hotel> hotels = hotelRepository.findAllWithRooms();
-        List<Room> allRooms = roomRepository.findAll();
-
-        int totalHotels = hotels.size();
-        int totalRooms = allRooms.size();
-        int availableRooms = (int) allRooms.stream().filter(r -> Boolean.TRUE.equals(r.getAvailable())).count();
-        int occupiedRooms = totalRooms - availableRooms;
-        int totalBookings = allRooms.stream().mapToInt(Room::getTimesBooked).sum();
+        boolean live = occupancyCounters.isReady();
+        LocalDate today = LocalDate.now();
+        List<HotelAggregate> hotels = live ? occupancyCounters.hotelAggregates() : hotelRepository.aggregateAll(today);
+        List<RoomTypeAggregate> types = live ? occupancyCounters.roomTypeAggregates() : roomRepository.aggregateByRoomType(today);
 
-        BigDecimal overallOccupancyRate = totalRooms > 0
-            ? BigDecimal.valueOf(occupiedRooms).multiply(BigDecimal.valueOf(100)).divide(BigDecimal.valueOf(totalRooms), 2, RoundingMode.HALF_UP)
-            : BigDecimal.ZERO;
+        int totalRooms = 0;
+        int availableRooms = 0;
+        int occupiedRooms = 0;
+        int totalBookings = 0;
 
         Map<String, Integer> roomsByType = new HashMap<>();
         Map<String, BigDecimal> occupancyByType = new HashMap<>();
 
         for (RoomType type : RoomType.values()) {
-            List<Room> roomsOfType = allRooms.stream()
-                .filter(r -> r.getRoomType() == type)
-                .toList();
-
-            int countOfType = roomsOfType.size();
-            roomsByType.put(type.name(), countOfType);
-
-            if (countOfType > 0) {
-                int occupiedOfType = (int) roomsOfType.stream()
-                    .filter(r -> !Boolean.TRUE.equals(r.getAvailable()))
-                    .count();
-
-                BigDecimal typeOccupancy = BigDecimal.valueOf(occupiedOfType)
-                    .multiply(BigDecimal.valueOf(100))
-                    .divide(BigDecimal.valueOf(countOfType), 2, RoundingMode.HALF_UP);
-
-                occupancyByType.put(type.name(), typeOccupancy);
-            }
-            else {
-                occupancyByType.put(type.name(), BigDecimal.ZERO);
-            }
+            roomsByType.put(type.name(), 0);
+            occupancyByType.put(type.name(), BigDecimal.ZERO);
         }
 
-        HotelStatisticsResponse mostBooked = null;
-        HotelStatisticsResponse leastBooked = null;
-
-        if (!hotels.isEmpty()) {
-            Hotel mostBookedHotel = hotels.stream()
-                .max(Comparator.comparingInt(h -> h.getRooms().stream().mapToInt(Room::getTimesBooked).sum()))
-                .orElse(null);
+        for (RoomTypeAggregate type : types) {
+            int countOfType = type.getTotalRooms().intValue();
+            int occupiedOfType = type.getOccupiedRooms().intValue();
 
-            Hotel leastBookedHotel = hotels.stream()
-                .min(Comparator.comparingInt(h -> h.getRooms().stream().mapToInt(Room::getTimesBooked).sum()))
-                .orElse(null);
+            totalRooms += countOfType;
+            availableRooms += type.getAvailableRooms().intValue();
+            occupiedRooms += occupiedOfType;
+            totalBookings += type.getTotalBookings().intValue();
 
-            if (mostBookedHotel != null) {
-                mostBooked = getHotelStatistics(mostBookedHotel.getId());
-            }
-            if (leastBookedHotel != null) {
-                leastBooked = getHotelStatistics(leastBookedHotel.getId());
-            }
+            roomsByType.put(type.getRoomType().name(), countOfType);
+            occupancyByType.put(type.getRoomType().name(), percentage(occupiedOfType, countOfType));
         }
 
+        HotelStatisticsResponse mostBooked = hotels.stream()
+            .max(Comparator.comparingLong(HotelAggregate::getTotalBookings))
+            .map(aggregate -> live ? toResponse(aggregate).build() : withRoomStatistics(aggregate))
+            .orElse(null);
+
+        HotelStatisticsResponse leastBooked = hotels.stream()
+            .min(Comparator.comparingLong(HotelAggregate::getTotalBookings))
+            .map(aggregate -> live ? toResponse(aggregate).build() : withRoomStatistics(aggregate))
+            .orElse(null);
+
         return SystemStatisticsResponse.builder()
-            .totalHotels(totalHotels)
+            .totalHotels(hotels.size())
             .totalRooms(totalRooms)
             .availableRooms(availableRooms)
             .occupiedRooms(occupiedRooms)
-            .overallOccupancyRate(overallOccupancyRate)
+            .overallOccupancyRate(percentage(occupiedRooms, totalRooms))
             .totalBookings(totalBookings)
             .roomsByType(roomsByType)
             .occupancyByType(occupancyByType)
@@ -152,15 +97,61 @@ public class StatisticsService {
             .build();
     }
 
-    @Transactional(readOnly = true)
     public List<HotelStatisticsResponse> getAllHotelStatistics() {
         log.debug("Generating statistics for all hotels");
 
-        List<Hotel> hotels = hotelRepository.findAllWithRooms();
+        List<HotelAggregate> hotels = occupancyCounters.isReady()
+            ? occupancyCounters.hotelAggregates()
+            : hotelRepository.aggregateAll(LocalDate.now());
 
         return hotels.stream()
-            .map(hotel -> getHotelStatistics(hotel.getId()))
-            .sorted(Comparator.comparing(HotelStatisticsResponse::getTotalBookings).reversed())
+            .map(aggregate -> toResponse(aggregate).build())
             .toList();
     }
+
+    private HotelStatisticsResponse withRoomStatistics(HotelAggregate aggregate) {
+        List<HotelStatisticsResponse.RoomStatistics> roomStats = roomRepository.findStatisticsByHotelId(aggregate.getHotelId())
+            .stream()
+            .map(room -> HotelStatisticsResponse.RoomStatistics.builder()
+                .roomId(room.getRoomId())
+                .roomNumber(room.getRoomNumber())
+                .roomType(room.getRoomType().name())
+                .available(room.getAvailable())
+                .timesBooked(room.getTimesBooked())
+                .pricePerNight(room.getPricePerNight())
+                .build()
+            )
+            .toList();
+
+        return toResponse(aggregate)
+            .roomStatistics(roomStats)
+            .build();
+    }
+
+    private HotelStatisticsResponse.HotelStatisticsResponseBuilder toResponse(HotelAggregate aggregate) {
+        int totalRooms = aggregate.getTotalRooms().intValue();
+        int availableRooms = aggregate.getAvailableRooms().intValue();
+        int occupiedRooms = aggregate.getOccupiedRooms().intValue();
+        int totalBookings = aggregate.getTotalBookings().intValue();
+
+        BigDecimal averageTimesBooked = totalRooms > 0
+            ? BigDecimal.valueOf(totalBookings).divide(BigDecimal.valueOf(totalRooms), 2, RoundingMode.HALF_UP)
+            : BigDecimal.ZERO;
+
+        return HotelStatisticsResponse.builder()
+            .hotelId(aggregate.getHotelId())
+            .hotelName(aggregate.getHotelName())
+            .totalRooms(totalRooms)
+            .availableRooms(availableRooms)
+            .occupiedRooms(occupiedRooms)
+            .occupancyRate(percentage(occupiedRooms, totalRooms))
+            .totalBookings(totalBookings)
+            .averageTimesBooked(averageTimesBooked);
+    }
+
+    private BigDecimal percentage(int part, int total) {
+        return total > 0
+            ? BigDecimal.valueOf(part).multiply(BigDecimal.valueOf(100)).divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP)
+            : BigDecimal.ZERO;
+    }
 }
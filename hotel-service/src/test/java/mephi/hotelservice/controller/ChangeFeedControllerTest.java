@@ -0,0 +1,94 @@
+package mephi.hotelservice.controller;
+
+import mephi.hotelservice.dto.CatalogChangeResponse;
+import mephi.hotelservice.dto.ChangeFeedResponse;
+import mephi.hotelservice.entity.CatalogEntityType;
+import mephi.hotelservice.entity.ChangeType;
+import mephi.hotelservice.service.CatalogChangeFeed;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ChangeFeedController.class)
+@Import(ChangeFeedControllerTest.TestSecurityConfig.class)
+@DisplayName("ChangeFeedController MockMvc Tests")
+class ChangeFeedControllerTest {
+    @org.springframework.boot.test.context.TestConfiguration
+    @org.springframework.security.config.annotation.web.configuration.EnableWebSecurity
+    static class TestSecurityConfig {
+        @Bean
+        public SecurityFilterChain changeFeedTestSecurityFilterChain(HttpSecurity http) throws Exception {
+            http
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth
+                    .requestMatchers(HttpMethod.GET, "/changes").permitAll()
+                    .anyRequest().authenticated()
+                );
+
+            return http.build();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CatalogChangeFeed changeFeed;
+
+    @Test
+    @DisplayName("should return compact deltas after the given sequence (public endpoint)")
+    void should_ReturnChanges_When_SinceGiven() throws Exception {
+        CatalogChangeResponse change = CatalogChangeResponse.builder()
+            .sequence(8L)
+            .entityType(CatalogEntityType.HOTEL)
+            .entityId(2L)
+            .hotelId(2L)
+            .changeType(ChangeType.DELETED)
+            .build();
+        given(changeFeed.getChanges(7L, 50)).willReturn(ChangeFeedResponse.builder()
+            .epoch(1L)
+            .changes(List.of(change))
+            .nextSince(8L)
+            .hasMore(false)
+            .build()
+        );
+
+        mockMvc.perform(get("/changes").param("since", "7").param("limit", "50"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(1)))
+            .andExpect(jsonPath("$.changes[0].changeType", is("DELETED")))
+            .andExpect(jsonPath("$.changes[0].available").doesNotExist())
+            .andExpect(jsonPath("$.nextSince", is(8)));
+    }
+
+    @Test
+    @DisplayName("should start from the beginning by default")
+    void should_UseDefaults_When_NoParameters() throws Exception {
+        given(changeFeed.getChanges(0L, 100)).willReturn(ChangeFeedResponse.builder()
+            .epoch(1L)
+            .changes(List.of())
+            .nextSince(0L)
+            .build()
+        );
+
+        mockMvc.perform(get("/changes"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.hasMore", is(false)));
+    }
+}
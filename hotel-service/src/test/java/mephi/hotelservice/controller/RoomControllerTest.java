@@ -3,8 +3,12 @@ package mephi.hotelservice.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import mephi.hotelservice.dto.AvailabilityRequest;
 import mephi.hotelservice.dto.AvailabilityResponse;
+import mephi.hotelservice.dto.CatalogVersionResponse;
+import mephi.hotelservice.dto.RoomHoldResponse;
 import mephi.hotelservice.dto.RoomRequest;
 import mephi.hotelservice.dto.RoomResponse;
+import mephi.hotelservice.dto.RoomSearchCriteria;
+import mephi.hotelservice.dto.RoomSort;
 import mephi.hotelservice.entity.RoomType;
 import mephi.hotelservice.exception.DuplicateResourceException;
 import mephi.hotelservice.exception.ResourceNotFoundException;
@@ -30,6 +34,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,6 +44,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -62,6 +69,7 @@ class RoomControllerTest {
                     .requestMatchers(HttpMethod.GET, "/rooms/**").permitAll()
                     .requestMatchers("/rooms/*/confirm-availability").authenticated()
                     .requestMatchers("/rooms/*/release").authenticated()
+                    .requestMatchers("/rooms/*/hold", "/rooms/holds/*/confirm", "/rooms/holds/*/release").authenticated()
                     .requestMatchers(HttpMethod.POST, "/rooms/**").hasRole("ADMIN")
                     .requestMatchers(HttpMethod.PUT, "/rooms/**").hasRole("ADMIN")
                     .requestMatchers(HttpMethod.DELETE, "/rooms/**").hasRole("ADMIN")
@@ -148,6 +156,45 @@ class RoomControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /rooms/catalog-version")
+    class GetCatalogVersion {
+        @Test
+        @DisplayName("should return version with ETag")
+        void should_ReturnVersionWithETag() throws Exception {
+            given(roomService.getCatalogVersion()).willReturn(new CatalogVersionResponse(42L));
+
+            mockMvc.perform(get("/rooms/catalog-version"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"42\""))
+                .andExpect(jsonPath("$.version", is(42)));
+        }
+
+        @Test
+        @DisplayName("should return 304 when version matches If-None-Match")
+        void should_Return304_When_VersionUnchanged() throws Exception {
+            given(roomService.getCatalogVersion()).willReturn(new CatalogVersionResponse(42L));
+
+            mockMvc.perform(get("/rooms/catalog-version").header("If-None-Match", "\"42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /rooms/availability/stream")
+    class StreamAvailability {
+        @Test
+        @DisplayName("should reject a stream that is not scoped to a hotel")
+        void should_Return400_When_HotelIdMissing() throws Exception {
+            mockMvc.perform(get("/rooms/availability/stream"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("hotelId")));
+
+            verify(roomService, never()).subscribeToAvailability(any());
+        }
+    }
+
     @Nested
     @DisplayName("GET /rooms/hotel/{hotelId}")
     class GetRoomsByHotelId {
@@ -179,7 +226,7 @@ class RoomControllerTest {
         @Test
         @DisplayName("should return available rooms without filters (public endpoint)")
         void should_ReturnAvailableRooms_WithoutFilters() throws Exception {
-            given(roomService.getAvailableRooms()).willReturn(List.of(testResponse));
+            given(roomService.searchAvailableRooms(RoomSearchCriteria.builder().build())).willReturn(List.of(testResponse));
 
             mockMvc.perform(get("/rooms/available"))
                 .andExpect(status().isOk())
@@ -190,7 +237,8 @@ class RoomControllerTest {
         @Test
         @DisplayName("should filter by hotel ID")
         void should_FilterByHotelId() throws Exception {
-            given(roomService.getAvailableRoomsByHotelId(1L)).willReturn(List.of(testResponse));
+            given(roomService.searchAvailableRooms(RoomSearchCriteria.builder().hotelId(1L).build()))
+                .willReturn(List.of(testResponse));
 
             mockMvc.perform(get("/rooms/available").param("hotelId", "1"))
                 .andExpect(status().isOk())
@@ -200,7 +248,8 @@ class RoomControllerTest {
         @Test
         @DisplayName("should filter by room type")
         void should_FilterByRoomType() throws Exception {
-            given(roomService.getAvailableRoomsByType(RoomType.STANDARD)).willReturn(List.of(testResponse));
+            given(roomService.searchAvailableRooms(RoomSearchCriteria.builder().roomType(RoomType.STANDARD).build()))
+                .willReturn(List.of(testResponse));
 
             mockMvc.perform(get("/rooms/available").param("roomType", "STANDARD"))
                 .andExpect(status().isOk())
@@ -210,7 +259,8 @@ class RoomControllerTest {
         @Test
         @DisplayName("should filter by guest count")
         void should_FilterByGuestCount() throws Exception {
-            given(roomService.getAvailableRoomsByCapacity(2)).willReturn(List.of(testResponse));
+            given(roomService.searchAvailableRooms(RoomSearchCriteria.builder().guestCount(2).build()))
+                .willReturn(List.of(testResponse));
 
             mockMvc.perform(get("/rooms/available").param("guestCount", "2"))
                 .andExpect(status().isOk())
@@ -220,13 +270,24 @@ class RoomControllerTest {
         @Test
         @DisplayName("should combine filters")
         void should_CombineFilters() throws Exception {
-            given(roomService.getAvailableRoomsByHotelIdAndType(1L, RoomType.STANDARD))
-                .willReturn(List.of(testResponse));
+            RoomSearchCriteria criteria = RoomSearchCriteria.builder()
+                .hotelId(1L)
+                .roomType(RoomType.STANDARD)
+                .guestCount(2)
+                .maxPrice(BigDecimal.valueOf(200))
+                .sort(RoomSort.PRICE_ASC)
+                .maxResults(5)
+                .build();
+            given(roomService.searchAvailableRooms(criteria)).willReturn(List.of(testResponse));
 
             mockMvc.perform(
                 get("/rooms/available")
                     .param("hotelId", "1")
                     .param("roomType", "STANDARD")
+                    .param("guestCount", "2")
+                    .param("maxPrice", "200")
+                    .param("sort", "PRICE_ASC")
+                    .param("maxResults", "5")
             )
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].hotelId", is(1)))
@@ -439,6 +500,67 @@ class RoomControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Room holds (Internal API)")
+    class RoomHolds {
+        private final UserDetails serviceUser = User.builder()
+            .username("service")
+            .password("password")
+            .roles("USER")
+            .build();
+
+        @Test
+        @DisplayName("should hold a room for a service caller")
+        void should_HoldRoom_When_Authenticated() throws Exception {
+            AvailabilityRequest holdRequest = new AvailabilityRequest();
+            holdRequest.setRequestId("req-hold");
+            holdRequest.setStartDate(LocalDate.now().plusDays(1));
+            holdRequest.setEndDate(LocalDate.now().plusDays(3));
+
+            given(roomService.holdRoom(eq(1L), any(AvailabilityRequest.class))).willReturn(RoomHoldResponse.builder()
+                .holdToken("hold-1")
+                .roomId(1L)
+                .requestId("req-hold")
+                .held(true)
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .build()
+            );
+
+            mockMvc.perform(
+                post("/rooms/1/hold")
+                    .with(csrf())
+                    .with(user(serviceUser))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(holdRequest))
+            )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.held", is(true)))
+                .andExpect(jsonPath("$.holdToken", is("hold-1")));
+        }
+
+        @Test
+        @DisplayName("should confirm a hold by its token")
+        void should_ConfirmHold_When_Authenticated() throws Exception {
+            given(roomService.confirmHold("hold-1")).willReturn(AvailabilityResponse.builder()
+                .roomId(1L)
+                .requestId("req-hold")
+                .confirmed(true)
+                .build()
+            );
+
+            mockMvc.perform(post("/rooms/holds/hold-1/confirm").with(csrf()).with(user(serviceUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.confirmed", is(true)));
+        }
+
+        @Test
+        @DisplayName("should return 401 when releasing a hold without authentication")
+        void should_Return401_When_ReleasingHoldAnonymously() throws Exception {
+            mockMvc.perform(post("/rooms/holds/hold-1/release").with(csrf()))
+                .andExpect(status().isUnauthorized());
+        }
+    }
+
     @Nested
     @DisplayName("POST /rooms/{id}/confirm-availability (Internal API)")
     class ConfirmAvailability {
@@ -535,7 +657,7 @@ class RoomControllerTest {
                 .message("Room released successfully")
                 .build();
 
-            given(roomService.releaseRoom(1L, requestId)).willReturn(releaseResponse);
+            given(roomService.releaseRoom(1L, requestId, null, null)).willReturn(releaseResponse);
 
             UserDetails authUser = User.builder()
                 .username("service")
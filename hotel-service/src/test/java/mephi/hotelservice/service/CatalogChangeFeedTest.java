@@ -0,0 +1,135 @@
+package mephi.hotelservice.service;
+
+import mephi.hotelservice.dto.ChangeFeedResponse;
+import mephi.hotelservice.entity.CatalogChange;
+import mephi.hotelservice.entity.CatalogEntityType;
+import mephi.hotelservice.entity.ChangeType;
+import mephi.hotelservice.entity.Hotel;
+import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.mapper.CatalogChangeMapper;
+import mephi.hotelservice.repository.CatalogChangeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogChangeFeed Unit Tests")
+class CatalogChangeFeedTest {
+    @Mock
+    private CatalogChangeRepository changeRepository;
+
+    @Spy
+    private CatalogChangeMapper changeMapper = Mappers.getMapper(CatalogChangeMapper.class);
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @InjectMocks
+    private CatalogChangeFeed changeFeed;
+
+    @Test
+    @DisplayName("should record room changes with hotel and availability")
+    void should_RecordRoomChange() {
+        Hotel hotel = new Hotel();
+        hotel.setId(3L);
+        Room room = Room.builder().id(7L).hotel(hotel).available(false).build();
+        ArgumentCaptor<CatalogChange> captor = ArgumentCaptor.forClass(CatalogChange.class);
+        given(changeRepository.save(captor.capture())).willAnswer(invocation -> withSequence(invocation.getArgument(0), 1L));
+
+        changeFeed.roomChanged(room, ChangeType.AVAILABILITY_CHANGED);
+
+        assertThat(captor.getValue().getEntityType()).isEqualTo(CatalogEntityType.ROOM);
+        assertThat(captor.getValue().getEntityId()).isEqualTo(7L);
+        assertThat(captor.getValue().getHotelId()).isEqualTo(3L);
+        assertThat(captor.getValue().getAvailable()).isFalse();
+        verify(catalogVersion, times(1)).changed();
+    }
+
+    @Test
+    @DisplayName("should page changes and point nextSince at the last returned sequence")
+    void should_ReturnNextSince_When_MoreChangesThanLimit() {
+        given(changeRepository.findChanges(eq(10L), eq(Long.MAX_VALUE), any(Limit.class))).willReturn(List.of(
+            change(11L),
+            change(12L),
+            change(13L)
+        ));
+
+        ChangeFeedResponse response = changeFeed.getChanges(10L, 2);
+
+        assertThat(response.getChanges()).extracting("sequence").containsExactly(11L, 12L);
+        assertThat(response.getNextSince()).isEqualTo(12L);
+        assertThat(response.isHasMore()).isTrue();
+        verify(changeRepository).findChanges(10L, Long.MAX_VALUE, Limit.of(3));
+    }
+
+    @Test
+    @DisplayName("should keep the consumer position when nothing changed")
+    void should_KeepSince_When_NoChanges() {
+        given(changeRepository.findChanges(eq(42L), anyLong(), any(Limit.class))).willReturn(List.of());
+
+        ChangeFeedResponse response = changeFeed.getChanges(42L, 100);
+
+        assertThat(response.getChanges()).isEmpty();
+        assertThat(response.getNextSince()).isEqualTo(42L);
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should hide sequences at and after an uncommitted change")
+    void should_HideSequences_When_TransactionInFlight() {
+        given(changeRepository.save(any(CatalogChange.class))).willAnswer(invocation -> withSequence(invocation.getArgument(0), 5L));
+        given(changeRepository.findChanges(anyLong(), anyLong(), any(Limit.class))).willReturn(List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            changeFeed.hotelChanged(1L, ChangeType.UPDATED);
+
+            changeFeed.getChanges(0L, 100);
+            verify(changeRepository).findChanges(0L, 4L, Limit.of(101));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            changeFeed.getChanges(0L, 100);
+            verify(changeRepository).findChanges(0L, Long.MAX_VALUE, Limit.of(101));
+        }
+        finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private CatalogChange withSequence(CatalogChange change, Long sequence) {
+        change.setSequence(sequence);
+
+        return change;
+    }
+
+    private CatalogChange change(Long sequence) {
+        return CatalogChange.builder()
+            .sequence(sequence)
+            .entityType(CatalogEntityType.ROOM)
+            .entityId(sequence)
+            .hotelId(1L)
+            .changeType(ChangeType.UPDATED)
+            .build();
+    }
+}
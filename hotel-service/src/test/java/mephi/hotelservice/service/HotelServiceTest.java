@@ -1,5 +1,6 @@
 package mephi.hotelservice.service;
 
+import mephi.hotelservice.dto.CursorPage;
 import mephi.hotelservice.dto.HotelRequest;
 import mephi.hotelservice.dto.HotelResponse;
 import mephi.hotelservice.entity.Hotel;
@@ -7,6 +8,7 @@ import mephi.hotelservice.exception.DuplicateResourceException;
 import mephi.hotelservice.exception.ResourceNotFoundException;
 import mephi.hotelservice.mapper.HotelMapper;
 import mephi.hotelservice.repository.HotelRepository;
+import mephi.hotelservice.repository.projection.HotelSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.Arrays;
 import java.util.List;
@@ -25,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +41,15 @@ class HotelServiceTest {
     @Mock
     private HotelMapper hotelMapper;
 
+    @Mock
+    private OccupancyCounters occupancyCounters;
+
+    @Mock
+    private RoomRecommendationIndex recommendationIndex;
+
+    @Mock
+    private CatalogChangeFeed changeFeed;
+
     @InjectMocks
     private HotelService hotelService;
 
@@ -78,31 +91,74 @@ class HotelServiceTest {
         @Test
         @DisplayName("should return all hotels when hotels exist")
         void should_ReturnAllHotels_When_HotelsExist() {
-            Hotel secondHotel = new Hotel();
-            secondHotel.setId(2L);
-            secondHotel.setName("Budget Inn");
-
-            List<Hotel> hotels = Arrays.asList(testHotel, secondHotel);
-            given(hotelRepository.findAll()).willReturn(hotels);
-            given(hotelMapper.toResponseWithoutRooms(any(Hotel.class))).willReturn(testResponse);
+            List<HotelSummary> hotels = Arrays.asList(mock(HotelSummary.class), mock(HotelSummary.class));
+            given(hotelRepository.findAllSummaries()).willReturn(hotels);
+            given(hotelMapper.fromSummaries(hotels)).willReturn(List.of(testResponse, testResponse));
 
             List<HotelResponse> result = hotelService.getAllHotels();
 
             assertThat(result).hasSize(2);
-            verify(hotelRepository, times(1)).findAll();
-            verify(hotelMapper, times(2)).toResponseWithoutRooms(any(Hotel.class));
+            verify(hotelRepository, times(1)).findAllSummaries();
+            verify(hotelRepository, never()).findAll();
+            verify(hotelMapper, never()).toResponseWithoutRooms(any(Hotel.class));
         }
 
         @Test
         @DisplayName("should return empty list when no hotels exist")
         void should_ReturnEmptyList_When_NoHotelsExist() {
-            given(hotelRepository.findAll()).willReturn(List.of());
+            given(hotelRepository.findAllSummaries()).willReturn(List.of());
+            given(hotelMapper.fromSummaries(List.of())).willReturn(List.of());
 
             List<HotelResponse> result = hotelService.getAllHotels();
 
             assertThat(result).isEmpty();
-            verify(hotelRepository, times(1)).findAll();
-            verify(hotelMapper, never()).toResponseWithoutRooms(any(Hotel.class));
+            verify(hotelRepository, times(1)).findAllSummaries();
+        }
+    }
+
+    @Nested
+    @DisplayName("getHotelsPage")
+    class GetHotelsPage {
+        @Test
+        @DisplayName("should return next cursor when more hotels follow")
+        void should_ReturnNextCursor_When_MoreHotelsExist() {
+            HotelSummary first = mock(HotelSummary.class);
+            HotelSummary second = mock(HotelSummary.class);
+            HotelSummary third = mock(HotelSummary.class);
+            given(second.getId()).willReturn(2L);
+
+            given(hotelRepository.findSummariesAfter(eq(0L), any(Limit.class))).willReturn(List.of(first, second, third));
+            given(hotelMapper.fromSummaries(List.of(first, second))).willReturn(List.of(testResponse, testResponse));
+
+            CursorPage<HotelResponse> result = hotelService.getHotelsPage(2, null, false);
+
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(KeysetPagination.decodeId(result.getNextCursor())).isEqualTo(2L);
+            assertThat(result.getTotalElements()).isNull();
+            verify(hotelRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("should continue after the cursor and report total when requested")
+        void should_SeekPastCursor_When_CursorGiven() {
+            given(hotelRepository.findSummariesAfter(eq(2L), any(Limit.class))).willReturn(List.of());
+            given(hotelMapper.fromSummaries(List.of())).willReturn(List.of());
+            given(hotelRepository.count()).willReturn(2L);
+
+            CursorPage<HotelResponse> result = hotelService.getHotelsPage(2, KeysetPagination.encode(2L), true);
+
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+            assertThat(result.getTotalElements()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("should reject malformed cursor")
+        void should_ThrowException_When_CursorMalformed() {
+            assertThatThrownBy(() -> hotelService.getHotelsPage(10, "not a cursor!", false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
         }
     }
 
@@ -235,6 +291,7 @@ class HotelServiceTest {
 
             verify(hotelRepository, times(1)).existsById(1L);
             verify(hotelRepository, times(1)).deleteById(1L);
+            verify(occupancyCounters, times(1)).hotelDeleted(1L);
         }
 
         @Test
@@ -255,9 +312,9 @@ class HotelServiceTest {
         @Test
         @DisplayName("should return hotels when city has hotels")
         void should_ReturnHotels_When_CityHasHotels() {
-            List<Hotel> moscowHotels = List.of(testHotel);
-            given(hotelRepository.findByCity("Moscow")).willReturn(moscowHotels);
-            given(hotelMapper.toResponseWithoutRooms(testHotel)).willReturn(testResponse);
+            List<HotelSummary> moscowHotels = List.of(mock(HotelSummary.class));
+            given(hotelRepository.findSummariesByCity("Moscow")).willReturn(moscowHotels);
+            given(hotelMapper.fromSummaries(moscowHotels)).willReturn(List.of(testResponse));
 
             List<HotelResponse> result = hotelService.getHotelsByCity("Moscow");
 
@@ -268,7 +325,8 @@ class HotelServiceTest {
         @Test
         @DisplayName("should return empty list when city has no hotels")
         void should_ReturnEmptyList_When_CityHasNoHotels() {
-            given(hotelRepository.findByCity("Unknown City")).willReturn(List.of());
+            given(hotelRepository.findSummariesByCity("Unknown City")).willReturn(List.of());
+            given(hotelMapper.fromSummaries(List.of())).willReturn(List.of());
 
             List<HotelResponse> result = hotelService.getHotelsByCity("Unknown City");
 
@@ -282,9 +340,9 @@ class HotelServiceTest {
         @Test
         @DisplayName("should return hotels with minimum star rating")
         void should_ReturnHotels_When_MinStarsProvided() {
-            List<Hotel> fiveStarHotels = List.of(testHotel);
-            given(hotelRepository.findByStarRatingGreaterThanEqual(5)).willReturn(fiveStarHotels);
-            given(hotelMapper.toResponseWithoutRooms(testHotel)).willReturn(testResponse);
+            List<HotelSummary> fiveStarHotels = List.of(mock(HotelSummary.class));
+            given(hotelRepository.findSummariesByMinStarRating(5)).willReturn(fiveStarHotels);
+            given(hotelMapper.fromSummaries(fiveStarHotels)).willReturn(List.of(testResponse));
 
             List<HotelResponse> result = hotelService.getHotelsByMinStarRating(5);
 
@@ -299,8 +357,9 @@ class HotelServiceTest {
         @Test
         @DisplayName("should return matching hotels when search term matches")
         void should_ReturnHotels_When_NameMatches() {
-            given(hotelRepository.findByNameContainingIgnoreCase("Grand")).willReturn(List.of(testHotel));
-            given(hotelMapper.toResponseWithoutRooms(testHotel)).willReturn(testResponse);
+            List<HotelSummary> grandHotels = List.of(mock(HotelSummary.class));
+            given(hotelRepository.findSummariesByNameContaining("Grand")).willReturn(grandHotels);
+            given(hotelMapper.fromSummaries(grandHotels)).willReturn(List.of(testResponse));
 
             List<HotelResponse> result = hotelService.searchHotelsByName("Grand");
 
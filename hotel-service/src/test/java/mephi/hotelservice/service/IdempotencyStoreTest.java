@@ -0,0 +1,166 @@
+package mephi.hotelservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mephi.hotelservice.dto.AvailabilityResponse;
+import mephi.hotelservice.entity.ProcessedRequest;
+import mephi.hotelservice.repository.ProcessedRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyStore Unit Tests")
+class IdempotencyStoreTest {
+    @Mock
+    private ProcessedRequestRepository processedRequestRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AvailabilityResponse response;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        response = AvailabilityResponse.builder()
+            .roomId(1L)
+            .hotelId(1L)
+            .requestId("req-1")
+            .confirmed(true)
+            .message("Room availability confirmed")
+            .build();
+    }
+
+    private IdempotencyStore store(boolean persistent) {
+        return new IdempotencyStore(processedRequestRepository, meterRegistry, 100, Duration.ofHours(1), persistent);
+    }
+
+    @Nested
+    @DisplayName("in-memory")
+    class InMemory {
+        @Test
+        @DisplayName("should return stored response and record cache hits and misses")
+        void should_ReturnResponse_When_RequestStored() {
+            IdempotencyStore store = store(false);
+
+            assertThat(store.find("req-1")).isEmpty();
+
+            store.put(response);
+
+            assertThat(store.find("req-1")).contains(response);
+            assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+            verifyNoInteractions(processedRequestRepository);
+        }
+
+        @Test
+        @DisplayName("should keep the confirmed response when a rejection for the same request arrives")
+        void should_KeepConfirmedResponse_When_RejectionPut() {
+            IdempotencyStore store = store(false);
+            store.put(response);
+
+            store.put(AvailabilityResponse.builder()
+                .roomId(1L)
+                .requestId("req-1")
+                .confirmed(false)
+                .message("Room is already booked for the selected dates")
+                .build()
+            );
+
+            assertThat(store.find("req-1")).contains(response);
+        }
+
+        @Test
+        @DisplayName("should forget response when removed")
+        void should_ForgetResponse_When_Removed() {
+            IdempotencyStore store = store(false);
+            store.put(response);
+
+            store.remove("req-1");
+
+            assertThat(store.find("req-1")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("persistent")
+    class Persistent {
+        @Test
+        @DisplayName("should write responses through to the database")
+        void should_SaveToDatabase_When_Put() {
+            store(true).put(response);
+
+            verify(processedRequestRepository, times(1)).save(any(ProcessedRequest.class));
+        }
+
+        @Test
+        @DisplayName("should not overwrite a confirmed database row with a rejection")
+        void should_SkipSave_When_ConfirmedRowExists() {
+            ProcessedRequest stored = ProcessedRequest.builder()
+                .requestId("req-1")
+                .roomId(1L)
+                .confirmed(true)
+                .createdAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+
+            given(processedRequestRepository.findById("req-1")).willReturn(Optional.of(stored));
+
+            store(true).put(AvailabilityResponse.builder()
+                .roomId(1L)
+                .requestId("req-1")
+                .confirmed(false)
+                .message("Room is already booked for the selected dates")
+                .build()
+            );
+
+            verify(processedRequestRepository, never()).save(any(ProcessedRequest.class));
+        }
+
+        @Test
+        @DisplayName("should restore response from the database after restart")
+        void should_RestoreResponse_When_MissingInMemory() {
+            ProcessedRequest stored = ProcessedRequest.builder()
+                .requestId("req-1")
+                .roomId(1L)
+                .confirmed(true)
+                .createdAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+
+            given(processedRequestRepository.findById("req-1")).willReturn(Optional.of(stored));
+
+            IdempotencyStore store = store(true);
+
+            assertThat(store.find("req-1")).hasValueSatisfying(r -> assertThat(r.isConfirmed()).isTrue());
+            assertThat(store.find("req-1")).isPresent();
+            verify(processedRequestRepository, times(1)).findById(anyString());
+        }
+
+        @Test
+        @DisplayName("should ignore database rows older than the TTL")
+        void should_IgnoreResponse_When_RowExpired() {
+            ProcessedRequest stored = ProcessedRequest.builder()
+                .requestId("req-1")
+                .roomId(1L)
+                .confirmed(true)
+                .createdAt(LocalDateTime.now().minusHours(2))
+                .build();
+
+            given(processedRequestRepository.findById("req-1")).willReturn(Optional.of(stored));
+
+            assertThat(store(true).find("req-1")).isEmpty();
+        }
+    }
+}
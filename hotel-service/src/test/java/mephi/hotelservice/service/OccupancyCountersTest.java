@@ -0,0 +1,203 @@
+package mephi.hotelservice.service;
+
+import mephi.hotelservice.entity.Hotel;
+import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.entity.RoomType;
+import mephi.hotelservice.repository.HotelRepository;
+import mephi.hotelservice.repository.RoomRepository;
+import mephi.hotelservice.repository.projection.HotelAggregate;
+import mephi.hotelservice.repository.projection.RoomTypeAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OccupancyCounters Unit Tests")
+class OccupancyCountersTest {
+    private final SpelAwareProxyProjectionFactory projections = new SpelAwareProxyProjectionFactory();
+
+    @Mock
+    private HotelRepository hotelRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @InjectMocks
+    private OccupancyCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        given(hotelRepository.aggregateAll(any(LocalDate.class))).willReturn(List.of(
+            projections.createProjection(HotelAggregate.class, Map.of(
+                "hotelId", 1L,
+                "hotelName", "Grand Hotel",
+                "totalRooms", 2L,
+                "availableRooms", 2L,
+                "occupiedRooms", 0L,
+                "totalBookings", 3L
+            ))
+        ));
+        given(roomRepository.aggregateByRoomType(any(LocalDate.class))).willReturn(List.of(
+            projections.createProjection(RoomTypeAggregate.class, Map.of(
+                "roomType", RoomType.STANDARD,
+                "totalRooms", 2L,
+                "availableRooms", 2L,
+                "occupiedRooms", 0L,
+                "totalBookings", 3L
+            ))
+        ));
+
+        counters.reconcile();
+    }
+
+    @Test
+    @DisplayName("should load aggregates from the database on reconcile")
+    void should_LoadAggregates_When_Reconciled() {
+        assertThat(counters.isReady()).isTrue();
+        assertThat(counters.hotelAggregates()).singleElement().satisfies(h -> {
+            assertThat(h.getTotalRooms()).isEqualTo(2L);
+            assertThat(h.getTotalBookings()).isEqualTo(3L);
+        });
+        assertThat(counters.roomTypeAggregates()).hasSize(RoomType.values().length);
+    }
+
+    @Test
+    @DisplayName("should track room changes incrementally")
+    void should_ApplyDeltas_When_RoomsChange() {
+        OccupancyCounters.RoomFigures standard = new OccupancyCounters.RoomFigures(1L, RoomType.STANDARD, true, false, 1);
+        OccupancyCounters.RoomFigures suite = new OccupancyCounters.RoomFigures(1L, RoomType.SUITE, false, false, 1);
+
+        counters.roomChanged(null, suite);
+        counters.roomChanged(standard, null);
+        counters.roomBooked(1L, RoomType.SUITE);
+
+        HotelAggregate hotel = counters.hotelAggregates().getFirst();
+        assertThat(hotel.getTotalRooms()).isEqualTo(2L);
+        assertThat(hotel.getAvailableRooms()).isEqualTo(1L);
+        assertThat(hotel.getTotalBookings()).isEqualTo(4L);
+
+        assertThat(counters.roomTypeAggregates())
+            .filteredOn(t -> t.getRoomType() == RoomType.SUITE)
+            .singleElement()
+            .satisfies(t -> {
+                assertThat(t.getTotalRooms()).isEqualTo(1L);
+                assertThat(t.getAvailableRooms()).isZero();
+                assertThat(t.getTotalBookings()).isEqualTo(2L);
+            });
+    }
+
+    @Test
+    @DisplayName("should keep bookings that commit while a reconcile is reading the database")
+    void should_ReplayDeltas_When_BookedDuringReconcile() {
+        given(hotelRepository.aggregateAll(any(LocalDate.class))).willAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> counters.roomBooked(1L, RoomType.STANDARD)).get(5, TimeUnit.SECONDS);
+
+            return List.of(projections.createProjection(HotelAggregate.class, Map.of(
+                "hotelId", 1L,
+                "hotelName", "Grand Hotel",
+                "totalRooms", 2L,
+                "availableRooms", 2L,
+                "occupiedRooms", 0L,
+                "totalBookings", 3L
+            )));
+        });
+
+        counters.reconcile();
+
+        assertThat(counters.hotelAggregates()).singleElement()
+            .satisfies(h -> assertThat(h.getTotalBookings()).isEqualTo(4L));
+        assertThat(counters.roomTypeAggregates())
+            .filteredOn(t -> t.getRoomType() == RoomType.STANDARD)
+            .singleElement()
+            .satisfies(t -> assertThat(t.getTotalBookings()).isEqualTo(4L));
+    }
+
+    @Test
+    @DisplayName("should list newly created hotels with empty counters")
+    void should_AddHotel_When_HotelSaved() {
+        counters.hotelSaved(2L, "Seaside Resort");
+
+        assertThat(counters.hotelAggregates())
+            .extracting(HotelAggregate::getHotelName)
+            .containsExactly("Grand Hotel", "Seaside Resort");
+    }
+
+    @Test
+    @DisplayName("should count a room as occupied while a reservation covers today")
+    void should_MarkRoomOccupied_When_ReservationCoversToday() {
+        Room room = room();
+        LocalDate today = LocalDate.now();
+
+        counters.reservationAdded(room, today, today.plusDays(2));
+        counters.reservationAdded(room(), today.plusDays(3), today.plusDays(5));
+
+        HotelAggregate hotel = counters.hotelAggregates().getFirst();
+        assertThat(hotel.getAvailableRooms()).isEqualTo(1L);
+        assertThat(hotel.getOccupiedRooms()).isEqualTo(1L);
+
+        counters.reservationRemoved(room, today, today.plusDays(2));
+
+        assertThat(counters.hotelAggregates().getFirst().getOccupiedRooms()).isZero();
+        assertThat(counters.roomTypeAggregates())
+            .filteredOn(t -> t.getRoomType() == RoomType.STANDARD)
+            .singleElement()
+            .satisfies(t -> assertThat(t.getAvailableRooms()).isEqualTo(2L));
+    }
+
+    @Test
+    @DisplayName("should drop a deleted hotel and its rooms without a full reconcile")
+    void should_SubtractHotel_When_HotelDeleted() {
+        given(roomRepository.aggregateByRoomTypeForHotel(eq(1L), any(LocalDate.class))).willReturn(List.of(
+            projections.createProjection(RoomTypeAggregate.class, Map.of(
+                "roomType", RoomType.STANDARD,
+                "totalRooms", 2L,
+                "availableRooms", 2L,
+                "occupiedRooms", 0L,
+                "totalBookings", 3L
+            ))
+        ));
+
+        counters.hotelDeleted(1L);
+
+        assertThat(counters.hotelAggregates()).isEmpty();
+        assertThat(counters.roomTypeAggregates())
+            .filteredOn(t -> t.getRoomType() == RoomType.STANDARD)
+            .singleElement()
+            .satisfies(t -> {
+                assertThat(t.getTotalRooms()).isZero();
+                assertThat(t.getTotalBookings()).isZero();
+            });
+        verify(hotelRepository, times(1)).aggregateAll(any(LocalDate.class));
+    }
+
+    private Room room() {
+        Hotel hotel = new Hotel();
+        hotel.setId(1L);
+
+        Room room = new Room();
+        room.setHotel(hotel);
+        room.setRoomType(RoomType.STANDARD);
+        room.setAvailable(true);
+        room.setTimesBooked(0);
+
+        return room;
+    }
+}
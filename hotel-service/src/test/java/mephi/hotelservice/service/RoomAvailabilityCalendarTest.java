@@ -0,0 +1,124 @@
+package mephi.hotelservice.service;
+
+import mephi.hotelservice.entity.RoomReservation;
+import mephi.hotelservice.repository.RoomReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomAvailabilityCalendar Unit Tests")
+class RoomAvailabilityCalendarTest {
+    @Mock
+    private RoomReservationRepository reservationRepository;
+
+    @InjectMocks
+    private RoomAvailabilityCalendar calendar;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+    }
+
+    @Nested
+    @DisplayName("tryReserve")
+    class TryReserve {
+        @Test
+        @DisplayName("should reserve nights when room has no reservations")
+        void should_Reserve_When_RoomHasNoReservations() {
+            assertThat(calendar.isAvailable(1L, today.plusDays(1), today.plusDays(3))).isTrue();
+            assertThat(calendar.tryReserve(1L, today.plusDays(1), today.plusDays(3))).isTrue();
+            assertThat(calendar.isAvailable(1L, today.plusDays(1), today.plusDays(3))).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reject overlapping nights")
+        void should_Reject_When_NightsOverlap() {
+            calendar.tryReserve(1L, today.plusDays(5), today.plusDays(8));
+
+            assertThat(calendar.tryReserve(1L, today.plusDays(7), today.plusDays(10))).isFalse();
+            assertThat(calendar.tryReserve(1L, today.plusDays(3), today.plusDays(6))).isFalse();
+        }
+
+        @Test
+        @DisplayName("should allow back-to-back stays and earlier stays")
+        void should_Allow_When_StaysDoNotShareNights() {
+            calendar.tryReserve(1L, today.plusDays(5), today.plusDays(8));
+
+            assertThat(calendar.tryReserve(1L, today.plusDays(8), today.plusDays(10))).isTrue();
+            assertThat(calendar.tryReserve(1L, today.plusDays(1), today.plusDays(5))).isTrue();
+            assertThat(calendar.isAvailable(1L, today.plusDays(4), today.plusDays(6))).isFalse();
+            assertThat(calendar.isAvailable(1L, today.plusDays(10), today.plusDays(12))).isTrue();
+        }
+
+        @Test
+        @DisplayName("should keep rooms independent")
+        void should_KeepRoomsIndependent() {
+            calendar.tryReserve(1L, today.plusDays(1), today.plusDays(3));
+
+            assertThat(calendar.isAvailable(2L, today.plusDays(1), today.plusDays(3))).isTrue();
+        }
+
+        @Test
+        @DisplayName("should refuse to rebase further back than the calendar can index")
+        void should_Throw_When_StayIsTooFarBeforeExistingNights() {
+            calendar.tryReserve(1L, today.plusDays(1), today.plusDays(3));
+
+            assertThatThrownBy(() -> calendar.tryReserve(1L, LocalDate.MIN, LocalDate.MIN.plusDays(1)))
+                .isInstanceOf(ArithmeticException.class);
+            assertThat(calendar.isAvailable(1L, today.plusDays(1), today.plusDays(3))).isFalse();
+            assertThat(calendar.isAvailable(1L, today.plusDays(3), today.plusDays(5))).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("release")
+    class Release {
+        @Test
+        @DisplayName("should free released nights")
+        void should_FreeNights_When_Released() {
+            calendar.tryReserve(1L, today.plusDays(1), today.plusDays(3));
+
+            calendar.release(1L, today.plusDays(1), today.plusDays(3));
+
+            assertThat(calendar.isAvailable(1L, today.plusDays(1), today.plusDays(3))).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("warmUp")
+    class WarmUp {
+        @Test
+        @DisplayName("should load upcoming reservations from the database")
+        void should_LoadReservations_When_Started() {
+            RoomReservation reservation = RoomReservation.builder()
+                .roomId(3L)
+                .requestId("req-1")
+                .startDate(today.plusDays(2))
+                .endDate(today.plusDays(4))
+                .build();
+
+            given(reservationRepository.findByEndDateAfter(any(LocalDate.class))).willReturn(List.of(reservation));
+
+            calendar.warmUp();
+
+            assertThat(calendar.isAvailable(3L, today.plusDays(3), today.plusDays(5))).isFalse();
+            assertThat(calendar.isAvailable(3L, today, today.plusDays(2))).isTrue();
+        }
+    }
+}
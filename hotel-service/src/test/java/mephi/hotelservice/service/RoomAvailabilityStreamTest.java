@@ -0,0 +1,162 @@
+package mephi.hotelservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mephi.hotelservice.dto.AvailabilityEvent;
+import mephi.hotelservice.dto.AvailabilitySnapshot;
+import mephi.hotelservice.entity.Hotel;
+import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.entity.RoomReservation;
+import mephi.hotelservice.repository.RoomRepository;
+import mephi.hotelservice.repository.RoomReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomAvailabilityStream Unit Tests")
+class RoomAvailabilityStreamTest {
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RoomReservationRepository reservationRepository;
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private RoomAvailabilityStream stream;
+    private Room room;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        stream = new RoomAvailabilityStream(
+            roomRepository,
+            reservationRepository,
+            new SimpleMeterRegistry(),
+            tasks::add,
+            2,
+            Duration.ofMinutes(1)
+        );
+
+        Hotel hotel = new Hotel();
+        hotel.setId(1L);
+        room = Room.builder().id(10L).hotel(hotel).available(true).build();
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("should send a snapshot first and then availability deltas")
+    void should_SendSnapshotThenDeltas() {
+        givenHotelRooms();
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        stream.subscribe(1L, emitter);
+        runTasks();
+        stream.roomReserved(room, today.plusDays(1), today.plusDays(3));
+        runTasks();
+
+        assertThat(emitter.payloads).hasSize(2);
+        AvailabilitySnapshot snapshot = (AvailabilitySnapshot) emitter.payloads.get(0);
+        assertThat(snapshot.getRooms()).singleElement()
+            .satisfies(r -> assertThat(r.getReserved()).singleElement()
+                .satisfies(range -> assertThat(range.getStartDate()).isEqualTo(today)));
+        AvailabilityEvent event = (AvailabilityEvent) emitter.payloads.get(1);
+        assertThat(event.getChange()).isEqualTo(AvailabilityEvent.Change.RESERVED);
+        assertThat(event.getHotelId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("should skip events of other hotels")
+    void should_SkipEvents_When_OtherHotel() {
+        givenHotelRooms();
+        RecordingEmitter emitter = new RecordingEmitter();
+        Hotel otherHotel = new Hotel();
+        otherHotel.setId(2L);
+
+        stream.subscribe(1L, emitter);
+        runTasks();
+        stream.roomReleased(Room.builder().id(20L).hotel(otherHotel).build(), today, today.plusDays(1));
+        runTasks();
+
+        assertThat(emitter.payloads).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should replace missed events with a fresh snapshot when the buffer overflows")
+    void should_DropToSnapshot_When_BufferOverflows() {
+        givenHotelRooms();
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        stream.subscribe(1L, emitter);
+        runTasks();
+        for (int i = 0; i < 5; i++) {
+            stream.roomReserved(room, today.plusDays(i), today.plusDays(i + 1));
+        }
+        runTasks();
+
+        assertThat(emitter.payloads).hasSize(2);
+        assertThat(emitter.payloads).allMatch(AvailabilitySnapshot.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("should drop subscribers whose connection failed")
+    void should_DropSubscriber_When_SendFails() {
+        givenHotelRooms();
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failing = true;
+
+        stream.subscribe(1L, emitter);
+        runTasks();
+        stream.roomReserved(room, today.plusDays(1), today.plusDays(3));
+
+        assertThat(tasks).isEmpty();
+    }
+
+    private void givenHotelRooms() {
+        given(roomRepository.findByHotelId(1L)).willReturn(List.of(room));
+        given(reservationRepository.findByRoomIdInAndEndDateAfter(anyList(), any(LocalDate.class))).willReturn(List.of(
+            RoomReservation.builder().roomId(10L).startDate(today).endDate(today.plusDays(1)).build()
+        ));
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Object> payloads = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+
+            builder.build().stream()
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .filter(data -> !(data instanceof String))
+                .forEach(payloads::add);
+        }
+    }
+}
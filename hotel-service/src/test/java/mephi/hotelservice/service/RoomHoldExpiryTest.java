@@ -0,0 +1,76 @@
+package mephi.hotelservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mephi.hotelservice.entity.RoomReservation;
+import mephi.hotelservice.repository.RoomReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomHoldExpiry Unit Tests")
+class RoomHoldExpiryTest {
+    @Mock
+    private RoomReservationRepository reservationRepository;
+
+    private RoomHoldExpiry holdExpiry;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        holdExpiry = new RoomHoldExpiry(reservationRepository, new SimpleMeterRegistry());
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("should hand out only the holds whose deadline passed, earliest first")
+    void should_PollExpiredHoldsInDeadlineOrder() {
+        holdExpiry.schedule("late", now.minusSeconds(1));
+        holdExpiry.schedule("early", now.minusSeconds(10));
+        holdExpiry.schedule("future", now.plusMinutes(5));
+
+        assertThat(holdExpiry.pollExpired(now)).containsExactly("early", "late");
+        assertThat(holdExpiry.pollExpired(now)).isEmpty();
+        assertThat(holdExpiry.pollExpired(now.plusMinutes(10))).containsExactly("future");
+    }
+
+    @Test
+    @DisplayName("should skip holds that were confirmed or released before they expired")
+    void should_SkipCancelledHolds() {
+        holdExpiry.schedule("confirmed", now.minusSeconds(1));
+        holdExpiry.cancel("confirmed");
+
+        assertThat(holdExpiry.pollExpired(now)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should use the latest deadline when a hold is rescheduled")
+    void should_UseLatestDeadline_When_Rescheduled() {
+        holdExpiry.schedule("hold", now.minusSeconds(5));
+        holdExpiry.schedule("hold", now.plusMinutes(1));
+
+        assertThat(holdExpiry.pollExpired(now)).isEmpty();
+        assertThat(holdExpiry.pollExpired(now.plusMinutes(2))).containsExactly("hold");
+    }
+
+    @Test
+    @DisplayName("should pick up holds left in the database by a previous run")
+    void should_TrackStoredHolds_When_WarmedUp() {
+        given(reservationRepository.findByExpiresAtIsNotNull()).willReturn(List.of(
+            RoomReservation.builder().holdToken("stored").expiresAt(now.minusMinutes(1)).build()
+        ));
+
+        holdExpiry.warmUp();
+
+        assertThat(holdExpiry.pollExpired(now)).containsExactly("stored");
+    }
+}
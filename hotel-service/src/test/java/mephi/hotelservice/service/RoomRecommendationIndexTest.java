@@ -0,0 +1,149 @@
+package mephi.hotelservice.service;
+
+import mephi.hotelservice.entity.Hotel;
+import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.entity.RoomType;
+import mephi.hotelservice.repository.RoomRepository;
+import mephi.hotelservice.repository.projection.RoomRankView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomRecommendationIndex Unit Tests")
+class RoomRecommendationIndexTest {
+    private final SpelAwareProxyProjectionFactory projections = new SpelAwareProxyProjectionFactory();
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @InjectMocks
+    private RoomRecommendationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        given(roomRepository.findRankedAvailable()).willReturn(List.of(
+            view(1L, 1L, RoomType.STANDARD, 2, 5),
+            view(2L, 1L, RoomType.DELUXE, 4, 1),
+            view(3L, 2L, RoomType.STANDARD, 2, 0),
+            view(4L, 2L, RoomType.SUITE, 6, 3)
+        ));
+
+        index.refresh();
+    }
+
+    @Test
+    @DisplayName("should merge buckets and return the least booked rooms first")
+    void should_ReturnLeastBooked_When_NoFilters() {
+        assertThat(index.topK(null, null, c -> true, 3)).containsExactly(3L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("should restrict candidates to hotel and type and skip rejected rooms")
+    void should_ApplyFilters_When_Given() {
+        assertThat(index.topK(1L, null, c -> true, 5)).containsExactly(2L, 1L);
+        assertThat(index.topK(null, RoomType.STANDARD, c -> true, 5)).containsExactly(3L, 1L);
+        assertThat(index.topK(null, null, c -> c.maxOccupancy() >= 4, 1)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("should reorder rooms as they get booked and drop unavailable ones")
+    void should_TrackChanges_When_RoomsBookedOrUpdated() {
+        index.roomBooked(3L);
+        index.roomBooked(3L);
+
+        assertThat(index.topK(null, null, c -> true, 2)).containsExactly(2L, 3L);
+
+        Room room = Room.builder()
+            .id(2L)
+            .hotel(Hotel.builder().id(1L).build())
+            .roomType(RoomType.DELUXE)
+            .maxOccupancy(4)
+            .timesBooked(1)
+            .available(false)
+            .build();
+        index.roomSaved(room);
+        index.roomRemoved(4L);
+
+        assertThat(index.topK(null, null, c -> true, 5)).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("should keep serving the old index and accept updates while a refresh queries the database")
+    void should_ServeOldIndexAndKeepUpdates_When_Refreshing() {
+        given(roomRepository.findRankedAvailable()).willAnswer(invocation -> {
+            assertThat(index.topK(null, null, c -> true, 5)).containsExactly(3L, 2L, 4L, 1L);
+
+            CompletableFuture.runAsync(() -> {
+                index.roomRemoved(4L);
+                index.roomBooked(3L);
+                index.roomBooked(3L);
+            }).get(5, TimeUnit.SECONDS);
+
+            return List.of(
+                view(1L, 1L, RoomType.STANDARD, 2, 5),
+                view(2L, 1L, RoomType.DELUXE, 4, 1),
+                view(3L, 2L, RoomType.STANDARD, 2, 0),
+                view(4L, 2L, RoomType.SUITE, 6, 3)
+            );
+        });
+
+        index.refresh();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.topK(null, null, c -> true, 5)).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("should return each room once when it is booked while the merge is walking its bucket")
+    void should_SkipDuplicates_When_RoomBookedDuringTopK() {
+        index.roomSaved(Room.builder()
+            .id(5L)
+            .hotel(Hotel.builder().id(2L).build())
+            .roomType(RoomType.STANDARD)
+            .maxOccupancy(2)
+            .timesBooked(1)
+            .available(true)
+            .build()
+        );
+        AtomicBoolean booked = new AtomicBoolean();
+
+        List<Long> roomIds = index.topK(null, null, candidate -> {
+            if (candidate.roomId() == 3L && booked.compareAndSet(false, true)) {
+                CompletableFuture.runAsync(() -> {
+                    index.roomBooked(3L);
+                    index.roomBooked(3L);
+                }).join();
+            }
+
+            return true;
+        }, 10);
+
+        assertThat(booked).isTrue();
+        assertThat(roomIds).doesNotHaveDuplicates().containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    private RoomRankView view(Long roomId, Long hotelId, RoomType type, int maxOccupancy, int timesBooked) {
+        return projections.createProjection(RoomRankView.class, Map.of(
+            "roomId", roomId,
+            "hotelId", hotelId,
+            "roomType", type,
+            "maxOccupancy", maxOccupancy,
+            "timesBooked", timesBooked
+        ));
+    }
+}
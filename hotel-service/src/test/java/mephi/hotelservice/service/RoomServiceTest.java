@@ -2,36 +2,57 @@ package mephi.hotelservice.service;
 
 import mephi.hotelservice.dto.AvailabilityRequest;
 import mephi.hotelservice.dto.AvailabilityResponse;
+import mephi.hotelservice.dto.BatchConfirmRequest;
+import mephi.hotelservice.dto.BatchReleaseRequest;
+import mephi.hotelservice.dto.CursorPage;
+import mephi.hotelservice.dto.RoomHoldResponse;
 import mephi.hotelservice.dto.RoomRequest;
 import mephi.hotelservice.dto.RoomResponse;
+import mephi.hotelservice.dto.RoomSearchCriteria;
+import mephi.hotelservice.entity.ChangeType;
 import mephi.hotelservice.entity.Hotel;
 import mephi.hotelservice.entity.Room;
+import mephi.hotelservice.entity.RoomReservation;
 import mephi.hotelservice.entity.RoomType;
 import mephi.hotelservice.exception.DuplicateResourceException;
 import mephi.hotelservice.exception.ResourceNotFoundException;
+import mephi.hotelservice.exception.RoomNotAvailableException;
 import mephi.hotelservice.mapper.RoomMapper;
 import mephi.hotelservice.repository.HotelRepository;
 import mephi.hotelservice.repository.RoomRepository;
+import mephi.hotelservice.repository.RoomReservationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +67,36 @@ class RoomServiceTest {
     @Mock
     private RoomMapper roomMapper;
 
+    @Mock
+    private RoomReservationRepository reservationRepository;
+
+    @Mock
+    private RoomAvailabilityCalendar availabilityCalendar;
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private RoomConfirmMetrics confirmMetrics;
+
+    @Mock
+    private OccupancyCounters occupancyCounters;
+
+    @Mock
+    private RoomRecommendationIndex recommendationIndex;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private CatalogChangeFeed changeFeed;
+
+    @Mock
+    private RoomAvailabilityStream availabilityStream;
+
+    @Mock
+    private RoomHoldExpiry holdExpiry;
+
     @InjectMocks
     private RoomService roomService;
 
@@ -118,6 +169,52 @@ class RoomServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getRoomsByIds")
+    class GetRoomsByIds {
+        @Test
+        @DisplayName("should load all requested rooms with one query ordered by id")
+        void should_ReturnRoomsOrderedById_When_IdsGiven() {
+            Room second = new Room();
+            second.setId(2L);
+            RoomResponse secondResponse = RoomResponse.builder().id(2L).build();
+
+            given(roomRepository.findAllWithHotelByIdIn(List.of(2L, 1L, 3L))).willReturn(List.of(second, testRoom));
+            given(roomMapper.toResponse(testRoom)).willReturn(testResponse);
+            given(roomMapper.toResponse(second)).willReturn(secondResponse);
+
+            List<RoomResponse> result = roomService.getRoomsByIds(List.of(2L, 1L, 3L));
+
+            assertThat(result).containsExactly(testResponse, secondResponse);
+        }
+
+        @Test
+        @DisplayName("should reject lookups of more than 100 rooms")
+        void should_ThrowIllegalArgumentException_When_TooManyIds() {
+            List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+            assertThatThrownBy(() -> roomService.getRoomsByIds(ids))
+                .isInstanceOf(IllegalArgumentException.class);
+
+            verify(roomRepository, never()).findAllWithHotelByIdIn(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("subscribeToAvailability")
+    class SubscribeToAvailability {
+        @Test
+        @DisplayName("should throw ResourceNotFoundException when hotel does not exist")
+        void should_ThrowResourceNotFoundException_When_HotelDoesNotExist() {
+            given(hotelRepository.existsById(999L)).willReturn(false);
+
+            assertThatThrownBy(() -> roomService.subscribeToAvailability(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+            verify(availabilityStream, never()).subscribe(any());
+        }
+    }
+
     @Nested
     @DisplayName("getRoomsByHotelId")
     class GetRoomsByHotelId {
@@ -189,6 +286,7 @@ class RoomServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getRoomNumber()).isEqualTo("101");
             verify(roomRepository, times(1)).save(any(Room.class));
+            verify(changeFeed, times(1)).roomChanged(testRoom, ChangeType.CREATED);
         }
 
         @Test
@@ -218,29 +316,64 @@ class RoomServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("updateRoom")
+    class UpdateRoom {
+        @Test
+        @DisplayName("should record a plain update when availability is unchanged")
+        void should_RecordUpdate_When_AvailabilityUnchanged() {
+            given(roomRepository.findByIdWithHotel(1L)).willReturn(Optional.of(testRoom));
+            given(roomRepository.save(testRoom)).willReturn(testRoom);
+
+            roomService.updateRoom(1L, testRequest);
+
+            verify(changeFeed, times(1)).roomChanged(testRoom, ChangeType.UPDATED);
+        }
+
+        @Test
+        @DisplayName("should record an availability flip when the room is taken off sale")
+        void should_RecordAvailabilityChange_When_AvailabilityFlips() {
+            testRequest.setAvailable(false);
+            given(roomRepository.findByIdWithHotel(1L)).willReturn(Optional.of(testRoom));
+            doAnswer(invocation -> {
+                invocation.<Room>getArgument(1).setAvailable(false);
+
+                return null;
+            }).when(roomMapper).updateEntityFromRequest(testRequest, testRoom);
+            given(roomRepository.save(testRoom)).willReturn(testRoom);
+
+            roomService.updateRoom(1L, testRequest);
+
+            verify(changeFeed, times(1)).roomChanged(testRoom, ChangeType.AVAILABILITY_CHANGED);
+        }
+    }
+
     @Nested
     @DisplayName("deleteRoom")
     class DeleteRoom {
         @Test
         @DisplayName("should delete room when room exists")
         void should_DeleteRoom_When_RoomExists() {
-            given(roomRepository.existsById(1L)).willReturn(true);
+            given(roomRepository.findByIdWithHotel(1L)).willReturn(Optional.of(testRoom));
             doNothing().when(roomRepository).deleteById(1L);
 
             roomService.deleteRoom(1L);
 
             verify(roomRepository, times(1)).deleteById(1L);
+            verify(occupancyCounters, times(1)).roomChanged(OccupancyCounters.RoomFigures.of(testRoom), null);
+            verify(changeFeed, times(1)).roomChanged(testRoom, ChangeType.DELETED);
         }
 
         @Test
         @DisplayName("should throw ResourceNotFoundException when room does not exist")
         void should_ThrowResourceNotFoundException_When_RoomDoesNotExist() {
-            given(roomRepository.existsById(999L)).willReturn(false);
+            given(roomRepository.findByIdWithHotel(999L)).willReturn(Optional.empty());
 
             assertThatThrownBy(() -> roomService.deleteRoom(999L))
                 .isInstanceOf(ResourceNotFoundException.class);
 
             verify(roomRepository, never()).deleteById(anyLong());
+            verify(changeFeed, never()).roomChanged(any(), any());
         }
     }
 
@@ -258,6 +391,7 @@ class RoomServiceTest {
             request.setGuestCount(2);
 
             given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+            given(availabilityCalendar.tryReserve(1L, request.getStartDate(), request.getEndDate())).willReturn(true);
             given(roomRepository.save(any(Room.class))).willReturn(testRoom);
 
             AvailabilityResponse result = roomService.confirmAvailability(1L, request);
@@ -267,7 +401,134 @@ class RoomServiceTest {
             assertThat(result.getRoomId()).isEqualTo(1L);
             assertThat(result.getNights()).isEqualTo(2);
             assertThat(result.getTotalPrice()).isEqualTo(BigDecimal.valueOf(200));
+            assertThat(testRoom.getAvailable()).isTrue();
             verify(roomRepository, times(1)).save(any(Room.class));
+            verify(reservationRepository, times(1)).save(any(RoomReservation.class));
+            verify(idempotencyStore, times(1)).put(result);
+            verify(occupancyCounters, times(1)).roomBooked(1L, RoomType.STANDARD);
+            verify(occupancyCounters, times(1)).reservationAdded(testRoom, request.getStartDate(), request.getEndDate());
+            verify(changeFeed, times(1)).roomChanged(testRoom, ChangeType.RESERVED);
+            verify(availabilityStream, times(1)).roomReserved(testRoom, request.getStartDate(), request.getEndDate());
+        }
+
+        @Test
+        @DisplayName("should return stored response when request was already processed")
+        void should_ReturnStoredResponse_When_RequestAlreadyProcessed() {
+            AvailabilityRequest request = new AvailabilityRequest();
+            request.setRequestId("req-processed");
+            request.setStartDate(LocalDate.now().plusDays(1));
+            request.setEndDate(LocalDate.now().plusDays(3));
+
+            AvailabilityResponse stored = AvailabilityResponse.builder()
+                .roomId(1L)
+                .requestId("req-processed")
+                .confirmed(true)
+                .build();
+
+            given(idempotencyStore.find("req-processed")).willReturn(Optional.of(stored));
+
+            AvailabilityResponse result = roomService.confirmAvailability(1L, request);
+
+            assertThat(result).isSameAs(stored);
+            verify(roomRepository, never()).findByIdWithLock(anyLong());
+            verify(availabilityCalendar, never()).tryReserve(anyLong(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should return the response stored while waiting for the room lock")
+        void should_ReturnStoredResponse_When_ProcessedWhileWaitingForLock() {
+            AvailabilityRequest request = new AvailabilityRequest();
+            request.setRequestId("req-processed");
+            request.setStartDate(LocalDate.now().plusDays(1));
+            request.setEndDate(LocalDate.now().plusDays(3));
+
+            AvailabilityResponse stored = AvailabilityResponse.builder()
+                .roomId(1L)
+                .requestId("req-processed")
+                .confirmed(true)
+                .build();
+
+            given(idempotencyStore.find("req-processed")).willReturn(Optional.empty(), Optional.of(stored));
+            given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+
+            AvailabilityResponse result = roomService.confirmAvailability(1L, request);
+
+            assertThat(result).isSameAs(stored);
+            verify(availabilityCalendar, never()).tryReserve(anyLong(), any(), any());
+            verify(reservationRepository, never()).save(any(RoomReservation.class));
+        }
+
+        @Test
+        @DisplayName("should restore the confirmed response from the reservation when the stored response was evicted")
+        void should_ReturnConfirmedResponse_When_ReservationExistsForRequest() {
+            AvailabilityRequest request = new AvailabilityRequest();
+            request.setRequestId("req-evicted");
+            request.setStartDate(LocalDate.now().plusDays(1));
+            request.setEndDate(LocalDate.now().plusDays(3));
+
+            RoomReservation reservation = RoomReservation.builder()
+                .roomId(1L)
+                .requestId("req-evicted")
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .build();
+
+            given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+            given(reservationRepository.findByRequestId("req-evicted")).willReturn(Optional.of(reservation));
+
+            AvailabilityResponse result = roomService.confirmAvailability(1L, request);
+
+            assertThat(result.isConfirmed()).isTrue();
+            assertThat(result.getNights()).isEqualTo(2);
+            assertThat(result.getTotalPrice()).isEqualTo(BigDecimal.valueOf(200));
+            verify(idempotencyStore, times(1)).put(result);
+            verify(availabilityCalendar, never()).tryReserve(anyLong(), any(), any());
+            verify(reservationRepository, never()).save(any(RoomReservation.class));
+            verify(occupancyCounters, never()).roomBooked(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("should reject when room is already booked for the requested nights")
+        void should_RejectAvailability_When_NightsAlreadyBooked() {
+            String requestId = UUID.randomUUID().toString();
+            AvailabilityRequest request = new AvailabilityRequest();
+            request.setRequestId(requestId);
+            request.setStartDate(LocalDate.now().plusDays(1));
+            request.setEndDate(LocalDate.now().plusDays(3));
+
+            given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+            given(availabilityCalendar.tryReserve(1L, request.getStartDate(), request.getEndDate())).willReturn(false);
+
+            AvailabilityResponse result = roomService.confirmAvailability(1L, request);
+
+            assertThat(result.isConfirmed()).isFalse();
+            assertThat(result.getMessage()).contains("already booked");
+            verify(roomRepository, never()).save(any(Room.class));
+            verify(reservationRepository, never()).save(any(RoomReservation.class));
+        }
+
+        @Test
+        @DisplayName("should reject when a stored reservation overlaps even if the calendar has no record of it")
+        void should_RejectAvailability_When_DatabaseHasOverlappingReservation() {
+            AvailabilityRequest request = new AvailabilityRequest();
+            request.setRequestId(UUID.randomUUID().toString());
+            request.setStartDate(LocalDate.now().plusDays(1));
+            request.setEndDate(LocalDate.now().plusDays(3));
+
+            given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+            given(reservationRepository.existsByRoomIdAndStartDateBeforeAndEndDateAfter(
+                1L,
+                request.getEndDate(),
+                request.getStartDate()
+            )).willReturn(true);
+
+            AvailabilityResponse result = roomService.confirmAvailability(1L, request);
+
+            assertThat(result.isConfirmed()).isFalse();
+            assertThat(result.getMessage()).contains("already booked");
+            verify(availabilityCalendar, never()).tryReserve(anyLong(), any(), any());
+            verify(roomRepository, never()).save(any(Room.class));
+            verify(reservationRepository, never()).save(any(RoomReservation.class));
         }
 
         @Test
@@ -321,23 +582,242 @@ class RoomServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("confirmAvailability in optimistic mode")
+    class ConfirmAvailabilityOptimistic {
+        private AvailabilityRequest request;
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(roomService, "lockingMode", ConfirmLockingMode.OPTIMISTIC);
+
+            testRoom.setVersion(4L);
+
+            request = new AvailabilityRequest();
+            request.setRequestId(UUID.randomUUID().toString());
+            request.setStartDate(LocalDate.now().plusDays(1));
+            request.setEndDate(LocalDate.now().plusDays(3));
+
+            given(roomRepository.findByIdWithHotel(1L)).willReturn(Optional.of(testRoom));
+            given(availabilityCalendar.tryReserve(1L, request.getStartDate(), request.getEndDate())).willReturn(true);
+        }
+
+        @Test
+        @DisplayName("should confirm with a conditional update instead of a row lock")
+        void should_ConfirmWithoutLock_When_VersionMatches() {
+            given(roomRepository.incrementTimesBookedIfVersion(eq(1L), eq(4L), any())).willReturn(1);
+
+            AvailabilityResponse result = roomService.confirmAvailability(1L, request);
+
+            assertThat(result.isConfirmed()).isTrue();
+            verify(roomRepository, never()).findByIdWithLock(anyLong());
+            verify(roomRepository, never()).save(any(Room.class));
+            verify(roomRepository).refresh(testRoom);
+            verify(confirmMetrics, never()).recordConflict();
+        }
+
+        @Test
+        @DisplayName("should re-read the room and retry when the version changed")
+        void should_Retry_When_VersionConflict() {
+            willAnswer(invocation -> {
+                invocation.<Room>getArgument(0).setVersion(5L);
+
+                return null;
+            }).given(roomRepository).refresh(testRoom);
+            given(roomRepository.incrementTimesBookedIfVersion(eq(1L), eq(4L), any())).willReturn(0);
+            given(roomRepository.incrementTimesBookedIfVersion(eq(1L), eq(5L), any())).willReturn(1);
+
+            AvailabilityResponse result = roomService.confirmAvailability(1L, request);
+
+            assertThat(result.isConfirmed()).isTrue();
+            verify(roomRepository, times(1)).findByIdWithHotel(1L);
+            verify(confirmMetrics, times(1)).recordConflict();
+            verify(confirmMetrics, times(1)).recordRetry();
+        }
+
+        @Test
+        @DisplayName("should stop retrying when the re-read room is no longer available")
+        void should_ThrowException_When_RoomBecameUnavailable() {
+            willAnswer(invocation -> {
+                invocation.<Room>getArgument(0).setAvailable(false);
+
+                return null;
+            }).given(roomRepository).refresh(testRoom);
+            given(roomRepository.incrementTimesBookedIfVersion(eq(1L), eq(4L), any())).willReturn(0);
+
+            assertThatThrownBy(() -> roomService.confirmAvailability(1L, request))
+                .isInstanceOf(RoomNotAvailableException.class)
+                .hasMessageContaining("not available");
+
+            verify(roomRepository, times(1)).incrementTimesBookedIfVersion(eq(1L), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("should reject the losing confirm when a racing confirm took overlapping dates")
+        void should_ThrowException_When_ConcurrentConfirmTookOverlappingDates() {
+            willAnswer(invocation -> {
+                invocation.<Room>getArgument(0).setVersion(5L);
+
+                return null;
+            }).given(roomRepository).refresh(testRoom);
+            given(roomRepository.incrementTimesBookedIfVersion(eq(1L), eq(4L), any())).willReturn(0);
+            given(reservationRepository.existsByRoomIdAndRequestIdNotAndStartDateBeforeAndEndDateAfter(
+                1L,
+                request.getRequestId(),
+                request.getEndDate(),
+                request.getStartDate()
+            )).willReturn(true);
+
+            assertThatThrownBy(() -> roomService.confirmAvailability(1L, request))
+                .isInstanceOf(RoomNotAvailableException.class)
+                .hasMessageContaining("already booked");
+
+            verify(roomRepository, never()).incrementTimesBookedIfVersion(eq(1L), eq(5L), any());
+            verify(reservationRepository, never()).save(any(RoomReservation.class));
+        }
+
+        @Test
+        @DisplayName("should give up after the configured number of attempts")
+        void should_ThrowException_When_RetriesExhausted() {
+            given(roomRepository.incrementTimesBookedIfVersion(eq(1L), anyLong(), any())).willReturn(0);
+
+            assertThatThrownBy(() -> roomService.confirmAvailability(1L, request))
+                .isInstanceOf(RoomNotAvailableException.class)
+                .hasMessageContaining("concurrently");
+
+            verify(roomRepository, times(3)).incrementTimesBookedIfVersion(eq(1L), anyLong(), any());
+            verify(confirmMetrics, times(1)).recordExhausted();
+            verify(reservationRepository, never()).save(any(RoomReservation.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("searchAvailableRooms")
+    class SearchAvailableRooms {
+        @Test
+        @DisplayName("should cap results after dropping rooms booked for the requested dates")
+        void should_ApplyMaxResultsAfterDateFilter_When_DatesGiven() {
+            LocalDate start = LocalDate.now().plusDays(1);
+            LocalDate end = LocalDate.now().plusDays(3);
+            RoomResponse booked = RoomResponse.builder().id(2L).build();
+            RoomResponse free = RoomResponse.builder().id(3L).build();
+            RoomResponse alsoFree = RoomResponse.builder().id(4L).build();
+            RoomSearchCriteria criteria = RoomSearchCriteria.builder()
+                .hotelId(1L)
+                .startDate(start)
+                .endDate(end)
+                .maxResults(1)
+                .build();
+
+            given(hotelRepository.existsById(1L)).willReturn(true);
+            given(roomRepository.findBy(any(Specification.class), any())).willReturn(List.of(testRoom, testRoom, testRoom));
+            given(roomMapper.toResponseList(any())).willReturn(List.of(booked, free, alsoFree));
+            given(availabilityCalendar.isAvailable(2L, start, end)).willReturn(false);
+            given(availabilityCalendar.isAvailable(3L, start, end)).willReturn(true);
+            given(availabilityCalendar.isAvailable(4L, start, end)).willReturn(true);
+
+            List<RoomResponse> result = roomService.searchAvailableRooms(criteria);
+
+            assertThat(result).containsExactly(free);
+        }
+
+        @Test
+        @DisplayName("should throw exception when hotel filter points to missing hotel")
+        void should_ThrowException_When_HotelNotFound() {
+            given(hotelRepository.existsById(999L)).willReturn(false);
+
+            assertThatThrownBy(() -> roomService.searchAvailableRooms(RoomSearchCriteria.builder().hotelId(999L).build()))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+            verify(roomRepository, never()).findBy(any(Specification.class), any());
+        }
+
+        @Test
+        @DisplayName("should reject non-positive maxResults")
+        void should_ThrowException_When_MaxResultsNotPositive() {
+            assertThatThrownBy(() -> roomService.searchAvailableRooms(RoomSearchCriteria.builder().maxResults(0).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getAvailableRoomsPage")
+    class GetAvailableRoomsPage {
+        @Test
+        @DisplayName("should apply every filter in a single keyset query")
+        void should_ApplyAllFilters_When_PageRequested() {
+            given(roomRepository.findAvailableAfter(eq(5L), eq(1L), eq(RoomType.STANDARD), eq(2), eq(BigDecimal.valueOf(200)), any(Limit.class)))
+                .willReturn(List.of(testRoom));
+            given(roomMapper.toResponseList(List.of(testRoom))).willReturn(List.of(testResponse));
+
+            CursorPage<RoomResponse> result = roomService.getAvailableRoomsPage(
+                1L,
+                RoomType.STANDARD,
+                2,
+                BigDecimal.valueOf(200),
+                null,
+                null,
+                10,
+                KeysetPagination.encode(5L),
+                false
+            );
+
+            assertThat(result.getContent()).containsExactly(testResponse);
+            assertThat(result.isHasNext()).isFalse();
+            verify(roomRepository, never()).countAvailable(any(), any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("releaseRoom")
     class ReleaseRoom {
         @Test
-        @DisplayName("should release room and make it available")
+        @DisplayName("should release reserved nights for the original request")
         void should_ReleaseRoom_When_RoomExists() {
             String requestId = UUID.randomUUID().toString();
-            testRoom.setAvailable(false);
+            RoomReservation reservation = RoomReservation.builder()
+                .roomId(1L)
+                .requestId(requestId)
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(3))
+                .build();
 
             given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
-            given(roomRepository.save(any(Room.class))).willReturn(testRoom);
+            given(reservationRepository.findByRequestId(requestId)).willReturn(Optional.of(reservation));
 
-            AvailabilityResponse result = roomService.releaseRoom(1L, requestId);
+            AvailabilityResponse result = roomService.releaseRoom(1L, requestId, null, null);
 
             assertThat(result.isConfirmed()).isFalse();
             assertThat(result.getMessage()).contains("released");
-            verify(roomRepository, times(1)).save(any(Room.class));
+            verify(reservationRepository, times(1)).delete(reservation);
+            verify(availabilityCalendar, times(1)).release(1L, reservation.getStartDate(), reservation.getEndDate());
+            verify(availabilityStream, times(1)).roomReleased(testRoom, reservation.getStartDate(), reservation.getEndDate());
+            verify(occupancyCounters, times(1)).reservationRemoved(testRoom, reservation.getStartDate(), reservation.getEndDate());
+            verify(changeFeed, times(1)).roomChanged(testRoom, ChangeType.RELEASED);
+            verify(idempotencyStore, times(1)).remove(requestId);
+        }
+
+        @Test
+        @DisplayName("should fall back to reserved dates when request ID is unknown")
+        void should_ReleaseByDates_When_RequestIdUnknown() {
+            LocalDate startDate = LocalDate.now().plusDays(1);
+            LocalDate endDate = LocalDate.now().plusDays(3);
+            RoomReservation reservation = RoomReservation.builder()
+                .roomId(1L)
+                .requestId("original-request")
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+
+            given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+            given(reservationRepository.findByRequestId("cancel-request")).willReturn(Optional.empty());
+            given(reservationRepository.findFirstByRoomIdAndStartDateAndEndDate(1L, startDate, endDate))
+                .willReturn(Optional.of(reservation));
+
+            roomService.releaseRoom(1L, "cancel-request", startDate, endDate);
+
+            verify(reservationRepository, times(1)).delete(reservation);
+            verify(availabilityCalendar, times(1)).release(1L, startDate, endDate);
         }
 
         @Test
@@ -345,11 +825,294 @@ class RoomServiceTest {
         void should_ThrowResourceNotFoundException_When_RoomDoesNotExist() {
             given(roomRepository.findByIdWithLock(999L)).willReturn(Optional.empty());
 
-            assertThatThrownBy(() -> roomService.releaseRoom(999L, "req-123"))
+            assertThatThrownBy(() -> roomService.releaseRoom(999L, "req-123", null, null))
                 .isInstanceOf(ResourceNotFoundException.class);
         }
     }
 
+    @Nested
+    @DisplayName("room holds")
+    class RoomHolds {
+        private AvailabilityRequest request;
+        private RoomReservation hold;
+
+        @BeforeEach
+        void setUp() {
+            request = new AvailabilityRequest();
+            request.setRequestId("req-hold");
+            request.setStartDate(LocalDate.now().plusDays(1));
+            request.setEndDate(LocalDate.now().plusDays(3));
+            request.setGuestCount(2);
+
+            hold = RoomReservation.builder()
+                .id(7L)
+                .roomId(1L)
+                .requestId("req-hold")
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .holdToken("hold-1")
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build();
+        }
+
+        @Test
+        @DisplayName("should hold the nights and schedule the hold for expiry without counting a booking")
+        void should_HoldRoom_When_NightsFree() {
+            ArgumentCaptor<RoomReservation> saved = ArgumentCaptor.forClass(RoomReservation.class);
+
+            given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+            given(reservationRepository.findByRequestId("req-hold")).willReturn(Optional.empty());
+            given(availabilityCalendar.tryReserve(1L, request.getStartDate(), request.getEndDate())).willReturn(true);
+            given(reservationRepository.save(any(RoomReservation.class))).willAnswer(i -> i.getArgument(0));
+
+            RoomHoldResponse result = roomService.holdRoom(1L, request);
+
+            verify(reservationRepository).save(saved.capture());
+            assertThat(result.isHeld()).isTrue();
+            assertThat(result.getHoldToken()).isEqualTo(saved.getValue().getHoldToken()).isNotBlank();
+            assertThat(result.getExpiresAt()).isAfter(LocalDateTime.now());
+            assertThat(result.getTotalPrice()).isEqualByComparingTo("200");
+            verify(holdExpiry).schedule(result.getHoldToken(), result.getExpiresAt());
+            verify(availabilityStream).roomReserved(testRoom, request.getStartDate(), request.getEndDate());
+            verify(occupancyCounters).reservationAdded(testRoom, request.getStartDate(), request.getEndDate());
+            verify(changeFeed).roomChanged(testRoom, ChangeType.RESERVED);
+            verify(roomRepository, never()).save(any(Room.class));
+            verify(occupancyCounters, never()).roomBooked(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("should return the existing hold when the request is retried")
+        void should_ReturnExistingHold_When_RequestRetried() {
+            given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+            given(reservationRepository.findByRequestId("req-hold")).willReturn(Optional.of(hold));
+
+            RoomHoldResponse result = roomService.holdRoom(1L, request);
+
+            assertThat(result.isHeld()).isTrue();
+            assertThat(result.getHoldToken()).isEqualTo("hold-1");
+            verify(availabilityCalendar, never()).tryReserve(anyLong(), any(), any());
+            verify(reservationRepository, never()).save(any(RoomReservation.class));
+        }
+
+        @Test
+        @DisplayName("should not hold a room already booked for the requested nights")
+        void should_RejectHold_When_NightsBooked() {
+            given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+            given(reservationRepository.findByRequestId("req-hold")).willReturn(Optional.empty());
+            given(availabilityCalendar.tryReserve(1L, request.getStartDate(), request.getEndDate())).willReturn(false);
+
+            RoomHoldResponse result = roomService.holdRoom(1L, request);
+
+            assertThat(result.isHeld()).isFalse();
+            assertThat(result.getHoldToken()).isNull();
+            assertThat(result.getMessage()).contains("already booked");
+            verify(reservationRepository, never()).save(any(RoomReservation.class));
+            verify(holdExpiry, never()).schedule(any(), any());
+        }
+
+        @Test
+        @DisplayName("should not hold a room whose stored reservations overlap the requested nights")
+        void should_RejectHold_When_DatabaseHasOverlappingReservation() {
+            given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+            given(reservationRepository.findByRequestId("req-hold")).willReturn(Optional.empty());
+            given(reservationRepository.existsByRoomIdAndStartDateBeforeAndEndDateAfter(
+                1L,
+                request.getEndDate(),
+                request.getStartDate()
+            )).willReturn(true);
+
+            RoomHoldResponse result = roomService.holdRoom(1L, request);
+
+            assertThat(result.isHeld()).isFalse();
+            assertThat(result.getMessage()).contains("already booked");
+            verify(availabilityCalendar, never()).tryReserve(anyLong(), any(), any());
+            verify(reservationRepository, never()).save(any(RoomReservation.class));
+        }
+
+        @Test
+        @DisplayName("should confirm a live hold and count the booking")
+        void should_ConfirmHold_When_NotExpired() {
+            given(reservationRepository.findByHoldToken("hold-1")).willReturn(Optional.of(hold));
+            given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+            given(reservationRepository.confirmHold(eq("hold-1"), any(LocalDateTime.class))).willReturn(1);
+
+            AvailabilityResponse result = roomService.confirmHold("hold-1");
+
+            assertThat(result.isConfirmed()).isTrue();
+            assertThat(result.getRequestId()).isEqualTo("req-hold");
+            assertThat(result.getTotalPrice()).isEqualByComparingTo("200");
+            assertThat(testRoom.getTimesBooked()).isEqualTo(1);
+            verify(occupancyCounters).roomBooked(1L, RoomType.STANDARD);
+            verify(occupancyCounters, never()).reservationAdded(any(), any(), any());
+            verify(changeFeed).roomChanged(testRoom, ChangeType.RESERVED);
+            verify(holdExpiry).cancel("hold-1");
+            verify(idempotencyStore).put(result);
+        }
+
+        @Test
+        @DisplayName("should refuse to confirm a hold that has already expired")
+        void should_RejectConfirmation_When_HoldExpired() {
+            given(reservationRepository.findByHoldToken("hold-1")).willReturn(Optional.of(hold));
+            given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+            given(reservationRepository.confirmHold(eq("hold-1"), any(LocalDateTime.class))).willReturn(0);
+
+            AvailabilityResponse result = roomService.confirmHold("hold-1");
+
+            assertThat(result.isConfirmed()).isFalse();
+            assertThat(result.getMessage()).contains("expired");
+            verify(roomRepository, never()).save(any(Room.class));
+            verify(idempotencyStore, never()).put(any());
+        }
+
+        @Test
+        @DisplayName("should report an unknown hold as not confirmed")
+        void should_RejectConfirmation_When_HoldUnknown() {
+            given(reservationRepository.findByHoldToken("missing")).willReturn(Optional.empty());
+
+            AvailabilityResponse result = roomService.confirmHold("missing");
+
+            assertThat(result.isConfirmed()).isFalse();
+            verify(roomRepository, never()).findByIdWithLock(anyLong());
+        }
+
+        @Test
+        @DisplayName("should release a hold and stop tracking its expiry")
+        void should_ReleaseHold() {
+            given(reservationRepository.findByHoldToken("hold-1")).willReturn(Optional.of(hold));
+            given(roomRepository.findByIdWithLock(1L)).willReturn(Optional.of(testRoom));
+            given(reservationRepository.findByRequestId("req-hold")).willReturn(Optional.of(hold));
+
+            roomService.releaseHold("hold-1");
+
+            verify(holdExpiry).cancel("hold-1");
+            verify(reservationRepository).delete(hold);
+            verify(availabilityCalendar).release(1L, hold.getStartDate(), hold.getEndDate());
+        }
+
+        @Test
+        @DisplayName("should free the nights of an expired hold")
+        void should_FreeNights_When_HoldExpires() {
+            given(reservationRepository.findByHoldToken("hold-1")).willReturn(Optional.of(hold));
+            given(reservationRepository.deleteExpiredHold(eq("hold-1"), any(LocalDateTime.class))).willReturn(1);
+            given(roomRepository.findByIdWithHotel(1L)).willReturn(Optional.of(testRoom));
+
+            boolean expired = roomService.expireHold("hold-1");
+
+            assertThat(expired).isTrue();
+            verify(availabilityCalendar).release(1L, hold.getStartDate(), hold.getEndDate());
+            verify(availabilityStream).roomReleased(testRoom, hold.getStartDate(), hold.getEndDate());
+            verify(occupancyCounters).reservationRemoved(testRoom, hold.getStartDate(), hold.getEndDate());
+            verify(changeFeed).roomChanged(testRoom, ChangeType.RELEASED);
+        }
+
+        @Test
+        @DisplayName("should keep a hold that was confirmed before the sweeper reached it")
+        void should_KeepHold_When_ConfirmedBeforeExpiry() {
+            given(reservationRepository.findByHoldToken("hold-1")).willReturn(Optional.of(hold));
+            given(reservationRepository.deleteExpiredHold(eq("hold-1"), any(LocalDateTime.class))).willReturn(0);
+
+            boolean expired = roomService.expireHold("hold-1");
+
+            assertThat(expired).isFalse();
+            verify(availabilityCalendar, never()).release(anyLong(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("confirmAvailabilityBatch")
+    class ConfirmAvailabilityBatch {
+        private Room secondRoom;
+
+        @BeforeEach
+        void setUp() {
+            secondRoom = new Room();
+            secondRoom.setId(2L);
+            secondRoom.setRoomType(RoomType.STANDARD);
+            secondRoom.setPricePerNight(BigDecimal.valueOf(150));
+            secondRoom.setMaxOccupancy(2);
+            secondRoom.setAvailable(true);
+            secondRoom.setTimesBooked(0);
+            secondRoom.setHotel(testHotel);
+        }
+
+        @Test
+        @DisplayName("should lock every room in id order with a single query and confirm them all")
+        void should_ConfirmAllRooms_When_EveryRoomAvailable() {
+            List<BatchConfirmRequest.Item> items = List.of(item(2L, "req-2"), item(1L, "req-1"));
+
+            given(roomRepository.findAllByIdInWithLock(List.of(1L, 2L))).willReturn(List.of(testRoom, secondRoom));
+            given(availabilityCalendar.tryReserve(anyLong(), any(), any())).willReturn(true);
+
+            List<AvailabilityResponse> result = roomService.confirmAvailabilityBatch(items);
+
+            assertThat(result).extracting(AvailabilityResponse::getRoomId).containsExactly(2L, 1L);
+            assertThat(result).allMatch(AvailabilityResponse::isConfirmed);
+            verify(roomRepository, never()).findByIdWithLock(anyLong());
+            verify(reservationRepository, times(2)).save(any(RoomReservation.class));
+        }
+
+        @Test
+        @DisplayName("should roll back the whole batch when one room is not available")
+        void should_RollBackBatch_When_OneRoomUnavailable() {
+            List<BatchConfirmRequest.Item> items = List.of(item(1L, "req-1"), item(2L, "req-2"));
+            TransactionStatus status = mock(TransactionStatus.class);
+
+            given(roomRepository.findAllByIdInWithLock(List.of(1L, 2L))).willReturn(List.of(testRoom, secondRoom));
+            given(availabilityCalendar.tryReserve(eq(1L), any(), any())).willReturn(true);
+            given(availabilityCalendar.tryReserve(eq(2L), any(), any())).willReturn(false);
+
+            try (MockedStatic<TransactionAspectSupport> tx = mockStatic(TransactionAspectSupport.class)) {
+                tx.when(TransactionAspectSupport::currentTransactionStatus).thenReturn(status);
+
+                List<AvailabilityResponse> result = roomService.confirmAvailabilityBatch(items);
+
+                assertThat(result).noneMatch(AvailabilityResponse::isConfirmed);
+                assertThat(result.get(0).getMessage()).isEqualTo("Another room in the batch is not available");
+                assertThat(result.get(1).getMessage()).isEqualTo("Room is already booked for the selected dates");
+                verify(status).setRollbackOnly();
+            }
+        }
+
+        @Test
+        @DisplayName("should throw ResourceNotFoundException when a room in the batch does not exist")
+        void should_ThrowResourceNotFoundException_When_RoomMissing() {
+            given(roomRepository.findAllByIdInWithLock(List.of(1L, 999L))).willReturn(List.of(testRoom));
+
+            assertThatThrownBy(() -> roomService.confirmAvailabilityBatch(List.of(item(1L, "req-1"), item(999L, "req-2"))))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+            verify(availabilityCalendar, never()).tryReserve(anyLong(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should release every room after locking them once")
+        void should_ReleaseAllRooms_When_BatchReleased() {
+            given(roomRepository.findAllByIdInWithLock(List.of(1L, 2L))).willReturn(List.of(testRoom, secondRoom));
+
+            List<AvailabilityResponse> result = roomService.releaseRoomsBatch(List.of(
+                BatchReleaseRequest.Item.builder().roomId(2L).requestId("req-2").build(),
+                BatchReleaseRequest.Item.builder().roomId(1L).requestId("req-1").build()
+            ));
+
+            assertThat(result).extracting(AvailabilityResponse::getRoomId).containsExactly(2L, 1L);
+            verify(idempotencyStore).remove("req-1");
+            verify(idempotencyStore).remove("req-2");
+            verify(roomRepository, never()).findByIdWithLock(anyLong());
+        }
+
+        private BatchConfirmRequest.Item item(Long roomId, String requestId) {
+            return BatchConfirmRequest.Item.builder()
+                .roomId(roomId)
+                .request(AvailabilityRequest.builder()
+                    .requestId(requestId)
+                    .startDate(LocalDate.now().plusDays(1))
+                    .endDate(LocalDate.now().plusDays(3))
+                    .build()
+                )
+                .build();
+        }
+    }
+
     @Nested
     @DisplayName("getRecommendedRooms")
     class GetRecommendedRooms {
@@ -376,5 +1139,35 @@ class RoomServiceTest {
             assertThat(result).hasSize(1);
             verify(roomRepository, times(1)).findAvailableRoomsByHotelIdOrderByTimesBookedAsc(1L);
         }
+
+        @Test
+        @DisplayName("should load only the top k rooms picked by the index")
+        void should_LoadTopKFromIndex_When_LimitGiven() {
+            Room secondRoom = Room.builder().id(2L).hotel(testHotel).available(true).build();
+            RoomResponse secondResponse = RoomResponse.builder().id(2L).build();
+
+            given(recommendationIndex.isReady()).willReturn(true);
+            given(recommendationIndex.topK(eq(1L), eq(null), any(), eq(2))).willReturn(List.of(2L, 1L));
+            given(roomRepository.findAllWithHotelByIdIn(List.of(2L, 1L))).willReturn(List.of(testRoom, secondRoom));
+            given(roomMapper.toResponseList(List.of(secondRoom, testRoom))).willReturn(List.of(secondResponse, testResponse));
+
+            List<RoomResponse> result = roomService.getRecommendedRooms(1L, null, null, null, null, 2);
+
+            assertThat(result).containsExactly(secondResponse, testResponse);
+            verify(roomRepository, never()).findAvailableRoomsByHotelIdOrderByTimesBookedAsc(anyLong());
+        }
+
+        @Test
+        @DisplayName("should push the limit into the database query when the index is not ready")
+        void should_QueryWithLimit_When_IndexNotReady() {
+            given(recommendationIndex.isReady()).willReturn(false);
+            given(roomRepository.findBy(any(Specification.class), any())).willReturn(List.of(testRoom));
+            given(roomMapper.toResponseList(List.of(testRoom))).willReturn(List.of(testResponse));
+
+            List<RoomResponse> result = roomService.getRecommendedRooms(1L, null, 2, null, null, 1);
+
+            assertThat(result).containsExactly(testResponse);
+            verify(recommendationIndex, never()).topK(any(), any(), any(), anyInt());
+        }
     }
 }
@@ -0,0 +1,171 @@
+package mephi.hotelservice.service;
+
+import mephi.hotelservice.dto.HotelStatisticsResponse;
+import mephi.hotelservice.dto.SystemStatisticsResponse;
+import mephi.hotelservice.entity.RoomType;
+import mephi.hotelservice.exception.ResourceNotFoundException;
+import mephi.hotelservice.repository.HotelRepository;
+import mephi.hotelservice.repository.RoomRepository;
+import mephi.hotelservice.repository.projection.HotelAggregate;
+import mephi.hotelservice.repository.projection.RoomStatisticsView;
+import mephi.hotelservice.repository.projection.RoomTypeAggregate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsService Unit Tests")
+class StatisticsServiceTest {
+    private final SpelAwareProxyProjectionFactory projections = new SpelAwareProxyProjectionFactory();
+
+    @Mock
+    private HotelRepository hotelRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private OccupancyCounters occupancyCounters;
+
+    @InjectMocks
+    private StatisticsService statisticsService;
+
+    @Nested
+    @DisplayName("getHotelStatistics")
+    class GetHotelStatistics {
+        @Test
+        @DisplayName("should build statistics from aggregates and room rows")
+        void should_ReturnStatistics_When_HotelExists() {
+            given(hotelRepository.aggregateById(eq(1L), any(LocalDate.class))).willReturn(Optional.of(hotel(1L, "Grand Hotel", 4, 3, 6)));
+            given(roomRepository.findStatisticsByHotelId(1L)).willReturn(List.of(
+                projections.createProjection(RoomStatisticsView.class, Map.of(
+                    "roomId", 1L,
+                    "roomNumber", "101",
+                    "roomType", RoomType.STANDARD,
+                    "available", true,
+                    "timesBooked", 6,
+                    "pricePerNight", BigDecimal.valueOf(100)
+                ))
+            ));
+
+            HotelStatisticsResponse result = statisticsService.getHotelStatistics(1L);
+
+            assertThat(result.getTotalRooms()).isEqualTo(4);
+            assertThat(result.getOccupiedRooms()).isEqualTo(1);
+            assertThat(result.getOccupancyRate()).isEqualByComparingTo("25.00");
+            assertThat(result.getAverageTimesBooked()).isEqualByComparingTo("1.50");
+            assertThat(result.getRoomStatistics()).hasSize(1);
+            assertThat(result.getRoomStatistics().getFirst().getRoomType()).isEqualTo("STANDARD");
+        }
+
+        @Test
+        @DisplayName("should throw exception when hotel does not exist")
+        void should_ThrowException_When_HotelNotFound() {
+            given(hotelRepository.aggregateById(eq(999L), any(LocalDate.class))).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> statisticsService.getHotelStatistics(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getAllHotelStatistics")
+    class GetAllHotelStatistics {
+        @Test
+        @DisplayName("should return aggregates without loading rooms")
+        void should_ReturnAggregates_When_HotelsExist() {
+            given(hotelRepository.aggregateAll(any(LocalDate.class))).willReturn(List.of(
+                hotel(2L, "Seaside Resort", 5, 5, 9),
+                hotel(1L, "Grand Hotel", 0, 0, 0)
+            ));
+
+            List<HotelStatisticsResponse> result = statisticsService.getAllHotelStatistics();
+
+            assertThat(result).extracting(HotelStatisticsResponse::getHotelId).containsExactly(2L, 1L);
+            assertThat(result.get(1).getOccupancyRate()).isEqualByComparingTo("0");
+            assertThat(result.getFirst().getRoomStatistics()).isNull();
+            verify(roomRepository, never()).findStatisticsByHotelId(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("getSystemStatistics")
+    class GetSystemStatistics {
+        @Test
+        @DisplayName("should combine per-type aggregates into system totals")
+        void should_SumTypeAggregates_When_RoomsExist() {
+            given(hotelRepository.aggregateAll(any(LocalDate.class))).willReturn(List.of(
+                hotel(2L, "Seaside Resort", 3, 2, 9),
+                hotel(1L, "Grand Hotel", 1, 1, 1)
+            ));
+            given(roomRepository.aggregateByRoomType(any(LocalDate.class))).willReturn(List.of(
+                type(RoomType.STANDARD, 3, 2, 7),
+                type(RoomType.SUITE, 1, 1, 3)
+            ));
+
+            SystemStatisticsResponse result = statisticsService.getSystemStatistics();
+
+            assertThat(result.getTotalHotels()).isEqualTo(2);
+            assertThat(result.getTotalRooms()).isEqualTo(4);
+            assertThat(result.getOccupiedRooms()).isEqualTo(1);
+            assertThat(result.getTotalBookings()).isEqualTo(10);
+            assertThat(result.getRoomsByType()).containsEntry("DELUXE", 0).containsEntry("STANDARD", 3);
+            assertThat(result.getOccupancyByType().get("STANDARD")).isEqualByComparingTo("33.33");
+            assertThat(result.getMostBookedHotel().getHotelId()).isEqualTo(2L);
+            assertThat(result.getLeastBookedHotel().getHotelId()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("should serve totals from live counters without querying the database")
+        void should_UseCounters_When_CountersReady() {
+            given(occupancyCounters.isReady()).willReturn(true);
+            given(occupancyCounters.hotelAggregates()).willReturn(List.of(hotel(1L, "Grand Hotel", 2, 1, 4)));
+            given(occupancyCounters.roomTypeAggregates()).willReturn(List.of(type(RoomType.DELUXE, 2, 1, 4)));
+
+            SystemStatisticsResponse result = statisticsService.getSystemStatistics();
+
+            assertThat(result.getTotalRooms()).isEqualTo(2);
+            assertThat(result.getOccupancyByType().get("DELUXE")).isEqualByComparingTo("50.00");
+            assertThat(result.getMostBookedHotel().getRoomStatistics()).isNull();
+            verifyNoInteractions(hotelRepository, roomRepository);
+        }
+    }
+
+    private HotelAggregate hotel(Long id, String name, long totalRooms, long availableRooms, long totalBookings) {
+        return projections.createProjection(HotelAggregate.class, Map.of(
+            "hotelId", id,
+            "hotelName", name,
+            "totalRooms", totalRooms,
+            "availableRooms", availableRooms,
+            "occupiedRooms", totalRooms - availableRooms,
+            "totalBookings", totalBookings
+        ));
+    }
+
+    private RoomTypeAggregate type(RoomType roomType, long totalRooms, long availableRooms, long totalBookings) {
+        return projections.createProjection(RoomTypeAggregate.class, Map.of(
+            "roomType", roomType,
+            "totalRooms", totalRooms,
+            "availableRooms", availableRooms,
+            "occupiedRooms", totalRooms - availableRooms,
+            "totalBookings", totalBookings
+        ));
+    }
+}
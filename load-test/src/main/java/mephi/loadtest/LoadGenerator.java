@@ -0,0 +1,350 @@
+package mephi.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+public class LoadGenerator {
+    private static final String PASSWORD = "load-test-password";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final List<String> CONFLICT_MESSAGES = List.of("already booked", "not available", "No available rooms");
+
+    private final LoadTestConfig config;
+    private final URI bookingService;
+    private final URI hotelService;
+    private final HttpClient http;
+    private final JsonMapper json = JsonMapper.builder().build();
+
+    private final List<Operation> weightedOperations = new ArrayList<>();
+    private final List<Account> accounts = new CopyOnWriteArrayList<>();
+    private final Queue<PlacedBooking> cancellable = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger registrations = new AtomicInteger();
+    private final Map<Long, List<Long>> roomsByHotel = new LinkedHashMap<>();
+
+    public LoadGenerator(LoadTestConfig config, URI bookingService, URI hotelService) {
+        this.config = config;
+        this.bookingService = bookingService;
+        this.hotelService = hotelService;
+        this.http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+        for (Operation operation : Operation.values()) {
+            for (int i = 0; i < config.mix().getOrDefault(operation, 0); i++) {
+                weightedOperations.add(operation);
+            }
+        }
+    }
+
+    public void prepare() throws IOException, InterruptedException {
+        HttpResponse<String> rooms = http.send(
+            get(hotelService.resolve("/rooms"), null),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        if (rooms.statusCode() != 200) {
+            throw new IllegalStateException("Could not load the room catalog: HTTP " + rooms.statusCode());
+        }
+
+        for (JsonNode room : json.readTree(rooms.body())) {
+            roomsByHotel.computeIfAbsent(room.get("hotelId").asLong(), id -> new ArrayList<>()).add(room.get("id").asLong());
+        }
+        if (roomsByHotel.isEmpty()) {
+            throw new IllegalStateException("The hotel service has no rooms to book");
+        }
+
+        for (int i = 0; i < config.users(); i++) {
+            Account account = registerAccount();
+            if (account == null) {
+                throw new IllegalStateException("Could not register load-test user " + (i + 1));
+            }
+
+            accounts.add(account);
+        }
+
+        log.info("Prepared {} users and {} hotels", accounts.size(), roomsByHotel.size());
+    }
+
+    public LoadReport run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(config.seed());
+
+        if (!config.warmup().isZero()) {
+            drive(config.warmup(), newStats(), random);
+
+            log.info("Warm-up finished, recording for {}", config.duration());
+        }
+
+        Map<Operation, OperationStats> stats = newStats();
+        Duration elapsed = drive(config.duration(), stats, random);
+
+        return new LoadReport(config, List.copyOf(stats.values()), elapsed);
+    }
+
+    private Duration drive(Duration duration, Map<Operation, OperationStats> stats, SplittableRandom random)
+        throws InterruptedException {
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        long interval = Math.round(TimeUnit.SECONDS.toNanos(1) / config.rate());
+        long requests = (long) (config.rate() * duration.toNanos() / TimeUnit.SECONDS.toNanos(1));
+
+        long start = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                long intendedStart = start + i * interval;
+
+                long delay;
+                while ((delay = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+
+                OperationStats operationStats = stats.get(weightedOperations.get(random.nextInt(weightedOperations.size())));
+                SplittableRandom requestRandom = random.split();
+
+                if (!inFlight.tryAcquire()) {
+                    operationStats.drop();
+
+                    continue;
+                }
+
+                workers.execute(() -> {
+                    try {
+                        execute(operationStats, intendedStart, requestRandom);
+                    }
+                    finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private Map<Operation, OperationStats> newStats() {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation));
+        }
+
+        return stats;
+    }
+
+    private void execute(OperationStats operationStats, long intendedStart, SplittableRandom random) {
+        try {
+            switch (operationStats.operation()) {
+                case REGISTER -> register(operationStats, intendedStart);
+                case LOGIN -> login(operationStats, intendedStart, random);
+                case BROWSE -> browse(operationStats, intendedStart, random);
+                case BOOK -> book(operationStats, intendedStart, random);
+                case CANCEL -> cancel(operationStats, intendedStart);
+            }
+        }
+        catch (IOException e) {
+            operationStats.failed(0, elapsedMicros(intendedStart));
+
+            log.debug("{} failed: {}", operationStats.operation(), e.getMessage());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Account registerAccount() throws IOException, InterruptedException {
+        HttpResponse<String> response = sendRegistration();
+
+        return response.statusCode() == 201 ? account(response) : null;
+    }
+
+    private void register(OperationStats operationStats, long intendedStart) throws IOException, InterruptedException {
+        HttpResponse<String> response = sendRegistration();
+
+        if (response.statusCode() == 201) {
+            operationStats.succeeded(response.statusCode(), elapsedMicros(intendedStart));
+            accounts.add(account(response));
+        }
+        else {
+            operationStats.failed(response.statusCode(), elapsedMicros(intendedStart));
+        }
+    }
+
+    private void login(OperationStats operationStats, long intendedStart, SplittableRandom random)
+        throws IOException, InterruptedException {
+        Account account = accounts.get(random.nextInt(accounts.size()));
+
+        HttpResponse<String> response = http.send(
+            post(bookingService.resolve("/auth/login"), null, Map.of("username", account.username(), "password", PASSWORD)),
+            HttpResponse.BodyHandlers.ofString()
+        );
+
+        record(operationStats, response, intendedStart, response.statusCode() == 200);
+    }
+
+    private void browse(OperationStats operationStats, long intendedStart, SplittableRandom random)
+        throws IOException, InterruptedException {
+        LocalDate checkIn = checkIn(random);
+
+        HttpResponse<String> response = http.send(
+            get(hotelService.resolve("/rooms/available?startDate=" + checkIn
+                + "&endDate=" + checkIn.plusDays(nights(random))
+                + "&guestCount=" + guestCount(random)), null),
+            HttpResponse.BodyHandlers.ofString()
+        );
+
+        record(operationStats, response, intendedStart, response.statusCode() == 200);
+    }
+
+    private void book(OperationStats operationStats, long intendedStart, SplittableRandom random)
+        throws IOException, InterruptedException {
+        Account account = accounts.get(random.nextInt(accounts.size()));
+        List<Long> hotels = List.copyOf(roomsByHotel.keySet());
+        Long hotelId = hotels.get(random.nextInt(hotels.size()));
+        List<Long> rooms = roomsByHotel.get(hotelId);
+        LocalDate checkIn = checkIn(random);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("hotelId", hotelId);
+        body.put("roomId", rooms.get(random.nextInt(rooms.size())));
+        body.put("autoSelect", true);
+        body.put("checkInDate", checkIn.toString());
+        body.put("checkOutDate", checkIn.plusDays(nights(random)).toString());
+        body.put("guestCount", guestCount(random));
+
+        HttpResponse<String> response = http.send(
+            post(bookingService.resolve("/bookings"), account.token(), body),
+            HttpResponse.BodyHandlers.ofString()
+        );
+
+        if (response.statusCode() == 201) {
+            operationStats.succeeded(response.statusCode(), elapsedMicros(intendedStart));
+            cancellable.add(new PlacedBooking(json.readTree(response.body()).get("id").asLong(), account));
+        }
+        else if (isConflict(response)) {
+            operationStats.conflicted(response.statusCode(), elapsedMicros(intendedStart));
+        }
+        else {
+            operationStats.failed(response.statusCode(), elapsedMicros(intendedStart));
+        }
+    }
+
+    private void cancel(OperationStats operationStats, long intendedStart) throws IOException, InterruptedException {
+        PlacedBooking booking = cancellable.poll();
+        if (booking == null) {
+            operationStats.skip();
+
+            return;
+        }
+
+        HttpResponse<String> response = http.send(
+            post(bookingService.resolve("/bookings/" + booking.id() + "/cancel?reason=load-test"), booking.owner().token(), null),
+            HttpResponse.BodyHandlers.ofString()
+        );
+
+        record(operationStats, response, intendedStart, response.statusCode() == 200);
+    }
+
+    private HttpResponse<String> sendRegistration() throws IOException, InterruptedException {
+        int sequence = registrations.incrementAndGet();
+
+        Map<String, Object> body = Map.of(
+            "username", "lt-" + sequence,
+            "password", PASSWORD,
+            "email", "lt-" + sequence + "@load.test",
+            "firstName", "Load",
+            "lastName", "Test " + sequence
+        );
+
+        return http.send(post(bookingService.resolve("/auth/register"), null, body), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Account account(HttpResponse<String> response) {
+        JsonNode auth = json.readTree(response.body());
+
+        return new Account(auth.get("user").get("username").asString(), auth.get("token").asString());
+    }
+
+    private boolean isConflict(HttpResponse<String> response) {
+        if (response.statusCode() == 409) {
+            return true;
+        }
+
+        return response.statusCode() == 400 && CONFLICT_MESSAGES.stream().anyMatch(response.body()::contains);
+    }
+
+    private void record(OperationStats operationStats, HttpResponse<String> response, long intendedStart, boolean succeeded) {
+        if (succeeded) {
+            operationStats.succeeded(response.statusCode(), elapsedMicros(intendedStart));
+        }
+        else {
+            operationStats.failed(response.statusCode(), elapsedMicros(intendedStart));
+        }
+    }
+
+    private HttpRequest get(URI uri, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET();
+
+        return authorize(request, token).build();
+    }
+
+    private HttpRequest post(URI uri, String token, Object body) {
+        HttpRequest.BodyPublisher publisher = body != null
+            ? HttpRequest.BodyPublishers.ofString(json.writeValueAsString(body))
+            : HttpRequest.BodyPublishers.noBody();
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(publisher);
+
+        return authorize(request, token).build();
+    }
+
+    private HttpRequest.Builder authorize(HttpRequest.Builder request, String token) {
+        return token != null ? request.header("Authorization", "Bearer " + token) : request;
+    }
+
+    private LocalDate checkIn(SplittableRandom random) {
+        return LocalDate.now().plusDays(1 + random.nextInt(config.bookingWindowDays()));
+    }
+
+    private static int nights(SplittableRandom random) {
+        return 1 + random.nextInt(3);
+    }
+
+    private static int guestCount(SplittableRandom random) {
+        return 1 + random.nextInt(2);
+    }
+
+    private static long elapsedMicros(long intendedStart) {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+    }
+
+    private record Account(String username, String token) {
+    }
+
+    private record PlacedBooking(Long id, Account owner) {
+    }
+}
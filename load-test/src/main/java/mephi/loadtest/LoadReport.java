@@ -0,0 +1,101 @@
+package mephi.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public record LoadReport(LoadTestConfig config, List<OperationStats> operations, Duration elapsed) {
+    private static final String ROW = "%-28s %8s %9s %8s %8s %8s %8s %9s %9s %9s %9s %9s%n";
+
+    public void print(PrintStream out) {
+        double seconds = elapsed.toNanos() / 1e9;
+
+        out.printf(
+            "%nOpen-loop run on %s threads: %.1f req/s target for %s after %s warm-up, %d users, max %d in flight, mix %s%n%n",
+            config.virtualThreads() ? "virtual" : "platform",
+            config.rate(),
+            config.duration(),
+            config.warmup(),
+            config.users(),
+            config.maxInFlight(),
+            config.mix()
+        );
+        out.printf(ROW, "endpoint", "count", "req/s", "errors", "dropped", "skipped", "conflict",
+            "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (OperationStats stats : operations) {
+            if (stats.completed() == 0 && stats.dropped() == 0 && stats.skipped() == 0) {
+                continue;
+            }
+
+            Histogram latency = stats.latency();
+            out.printf(
+                ROW,
+                stats.operation().endpoint(),
+                stats.completed(),
+                String.format("%.1f", stats.completed() / seconds),
+                stats.failed(),
+                stats.dropped(),
+                stats.skipped(),
+                stats.conflicts(),
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue())
+            );
+        }
+
+        out.println();
+        for (OperationStats stats : operations) {
+            if (stats.completed() > 0) {
+                out.printf("%-28s statuses %s%n", stats.operation().endpoint(), statuses(stats.statuses()));
+            }
+        }
+
+        OperationStats bookings = operations.stream()
+            .filter(s -> s.operation() == Operation.BOOK)
+            .findFirst()
+            .orElseThrow();
+        if (bookings.completed() > 0) {
+            out.printf(
+                "%nBooking conflict rate: %.2f%% (%d of %d booking attempts found the room already taken)%n",
+                100.0 * bookings.conflicts() / bookings.completed(),
+                bookings.conflicts(),
+                bookings.completed()
+            );
+        }
+    }
+
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        for (OperationStats stats : operations) {
+            if (stats.completed() == 0) {
+                continue;
+            }
+
+            Path file = directory.resolve(stats.operation().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                stats.latency().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+
+    private static String statuses(Map<Integer, Long> statuses) {
+        return statuses.entrySet().stream()
+            .map(e -> (e.getKey() == 0 ? "io-error" : e.getKey().toString()) + "=" + e.getValue())
+            .collect(Collectors.joining(", "));
+    }
+}
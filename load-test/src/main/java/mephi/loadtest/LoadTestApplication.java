@@ -0,0 +1,32 @@
+package mephi.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class LoadTestApplication {
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        log.info(
+            "Starting hotel-service and booking-service in-process on {} threads",
+            config.virtualThreads() ? "virtual" : "platform"
+        );
+
+        try (LocalServices services = LocalServices.start(config.virtualThreads())) {
+            LoadGenerator generator = new LoadGenerator(config, services.bookingServiceUri(), services.hotelServiceUri());
+            generator.prepare();
+
+            log.info("Running {} req/s for {} after {} warm-up", config.rate(), config.duration(), config.warmup());
+
+            LoadReport report = generator.run();
+            report.print(System.out);
+
+            if (config.histogramDir() != null) {
+                report.writeHistograms(config.histogramDir());
+            }
+        }
+    }
+}
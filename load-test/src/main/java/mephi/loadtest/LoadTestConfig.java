@@ -0,0 +1,81 @@
+package mephi.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+public record LoadTestConfig(
+    double rate,
+    Duration warmup,
+    Duration duration,
+    int users,
+    Map<Operation, Integer> mix,
+    int bookingWindowDays,
+    int maxInFlight,
+    long seed,
+    boolean virtualThreads,
+    Path histogramDir
+) {
+    private static final String DEFAULT_MIX = "register:5,login:10,browse:50,book:25,cancel:10";
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+            Double.parseDouble(options.getOrDefault("rate", "50")),
+            Duration.parse(options.getOrDefault("warmup", "PT10S")),
+            Duration.parse(options.getOrDefault("duration", "PT60S")),
+            Integer.parseInt(options.getOrDefault("users", "50")),
+            parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+            Integer.parseInt(options.getOrDefault("booking-window-days", "30")),
+            Integer.parseInt(options.getOrDefault("max-in-flight", "1000")),
+            Long.parseLong(options.getOrDefault("seed", "42")),
+            Boolean.parseBoolean(options.getOrDefault("virtual-threads", "false")),
+            options.containsKey("histogram-dir") ? Path.of(options.get("histogram-dir")) : null
+        );
+
+        if (config.warmup().isNegative() || config.duration().isNegative() || config.duration().isZero()) {
+            throw new IllegalArgumentException("warmup must not be negative and duration must be positive");
+        }
+        if (config.rate() <= 0 || config.users() < 1 || config.maxInFlight() < 1 || config.bookingWindowDays() < 1) {
+            throw new IllegalArgumentException("rate, users, max-in-flight and booking-window-days must be positive");
+        }
+
+        return config;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight in mix but got: " + entry);
+            }
+
+            int weight = Integer.parseInt(parts[1]);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights must not be negative: " + entry);
+            }
+
+            weights.put(Operation.valueOf(parts[0].toUpperCase()), weight);
+        }
+
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must contain at least one operation with a positive weight");
+        }
+
+        return weights;
+    }
+}
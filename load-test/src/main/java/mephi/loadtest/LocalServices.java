@@ -0,0 +1,91 @@
+package mephi.loadtest;
+
+import mephi.bookingservice.BookingServiceApplication;
+import mephi.hotelservice.HotelServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LocalServices implements AutoCloseable {
+    private final ConfigurableApplicationContext hotelService;
+    private final ConfigurableApplicationContext bookingService;
+
+    private LocalServices(ConfigurableApplicationContext hotelService, ConfigurableApplicationContext bookingService) {
+        this.hotelService = hotelService;
+        this.bookingService = bookingService;
+    }
+
+    public static LocalServices start(boolean virtualThreads) {
+        String threads = "--spring.threads.virtual.enabled=" + virtualThreads;
+
+        ConfigurableApplicationContext hotelService = run(HotelServiceApplication.class, List.of(threads));
+        int hotelPort = port(hotelService);
+
+        ConfigurableApplicationContext bookingService;
+        try {
+            bookingService = run(BookingServiceApplication.class, List.of(
+                threads,
+                "--spring.cloud.discovery.client.simple.instances.hotel-service[0].uri=http://localhost:" + hotelPort
+            ));
+        }
+        catch (RuntimeException e) {
+            hotelService.close();
+
+            throw e;
+        }
+
+        return new LocalServices(hotelService, bookingService);
+    }
+
+    public URI hotelServiceUri() {
+        return URI.create("http://localhost:" + port(hotelService));
+    }
+
+    public URI bookingServiceUri() {
+        return URI.create("http://localhost:" + port(bookingService));
+    }
+
+    @Override
+    public void close() {
+        bookingService.close();
+        hotelService.close();
+    }
+
+    private static ConfigurableApplicationContext run(Class<?> application, List<String> overrides) {
+        String resources = resourceRoot(application);
+
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.config.location=" + resources + "application.yml",
+            "--spring.sql.init.data-locations=" + resources + "data.sql",
+            "--server.port=0",
+            "--eureka.client.enabled=false",
+            "--spring.h2.console.enabled=false",
+            "--spring.main.banner-mode=off",
+            "--spring.main.log-startup-info=false",
+            "--logging.level.root=WARN",
+            "--logging.level.mephi=WARN",
+            "--logging.level.mephi.loadtest=INFO",
+            "--logging.level.org.springframework.security=WARN",
+            "--logging.level.io.github.resilience4j=WARN"
+        ));
+        args.addAll(overrides);
+
+        return new SpringApplicationBuilder(application).run(args.toArray(String[]::new));
+    }
+
+    private static String resourceRoot(Class<?> application) {
+        URL location = application.getProtectionDomain().getCodeSource().getLocation();
+        String path = location.toExternalForm();
+
+        return path.endsWith(".jar") ? "jar:" + path + "!/" : path;
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
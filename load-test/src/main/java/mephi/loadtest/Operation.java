@@ -0,0 +1,19 @@
+package mephi.loadtest;
+
+public enum Operation {
+    REGISTER("POST /auth/register"),
+    LOGIN("POST /auth/login"),
+    BROWSE("GET /rooms/available"),
+    BOOK("POST /bookings"),
+    CANCEL("POST /bookings/{id}/cancel");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+}
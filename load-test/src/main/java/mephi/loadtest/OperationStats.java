@@ -0,0 +1,94 @@
+package mephi.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Operation operation;
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    public OperationStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    public void succeeded(int status, long latencyMicros) {
+        record(status, latencyMicros);
+        succeeded.increment();
+    }
+
+    public void conflicted(int status, long latencyMicros) {
+        record(status, latencyMicros);
+        conflicts.increment();
+    }
+
+    public void failed(int status, long latencyMicros) {
+        record(status, latencyMicros);
+        failed.increment();
+    }
+
+    public void skip() {
+        skipped.increment();
+    }
+
+    public void drop() {
+        dropped.increment();
+    }
+
+    public Operation operation() {
+        return operation;
+    }
+
+    public Histogram latency() {
+        return latency;
+    }
+
+    public long completed() {
+        return succeeded.sum() + conflicts.sum() + failed.sum();
+    }
+
+    public long succeeded() {
+        return succeeded.sum();
+    }
+
+    public long conflicts() {
+        return conflicts.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+
+        return counts;
+    }
+
+    private void record(int status, long latencyMicros) {
+        latency.recordValue(Math.min(Math.max(latencyMicros, 0), HIGHEST_TRACKABLE_MICROS));
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+}